@@ -18,6 +18,7 @@ package uk.co.real_logic.sbe;
 import org.openjdk.jmh.annotations.*;
 import org.agrona.concurrent.UnsafeBuffer;
 import uk.co.real_logic.sbe.benchmarks.*;
+import uk.co.real_logic.sbe.codec.java.MessageValidation;
 import uk.co.real_logic.sbe.benchmarks.CarDecoder.PerformanceFiguresDecoder;
 import uk.co.real_logic.sbe.benchmarks.CarDecoder.PerformanceFiguresDecoder.AccelerationDecoder;
 
@@ -61,9 +62,11 @@ public class CarBenchmark
 
         final byte[] tempBuffer = new byte[128];
         final UnsafeBuffer decodeBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(1024));
+        final int encodedLength;
 
         {
             CarBenchmark.encode(messageHeaderEncoder, carEncoder, decodeBuffer, bufferIndex);
+            encodedLength = MessageHeaderEncoder.ENCODED_LENGTH + carEncoder.encodedLength();
         }
     }
 
@@ -96,6 +99,57 @@ public class CarBenchmark
         return carDecoder.encodedLength();
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int testValidate(final MyState state)
+    {
+        final CarDecoder carDecoder = state.carDecoder.wrapAndApplyHeader(
+            state.decodeBuffer, state.bufferIndex, state.messageHeaderDecoder);
+
+        return carDecoder.sbeValidate(state.decodeBuffer.capacity());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Fork(jvmArgsAppend = "-Dagrona.disable.bounds.checks=true")
+    public int testValidateThenDecodeWithoutBoundsChecks(final MyState state)
+    {
+        final CarDecoder carDecoder = state.carDecoder.wrapAndApplyHeader(
+            state.decodeBuffer, state.bufferIndex, state.messageHeaderDecoder);
+        if (MessageValidation.VALID != carDecoder.sbeValidate(state.decodeBuffer.capacity()))
+        {
+            throw new IllegalStateException("invalid message");
+        }
+
+        return testDecode(state);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int testForwardWithUpdate(final MyState state)
+    {
+        final MessageHeaderDecoder messageHeaderDecoder = state.messageHeaderDecoder;
+        final UnsafeBuffer buffer = state.encodeBuffer;
+        final int bufferIndex = state.bufferIndex;
+
+        buffer.putBytes(bufferIndex, state.decodeBuffer, bufferIndex, state.encodedLength);
+        messageHeaderDecoder.wrap(buffer, bufferIndex);
+        final CarEncoder carEncoder = state.carEncoder.wrapForUpdate(
+            buffer,
+            bufferIndex + messageHeaderDecoder.encodedLength(),
+            messageHeaderDecoder.blockLength(),
+            messageHeaderDecoder.version());
+
+        carEncoder.serialNumber(5678);
+        final CarEncoder.FuelFiguresEncoder fuelFigures = carEncoder.fuelFiguresForUpdate();
+        while (fuelFigures.hasNext())
+        {
+            fuelFigures.nextForUpdate().speed(50);
+        }
+
+        return state.encodedLength;
+    }
+
     public static void encode(
         final MessageHeaderEncoder messageHeader,
         final CarEncoder car,
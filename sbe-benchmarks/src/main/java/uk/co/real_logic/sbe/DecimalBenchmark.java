@@ -0,0 +1,89 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+import uk.co.real_logic.sbe.benchmarks.fix.Decimal64Decoder;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Converts a decimal composite to a double and to text with the methods generated for decimal composites, compared
+ * to converting via {@link BigDecimal}.
+ */
+public class DecimalBenchmark
+{
+    @State(Scope.Benchmark)
+    public static class MyState
+    {
+        final Decimal64Decoder decimal = new Decimal64Decoder();
+        final UnsafeBuffer decodeBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(64));
+        final UnsafeBuffer textBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(64));
+        final StringBuilder builder = new StringBuilder(64);
+
+        {
+            decodeBuffer.putLong(0, 1234567890123L, ByteOrder.LITTLE_ENDIAN);
+            decimal.wrap(decodeBuffer, 0);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public double testBigDecimalToDouble(final MyState state)
+    {
+        final Decimal64Decoder decimal = state.decimal;
+
+        return BigDecimal.valueOf(decimal.mantissa(), -decimal.exponent()).doubleValue();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public double testToDouble(final MyState state)
+    {
+        return state.decimal.toDouble();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int testBigDecimalAppend(final MyState state)
+    {
+        final Decimal64Decoder decimal = state.decimal;
+        final StringBuilder builder = state.builder;
+        builder.setLength(0);
+
+        return builder.append(BigDecimal.valueOf(decimal.mantissa(), -decimal.exponent()).toPlainString()).length();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int testAppendDecimal(final MyState state)
+    {
+        final StringBuilder builder = state.builder;
+        builder.setLength(0);
+
+        return state.decimal.appendDecimal(builder).length();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int testAppendDecimalToBuffer(final MyState state)
+    {
+        return state.decimal.appendDecimal(state.textBuffer, 0);
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+import uk.co.real_logic.sbe.benchmarks.fix.*;
+import uk.co.real_logic.sbe.benchmarks.fix.MarketDataIncrementalRefreshTradesDecoder.MdIncGrpDecoder;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Aggregates and searches a field over all the entries of a large repeating group, by iterating the group with
+ * {@code next()} and by calling the scan methods generated with {@code sbe.java.generate.group.scans}.
+ */
+public class GroupScanBenchmark
+{
+    @State(Scope.Benchmark)
+    public static class MyState
+    {
+        @Param({ "100", "1000", "10000" })
+        int numInGroup = 1000;
+
+        final int bufferIndex = 0;
+
+        final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
+        final MarketDataIncrementalRefreshTradesDecoder marketDataDecoder =
+            new MarketDataIncrementalRefreshTradesDecoder();
+
+        final int[] indices = new int[16];
+
+        long searchKey;
+        UnsafeBuffer decodeBuffer;
+
+        @Setup
+        public void setup()
+        {
+            final int capacity = MessageHeaderEncoder.ENCODED_LENGTH +
+                MarketDataIncrementalRefreshTradesEncoder.BLOCK_LENGTH +
+                MarketDataIncrementalRefreshTradesEncoder.MdIncGrpEncoder.sbeHeaderSize() +
+                (numInGroup * MarketDataIncrementalRefreshTradesEncoder.MdIncGrpEncoder.sbeBlockLength());
+
+            decodeBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(capacity));
+
+            LargeGroupBenchmark.encode(
+                new MessageHeaderEncoder(),
+                new MarketDataIncrementalRefreshTradesEncoder(),
+                decodeBuffer,
+                bufferIndex,
+                numInGroup);
+
+            searchKey = 50 + ((numInGroup * 3) / 4);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public long testIterateSum(final MyState state)
+    {
+        long sum = 0;
+        for (final MdIncGrpDecoder mdIncGrp : wrap(state).mdIncGrp())
+        {
+            sum += mdIncGrp.mdEntryPx().mantissa();
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public long testScanSum(final MyState state)
+    {
+        return wrap(state).mdIncGrp().mdEntryPxMantissaSum();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public long testIterateMax(final MyState state)
+    {
+        long max = Long.MIN_VALUE;
+        for (final MdIncGrpDecoder mdIncGrp : wrap(state).mdIncGrp())
+        {
+            max = Math.max(max, mdIncGrp.tradeId());
+        }
+
+        return max;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public long testScanMax(final MyState state)
+    {
+        return wrap(state).mdIncGrp().tradeIdMax();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int testIterateFilter(final MyState state)
+    {
+        final int[] indices = state.indices;
+        int matches = 0;
+        int i = 0;
+        for (final MdIncGrpDecoder mdIncGrp : wrap(state).mdIncGrp())
+        {
+            if (mdIncGrp.mdEntryPx().mantissa() > 100)
+            {
+                if (matches < indices.length)
+                {
+                    indices[matches] = i;
+                }
+                ++matches;
+            }
+            ++i;
+        }
+
+        return matches;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int testScanFilter(final MyState state)
+    {
+        return wrap(state).mdIncGrp().mdEntryPxMantissaFilter((value) -> value > 100, state.indices);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int testIterateFind(final MyState state)
+    {
+        final long key = state.searchKey;
+        int i = 0;
+        for (final MdIncGrpDecoder mdIncGrp : wrap(state).mdIncGrp())
+        {
+            if (mdIncGrp.mdEntryPx().mantissa() == key)
+            {
+                return i;
+            }
+            ++i;
+        }
+
+        return -1;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public long testBinarySearchAt(final MyState state)
+    {
+        final MdIncGrpDecoder mdIncGrp = wrap(state).mdIncGrp();
+        final int index = mdIncGrp.mdEntryPxMantissaBinarySearch(state.searchKey);
+
+        return mdIncGrp.at(index).tradeId();
+    }
+
+    private static MarketDataIncrementalRefreshTradesDecoder wrap(final MyState state)
+    {
+        final MessageHeaderDecoder messageHeader = state.messageHeaderDecoder;
+        messageHeader.wrap(state.decodeBuffer, state.bufferIndex);
+
+        return state.marketDataDecoder.wrap(
+            state.decodeBuffer,
+            state.bufferIndex + messageHeader.encodedLength(),
+            messageHeader.blockLength(),
+            messageHeader.version());
+    }
+
+    /*
+     * Benchmarks to allow execution outside JMH.
+     */
+
+    public static void main(final String[] args)
+    {
+        for (int i = 0; i < 10; i++)
+        {
+            perfTestIterateSum(i);
+            perfTestScanSum(i);
+        }
+    }
+
+    private static void perfTestIterateSum(final int runNumber)
+    {
+        final int reps = 100 * 1000;
+        final MyState state = new MyState();
+        state.setup();
+        final GroupScanBenchmark benchmark = new GroupScanBenchmark();
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < reps; i++)
+        {
+            benchmark.testIterateSum(state);
+        }
+
+        final long totalDuration = System.nanoTime() - start;
+
+        System.out.printf(
+            "%d - %d(ns) average duration for %s.testIterateSum() - numInGroup %d%n",
+            runNumber,
+            totalDuration / reps,
+            benchmark.getClass().getName(),
+            state.numInGroup);
+    }
+
+    private static void perfTestScanSum(final int runNumber)
+    {
+        final int reps = 100 * 1000;
+        final MyState state = new MyState();
+        state.setup();
+        final GroupScanBenchmark benchmark = new GroupScanBenchmark();
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < reps; i++)
+        {
+            benchmark.testScanSum(state);
+        }
+
+        final long totalDuration = System.nanoTime() - start;
+
+        System.out.printf(
+            "%d - %d(ns) average duration for %s.testScanSum() - numInGroup %d%n",
+            runNumber,
+            totalDuration / reps,
+            benchmark.getClass().getName(),
+            state.numInGroup);
+    }
+}
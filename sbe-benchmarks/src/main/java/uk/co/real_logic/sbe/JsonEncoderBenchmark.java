@@ -0,0 +1,93 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+import uk.co.real_logic.sbe.benchmarks.CarEncoder;
+import uk.co.real_logic.sbe.benchmarks.MessageHeaderEncoder;
+import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.json.JsonEncoder;
+import uk.co.real_logic.sbe.json.JsonPrinter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Benchmark for encoding the Car message to SBE from the JSON produced by the {@link JsonPrinter}.
+ */
+public class JsonEncoderBenchmark
+{
+    @State(Scope.Benchmark)
+    public static class MyState
+    {
+        final int bufferIndex = 0;
+        final UnsafeBuffer encodeBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(1024));
+        final Ir ir = OtfBenchmark.loadIr("car.xml");
+        final JsonEncoder jsonEncoder = new JsonEncoder(ir);
+        final String json;
+
+        {
+            final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(1024));
+            CarBenchmark.encode(new MessageHeaderEncoder(), new CarEncoder(), buffer, bufferIndex);
+
+            final StringBuilder sb = new StringBuilder();
+            new JsonPrinter(ir).print(sb, buffer, bufferIndex);
+            json = sb.toString();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int testEncode(final MyState state)
+    {
+        return state.jsonEncoder.encode(CarEncoder.TEMPLATE_ID, state.json, state.encodeBuffer, state.bufferIndex);
+    }
+
+    /*
+     * Benchmarks to allow execution outside JMH.
+     */
+
+    public static void main(final String[] args)
+    {
+        for (int i = 0; i < 10; i++)
+        {
+            perfTestEncode(i);
+        }
+    }
+
+    private static void perfTestEncode(final int runNumber)
+    {
+        final int reps = 1000 * 1000;
+        final MyState state = new MyState();
+        final JsonEncoderBenchmark benchmark = new JsonEncoderBenchmark();
+
+        final long start = System.nanoTime();
+        int encodedLength = 0;
+        for (int i = 0; i < reps; i++)
+        {
+            encodedLength = benchmark.testEncode(state);
+        }
+
+        final long totalDuration = System.nanoTime() - start;
+
+        System.out.printf(
+            "%d - %d(ns) average duration for %s.testEncode() - message encodedLength %d%n",
+            runNumber,
+            totalDuration / reps,
+            benchmark.getClass().getName(),
+            encodedLength);
+    }
+}
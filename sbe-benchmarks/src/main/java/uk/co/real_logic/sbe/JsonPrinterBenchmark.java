@@ -0,0 +1,156 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe;
+
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+import uk.co.real_logic.sbe.benchmarks.CarDecoder;
+import uk.co.real_logic.sbe.benchmarks.CarEncoder;
+import uk.co.real_logic.sbe.benchmarks.MessageHeaderDecoder;
+import uk.co.real_logic.sbe.benchmarks.MessageHeaderEncoder;
+import uk.co.real_logic.sbe.json.JsonPrinter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Compares printing the Car message as JSON to a {@link StringBuilder} against printing UTF-8 JSON directly to a
+ * reused buffer, and against the same JSON written by the {@code appendJsonTo} method generated on the decoder. Run
+ * with {@code -prof gc} to compare the allocation rate, which should be zero when printing to a buffer.
+ */
+public class JsonPrinterBenchmark
+{
+    @State(Scope.Benchmark)
+    public static class MyState
+    {
+        final int bufferIndex = 0;
+        final UnsafeBuffer decodeBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(1024));
+        final JsonPrinter jsonPrinter = new JsonPrinter(OtfBenchmark.loadIr("car.xml"));
+        final StringBuilder output = new StringBuilder(4096);
+        final ExpandableArrayBuffer outputBuffer = new ExpandableArrayBuffer(4096);
+        final UnsafeBuffer appendJsonBuffer = new UnsafeBuffer(new byte[4096]);
+        final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
+        final CarDecoder carDecoder = new CarDecoder();
+
+        {
+            CarBenchmark.encode(new MessageHeaderEncoder(), new CarEncoder(), decodeBuffer, bufferIndex);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int testPrintToStringBuilder(final MyState state)
+    {
+        final StringBuilder output = state.output;
+        output.setLength(0);
+        state.jsonPrinter.print(output, state.decodeBuffer, state.bufferIndex);
+
+        return output.length();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int testPrintToBuffer(final MyState state)
+    {
+        return state.jsonPrinter.print(state.decodeBuffer, state.bufferIndex, state.outputBuffer, 0);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int testAppendJsonTo(final MyState state)
+    {
+        return state.carDecoder
+            .wrapAndApplyHeader(state.decodeBuffer, state.bufferIndex, state.messageHeaderDecoder)
+            .appendJsonTo(state.appendJsonBuffer, 0);
+    }
+
+    /*
+     * Benchmarks to allow execution outside JMH.
+     */
+
+    public static void main(final String[] args)
+    {
+        for (int i = 0; i < 10; i++)
+        {
+            perfTestPrintToStringBuilder(i);
+            perfTestPrintToBuffer(i);
+            perfTestAppendJsonTo(i);
+        }
+    }
+
+    private static void perfTestPrintToStringBuilder(final int runNumber)
+    {
+        final int reps = 1000 * 1000;
+        final MyState state = new MyState();
+        final JsonPrinterBenchmark benchmark = new JsonPrinterBenchmark();
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < reps; i++)
+        {
+            benchmark.testPrintToStringBuilder(state);
+        }
+
+        final long totalDuration = System.nanoTime() - start;
+
+        System.out.printf(
+            "%d - %d(ns) average duration for %s.testPrintToStringBuilder()%n",
+            runNumber,
+            totalDuration / reps,
+            benchmark.getClass().getName());
+    }
+
+    private static void perfTestPrintToBuffer(final int runNumber)
+    {
+        final int reps = 1000 * 1000;
+        final MyState state = new MyState();
+        final JsonPrinterBenchmark benchmark = new JsonPrinterBenchmark();
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < reps; i++)
+        {
+            benchmark.testPrintToBuffer(state);
+        }
+
+        final long totalDuration = System.nanoTime() - start;
+
+        System.out.printf(
+            "%d - %d(ns) average duration for %s.testPrintToBuffer()%n",
+            runNumber,
+            totalDuration / reps,
+            benchmark.getClass().getName());
+    }
+
+    private static void perfTestAppendJsonTo(final int runNumber)
+    {
+        final int reps = 1000 * 1000;
+        final MyState state = new MyState();
+        final JsonPrinterBenchmark benchmark = new JsonPrinterBenchmark();
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < reps; i++)
+        {
+            benchmark.testAppendJsonTo(state);
+        }
+
+        final long totalDuration = System.nanoTime() - start;
+
+        System.out.printf(
+            "%d - %d(ns) average duration for %s.testAppendJsonTo()%n",
+            runNumber,
+            totalDuration / reps,
+            benchmark.getClass().getName());
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+import uk.co.real_logic.sbe.benchmarks.fix.*;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes and decodes market data messages with a repeating group of {@code numInGroup} entries to show how the cost
+ * of iterating groups scales when they are much larger than in {@link MarketDataBenchmark}.
+ */
+public class LargeGroupBenchmark
+{
+    @State(Scope.Benchmark)
+    public static class MyState
+    {
+        @Param({ "16", "256", "4096" })
+        int numInGroup = 256;
+
+        final int bufferIndex = 0;
+
+        final MessageHeaderEncoder messageHeaderEncoder = new MessageHeaderEncoder();
+        final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
+
+        final MarketDataIncrementalRefreshTradesEncoder marketDataEncoder =
+            new MarketDataIncrementalRefreshTradesEncoder();
+        final MarketDataIncrementalRefreshTradesDecoder marketDataDecoder =
+            new MarketDataIncrementalRefreshTradesDecoder();
+
+        UnsafeBuffer encodeBuffer;
+        UnsafeBuffer decodeBuffer;
+
+        @Setup
+        public void setup()
+        {
+            final int capacity = MessageHeaderEncoder.ENCODED_LENGTH +
+                MarketDataIncrementalRefreshTradesEncoder.BLOCK_LENGTH +
+                MarketDataIncrementalRefreshTradesEncoder.MdIncGrpEncoder.sbeHeaderSize() +
+                (numInGroup * MarketDataIncrementalRefreshTradesEncoder.MdIncGrpEncoder.sbeBlockLength());
+
+            encodeBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(capacity));
+            decodeBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(capacity));
+
+            LargeGroupBenchmark.encode(messageHeaderEncoder, marketDataEncoder, decodeBuffer, bufferIndex, numInGroup);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int testEncode(final MyState state)
+    {
+        final MarketDataIncrementalRefreshTradesEncoder marketData = state.marketDataEncoder;
+
+        encode(state.messageHeaderEncoder, marketData, state.encodeBuffer, state.bufferIndex, state.numInGroup);
+
+        return marketData.encodedLength();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public long testDecode(final MyState state)
+    {
+        return decode(state.messageHeaderDecoder, state.marketDataDecoder, state.decodeBuffer, state.bufferIndex);
+    }
+
+    public static void encode(
+        final MessageHeaderEncoder messageHeader,
+        final MarketDataIncrementalRefreshTradesEncoder marketData,
+        final UnsafeBuffer buffer,
+        final int bufferIndex,
+        final int numInGroup)
+    {
+        marketData
+            .wrapAndApplyHeader(buffer, bufferIndex, messageHeader)
+            .transactTime(1234L)
+            .eventTimeDelta(987)
+            .matchEventIndicator(MatchEventIndicator.END_EVENT);
+
+        final MarketDataIncrementalRefreshTradesEncoder.MdIncGrpEncoder mdIncGrp =
+            marketData.mdIncGrpCount(numInGroup);
+
+        for (int i = 0; i < numInGroup; i++)
+        {
+            mdIncGrp.next();
+            mdIncGrp.tradeId(1234L + i);
+            mdIncGrp.securityId(56789L);
+            mdIncGrp.mdEntryPx().mantissa(50 + i);
+            mdIncGrp.mdEntrySize().mantissa(10);
+            mdIncGrp.numberOfOrders(1);
+            mdIncGrp.mdUpdateAction(MDUpdateAction.NEW);
+            mdIncGrp.rptSeq((short)(i & 0xFF));
+            mdIncGrp.aggressorSide((i & 1) == 0 ? Side.BUY : Side.SELL);
+        }
+    }
+
+    private static long decode(
+        final MessageHeaderDecoder messageHeader,
+        final MarketDataIncrementalRefreshTradesDecoder marketData,
+        final UnsafeBuffer buffer,
+        final int bufferIndex)
+    {
+        messageHeader.wrap(buffer, bufferIndex);
+
+        final int actingVersion = messageHeader.version();
+        final int actingBlockLength = messageHeader.blockLength();
+
+        marketData.wrap(buffer, bufferIndex + messageHeader.encodedLength(), actingBlockLength, actingVersion);
+
+        long sum = marketData.transactTime();
+        for (final MarketDataIncrementalRefreshTradesDecoder.MdIncGrpDecoder mdIncGrp : marketData.mdIncGrp())
+        {
+            sum += mdIncGrp.tradeId();
+            sum += mdIncGrp.securityId();
+            sum += mdIncGrp.mdEntryPx().mantissa();
+            sum += mdIncGrp.mdEntrySize().mantissa();
+            sum += mdIncGrp.numberOfOrders();
+            sum += mdIncGrp.rptSeq();
+            mdIncGrp.mdUpdateAction();
+            mdIncGrp.aggressorSide();
+        }
+
+        return sum;
+    }
+
+    /*
+     * Benchmarks to allow execution outside JMH.
+     */
+
+    public static void main(final String[] args)
+    {
+        for (int i = 0; i < 10; i++)
+        {
+            perfTestEncode(i);
+            perfTestDecode(i);
+        }
+    }
+
+    private static void perfTestEncode(final int runNumber)
+    {
+        final int reps = 100 * 1000;
+        final MyState state = new MyState();
+        state.setup();
+        final LargeGroupBenchmark benchmark = new LargeGroupBenchmark();
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < reps; i++)
+        {
+            benchmark.testEncode(state);
+        }
+
+        final long totalDuration = System.nanoTime() - start;
+
+        System.out.printf(
+            "%d - %d(ns) average duration for %s.testEncode() - numInGroup %d%n",
+            runNumber,
+            totalDuration / reps,
+            benchmark.getClass().getName(),
+            state.numInGroup);
+    }
+
+    private static void perfTestDecode(final int runNumber)
+    {
+        final int reps = 100 * 1000;
+        final MyState state = new MyState();
+        state.setup();
+        final LargeGroupBenchmark benchmark = new LargeGroupBenchmark();
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < reps; i++)
+        {
+            benchmark.testDecode(state);
+        }
+
+        final long totalDuration = System.nanoTime() - start;
+
+        System.out.printf(
+            "%d - %d(ns) average duration for %s.testDecode() - numInGroup %d%n",
+            runNumber,
+            totalDuration / reps,
+            benchmark.getClass().getName(),
+            state.numInGroup);
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+import uk.co.real_logic.sbe.benchmarks.CarEncoder;
+import uk.co.real_logic.sbe.benchmarks.MessageHeaderEncoder;
+import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.ir.Token;
+import uk.co.real_logic.sbe.otf.AbstractTokenListener;
+import uk.co.real_logic.sbe.otf.OtfDecodePlan;
+import uk.co.real_logic.sbe.otf.OtfHeaderDecoder;
+import uk.co.real_logic.sbe.otf.OtfMessageDecoder;
+import uk.co.real_logic.sbe.otf.TokenListener;
+import uk.co.real_logic.sbe.xml.IrGenerator;
+import uk.co.real_logic.sbe.xml.ParserOptions;
+import uk.co.real_logic.sbe.xml.XmlSchemaParser;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Compares decoding the Car message on the fly by walking the token list with {@link OtfMessageDecoder} against
+ * decoding it with a precompiled {@link OtfDecodePlan}. Decoding to a listener which does nothing measures the cost of
+ * walking the tokens alone.
+ */
+public class OtfBenchmark
+{
+    @State(Scope.Benchmark)
+    public static class MyState
+    {
+        final int bufferIndex = 0;
+        final UnsafeBuffer decodeBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(1024));
+        final ConsumingTokenListener listener = new ConsumingTokenListener();
+        final TokenListener noOpListener = new AbstractTokenListener()
+        {
+        };
+        final Ir ir = loadIr("car.xml");
+        final OtfHeaderDecoder headerDecoder = new OtfHeaderDecoder(ir.headerStructure());
+        final List<Token> msgTokens;
+        final OtfDecodePlan plan;
+
+        {
+            CarBenchmark.encode(new MessageHeaderEncoder(), new CarEncoder(), decodeBuffer, bufferIndex);
+            msgTokens = ir.getMessage(headerDecoder.getTemplateId(decodeBuffer, bufferIndex));
+            plan = OtfDecodePlan.compile(msgTokens, headerDecoder.getSchemaVersion(decodeBuffer, bufferIndex));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public long testTokenListDecode(final MyState state)
+    {
+        final OtfHeaderDecoder headerDecoder = state.headerDecoder;
+        final UnsafeBuffer buffer = state.decodeBuffer;
+        final int bufferIndex = state.bufferIndex;
+        final ConsumingTokenListener listener = state.listener;
+
+        OtfMessageDecoder.decode(
+            buffer,
+            bufferIndex + headerDecoder.encodedLength(),
+            headerDecoder.getSchemaVersion(buffer, bufferIndex),
+            headerDecoder.getBlockLength(buffer, bufferIndex),
+            state.msgTokens,
+            listener);
+
+        return listener.reset();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int testTokenListDecodeNoOp(final MyState state)
+    {
+        final OtfHeaderDecoder headerDecoder = state.headerDecoder;
+        final UnsafeBuffer buffer = state.decodeBuffer;
+        final int bufferIndex = state.bufferIndex;
+
+        return OtfMessageDecoder.decode(
+            buffer,
+            bufferIndex + headerDecoder.encodedLength(),
+            headerDecoder.getSchemaVersion(buffer, bufferIndex),
+            headerDecoder.getBlockLength(buffer, bufferIndex),
+            state.msgTokens,
+            state.noOpListener);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public long testCompiledPlanDecode(final MyState state)
+    {
+        final OtfHeaderDecoder headerDecoder = state.headerDecoder;
+        final UnsafeBuffer buffer = state.decodeBuffer;
+        final int bufferIndex = state.bufferIndex;
+        final ConsumingTokenListener listener = state.listener;
+
+        state.plan.decode(
+            buffer,
+            bufferIndex + headerDecoder.encodedLength(),
+            headerDecoder.getBlockLength(buffer, bufferIndex),
+            listener);
+
+        return listener.reset();
+    }
+
+    /**
+     * Listener which reads primitive values and lengths so the decoding work cannot be eliminated.
+     */
+    static final class ConsumingTokenListener extends AbstractTokenListener
+    {
+        private long sum;
+
+        public void onEncoding(
+            final Token fieldToken,
+            final DirectBuffer buffer,
+            final int bufferIndex,
+            final Token typeToken,
+            final int actingVersion)
+        {
+            switch (typeToken.encodedLength())
+            {
+                case 1:
+                    sum += buffer.getByte(bufferIndex);
+                    break;
+
+                case 2:
+                    sum += buffer.getShort(bufferIndex, typeToken.encoding().byteOrder());
+                    break;
+
+                case 4:
+                    sum += buffer.getInt(bufferIndex, typeToken.encoding().byteOrder());
+                    break;
+
+                case 8:
+                    sum += buffer.getLong(bufferIndex, typeToken.encoding().byteOrder());
+                    break;
+
+                default:
+                    sum += bufferIndex;
+                    break;
+            }
+        }
+
+        public void onGroupHeader(final Token token, final int numInGroup)
+        {
+            sum += numInGroup;
+        }
+
+        public void onVarData(
+            final Token fieldToken,
+            final DirectBuffer buffer,
+            final int bufferIndex,
+            final int length,
+            final Token typeToken)
+        {
+            sum += bufferIndex + length;
+        }
+
+        long reset()
+        {
+            final long result = sum;
+            sum = 0;
+
+            return result;
+        }
+    }
+
+    static Ir loadIr(final String schemaResource)
+    {
+        try (InputStream in = new BufferedInputStream(
+            OtfBenchmark.class.getClassLoader().getResourceAsStream(schemaResource)))
+        {
+            return new IrGenerator().generate(XmlSchemaParser.parse(in, ParserOptions.DEFAULT));
+        }
+        catch (final Exception ex)
+        {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /*
+     * Benchmarks to allow execution outside JMH.
+     */
+
+    public static void main(final String[] args)
+    {
+        for (int i = 0; i < 10; i++)
+        {
+            perfTestTokenListDecode(i);
+            perfTestTokenListDecodeNoOp(i);
+            perfTestCompiledPlanDecode(i);
+        }
+    }
+
+    private static void perfTestTokenListDecode(final int runNumber)
+    {
+        final int reps = 1000 * 1000;
+        final MyState state = new MyState();
+        final OtfBenchmark benchmark = new OtfBenchmark();
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < reps; i++)
+        {
+            benchmark.testTokenListDecode(state);
+        }
+
+        final long totalDuration = System.nanoTime() - start;
+
+        System.out.printf(
+            "%d - %d(ns) average duration for %s.testTokenListDecode()%n",
+            runNumber,
+            totalDuration / reps,
+            benchmark.getClass().getName());
+    }
+
+    private static void perfTestTokenListDecodeNoOp(final int runNumber)
+    {
+        final int reps = 1000 * 1000;
+        final MyState state = new MyState();
+        final OtfBenchmark benchmark = new OtfBenchmark();
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < reps; i++)
+        {
+            benchmark.testTokenListDecodeNoOp(state);
+        }
+
+        final long totalDuration = System.nanoTime() - start;
+
+        System.out.printf(
+            "%d - %d(ns) average duration for %s.testTokenListDecodeNoOp()%n",
+            runNumber,
+            totalDuration / reps,
+            benchmark.getClass().getName());
+    }
+
+    private static void perfTestCompiledPlanDecode(final int runNumber)
+    {
+        final int reps = 1000 * 1000;
+        final MyState state = new MyState();
+        final OtfBenchmark benchmark = new OtfBenchmark();
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < reps; i++)
+        {
+            benchmark.testCompiledPlanDecode(state);
+        }
+
+        final long totalDuration = System.nanoTime() - start;
+
+        System.out.printf(
+            "%d - %d(ns) average duration for %s.testCompiledPlanDecode()%n",
+            runNumber,
+            totalDuration / reps,
+            benchmark.getClass().getName());
+    }
+}
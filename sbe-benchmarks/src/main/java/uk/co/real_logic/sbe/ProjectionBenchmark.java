@@ -0,0 +1,130 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+import uk.co.real_logic.sbe.benchmarks.projection.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compares reading the subset of a Car listed in {@code car-projection.txt} with the full {@link CarDecoder}, which
+ * must walk every group entry to find the var data, against the generated {@link CarProjectionDecoder}, which skips
+ * what is not projected.
+ */
+public class ProjectionBenchmark
+{
+    private static final byte[] MANUFACTURER = "MANUFACTURER".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MODEL = "MODEL".getBytes(StandardCharsets.US_ASCII);
+
+    @State(Scope.Benchmark)
+    public static class MyState
+    {
+        final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
+        final CarDecoder carDecoder = new CarDecoder();
+        final CarProjectionDecoder carProjectionDecoder = new CarProjectionDecoder();
+
+        final byte[] tempBuffer = new byte[128];
+        final UnsafeBuffer decodeBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(1024));
+
+        {
+            encode(new MessageHeaderEncoder(), new CarEncoder(), decodeBuffer);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int testFullDecode(final MyState state)
+    {
+        final CarDecoder car = state.carDecoder.wrapAndApplyHeader(state.decodeBuffer, 0, state.messageHeaderDecoder);
+
+        int checksum = (int)car.serialNumber() + car.available().value();
+
+        for (final CarDecoder.FuelFiguresDecoder ignore : car.fuelFigures())
+        {
+        }
+
+        for (final CarDecoder.PerformanceFiguresDecoder performanceFigures : car.performanceFigures())
+        {
+            for (final CarDecoder.PerformanceFiguresDecoder.AccelerationDecoder acceleration :
+                performanceFigures.acceleration())
+            {
+                checksum += acceleration.mph();
+            }
+        }
+
+        car.skipManufacturer();
+        checksum += car.getModel(state.tempBuffer, 0, state.tempBuffer.length);
+
+        return checksum;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int testProjectionDecode(final MyState state)
+    {
+        final CarProjectionDecoder car = state.carProjectionDecoder.wrapAndApplyHeader(
+            state.decodeBuffer, 0, state.messageHeaderDecoder);
+
+        int checksum = (int)car.serialNumber() + car.available().value();
+
+        final CarProjectionDecoder.PerformanceFiguresProjectionDecoder performanceFigures = car.performanceFigures();
+        while (performanceFigures.hasNext())
+        {
+            final CarProjectionDecoder.PerformanceFiguresProjectionDecoder.AccelerationProjectionDecoder acceleration =
+                performanceFigures.next().acceleration();
+            while (acceleration.hasNext())
+            {
+                checksum += acceleration.next().mph();
+            }
+        }
+
+        checksum += car.getModel(state.tempBuffer, 0, state.tempBuffer.length);
+
+        return checksum;
+    }
+
+    static void encode(final MessageHeaderEncoder messageHeader, final CarEncoder car, final UnsafeBuffer buffer)
+    {
+        car
+            .wrapAndApplyHeader(buffer, 0, messageHeader)
+            .code(Model.A)
+            .modelYear(2005)
+            .serialNumber(12345)
+            .available(BooleanType.T);
+
+        car.fuelFiguresCount(3).next().speed(30).mpg(35.9f)
+            .next().speed(55).mpg(49.0f)
+            .next().speed(75).mpg(40.0f);
+
+        final CarEncoder.PerformanceFiguresEncoder perfFigures = car.performanceFiguresCount(2);
+        perfFigures
+            .next().octaneRating((short)95)
+            .accelerationCount(3).next().mph(30).seconds(4.0f)
+            .next().mph(60).seconds(7.5f)
+            .next().mph(100).seconds(12.2f);
+        perfFigures
+            .next().octaneRating((short)99)
+            .accelerationCount(3).next().mph(30).seconds(3.8f)
+            .next().mph(60).seconds(7.1f)
+            .next().mph(100).seconds(11.8f);
+
+        car.putManufacturer(MANUFACTURER, 0, MANUFACTURER.length);
+        car.putModel(MODEL, 0, MODEL.length);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+import uk.co.real_logic.sbe.benchmarks.dto.reusable.CarDecoder;
+import uk.co.real_logic.sbe.benchmarks.dto.reusable.CarDto;
+import uk.co.real_logic.sbe.benchmarks.dto.reusable.CarEncoder;
+import uk.co.real_logic.sbe.benchmarks.dto.reusable.MessageHeaderDecoder;
+import uk.co.real_logic.sbe.benchmarks.dto.reusable.MessageHeaderEncoder;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes the Car message from, and decodes it to, the generated reusable {@link CarDto}, which recycles its group
+ * elements and strings so that decoding into an existing DTO does not allocate, for comparison with
+ * {@link DtoBenchmark}.
+ */
+public class ReusableDtoBenchmark
+{
+    @State(Scope.Benchmark)
+    public static class MyState
+    {
+        final int bufferIndex = 0;
+
+        final MessageHeaderEncoder messageHeaderEncoder = new MessageHeaderEncoder();
+        final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
+
+        final CarEncoder carEncoder = new CarEncoder();
+        final CarDecoder carDecoder = new CarDecoder();
+
+        final UnsafeBuffer encodeBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(1024));
+        final UnsafeBuffer decodeBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(1024));
+
+        final CarDto encodeDto;
+        final CarDto decodeDto = new CarDto();
+
+        {
+            CarBenchmark.encode(
+                new uk.co.real_logic.sbe.benchmarks.MessageHeaderEncoder(),
+                new uk.co.real_logic.sbe.benchmarks.CarEncoder(),
+                decodeBuffer,
+                bufferIndex);
+
+            messageHeaderDecoder.wrap(decodeBuffer, bufferIndex);
+            encodeDto = new CarDto().decodeInto(
+                decodeBuffer,
+                bufferIndex + messageHeaderDecoder.encodedLength(),
+                messageHeaderDecoder.blockLength(),
+                messageHeaderDecoder.version());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int testEncodeWith(final MyState state)
+    {
+        final CarEncoder carEncoder = state.carEncoder;
+
+        carEncoder.wrapAndApplyHeader(state.encodeBuffer, state.bufferIndex, state.messageHeaderEncoder);
+        CarDto.encodeWith(carEncoder, state.encodeDto);
+
+        return carEncoder.encodedLength();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int testDecodeWith(final MyState state)
+    {
+        final CarDecoder carDecoder = state.carDecoder;
+
+        carDecoder.wrapAndApplyHeader(state.decodeBuffer, state.bufferIndex, state.messageHeaderDecoder);
+        CarDto.decodeWith(carDecoder, state.decodeDto);
+
+        return carDecoder.encodedLength();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int testDecodeInto(final MyState state)
+    {
+        final MessageHeaderDecoder messageHeaderDecoder = state.messageHeaderDecoder;
+
+        messageHeaderDecoder.wrap(state.decodeBuffer, state.bufferIndex);
+        state.decodeDto.decodeInto(
+            state.decodeBuffer,
+            state.bufferIndex + messageHeaderDecoder.encodedLength(),
+            messageHeaderDecoder.blockLength(),
+            messageHeaderDecoder.version());
+
+        return state.decodeDto.fuelFigures().size();
+    }
+
+    /*
+     * Benchmarks to allow execution outside JMH.
+     */
+
+    public static void main(final String[] args)
+    {
+        for (int i = 0; i < 10; i++)
+        {
+            perfTestEncodeWith(i);
+            perfTestDecodeWith(i);
+        }
+    }
+
+    private static void perfTestEncodeWith(final int runNumber)
+    {
+        final int reps = 1000 * 1000;
+        final MyState state = new MyState();
+        final ReusableDtoBenchmark benchmark = new ReusableDtoBenchmark();
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < reps; i++)
+        {
+            benchmark.testEncodeWith(state);
+        }
+
+        final long totalDuration = System.nanoTime() - start;
+
+        System.out.printf(
+            "%d - %d(ns) average duration for %s.testEncodeWith()%n",
+            runNumber,
+            totalDuration / reps,
+            benchmark.getClass().getName());
+    }
+
+    private static void perfTestDecodeWith(final int runNumber)
+    {
+        final int reps = 1000 * 1000;
+        final MyState state = new MyState();
+        final ReusableDtoBenchmark benchmark = new ReusableDtoBenchmark();
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < reps; i++)
+        {
+            benchmark.testDecodeWith(state);
+        }
+
+        final long totalDuration = System.nanoTime() - start;
+
+        System.out.printf(
+            "%d - %d(ns) average duration for %s.testDecodeWith()%n",
+            runNumber,
+            totalDuration / reps,
+            benchmark.getClass().getName());
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+import uk.co.real_logic.sbe.benchmarks.extension.*;
+import uk.co.real_logic.sbe.benchmarks.extension.CarDecoder.PerformanceFiguresDecoder;
+import uk.co.real_logic.sbe.benchmarks.extension.CarDecoder.PerformanceFiguresDecoder.AccelerationDecoder;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decodes the Car message with codecs generated from version 2 of the schema, which extends the message with new
+ * fields and var data. Decoding a message encoded with version 1 of the schema, i.e. with an acting version which is
+ * less than the schema version, is compared to decoding a message encoded with the same version as the decoder.
+ */
+public class SchemaEvolutionBenchmark
+{
+    private static final byte[] MANUFACTURER = "MANUFACTURER".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] MODEL = "MODEL".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] ACTIVATION_CODE = "ACTIVATION".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] ENG_MAN_CODE = "abc".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] VEHICLE_CODE = "abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    @State(Scope.Benchmark)
+    public static class MyState
+    {
+        final int bufferIndex = 0;
+
+        final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
+        final CarDecoder carDecoder = new CarDecoder();
+
+        final byte[] tempBuffer = new byte[128];
+        final UnsafeBuffer olderVersionBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(1024));
+        final UnsafeBuffer sameVersionBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(1024));
+
+        {
+            CarBenchmark.encode(
+                new uk.co.real_logic.sbe.benchmarks.MessageHeaderEncoder(),
+                new uk.co.real_logic.sbe.benchmarks.CarEncoder(),
+                olderVersionBuffer,
+                bufferIndex);
+
+            SchemaEvolutionBenchmark.encode(
+                new MessageHeaderEncoder(), new CarEncoder(), sameVersionBuffer, bufferIndex);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int testDecodeOlderVersion(final MyState state)
+    {
+        final CarDecoder carDecoder = state.carDecoder;
+
+        decode(state.messageHeaderDecoder, carDecoder, state.olderVersionBuffer, state.bufferIndex, state.tempBuffer);
+
+        return carDecoder.encodedLength();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int testDecodeSameVersion(final MyState state)
+    {
+        final CarDecoder carDecoder = state.carDecoder;
+
+        decode(state.messageHeaderDecoder, carDecoder, state.sameVersionBuffer, state.bufferIndex, state.tempBuffer);
+
+        return carDecoder.encodedLength();
+    }
+
+    public static void encode(
+        final MessageHeaderEncoder messageHeader,
+        final CarEncoder car,
+        final UnsafeBuffer buffer,
+        final int bufferIndex)
+    {
+        car
+            .wrapAndApplyHeader(buffer, bufferIndex, messageHeader)
+            .code(Model.A)
+            .modelYear(2005)
+            .serialNumber(12345)
+            .available(BooleanType.T)
+            .putVehicleCode(VEHICLE_CODE, 0);
+
+        for (int i = 0, size = CarEncoder.someNumbersLength(); i < size; i++)
+        {
+            car.someNumbers(i, i);
+        }
+
+        car.extras().clear()
+            .sportsPack(true)
+            .sunRoof(true);
+
+        car.engine().capacity(4200)
+            .numCylinders((short)8)
+            .putManufacturerCode(ENG_MAN_CODE, 0);
+
+        car.uuid(0, 7L).uuid(1, 3L).cupHolderCount((short)5);
+
+        car.fuelFiguresCount(3).next().speed(30).mpg(35.9f)
+            .next().speed(55).mpg(49.0f)
+            .next().speed(75).mpg(40.0f);
+
+        final CarEncoder.PerformanceFiguresEncoder perfFigures = car.performanceFiguresCount(2);
+        perfFigures
+            .next().octaneRating((short)95)
+            .accelerationCount(3).next().mph(30).seconds(4.0f)
+            .next().mph(60).seconds(7.5f)
+            .next().mph(100).seconds(12.2f);
+        perfFigures
+            .next().octaneRating((short)99)
+            .accelerationCount(3).next().mph(30).seconds(3.8f)
+            .next().mph(60).seconds(7.1f)
+            .next().mph(100).seconds(11.8f);
+
+        car.putManufacturer(MANUFACTURER, 0, MANUFACTURER.length);
+        car.putModel(MODEL, 0, MODEL.length);
+        car.putActivationCode(ACTIVATION_CODE, 0, ACTIVATION_CODE.length);
+    }
+
+    private static void decode(
+        final MessageHeaderDecoder messageHeader,
+        final CarDecoder car,
+        final UnsafeBuffer buffer,
+        final int bufferIndex,
+        final byte[] tempBuffer)
+    {
+        messageHeader.wrap(buffer, bufferIndex);
+
+        final int actingVersion = messageHeader.version();
+        final int actingBlockLength = messageHeader.blockLength();
+
+        car.wrap(buffer, bufferIndex + messageHeader.encodedLength(), actingBlockLength, actingVersion);
+
+        car.serialNumber();
+        car.modelYear();
+        car.available();
+        car.code();
+
+        for (int i = 0, size = CarDecoder.someNumbersLength(); i < size; i++)
+        {
+            car.someNumbers(i);
+        }
+
+        for (int i = 0, size = CarDecoder.vehicleCodeLength(); i < size; i++)
+        {
+            car.vehicleCode(i);
+        }
+
+        final OptionalExtrasDecoder extras = car.extras();
+        extras.cruiseControl();
+        extras.sportsPack();
+        extras.sunRoof();
+
+        final EngineDecoder engine = car.engine();
+        engine.capacity();
+        engine.numCylinders();
+        engine.maxRpm();
+        for (int i = 0, size = EngineDecoder.manufacturerCodeLength(); i < size; i++)
+        {
+            engine.manufacturerCode(i);
+        }
+
+        engine.getFuel(tempBuffer, 0, tempBuffer.length);
+
+        for (int i = 0, size = CarDecoder.uuidLength(); i < size; i++)
+        {
+            car.uuid(i);
+        }
+
+        car.cupHolderCount();
+
+        for (final CarDecoder.FuelFiguresDecoder fuelFigures : car.fuelFigures())
+        {
+            fuelFigures.speed();
+            fuelFigures.mpg();
+        }
+
+        for (final PerformanceFiguresDecoder performanceFigures : car.performanceFigures())
+        {
+            performanceFigures.octaneRating();
+
+            for (final AccelerationDecoder acceleration : performanceFigures.acceleration())
+            {
+                acceleration.mph();
+                acceleration.seconds();
+            }
+        }
+
+        car.getManufacturer(tempBuffer, 0, tempBuffer.length);
+        car.getModel(tempBuffer, 0, tempBuffer.length);
+        car.getActivationCode(tempBuffer, 0, tempBuffer.length);
+    }
+
+    /*
+     * Benchmarks to allow execution outside JMH.
+     */
+
+    public static void main(final String[] args)
+    {
+        for (int i = 0; i < 10; i++)
+        {
+            perfTestDecodeOlderVersion(i);
+            perfTestDecodeSameVersion(i);
+        }
+    }
+
+    private static void perfTestDecodeOlderVersion(final int runNumber)
+    {
+        final int reps = 10 * 1000 * 1000;
+        final MyState state = new MyState();
+        final SchemaEvolutionBenchmark benchmark = new SchemaEvolutionBenchmark();
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < reps; i++)
+        {
+            benchmark.testDecodeOlderVersion(state);
+        }
+
+        final long totalDuration = System.nanoTime() - start;
+
+        System.out.printf(
+            "%d - %d(ns) average duration for %s.testDecodeOlderVersion() - message encodedLength %d%n",
+            runNumber,
+            totalDuration / reps,
+            benchmark.getClass().getName(),
+            state.carDecoder.encodedLength() + state.messageHeaderDecoder.encodedLength());
+    }
+
+    private static void perfTestDecodeSameVersion(final int runNumber)
+    {
+        final int reps = 10 * 1000 * 1000;
+        final MyState state = new MyState();
+        final SchemaEvolutionBenchmark benchmark = new SchemaEvolutionBenchmark();
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < reps; i++)
+        {
+            benchmark.testDecodeSameVersion(state);
+        }
+
+        final long totalDuration = System.nanoTime() - start;
+
+        System.out.printf(
+            "%d - %d(ns) average duration for %s.testDecodeSameVersion() - message encodedLength %d%n",
+            runNumber,
+            totalDuration / reps,
+            benchmark.getClass().getName(),
+            state.carDecoder.encodedLength() + state.messageHeaderDecoder.encodedLength());
+    }
+}
@@ -52,7 +52,8 @@ import java.nio.file.Paths;
  *     <b>sbe.validation.suppress.output</b>: Should the parser suppress output during validation? Defaults to false.
  * </li>
  * <li><b>sbe.generate.stubs</b>: Generate stubs or not. Defaults to true.</li>
- * <li><b>sbe.target.language</b>: Target language for code generation, defaults to Java.</li>
+ * <li><b>sbe.target.language</b>: Target language for code generation, defaults to Java. Java_Memory_Segment
+ * generates Java 22+ codecs which wrap a {@code java.lang.foreign.MemorySegment} rather than an Agrona buffer.</li>
  * <li><b>sbe.generate.ir</b>: Generate IR or not. Defaults to false.</li>
  * <li><b>sbe.output.dir</b>: Target directory for code generation, defaults to current directory.</li>
  * <li><b>sbe.java.generate.interfaces</b>: Generate interface hierarchy or not. Defaults to false.</li>
@@ -212,6 +213,112 @@ public class SbeTool
      */
     public static final String JAVA_GENERATE_DTOS = "sbe.java.generate.dtos";
 
+    /**
+     * Boolean system property to generate Java DTOs which are reset and reused on decode, holding groups in a
+     * {@link uk.co.real_logic.sbe.codec.java.ReusableList} of recycled elements and strings in a
+     * {@link uk.co.real_logic.sbe.codec.java.ReusableString}, with a {@code decodeInto} method to decode a message into
+     * an existing DTO without allocating. Only applies when {@link #JAVA_GENERATE_DTOS} is set. Defaults to false.
+     */
+    public static final String JAVA_GENERATE_REUSABLE_DTOS = "sbe.java.generate.reusable.dtos";
+
+    /**
+     * Boolean system property to generate Java DTOs with columnar groups, where a group whose entries have only
+     * single value primitive and enum fields is held as a column array per field with a row count rather than a list
+     * of DTOs, which removes the per entry object and is decoded and encoded in a loop over the columns. Other groups
+     * are generated as a list. Only applies when {@link #JAVA_GENERATE_DTOS} is set. Defaults to false.
+     */
+    public static final String JAVA_GENERATE_COLUMNAR_DTOS = "sbe.java.generate.columnar.dtos";
+
+    /**
+     * System property to hold the path of a projection specification for which slim Java projection decoders are
+     * generated in addition to the codecs. Each line names a message followed by the dot separated path of a field,
+     * group, or var data to be decoded, e.g. {@code Car.fuelFigures.speed}, with a group path selecting the whole
+     * group. Blank lines and lines beginning with {@code #} are ignored.
+     */
+    public static final String JAVA_PROJECTION_SPEC = "sbe.java.projection.spec";
+
+    /**
+     * Should generate {@code sbeValidate(int limit)} on Java message decoders which walks an untrusted message once,
+     * checking block lengths, group counts, var data lengths, and enum and set values, so it can then be read without
+     * bounds checks.
+     */
+    public static final String JAVA_GENERATE_VALIDATION = "sbe.java.generate.validation";
+
+    /**
+     * Should generate {@code wrapForUpdate} on Java message encoders, and {@code xxxForUpdate()} for their groups, so
+     * the fields of a received message and its group entries can be set in place while its groups and var data are
+     * left untouched.
+     */
+    public static final String JAVA_GENERATE_WRAP_FOR_UPDATE = "sbe.java.generate.wrap.for.update";
+
+    /**
+     * Boolean system property to generate {@code sbeHashCode()}, {@code sbeEquals(other)} and {@code compareTo(other)}
+     * over the encoded fields of Java composite and message decoders, which then implement {@link Comparable}. Padding
+     * between fields is ignored. Defaults to false.
+     */
+    public static final String JAVA_GENERATE_COMPARISONS = "sbe.java.generate.comparisons";
+
+    /**
+     * Boolean system property to generate a Java {@code <Schema>MessageDispatcher}, named after the last segment of
+     * the schema package, which reads the message header once and passes a reusable decoder for the template id to
+     * a handler. Defaults to false.
+     */
+    public static final String JAVA_GENERATE_MESSAGE_DISPATCHER = "sbe.java.generate.message.dispatcher";
+
+    /**
+     * Capacity of the {@link uk.co.real_logic.sbe.codec.java.StringCache} generated for each {@link String} accessor
+     * of var data and char arrays in Java decoders so repeated values are returned without allocation. Defaults to 0
+     * which generates accessors that decode a new {@link String} on each call.
+     */
+    public static final String JAVA_STRING_CACHE_CAPACITY = "sbe.java.string.cache.capacity";
+
+    /**
+     * Boolean system property to generate scan methods on Java group decoders, which aggregate, filter, or binary
+     * search a primitive field over all entries of a group without iterating with {@code next()}. Only groups with no
+     * nested groups or var data have scans generated, and only for fields present since version 0 of the schema. Min,
+     * max, and sum skip entries holding the null value of an optional field, and min and max return the null value
+     * when no entry has a value. Sums of integer fields accumulate in a {@code long} and are not generated for
+     * {@code uint64} fields, which could not be summed without wrapping. Defaults to false.
+     */
+    public static final String JAVA_GENERATE_GROUP_SCANS = "sbe.java.generate.group.scans";
+
+    /**
+     * Boolean system property to generate {@code at(index)}, {@code hasPrevious()}, and {@code previous()} on Java
+     * group decoders, which seek directly to an entry of a group with no nested groups or var data. The parent limit
+     * is left at the end of the group so what follows can be decoded after any entry. Defaults to false.
+     */
+    public static final String JAVA_GENERATE_GROUP_RANDOM_ACCESS = "sbe.java.generate.group.random.access";
+
+    /**
+     * Boolean system property to generate open group encoding on Java encoders, with {@code xxxOpen()} to begin a
+     * group before its count is known and {@code close()} to back-patch the count with the number of entries encoded
+     * by {@code next()}. Defaults to false.
+     */
+    public static final String JAVA_GENERATE_OPEN_GROUPS = "sbe.java.generate.open.groups";
+
+    /**
+     * Boolean system property to generate static {@code computeLength(...)} on Java message and group encoders, which
+     * computes the encoded length from group counts and var data lengths, and {@code sbeMaxEncodedLength()} when every
+     * group and var data field declares a maximum. Defaults to false.
+     */
+    public static final String JAVA_GENERATE_COMPUTE_LENGTH = "sbe.java.generate.compute.length";
+
+    /**
+     * Boolean system property to generate {@code appendJsonTo(MutableDirectBuffer, int)} on Java message decoders,
+     * which writes the same JSON as the {@link uk.co.real_logic.sbe.json.JsonPrinter} with field names precomputed as
+     * bytes rather than interpreting tokens at runtime. Defaults to false.
+     */
+    public static final String JAVA_GENERATE_APPEND_JSON = "sbe.java.generate.append.json";
+
+    /**
+     * Boolean system property to generate a {@code xxxLatestDecoder} alongside each Java message decoder which has
+     * fields, groups, or var data added after the first version. It has no acting version checks and is chosen by
+     * the generated {@code <Schema>MessageDispatcher} when the message version is at or above the schema version.
+     * Defaults to false.
+     */
+    public static final String JAVA_GENERATE_VERSION_SPECIALISED_DECODERS =
+        "sbe.java.generate.version.specialised.decoders";
+
     /**
      * Configuration option used to manage sinceVersion based transformations. When set, parsed schemas will be
      * transformed to discard messages and types higher than the specified version. This can be useful when needing
@@ -242,6 +349,13 @@ public class SbeTool
      */
     public static final String JAVA_PRECEDENCE_CHECKS_PROPERTY_NAME = "sbe.java.precedence.checks.property.name";
 
+    /**
+     * The name of the system property that sets, at runtime, the 1-in-N rate at which wrapped messages have their
+     * access order checked in generated Java code.
+     */
+    public static final String JAVA_PRECEDENCE_CHECKS_SAMPLE_RATE_PROPERTY_NAME =
+        "sbe.java.precedence.checks.sample.rate.property.name";
+
     /**
      * Boolean system property to generate flyweights instead of structs in generated Go code.
      * Defaults to false
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.codec.java;
+
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Formatting of decimals, given as a mantissa and a base 10 exponent, in plain notation without allocation, e.g. a
+ * mantissa of -15 and exponent of -3 is formatted as {@code -0.015}. The result is also a valid Json number.
+ * <p>
+ * Used by the {@link uk.co.real_logic.sbe.json.JsonPrinter} and by the {@code appendDecimal} methods generated on
+ * decimal composite decoders.
+ */
+public final class Decimals
+{
+    private Decimals()
+    {
+    }
+
+    /**
+     * Append a decimal to a {@link StringBuilder} in plain notation.
+     *
+     * @param builder  to append the decimal to.
+     * @param mantissa of the decimal.
+     * @param exponent of the decimal.
+     * @return the builder for fluent use.
+     */
+    public static StringBuilder appendDecimal(final StringBuilder builder, final long mantissa, final int exponent)
+    {
+        final int digitsStart = mantissa < 0 ? builder.length() + 1 : builder.length();
+        builder.append(mantissa);
+
+        if (exponent > 0)
+        {
+            if (0 != mantissa)
+            {
+                for (int i = 0; i < exponent; i++)
+                {
+                    builder.append('0');
+                }
+            }
+        }
+        else if (exponent < 0)
+        {
+            final int scale = -exponent;
+            for (int digits = builder.length() - digitsStart; digits <= scale; digits++)
+            {
+                builder.insert(digitsStart, '0');
+            }
+
+            builder.insert(builder.length() - scale, '.');
+        }
+
+        return builder;
+    }
+
+    /**
+     * Put a decimal as ASCII into a buffer in plain notation.
+     *
+     * @param buffer   to put the decimal into.
+     * @param index    in the buffer at which to put the decimal.
+     * @param mantissa of the decimal.
+     * @param exponent of the decimal.
+     * @return the number of bytes put into the buffer.
+     */
+    public static int appendDecimal(
+        final MutableDirectBuffer buffer, final int index, final long mantissa, final int exponent)
+    {
+        int length = buffer.putLongAscii(index, mantissa);
+
+        if (exponent > 0)
+        {
+            if (0 != mantissa)
+            {
+                for (int i = 0; i < exponent; i++)
+                {
+                    buffer.putByte(index + length++, (byte)'0');
+                }
+            }
+        }
+        else if (exponent < 0)
+        {
+            final int scale = -exponent;
+            final int digitsStart = mantissa < 0 ? index + 1 : index;
+            final int zeros = Math.max(0, scale + 1 - (index + length - digitsStart));
+            if (zeros > 0)
+            {
+                for (int i = index + length - 1; i >= digitsStart; i--)
+                {
+                    buffer.putByte(i + zeros, buffer.getByte(i));
+                }
+
+                for (int i = 0; i < zeros; i++)
+                {
+                    buffer.putByte(digitsStart + i, (byte)'0');
+                }
+
+                length += zeros;
+            }
+
+            final int pointIndex = index + length - scale;
+            for (int i = index + length - 1; i >= pointIndex; i--)
+            {
+                buffer.putByte(i + 1, buffer.getByte(i));
+            }
+
+            buffer.putByte(pointIndex, (byte)'.');
+            length++;
+        }
+
+        return length;
+    }
+}
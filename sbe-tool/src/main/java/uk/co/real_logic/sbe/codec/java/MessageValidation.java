@@ -0,0 +1,99 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.codec.java;
+
+/**
+ * Results of the {@code sbeValidate(int limit)} method generated on message decoders with
+ * {@code sbe.java.generate.validation}. A message is valid when {@link #VALID} is returned, otherwise the first error
+ * found is returned as one of the negative codes below.
+ */
+public final class MessageValidation
+{
+    /**
+     * The message is within the limit and all counts, lengths, and enum and set values are valid.
+     */
+    public static final int VALID = 0;
+
+    /**
+     * The message, or one of its group headers, entries, or var data, extends beyond the limit.
+     */
+    public static final int BUFFER_TOO_SHORT = -1;
+
+    /**
+     * The block length of the message or of a group is too short to hold the fields of the acting version.
+     */
+    public static final int INVALID_BLOCK_LENGTH = -2;
+
+    /**
+     * The number of entries in a group is outside the min and max values of its {@code numInGroup} encoding.
+     */
+    public static final int INVALID_GROUP_COUNT = -3;
+
+    /**
+     * The length of var data is greater than the max value of its {@code length} encoding.
+     */
+    public static final int INVALID_VAR_DATA_LENGTH = -4;
+
+    /**
+     * A field holds a value which is not one of the values of its enum, nor its null value.
+     */
+    public static final int INVALID_ENUM_VALUE = -5;
+
+    /**
+     * A field has bits set which are not choices of its set.
+     */
+    public static final int INVALID_SET_VALUE = -6;
+
+    private MessageValidation()
+    {
+    }
+
+    /**
+     * Get the name of a result for logging and error messages.
+     *
+     * @param result returned from {@code sbeValidate(int limit)}.
+     * @return the name of the result.
+     */
+    public static String name(final int result)
+    {
+        switch (result)
+        {
+            case VALID:
+                return "VALID";
+
+            case BUFFER_TOO_SHORT:
+                return "BUFFER_TOO_SHORT";
+
+            case INVALID_BLOCK_LENGTH:
+                return "INVALID_BLOCK_LENGTH";
+
+            case INVALID_GROUP_COUNT:
+                return "INVALID_GROUP_COUNT";
+
+            case INVALID_VAR_DATA_LENGTH:
+                return "INVALID_VAR_DATA_LENGTH";
+
+            case INVALID_ENUM_VALUE:
+                return "INVALID_ENUM_VALUE";
+
+            case INVALID_SET_VALUE:
+                return "INVALID_SET_VALUE";
+
+            default:
+                return "UNKNOWN(" + result + ")";
+        }
+    }
+}
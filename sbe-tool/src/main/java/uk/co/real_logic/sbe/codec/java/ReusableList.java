@@ -0,0 +1,199 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.codec.java;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
+/**
+ * {@link java.util.List} backed by a growable array which retains its elements when cleared, so that elements can be
+ * recycled with {@link #add()} rather than allocated on each use. Reusable DTOs generated with
+ * {@code sbe.java.generate.reusable.dtos} hold their groups in this list so that decoding a message into an existing
+ * DTO does not allocate once the list has grown to the largest group decoded.
+ * <p>
+ * <b>Note:</b> this class is not threadsafe.
+ *
+ * @param <E> type of the elements in the list.
+ */
+public final class ReusableList<E> extends AbstractList<E> implements RandomAccess
+{
+    private static final Object[] EMPTY_ELEMENTS = new Object[0];
+
+    private final Supplier<E> factory;
+    private Object[] elements;
+    private int size;
+
+    /**
+     * Construct an empty list which creates elements with a factory when there are none to recycle.
+     *
+     * @param factory for creating elements when there are none to recycle.
+     */
+    public ReusableList(final Supplier<E> factory)
+    {
+        this(factory, 0);
+    }
+
+    /**
+     * Construct an empty list which creates elements with a factory when there are none to recycle.
+     *
+     * @param factory         for creating elements when there are none to recycle.
+     * @param initialCapacity of the backing array.
+     */
+    public ReusableList(final Supplier<E> factory, final int initialCapacity)
+    {
+        Objects.requireNonNull(factory, "factory");
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+        }
+
+        this.factory = factory;
+        this.elements = 0 == initialCapacity ? EMPTY_ELEMENTS : new Object[initialCapacity];
+    }
+
+    /**
+     * Add an element to the end of the list, recycling an element retained from a previous {@link #clear()} or
+     * creating one with the factory if there is none.
+     *
+     * @return the element added which should be reset by the caller.
+     */
+    @SuppressWarnings("unchecked")
+    public E add()
+    {
+        ensureCapacity(size + 1);
+
+        E element = (E)elements[size];
+        if (null == element)
+        {
+            element = factory.get();
+            elements[size] = element;
+        }
+
+        size++;
+        modCount++;
+
+        return element;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void add(final int index, final E element)
+    {
+        Objects.requireNonNull(element, "element");
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("index=" + index + " size=" + size);
+        }
+
+        ensureCapacity(size + 1);
+        final Object recycled = elements[size];
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+        modCount++;
+
+        if (null != recycled && size < elements.length && null == elements[size])
+        {
+            elements[size] = recycled;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    public E get(final int index)
+    {
+        Objects.checkIndex(index, size);
+
+        return (E)elements[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    public E set(final int index, final E element)
+    {
+        Objects.requireNonNull(element, "element");
+        Objects.checkIndex(index, size);
+
+        final E previous = (E)elements[index];
+        elements[index] = element;
+
+        return previous;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The removed element is retained beyond the end of the list to be recycled.
+     */
+    @SuppressWarnings("unchecked")
+    public E remove(final int index)
+    {
+        Objects.checkIndex(index, size);
+
+        final E removed = (E)elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        elements[size] = removed;
+        modCount++;
+
+        return removed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Remove all elements from the list while retaining them to be recycled by {@link #add()}.
+     */
+    public void clear()
+    {
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Length of the backing array which is the number of elements the list can hold before growing.
+     *
+     * @return length of the backing array.
+     */
+    public int capacity()
+    {
+        return elements.length;
+    }
+
+    private void ensureCapacity(final int requiredCapacity)
+    {
+        final int capacity = elements.length;
+        if (requiredCapacity > capacity)
+        {
+            final int newCapacity = Math.max(requiredCapacity, Math.max(8, capacity + (capacity >> 1)));
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+    }
+}
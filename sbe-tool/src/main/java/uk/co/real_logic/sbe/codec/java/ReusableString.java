@@ -0,0 +1,429 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.codec.java;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Mutable string held as its encoded bytes in a growable array, so that it can be decoded into and encoded from
+ * without allocating a {@link String}. Reusable DTOs generated with {@code sbe.java.generate.reusable.dtos} hold char
+ * arrays and character var data in this class.
+ * <p>
+ * Setting the value from a {@link CharSequence} does not allocate for US-ASCII, ISO-8859-1, and UTF-8, with characters
+ * which cannot be represented in US-ASCII or ISO-8859-1 replaced by {@code '?'}. Bytes beyond the {@link #length()}
+ * are always zero so that the array can be copied to a null padded char array as is.
+ * <p>
+ * <b>Note:</b> this class is not threadsafe.
+ */
+public final class ReusableString
+{
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private final Charset charset;
+    private final int maxCharValue;
+    private byte[] bytes;
+    private int length;
+
+    /**
+     * Construct an empty string in a given character encoding.
+     *
+     * @param charset in which the string is encoded.
+     */
+    public ReusableString(final Charset charset)
+    {
+        this(charset, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Construct an empty string in a given character encoding.
+     *
+     * @param charset         in which the string is encoded.
+     * @param initialCapacity in bytes of the backing array.
+     */
+    public ReusableString(final Charset charset, final int initialCapacity)
+    {
+        Objects.requireNonNull(charset, "charset");
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+        }
+
+        this.charset = charset;
+        this.bytes = new byte[initialCapacity];
+
+        if (StandardCharsets.US_ASCII.equals(charset))
+        {
+            maxCharValue = 0x7F;
+        }
+        else if (StandardCharsets.ISO_8859_1.equals(charset))
+        {
+            maxCharValue = 0xFF;
+        }
+        else
+        {
+            maxCharValue = 0;
+        }
+    }
+
+    /**
+     * Character encoding of the string.
+     *
+     * @return character encoding of the string.
+     */
+    public Charset charset()
+    {
+        return charset;
+    }
+
+    /**
+     * Backing array which holds the encoded bytes from index 0 up to {@link #length()} followed by zeros.
+     *
+     * @return backing array which holds the encoded bytes.
+     */
+    public byte[] byteArray()
+    {
+        return bytes;
+    }
+
+    /**
+     * Length of the string in encoded bytes.
+     *
+     * @return length of the string in encoded bytes.
+     */
+    public int length()
+    {
+        return length;
+    }
+
+    /**
+     * Is the string of zero length.
+     *
+     * @return true if the string is of zero length.
+     */
+    public boolean isEmpty()
+    {
+        return 0 == length;
+    }
+
+    /**
+     * Set the length of the string in encoded bytes, growing the backing array if required, so that the returned
+     * array can be filled with the encoded bytes from index 0.
+     *
+     * @param length of the string in encoded bytes.
+     * @return the backing array to be filled with the encoded bytes.
+     */
+    public byte[] prepare(final int length)
+    {
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("length must not be negative: " + length);
+        }
+
+        ensureCapacity(length);
+        setLength(length);
+
+        return bytes;
+    }
+
+    /**
+     * Backing array of at least a given length with the bytes beyond {@link #length()} being zero, for copying to a
+     * null padded char array of that length.
+     *
+     * @param arrayLength of the char array to be copied to.
+     * @return the backing array of at least the given length.
+     */
+    public byte[] nullPadded(final int arrayLength)
+    {
+        ensureCapacity(arrayLength);
+
+        return bytes;
+    }
+
+    /**
+     * Truncate the string at the first null byte, as used to pad a char array shorter than its fixed length.
+     *
+     * @return this for a fluent API.
+     */
+    public ReusableString trimNullPadding()
+    {
+        final byte[] bytes = this.bytes;
+        int end = 0;
+        while (end < length && 0 != bytes[end])
+        {
+            end++;
+        }
+
+        setLength(end);
+
+        return this;
+    }
+
+    /**
+     * Set the string to zero length.
+     *
+     * @return this for a fluent API.
+     */
+    public ReusableString clear()
+    {
+        setLength(0);
+
+        return this;
+    }
+
+    /**
+     * Set the string to the encoded bytes in an array.
+     *
+     * @param src    array containing the encoded bytes.
+     * @param offset in the array at which the encoded bytes begin.
+     * @param length of the encoded bytes.
+     * @return this for a fluent API.
+     */
+    public ReusableString set(final byte[] src, final int offset, final int length)
+    {
+        System.arraycopy(src, offset, prepare(length), 0, length);
+
+        return this;
+    }
+
+    /**
+     * Set the string to the encoding of a {@link CharSequence}, or zero length if it is null.
+     *
+     * @param value to be encoded.
+     * @return this for a fluent API.
+     */
+    public ReusableString set(final CharSequence value)
+    {
+        if (null == value)
+        {
+            return clear();
+        }
+
+        if (0 != maxCharValue)
+        {
+            final int valueLength = value.length();
+            final byte[] bytes = prepare(valueLength);
+            for (int i = 0; i < valueLength; i++)
+            {
+                final char c = value.charAt(i);
+                bytes[i] = (byte)(c > maxCharValue ? '?' : c);
+            }
+        }
+        else if (StandardCharsets.UTF_8.equals(charset))
+        {
+            setUtf8(value);
+        }
+        else
+        {
+            final byte[] encoded = value.toString().getBytes(charset);
+            set(encoded, 0, encoded.length);
+        }
+
+        return this;
+    }
+
+    /**
+     * Length in bytes of a {@link CharSequence} when encoded as by {@link #set(CharSequence)}, which does not allocate
+     * for US-ASCII, ISO-8859-1, and UTF-8, so the fixed length of a char array can be checked before setting it.
+     *
+     * @param value   to be encoded, or null for zero length.
+     * @param charset in which the value is to be encoded.
+     * @return length in bytes of the encoded value.
+     */
+    public static int encodedLength(final CharSequence value, final Charset charset)
+    {
+        if (null == value)
+        {
+            return 0;
+        }
+
+        if (StandardCharsets.US_ASCII.equals(charset) || StandardCharsets.ISO_8859_1.equals(charset))
+        {
+            return value.length();
+        }
+
+        if (StandardCharsets.UTF_8.equals(charset))
+        {
+            return utf8Length(value);
+        }
+
+        return value.toString().getBytes(charset).length;
+    }
+
+    /**
+     * Append the decoded string to a {@link StringBuilder}, which does not allocate for US-ASCII and ISO-8859-1.
+     *
+     * @param builder to append to.
+     * @return the builder for a fluent API.
+     */
+    public StringBuilder appendTo(final StringBuilder builder)
+    {
+        if (0 != maxCharValue)
+        {
+            for (int i = 0; i < length; i++)
+            {
+                final int c = bytes[i] & 0xFF;
+                builder.append(c > maxCharValue ? '?' : (char)c);
+            }
+        }
+        else
+        {
+            builder.append(toString());
+        }
+
+        return builder;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean equals(final Object obj)
+    {
+        if (this == obj)
+        {
+            return true;
+        }
+
+        if (!(obj instanceof ReusableString))
+        {
+            return false;
+        }
+
+        final ReusableString other = (ReusableString)obj;
+
+        return charset.equals(other.charset) &&
+            Arrays.equals(bytes, 0, length, other.bytes, 0, other.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int hashCode()
+    {
+        int hash = 1;
+        for (int i = 0; i < length; i++)
+        {
+            hash = 31 * hash + bytes[i];
+        }
+
+        return hash;
+    }
+
+    /**
+     * Decode the string to a new {@link String}.
+     *
+     * @return the decoded string.
+     */
+    public String toString()
+    {
+        return new String(bytes, 0, length, charset);
+    }
+
+    private void setUtf8(final CharSequence value)
+    {
+        final int valueLength = value.length();
+        final byte[] bytes = prepare(utf8Length(value));
+        int index = 0;
+        for (int i = 0; i < valueLength; i++)
+        {
+            final char c = value.charAt(i);
+            if (c < 0x80)
+            {
+                bytes[index++] = (byte)c;
+            }
+            else if (c < 0x800)
+            {
+                bytes[index++] = (byte)(0xC0 | (c >> 6));
+                bytes[index++] = (byte)(0x80 | (c & 0x3F));
+            }
+            else if (isSurrogatePair(value, i))
+            {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                bytes[index++] = (byte)(0xF0 | (codePoint >> 18));
+                bytes[index++] = (byte)(0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[index++] = (byte)(0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[index++] = (byte)(0x80 | (codePoint & 0x3F));
+            }
+            else if (Character.isSurrogate(c))
+            {
+                bytes[index++] = '?';
+            }
+            else
+            {
+                bytes[index++] = (byte)(0xE0 | (c >> 12));
+                bytes[index++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+                bytes[index++] = (byte)(0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private static int utf8Length(final CharSequence value)
+    {
+        final int valueLength = value.length();
+        int encodedLength = 0;
+        for (int i = 0; i < valueLength; i++)
+        {
+            final char c = value.charAt(i);
+            if (c < 0x80)
+            {
+                encodedLength += 1;
+            }
+            else if (c < 0x800)
+            {
+                encodedLength += 2;
+            }
+            else if (isSurrogatePair(value, i))
+            {
+                encodedLength += 4;
+                i++;
+            }
+            else
+            {
+                encodedLength += Character.isSurrogate(c) ? 1 : 3;
+            }
+        }
+
+        return encodedLength;
+    }
+
+    private static boolean isSurrogatePair(final CharSequence value, final int index)
+    {
+        return Character.isHighSurrogate(value.charAt(index)) &&
+            index + 1 < value.length() &&
+            Character.isLowSurrogate(value.charAt(index + 1));
+    }
+
+    private void setLength(final int newLength)
+    {
+        if (newLength < length)
+        {
+            Arrays.fill(bytes, newLength, length, (byte)0);
+        }
+
+        length = newLength;
+    }
+
+    private void ensureCapacity(final int requiredCapacity)
+    {
+        final int capacity = bytes.length;
+        if (requiredCapacity > capacity)
+        {
+            bytes = Arrays.copyOf(bytes, Math.max(requiredCapacity, capacity + (capacity >> 1)));
+        }
+    }
+}
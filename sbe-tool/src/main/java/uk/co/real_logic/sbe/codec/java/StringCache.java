@@ -0,0 +1,237 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.codec.java;
+
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Bounded cache of decoded {@link String}s keyed by their encoded bytes, so that decoding a value which repeats, such
+ * as a symbol or account, returns a previously decoded {@link String} without allocating.
+ * <p>
+ * The cache is direct mapped on a hash of the encoded bytes, so a value evicts any previous value in its slot, and
+ * values longer than the max length are always decoded to a new {@link String}. Decoders generated with
+ * {@code sbe.java.string.cache.capacity} set have a cache per string field which can be replaced or shared between
+ * fields and decoders via the generated {@code xxxStringCache} methods.
+ * <p>
+ * <b>Note:</b> this class is not threadsafe.
+ */
+public final class StringCache
+{
+    /**
+     * Default max length in bytes of an encoded value which is cached.
+     */
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+    private final int mask;
+    private final int maxLength;
+    private final byte[][] keys;
+    private final Charset[] charsets;
+    private final String[] values;
+    private long hits;
+    private long misses;
+
+    /**
+     * Construct a cache with a capacity and a max length of {@link #DEFAULT_MAX_LENGTH}.
+     *
+     * @param capacity of the cache which will be rounded up to the next power of two.
+     */
+    public StringCache(final int capacity)
+    {
+        this(capacity, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Construct a cache with a capacity and the max length of an encoded value which is cached.
+     *
+     * @param capacity  of the cache which will be rounded up to the next power of two.
+     * @param maxLength in bytes of an encoded value which is cached.
+     */
+    public StringCache(final int capacity, final int maxLength)
+    {
+        if (capacity < 1 || capacity > (1 << 30))
+        {
+            throw new IllegalArgumentException("capacity must be in the range 1 to 2^30: " + capacity);
+        }
+
+        if (maxLength < 0)
+        {
+            throw new IllegalArgumentException("maxLength must not be negative: " + maxLength);
+        }
+
+        final int slots = BitUtil.findNextPositivePowerOfTwo(capacity);
+        mask = slots - 1;
+        this.maxLength = maxLength;
+        keys = new byte[slots][];
+        charsets = new Charset[slots];
+        values = new String[slots];
+    }
+
+    /**
+     * Get the {@link String} for the encoded bytes in a buffer, decoding and caching it on a miss.
+     *
+     * @param buffer  containing the encoded bytes.
+     * @param index   in the buffer at which the encoded bytes begin.
+     * @param length  of the encoded bytes.
+     * @param charset in which the bytes are encoded.
+     * @return the decoded {@link String}.
+     */
+    public String get(final DirectBuffer buffer, final int index, final int length, final Charset charset)
+    {
+        if (0 == length)
+        {
+            return "";
+        }
+
+        if (length > maxLength)
+        {
+            misses++;
+            return decode(buffer, index, length, charset);
+        }
+
+        final int slot = hash(buffer, index, length) & mask;
+        final byte[] key = keys[slot];
+        if (null != key && charset == charsets[slot] && equals(key, buffer, index, length))
+        {
+            hits++;
+            return values[slot];
+        }
+
+        misses++;
+        final byte[] bytes = new byte[length];
+        buffer.getBytes(index, bytes, 0, length);
+        final String value = new String(bytes, charset);
+
+        keys[slot] = bytes;
+        charsets[slot] = charset;
+        values[slot] = value;
+
+        return value;
+    }
+
+    /**
+     * Number of slots in the cache.
+     *
+     * @return number of slots in the cache.
+     */
+    public int capacity()
+    {
+        return values.length;
+    }
+
+    /**
+     * Max length in bytes of an encoded value which is cached.
+     *
+     * @return max length in bytes of an encoded value which is cached.
+     */
+    public int maxLength()
+    {
+        return maxLength;
+    }
+
+    /**
+     * Number of lookups which returned a cached value.
+     *
+     * @return number of lookups which returned a cached value.
+     */
+    public long hits()
+    {
+        return hits;
+    }
+
+    /**
+     * Number of lookups which decoded a new value.
+     *
+     * @return number of lookups which decoded a new value.
+     */
+    public long misses()
+    {
+        return misses;
+    }
+
+    /**
+     * Reset the hit and miss counters to zero.
+     */
+    public void resetCounters()
+    {
+        hits = 0;
+        misses = 0;
+    }
+
+    /**
+     * Remove all cached values and reset the counters.
+     */
+    public void clear()
+    {
+        Arrays.fill(keys, null);
+        Arrays.fill(charsets, null);
+        Arrays.fill(values, null);
+        resetCounters();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        return "StringCache{" +
+            "capacity=" + capacity() +
+            ", maxLength=" + maxLength +
+            ", hits=" + hits +
+            ", misses=" + misses +
+            '}';
+    }
+
+    private static String decode(final DirectBuffer buffer, final int index, final int length, final Charset charset)
+    {
+        final byte[] bytes = new byte[length];
+        buffer.getBytes(index, bytes, 0, length);
+
+        return new String(bytes, charset);
+    }
+
+    private static int hash(final DirectBuffer buffer, final int index, final int length)
+    {
+        int hash = length;
+        for (int i = 0; i < length; i++)
+        {
+            hash = 31 * hash + buffer.getByte(index + i);
+        }
+
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean equals(final byte[] key, final DirectBuffer buffer, final int index, final int length)
+    {
+        if (key.length != length)
+        {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++)
+        {
+            if (key[i] != buffer.getByte(index + i))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
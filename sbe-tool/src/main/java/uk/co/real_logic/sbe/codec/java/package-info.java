@@ -14,6 +14,7 @@
  * limitations under the License.
  */
 /**
- * Annotation for marking the order of groups in generated code to provide metadata.
+ * Annotation for marking the order of groups in generated code to provide metadata and support classes which
+ * generated codecs may optionally use, such as a {@link uk.co.real_logic.sbe.codec.java.StringCache}.
  */
 package uk.co.real_logic.sbe.codec.java;
\ No newline at end of file
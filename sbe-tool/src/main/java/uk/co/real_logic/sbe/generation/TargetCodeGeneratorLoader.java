@@ -27,11 +27,17 @@ import uk.co.real_logic.sbe.generation.golang.flyweight.GolangFlyweightGenerator
 import uk.co.real_logic.sbe.generation.golang.flyweight.GolangFlyweightOutputManager;
 import uk.co.real_logic.sbe.generation.java.JavaDtoGenerator;
 import uk.co.real_logic.sbe.generation.java.JavaGenerator;
+import uk.co.real_logic.sbe.generation.java.JavaMemorySegmentGenerator;
 import uk.co.real_logic.sbe.generation.java.JavaOutputManager;
+import uk.co.real_logic.sbe.generation.java.JavaProjectionGenerator;
 import uk.co.real_logic.sbe.generation.rust.RustGenerator;
 import uk.co.real_logic.sbe.generation.rust.RustOutputManager;
 import uk.co.real_logic.sbe.ir.Ir;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
 import static uk.co.real_logic.sbe.SbeTool.*;
 
 /**
@@ -53,33 +59,92 @@ public enum TargetCodeGeneratorLoader implements TargetCodeGenerator
             final JavaOutputManager outputManager = new JavaOutputManager(outputDir, ir.applicableNamespace());
 
             final boolean shouldSupportTypesPackageNames = Boolean.getBoolean(TYPES_PACKAGE_OVERRIDE);
-            final JavaGenerator codecGenerator = new JavaGenerator(
-                ir,
-                System.getProperty(JAVA_ENCODING_BUFFER_TYPE, JAVA_DEFAULT_ENCODING_BUFFER_TYPE),
-                System.getProperty(JAVA_DECODING_BUFFER_TYPE, JAVA_DEFAULT_DECODING_BUFFER_TYPE),
-                Boolean.getBoolean(JAVA_GROUP_ORDER_ANNOTATION),
-                Boolean.getBoolean(JAVA_GENERATE_INTERFACES),
-                Boolean.getBoolean(DECODE_UNKNOWN_ENUM_VALUES),
-                shouldSupportTypesPackageNames,
-                precedenceChecks(),
-                outputManager);
+            final boolean shouldGenerateVersionSpecialisedDecoders =
+                Boolean.getBoolean(JAVA_GENERATE_VERSION_SPECIALISED_DECODERS);
+            final JavaGenerator.Options options = new JavaGenerator.Options()
+                .mutableBuffer(System.getProperty(JAVA_ENCODING_BUFFER_TYPE, JAVA_DEFAULT_ENCODING_BUFFER_TYPE))
+                .readOnlyBuffer(System.getProperty(JAVA_DECODING_BUFFER_TYPE, JAVA_DEFAULT_DECODING_BUFFER_TYPE))
+                .shouldGenerateGroupOrderAnnotation(Boolean.getBoolean(JAVA_GROUP_ORDER_ANNOTATION))
+                .shouldGenerateInterfaces(Boolean.getBoolean(JAVA_GENERATE_INTERFACES))
+                .shouldDecodeUnknownEnumValues(Boolean.getBoolean(DECODE_UNKNOWN_ENUM_VALUES))
+                .shouldSupportTypesPackageNames(shouldSupportTypesPackageNames)
+                .precedenceChecks(precedenceChecks())
+                .stringCacheCapacity(Integer.getInteger(JAVA_STRING_CACHE_CAPACITY, 0))
+                .shouldGenerateGroupScans(Boolean.getBoolean(JAVA_GENERATE_GROUP_SCANS))
+                .shouldGenerateGroupRandomAccess(Boolean.getBoolean(JAVA_GENERATE_GROUP_RANDOM_ACCESS))
+                .shouldGenerateOpenGroups(Boolean.getBoolean(JAVA_GENERATE_OPEN_GROUPS))
+                .shouldGenerateComputeLength(Boolean.getBoolean(JAVA_GENERATE_COMPUTE_LENGTH))
+                .shouldGenerateAppendJson(Boolean.getBoolean(JAVA_GENERATE_APPEND_JSON))
+                .shouldGenerateVersionSpecialisedDecoders(shouldGenerateVersionSpecialisedDecoders)
+                .shouldGenerateValidation(Boolean.getBoolean(JAVA_GENERATE_VALIDATION))
+                .shouldGenerateWrapForUpdate(Boolean.getBoolean(JAVA_GENERATE_WRAP_FOR_UPDATE))
+                .shouldGenerateComparisons(Boolean.getBoolean(JAVA_GENERATE_COMPARISONS))
+                .shouldGenerateMessageDispatcher(Boolean.getBoolean(JAVA_GENERATE_MESSAGE_DISPATCHER));
+            final JavaGenerator codecGenerator = new JavaGenerator(ir, options, outputManager);
+
+            final String projectionSpec = System.getProperty(JAVA_PROJECTION_SPEC);
+            final CodeGenerator projectionGenerator = null == projectionSpec ? null : () ->
+            {
+                final JavaProjectionGenerator generator = new JavaProjectionGenerator(
+                    ir,
+                    System.getProperty(JAVA_DECODING_BUFFER_TYPE, JAVA_DEFAULT_DECODING_BUFFER_TYPE),
+                    shouldSupportTypesPackageNames,
+                    Files.readAllLines(Paths.get(projectionSpec), StandardCharsets.UTF_8),
+                    outputManager);
+                generator.generate();
+            };
 
             if (Boolean.getBoolean(JAVA_GENERATE_DTOS))
             {
                 final JavaDtoGenerator dtoGenerator = new JavaDtoGenerator(
                     ir,
                     shouldSupportTypesPackageNames,
+                    Boolean.getBoolean(JAVA_GENERATE_REUSABLE_DTOS),
+                    Boolean.getBoolean(JAVA_GENERATE_COLUMNAR_DTOS),
                     outputManager);
                 return () ->
                 {
                     codecGenerator.generate();
                     dtoGenerator.generate();
+                    if (null != projectionGenerator)
+                    {
+                        projectionGenerator.generate();
+                    }
+                };
+            }
+
+            if (null != projectionGenerator)
+            {
+                return () ->
+                {
+                    codecGenerator.generate();
+                    projectionGenerator.generate();
                 };
             }
             return codecGenerator;
         }
     },
 
+    /**
+     * Generates codecs for the Java programming language which wrap a {@code java.lang.foreign.MemorySegment} with
+     * {@code long} offsets and access it via {@code ValueLayout}s with an explicit byte order rather than Agrona
+     * buffers. The generated codecs require Java 22 or later, so they are only compiled and exercised by builds
+     * with {@code BUILD_JAVA_VERSION} of 22 or later; the default Java 17 build only checks the generated source.
+     */
+    JAVA_MEMORY_SEGMENT()
+    {
+        /**
+         * {@inheritDoc}
+         */
+        public CodeGenerator newInstance(final Ir ir, final String outputDir)
+        {
+            return new JavaMemorySegmentGenerator(
+                ir,
+                Boolean.getBoolean(DECODE_UNKNOWN_ENUM_VALUES),
+                new JavaOutputManager(outputDir, ir.applicableNamespace()));
+        }
+    },
+
     /**
      * Generates codecs for the C11 programming language.
      */
@@ -202,6 +267,13 @@ public enum TargetCodeGeneratorLoader implements TargetCodeGenerator
             context.precedenceChecksPropName(precedenceChecksPropName);
         }
 
+        final String precedenceChecksSampleRatePropName = System.getProperty(
+            JAVA_PRECEDENCE_CHECKS_SAMPLE_RATE_PROPERTY_NAME);
+        if (precedenceChecksSampleRatePropName != null)
+        {
+            context.precedenceChecksSampleRatePropName(precedenceChecksSampleRatePropName);
+        }
+
         return PrecedenceChecks.newInstance(context);
     }
 
@@ -48,6 +48,7 @@ public final class FieldPrecedenceModel
     private final Map<State, List<TransitionGroup>> transitionsByState = new HashMap<>();
     private final TreeMap<Integer, State> versionWrappedStates = new TreeMap<>();
     private final State notWrappedState = allocateState("NOT_WRAPPED");
+    private final Map<CodecInteraction, Integer> tableInteractionNumbers = new HashMap<>();
     private final String generatedRepresentationClassName;
     private State encoderWrappedState;
     private Set<State> terminalEncoderStates;
@@ -199,6 +200,57 @@ public final class FieldPrecedenceModel
         }
     }
 
+    /**
+     * Returns the number of codec interactions which have a column in the {@link #transitionTable()}. Top-level block
+     * field accesses are excluded as they are valid in every wrapped state.
+     * @return the number of codec interactions which have a column in the {@link #transitionTable()}.
+     */
+    public int tableInteractionCount()
+    {
+        numberTableInteractions();
+        return tableInteractionNumbers.size();
+    }
+
+    /**
+     * Returns the column of a codec interaction in the {@link #transitionTable()}.
+     * @param interaction a codec interaction.
+     * @return the column of the interaction in the {@link #transitionTable()} or -1 if it has no transitions or is
+     * a top-level block field access.
+     */
+    public int tableInteractionNumber(final CodecInteraction interaction)
+    {
+        numberTableInteractions();
+        final Integer number = tableInteractionNumbers.get(interaction);
+        return null == number ? -1 : number;
+    }
+
+    /**
+     * Encodes the transitions as a table with a row per state, ordered by state number, and a column per codec
+     * interaction, as numbered by {@link #tableInteractionNumber(CodecInteraction)}. Each entry holds the number of
+     * the end state or -1 if the interaction is not valid in the start state.
+     * @return the transitions as a table indexed by {@code state * tableInteractionCount() + interaction}.
+     */
+    public int[] transitionTable()
+    {
+        numberTableInteractions();
+        final int interactionCount = tableInteractionNumbers.size();
+        final int[] table = new int[stateCount() * interactionCount];
+        Arrays.fill(table, -1);
+
+        tableInteractionNumbers.forEach((interaction, number) ->
+        {
+            forEachTransition(interaction, (transitionGroup) ->
+            {
+                transitionGroup.forEachStartState((state) ->
+                {
+                    table[(state.number() * interactionCount) + number] = transitionGroup.endState().number();
+                });
+            });
+        });
+
+        return table;
+    }
+
     /**
      * Encodes the state machine as a graphviz dot diagram.
      * @param sb the string builder to append to.
@@ -277,6 +329,20 @@ public final class FieldPrecedenceModel
             });
     }
 
+    private void numberTableInteractions()
+    {
+        if (tableInteractionNumbers.isEmpty())
+        {
+            for (final CodecInteraction interaction : transitionsByInteraction.keySet())
+            {
+                if (!interaction.isTopLevelBlockFieldAccess())
+                {
+                    tableInteractionNumbers.put(interaction, tableInteractionNumbers.size());
+                }
+            }
+        }
+    }
+
     private State allocateState(final String name)
     {
         final State state = new State(transitionsByState.size(), name);
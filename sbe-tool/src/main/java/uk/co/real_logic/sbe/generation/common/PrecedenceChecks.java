@@ -168,6 +168,7 @@ public final class PrecedenceChecks
         private boolean shouldGeneratePrecedenceChecks;
         private String precedenceChecksFlagName = "SBE_ENABLE_PRECEDENCE_CHECKS";
         private String precedenceChecksPropName = "sbe.enable.precedence.checks";
+        private String precedenceChecksSampleRatePropName = "sbe.precedence.checks.sample.rate";
 
         /**
          * Returns {@code true} if precedence checks should be generated; {@code false} otherwise.
@@ -241,6 +242,31 @@ public final class PrecedenceChecks
             return this;
         }
 
+        /**
+         * Returns the name of the system property that can be used to set, at runtime, the 1-in-N rate at which
+         * wrapped messages have their access order checked.
+         *
+         * @return the name of the system property that can be used to set the rate at which messages are checked.
+         */
+        public String precedenceChecksSampleRatePropName()
+        {
+            return precedenceChecksSampleRatePropName;
+        }
+
+        /**
+         * Sets the name of the system property that can be used to set, at runtime, the 1-in-N rate at which
+         * wrapped messages have their access order checked.
+         *
+         * @param precedenceChecksSampleRatePropName the name of the system property that can be used to set the
+         *                                           rate at which messages are checked.
+         * @return this {@link Context} instance.
+         */
+        public Context precedenceChecksSampleRatePropName(final String precedenceChecksSampleRatePropName)
+        {
+            this.precedenceChecksSampleRatePropName = precedenceChecksSampleRatePropName;
+            return this;
+        }
+
         /**
          * Validates this {@link Context} instance.
          */
@@ -248,6 +274,7 @@ public final class PrecedenceChecks
         {
             requireNonNull(precedenceChecksFlagName, "precedenceChecksFlagName");
             requireNonNull(precedenceChecksPropName, "precedenceChecksPropName");
+            requireNonNull(precedenceChecksSampleRatePropName, "precedenceChecksSampleRatePropName");
         }
     }
 }
@@ -53,6 +53,8 @@ public class JavaDtoGenerator implements CodeGenerator
     private final Ir ir;
     private final DynamicPackageOutputManager outputManager;
     private final boolean shouldSupportTypesPackageNames;
+    private final boolean shouldGenerateReusableDtos;
+    private final boolean shouldGenerateColumnarGroups;
     private final Set<String> packageNameByTypes = new HashSet<>();
 
     /**
@@ -66,8 +68,53 @@ public class JavaDtoGenerator implements CodeGenerator
         final Ir ir,
         final boolean shouldSupportTypesPackageNames,
         final DynamicPackageOutputManager outputManager)
+    {
+        this(ir, shouldSupportTypesPackageNames, false, false, outputManager);
+    }
+
+    /**
+     * Create a new Java DTO {@link CodeGenerator}.
+     *
+     * @param ir                                for the messages and types.
+     * @param shouldSupportTypesPackageNames    generator support for types in their own package.
+     * @param shouldGenerateReusableDtos        generate DTOs which hold groups in a
+     *                                          {@link uk.co.real_logic.sbe.codec.java.ReusableList} and strings in a
+     *                                          {@link uk.co.real_logic.sbe.codec.java.ReusableString} so that
+     *                                          decoding into an existing DTO does not allocate.
+     * @param outputManager                     for generating the DTOs to.
+     */
+    public JavaDtoGenerator(
+        final Ir ir,
+        final boolean shouldSupportTypesPackageNames,
+        final boolean shouldGenerateReusableDtos,
+        final DynamicPackageOutputManager outputManager)
+    {
+        this(ir, shouldSupportTypesPackageNames, shouldGenerateReusableDtos, false, outputManager);
+    }
+
+    /**
+     * Create a new Java DTO {@link CodeGenerator}.
+     *
+     * @param ir                                for the messages and types.
+     * @param shouldSupportTypesPackageNames    generator support for types in their own package.
+     * @param shouldGenerateReusableDtos        generate DTOs which hold groups in a
+     *                                          {@link uk.co.real_logic.sbe.codec.java.ReusableList} and strings in a
+     *                                          {@link uk.co.real_logic.sbe.codec.java.ReusableString} so that
+     *                                          decoding into an existing DTO does not allocate.
+     * @param shouldGenerateColumnarGroups      generate groups with only single value primitive and enum fields as
+     *                                          a column array per field with a row count rather than a list of DTOs.
+     * @param outputManager                     for generating the DTOs to.
+     */
+    public JavaDtoGenerator(
+        final Ir ir,
+        final boolean shouldSupportTypesPackageNames,
+        final boolean shouldGenerateReusableDtos,
+        final boolean shouldGenerateColumnarGroups,
+        final DynamicPackageOutputManager outputManager)
     {
         this.shouldSupportTypesPackageNames = shouldSupportTypesPackageNames;
+        this.shouldGenerateReusableDtos = shouldGenerateReusableDtos;
+        this.shouldGenerateColumnarGroups = shouldGenerateColumnarGroups;
         Verify.notNull(ir, "ir");
         Verify.notNull(outputManager, "outputManager");
 
@@ -128,6 +175,10 @@ public class JavaDtoGenerator implements CodeGenerator
             generateDecodeWith(classBuilder, dtoClassName, decoderClassName, fields,
                 groups, varData, BASE_INDENT + INDENT, fieldToken -> fieldToken.version() > msgToken.version());
             generateDecodeFrom(classBuilder, dtoClassName, decoderClassName, BASE_INDENT + INDENT);
+            if (shouldGenerateReusableDtos)
+            {
+                generateDecodeInto(classBuilder, dtoClassName, decoderClassName, BASE_INDENT + INDENT);
+            }
             generateEncodeWith(classBuilder, dtoClassName, encoderClassName, fields, groups, varData,
                 BASE_INDENT + INDENT);
             generateEncodeWithOverloads(classBuilder, dtoClassName, encoderClassName, BASE_INDENT + INDENT);
@@ -146,6 +197,11 @@ public class JavaDtoGenerator implements CodeGenerator
                 out.append("import org.agrona.concurrent.UnsafeBuffer;\n\n");
                 out.append("import java.util.ArrayList;\n");
                 out.append("import java.util.List;\n\n");
+                if (shouldGenerateReusableDtos)
+                {
+                    out.append("import uk.co.real_logic.sbe.codec.java.ReusableList;\n");
+                    out.append("import uk.co.real_logic.sbe.codec.java.ReusableString;\n\n");
+                }
                 out.append(generateDocumentation(BASE_INDENT, msgToken));
                 classBuilder.appendTo(out);
             }
@@ -233,10 +289,6 @@ public class JavaDtoGenerator implements CodeGenerator
             final String fieldName = formatFieldName(groupName);
             final String formattedPropertyName = formatPropertyName(groupName);
 
-            classBuilder.appendField().append(indent).append("private List<")
-                .append(qualifiedDtoClassName).append("> ")
-                .append(fieldName).append(" = new ArrayList<>();\n");
-
             final ClassBuilder groupClassBuilder = new ClassBuilder(groupClassName, indent, "public static final");
 
             i++;
@@ -249,15 +301,24 @@ public class JavaDtoGenerator implements CodeGenerator
 
             final List<Token> fields = new ArrayList<>();
             i = collectFields(tokens, i, fields);
-            generateFields(groupClassBuilder, qualifiedDecoderClassName, fields, indent + INDENT);
-
             final List<Token> groups = new ArrayList<>();
             i = collectGroups(tokens, i, groups);
-            generateGroups(groupClassBuilder, qualifiedDtoClassName,
-                qualifiedEncoderClassName, qualifiedDecoderClassName, groups, indent + INDENT);
-
             final List<Token> varData = new ArrayList<>();
             i = collectVarData(tokens, i, varData);
+
+            if (isColumnarGroup(fields, groups, varData))
+            {
+                generateColumnarGroup(groupClassBuilder, groupClassName, qualifiedEncoderClassName,
+                    qualifiedDecoderClassName, fields, indent + INDENT);
+                groupClassBuilder.appendTo(
+                    classBuilder.appendPublic().append("\n").append(generateDocumentation(indent, groupToken)));
+                generateObjectProperty(classBuilder, qualifiedDtoClassName, groupName, groupToken, indent);
+                continue;
+            }
+
+            generateFields(groupClassBuilder, qualifiedDecoderClassName, fields, indent + INDENT);
+            generateGroups(groupClassBuilder, qualifiedDtoClassName,
+                qualifiedEncoderClassName, qualifiedDecoderClassName, groups, indent + INDENT);
             generateVarData(groupClassBuilder, varData, indent + INDENT);
 
             final Predicate<Token> wasAddedAfterGroup = token ->
@@ -272,8 +333,16 @@ public class JavaDtoGenerator implements CodeGenerator
                 return addedAfterParent;
             };
 
-            generateDecodeListWith(
-                groupClassBuilder, groupClassName, qualifiedDecoderClassName, indent + INDENT);
+            if (shouldGenerateReusableDtos)
+            {
+                generateDecodeReusableListWith(
+                    groupClassBuilder, groupClassName, qualifiedDecoderClassName, indent + INDENT);
+            }
+            else
+            {
+                generateDecodeListWith(
+                    groupClassBuilder, groupClassName, qualifiedDecoderClassName, indent + INDENT);
+            }
             generateDecodeWith(groupClassBuilder, groupClassName, qualifiedDecoderClassName,
                 fields, groups, varData, indent + INDENT, wasAddedAfterGroup);
             generateEncodeWith(
@@ -286,22 +355,328 @@ public class JavaDtoGenerator implements CodeGenerator
                 classBuilder.appendPublic().append("\n").append(generateDocumentation(indent, groupToken))
             );
 
+            if (shouldGenerateReusableDtos)
+            {
+                generateReusableGroupProperty(
+                    classBuilder, groupToken, qualifiedDtoClassName, fieldName, formattedPropertyName, indent);
+            }
+            else
+            {
+                generateGroupProperty(
+                    classBuilder, groupToken, qualifiedDtoClassName, fieldName, formattedPropertyName, indent);
+            }
+        }
+    }
+
+    private boolean isColumnarGroup(final List<Token> fields, final List<Token> groups, final List<Token> varData)
+    {
+        if (!shouldGenerateColumnarGroups || !groups.isEmpty() || !varData.isEmpty())
+        {
+            return false;
+        }
+
+        for (int i = 0, size = fields.size(); i < size; i++)
+        {
+            final Token fieldToken = fields.get(i);
+            if (fieldToken.signal() == Signal.BEGIN_FIELD)
+            {
+                final Token typeToken = fields.get(i + 1);
+                final boolean isColumn = typeToken.signal() == Signal.BEGIN_ENUM ||
+                    (typeToken.signal() == Signal.ENCODING && typeToken.arrayLength() == 1);
+
+                if (!isColumn && !fieldToken.isConstantEncoding() && !typeToken.isConstantEncoding())
+                {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static List<Token> collectColumns(final List<Token> fields)
+    {
+        final List<Token> columns = new ArrayList<>();
+        for (int i = 0, size = fields.size(); i < size; i++)
+        {
+            final Token fieldToken = fields.get(i);
+            if (fieldToken.signal() == Signal.BEGIN_FIELD &&
+                !fieldToken.isConstantEncoding() && !fields.get(i + 1).isConstantEncoding())
+            {
+                columns.add(fieldToken);
+                columns.add(fields.get(i + 1));
+            }
+        }
+
+        return columns;
+    }
+
+    private static String columnTypeName(final Token typeToken)
+    {
+        return typeToken.signal() == Signal.BEGIN_ENUM ?
+            formatClassName(typeToken.applicableTypeName()) : javaTypeName(typeToken.encoding().primitiveType());
+    }
+
+    private static void generateColumnarGroup(
+        final ClassBuilder classBuilder,
+        final String dtoClassName,
+        final String encoderClassName,
+        final String decoderClassName,
+        final List<Token> fields,
+        final String indent)
+    {
+        final List<Token> columns = collectColumns(fields);
+
+        classBuilder.appendField()
+            .append(indent).append("private int sbeCount;\n")
+            .append(indent).append("private int sbeCapacity;\n");
+
+        final StringBuilder growBuilder = new StringBuilder();
+        for (int i = 0; i < columns.size(); i += 2)
+        {
+            final Token fieldToken = columns.get(i);
+            final Token typeToken = columns.get(i + 1);
+            final String typeName = columnTypeName(typeToken);
+            final String fieldName = formatFieldName(fieldToken.name());
+            final String formattedPropertyName = formatPropertyName(fieldToken.name());
+
+            classBuilder.appendField()
+                .append(indent).append("private ").append(typeName).append("[] ").append(fieldName)
+                .append(" = new ").append(typeName).append("[0];\n");
+
+            growBuilder.append(indent).append(INDENT).append(INDENT).append(fieldName)
+                .append(" = java.util.Arrays.copyOf(").append(fieldName).append(", newCapacity);\n");
+
             classBuilder.appendPublic().append("\n")
-                .append(generateDocumentation(indent, groupToken))
-                .append(indent).append("public List<").append(qualifiedDtoClassName).append("> ")
-                .append(formattedPropertyName).append("()\n")
+                .append(generateDocumentation(indent, fieldToken))
+                .append(indent).append("public ").append(typeName).append("[] ")
+                .append(formattedPropertyName).append("Column()\n")
                 .append(indent).append("{\n")
                 .append(indent).append(INDENT).append("return this.").append(fieldName).append(";\n")
                 .append(indent).append("}\n");
 
             classBuilder.appendPublic().append("\n")
-                .append(generateDocumentation(indent, groupToken))
-                .append(indent).append("public void ").append(formattedPropertyName).append("(")
-                .append("List<").append(qualifiedDtoClassName).append("> value)")
+                .append(generateDocumentation(indent, fieldToken))
+                .append(indent).append("public ").append(typeName).append(" ")
+                .append(formattedPropertyName).append("(int row)\n")
                 .append(indent).append("{\n")
-                .append(indent).append(INDENT).append("this.").append(fieldName).append(" = value;\n")
+                .append(indent).append(INDENT).append("return this.").append(fieldName)
+                .append("[java.util.Objects.checkIndex(row, sbeCount)];\n")
+                .append(indent).append("}\n");
+
+            final boolean isValidated = typeToken.signal() == Signal.ENCODING &&
+                generateRangeValidateMethod(classBuilder, decoderClassName, fieldToken.name(), typeToken, indent);
+
+            classBuilder.appendPublic().append("\n")
+                .append(generateDocumentation(indent, fieldToken))
+                .append(indent).append("public ").append(dtoClassName).append(" ")
+                .append(formattedPropertyName).append("(int row, ").append(typeName).append(" value)\n")
+                .append(indent).append("{\n");
+
+            if (isValidated)
+            {
+                classBuilder.appendPublic().append(indent).append(INDENT).append("validate")
+                    .append(toUpperFirstChar(fieldToken.name())).append("(value);\n");
+            }
+
+            classBuilder.appendPublic()
+                .append(indent).append(INDENT).append("this.").append(fieldName)
+                .append("[java.util.Objects.checkIndex(row, sbeCount)] = value;\n")
+                .append(indent).append(INDENT).append("return this;\n")
                 .append(indent).append("}\n");
         }
+
+        generateColumnarCount(classBuilder, dtoClassName, growBuilder, indent);
+        generateColumnarDecodeWith(classBuilder, dtoClassName, decoderClassName, columns, indent);
+        generateColumnarEncodeWith(classBuilder, dtoClassName, encoderClassName, columns, indent);
+
+        classBuilder.appendPublic().append("\n")
+            .append(indent).append("public int computeEncodedLength()\n")
+            .append(indent).append("{\n")
+            .append(indent).append(INDENT).append("return ").append(decoderClassName).append(".sbeHeaderSize() + ")
+            .append("sbeCount * ").append(decoderClassName).append(".sbeBlockLength();\n")
+            .append(indent).append("}\n");
+    }
+
+    private static void generateColumnarCount(
+        final ClassBuilder classBuilder,
+        final String dtoClassName,
+        final CharSequence growColumns,
+        final String indent)
+    {
+        classBuilder.appendPublic().append("\n")
+            .append(indent).append("public int count()\n")
+            .append(indent).append("{\n")
+            .append(indent).append(INDENT).append("return this.sbeCount;\n")
+            .append(indent).append("}\n");
+
+        classBuilder.appendPublic().append("\n")
+            .append(indent).append("public ").append(dtoClassName).append(" count(int count)\n")
+            .append(indent).append("{\n")
+            .append(indent).append(INDENT).append("if (count < 0)\n")
+            .append(indent).append(INDENT).append("{\n")
+            .append(indent).append(INDENT).append(INDENT)
+            .append("throw new IllegalArgumentException(\"count must not be negative: \" + count);\n")
+            .append(indent).append(INDENT).append("}\n")
+            .append(indent).append(INDENT).append("if (count > sbeCapacity)\n")
+            .append(indent).append(INDENT).append("{\n")
+            .append(indent).append(INDENT).append(INDENT)
+            .append("int newCapacity = Math.max(count, sbeCapacity + (sbeCapacity >> 1));\n")
+            .append(growColumns)
+            .append(indent).append(INDENT).append(INDENT).append("sbeCapacity = newCapacity;\n")
+            .append(indent).append(INDENT).append("}\n")
+            .append(indent).append(INDENT).append("this.sbeCount = count;\n")
+            .append(indent).append(INDENT).append("return this;\n")
+            .append(indent).append("}\n");
+
+        classBuilder.appendPublic().append("\n")
+            .append(indent).append("public ").append(dtoClassName).append(" clear()\n")
+            .append(indent).append("{\n")
+            .append(indent).append(INDENT).append("this.sbeCount = 0;\n")
+            .append(indent).append(INDENT).append("return this;\n")
+            .append(indent).append("}\n");
+    }
+
+    private static void generateColumnarDecodeWith(
+        final ClassBuilder classBuilder,
+        final String dtoClassName,
+        final String decoderClassName,
+        final List<Token> columns,
+        final String indent)
+    {
+        final StringBuilder decodeBuilder = classBuilder.appendPublic().append("\n")
+            .append(indent).append("public static void decodeWith(").append(decoderClassName).append(" decoder, ")
+            .append(dtoClassName).append(" dto)\n")
+            .append(indent).append("{\n")
+            .append(indent).append(INDENT).append("int count = decoder.count();\n")
+            .append(indent).append(INDENT).append("dto.count(count);\n");
+
+        appendColumnLocals(decodeBuilder, columns, indent + INDENT);
+
+        decodeBuilder
+            .append(indent).append(INDENT).append("for (int i = 0; i < count; i++)\n")
+            .append(indent).append(INDENT).append("{\n")
+            .append(indent).append(INDENT).append(INDENT).append("decoder.next();\n");
+
+        for (int i = 0; i < columns.size(); i += 2)
+        {
+            final String formattedPropertyName = formatPropertyName(columns.get(i).name());
+            decodeBuilder.append(indent).append(INDENT).append(INDENT)
+                .append(formattedPropertyName).append("Column[i] = decoder.")
+                .append(formattedPropertyName).append("();\n");
+        }
+
+        decodeBuilder
+            .append(indent).append(INDENT).append("}\n")
+            .append(indent).append("}\n");
+    }
+
+    private static void generateColumnarEncodeWith(
+        final ClassBuilder classBuilder,
+        final String dtoClassName,
+        final String encoderClassName,
+        final List<Token> columns,
+        final String indent)
+    {
+        final StringBuilder encodeBuilder = classBuilder.appendPublic().append("\n")
+            .append(indent).append("public static void encodeWith(").append(encoderClassName).append(" encoder, ")
+            .append(dtoClassName).append(" dto)\n")
+            .append(indent).append("{\n")
+            .append(indent).append(INDENT).append("int count = dto.sbeCount;\n");
+
+        appendColumnLocals(encodeBuilder, columns, indent + INDENT);
+
+        encodeBuilder
+            .append(indent).append(INDENT).append("for (int i = 0; i < count; i++)\n")
+            .append(indent).append(INDENT).append("{\n")
+            .append(indent).append(INDENT).append(INDENT).append("encoder.next();\n");
+
+        for (int i = 0; i < columns.size(); i += 2)
+        {
+            final String formattedPropertyName = formatPropertyName(columns.get(i).name());
+            encodeBuilder.append(indent).append(INDENT).append(INDENT)
+                .append("encoder.").append(formattedPropertyName).append("(")
+                .append(formattedPropertyName).append("Column[i]);\n");
+        }
+
+        encodeBuilder
+            .append(indent).append(INDENT).append("}\n")
+            .append(indent).append("}\n");
+    }
+
+    private static void appendColumnLocals(final StringBuilder sb, final List<Token> columns, final String indent)
+    {
+        for (int i = 0; i < columns.size(); i += 2)
+        {
+            final String propertyName = columns.get(i).name();
+            sb.append(indent).append(columnTypeName(columns.get(i + 1))).append("[] ")
+                .append(formatPropertyName(propertyName)).append("Column = dto.")
+                .append(formatFieldName(propertyName)).append(";\n");
+        }
+    }
+
+    private static void generateGroupProperty(
+        final ClassBuilder classBuilder,
+        final Token groupToken,
+        final String qualifiedDtoClassName,
+        final String fieldName,
+        final String formattedPropertyName,
+        final String indent)
+    {
+        classBuilder.appendField().append(indent).append("private List<")
+            .append(qualifiedDtoClassName).append("> ")
+            .append(fieldName).append(" = new ArrayList<>();\n");
+
+        classBuilder.appendPublic().append("\n")
+            .append(generateDocumentation(indent, groupToken))
+            .append(indent).append("public List<").append(qualifiedDtoClassName).append("> ")
+            .append(formattedPropertyName).append("()\n")
+            .append(indent).append("{\n")
+            .append(indent).append(INDENT).append("return this.").append(fieldName).append(";\n")
+            .append(indent).append("}\n");
+
+        classBuilder.appendPublic().append("\n")
+            .append(generateDocumentation(indent, groupToken))
+            .append(indent).append("public void ").append(formattedPropertyName).append("(")
+            .append("List<").append(qualifiedDtoClassName).append("> value)")
+            .append(indent).append("{\n")
+            .append(indent).append(INDENT).append("this.").append(fieldName).append(" = value;\n")
+            .append(indent).append("}\n");
+    }
+
+    private static void generateReusableGroupProperty(
+        final ClassBuilder classBuilder,
+        final Token groupToken,
+        final String qualifiedDtoClassName,
+        final String fieldName,
+        final String formattedPropertyName,
+        final String indent)
+    {
+        classBuilder.appendField().append(indent).append("private final ReusableList<")
+            .append(qualifiedDtoClassName).append("> ")
+            .append(fieldName).append(" = new ReusableList<>(")
+            .append(qualifiedDtoClassName).append("::new);\n");
+
+        classBuilder.appendPublic().append("\n")
+            .append(generateDocumentation(indent, groupToken))
+            .append(indent).append("public ReusableList<").append(qualifiedDtoClassName).append("> ")
+            .append(formattedPropertyName).append("()\n")
+            .append(indent).append("{\n")
+            .append(indent).append(INDENT).append("return this.").append(fieldName).append(";\n")
+            .append(indent).append("}\n");
+
+        classBuilder.appendPublic().append("\n")
+            .append(generateDocumentation(indent, groupToken))
+            .append(indent).append("public void ").append(formattedPropertyName).append("(")
+            .append("List<").append(qualifiedDtoClassName).append("> value)\n")
+            .append(indent).append("{\n")
+            .append(indent).append(INDENT).append("if (value != this.").append(fieldName).append(")\n")
+            .append(indent).append(INDENT).append("{\n")
+            .append(indent).append(INDENT).append(INDENT).append("this.").append(fieldName).append(".clear();\n")
+            .append(indent).append(INDENT).append(INDENT).append("this.").append(fieldName)
+            .append(".addAll(value);\n")
+            .append(indent).append(INDENT).append("}\n")
+            .append(indent).append("}\n");
     }
 
     private void generateComputeEncodedLength(
@@ -346,15 +721,38 @@ public class JavaDtoGenerator implements CodeGenerator
             final String groupDecoderClassName = qualifiedDecoderClassName + "." + decoderName(groupName);
             final String groupDtoClassName = formatDtoClassName(groupName);
 
+            if (isColumnarGroup(fields, subGroups, subVarData))
+            {
+                lengthBuilder
+                    .append(indent).append(INDENT).append("encodedLength += this.").append(fieldName)
+                    .append(".computeEncodedLength();\n\n");
+                continue;
+            }
+
             lengthBuilder
                 .append(indent).append(INDENT).append("encodedLength += ")
-                .append(groupDecoderClassName).append(".sbeHeaderSize();\n\n")
-                .append(indent).append(INDENT).append("for (").append(groupDtoClassName).append(" group : ")
-                .append("this.").append(fieldName).append(")\n")
-                .append(indent).append(INDENT).append("{\n")
-                .append(indent).append(INDENT).append(INDENT)
-                .append("encodedLength += group.computeEncodedLength();\n")
-                .append(indent).append(INDENT).append("}\n\n");
+                .append(groupDecoderClassName).append(".sbeHeaderSize();\n\n");
+
+            if (shouldGenerateReusableDtos)
+            {
+                lengthBuilder
+                    .append(indent).append(INDENT).append("for (int i = 0, size = this.").append(fieldName)
+                    .append(".size(); i < size; i++)\n")
+                    .append(indent).append(INDENT).append("{\n")
+                    .append(indent).append(INDENT).append(INDENT)
+                    .append("encodedLength += this.").append(fieldName).append(".get(i).computeEncodedLength();\n")
+                    .append(indent).append(INDENT).append("}\n\n");
+            }
+            else
+            {
+                lengthBuilder
+                    .append(indent).append(INDENT).append("for (").append(groupDtoClassName).append(" group : ")
+                    .append("this.").append(fieldName).append(")\n")
+                    .append(indent).append(INDENT).append("{\n")
+                    .append(indent).append(INDENT).append(INDENT)
+                    .append("encodedLength += group.computeEncodedLength();\n")
+                    .append(indent).append(INDENT).append("}\n\n");
+            }
         }
 
         for (int i = 0, size = varDataTokens.size(); i < size; i++)
@@ -430,7 +828,7 @@ public class JavaDtoGenerator implements CodeGenerator
         {
             final Token token = tokens.get(i);
 
-            generateFieldEncodeWith(encodeBuilder, token, token, indent + INDENT);
+            generateFieldEncodeWith(encodeBuilder, encoderClassName, token, token, indent + INDENT);
 
             i += tokens.get(i).componentTokenCount();
         }
@@ -467,6 +865,28 @@ public class JavaDtoGenerator implements CodeGenerator
             .append(indent).append("}\n");
     }
 
+    private static void generateDecodeReusableListWith(
+        final ClassBuilder classBuilder,
+        final String dtoClassName,
+        final String decoderClassName,
+        final String indent)
+    {
+        classBuilder.appendPublic().append("\n")
+            .append(indent).append("public static void decodeManyWith(")
+            .append(decoderClassName).append(" decoder, ReusableList<").append(dtoClassName).append("> dtos)\n")
+            .append(indent).append("{\n")
+            .append(indent).append(INDENT).append("dtos.clear();\n")
+            .append(indent).append(INDENT)
+            .append("while (decoder.hasNext())\n")
+            .append(indent).append(INDENT)
+            .append("{\n")
+            .append(indent).append(INDENT).append(INDENT)
+            .append(dtoClassName).append(".decodeWith(decoder.next(), dtos.add());\n")
+            .append(indent).append(INDENT)
+            .append("}\n")
+            .append(indent).append("}\n");
+    }
+
     private void generateDecodeWith(
         final ClassBuilder classBuilder,
         final String dtoClassName,
@@ -511,6 +931,33 @@ public class JavaDtoGenerator implements CodeGenerator
             .append(indent).append("}\n");
     }
 
+    private static void generateDecodeInto(
+        final ClassBuilder classBuilder,
+        final String dtoClassName,
+        final String decoderClassName,
+        final String indent)
+    {
+        classBuilder.appendField()
+            .append(indent).append("private ").append(decoderClassName).append(" sbeDecoder;\n");
+
+        classBuilder.appendPublic()
+            .append("\n")
+            .append(indent).append("public ").append(dtoClassName).append(" decodeInto(")
+            .append("DirectBuffer buffer, int offset, ")
+            .append("int actingBlockLength, int actingVersion)\n")
+            .append(indent).append("{\n")
+            .append(indent).append(INDENT).append("if (null == sbeDecoder)\n")
+            .append(indent).append(INDENT).append("{\n")
+            .append(indent).append(INDENT).append(INDENT).append("sbeDecoder = new ")
+            .append(decoderClassName).append("();\n")
+            .append(indent).append(INDENT).append("}\n")
+            .append(indent).append(INDENT)
+            .append("sbeDecoder.wrap(buffer, offset, actingBlockLength, actingVersion);\n")
+            .append(indent).append(INDENT).append("decodeWith(sbeDecoder, this);\n")
+            .append(indent).append(INDENT).append("return this;\n")
+            .append(indent).append("}\n");
+    }
+
     private void generateMessageFieldsDecodeWith(
         final StringBuilder sb,
         final List<Token> tokens,
@@ -621,8 +1068,51 @@ public class JavaDtoGenerator implements CodeGenerator
         final String propertyName = fieldToken.name();
         final String formattedPropertyName = formatPropertyName(propertyName);
         final PrimitiveType primitiveType = typeToken.encoding().primitiveType();
+        final String presenceExpression =
+            "decoder.actingVersion() >= " + decoderClassName + "." + formattedPropertyName + "SinceVersion()";
+
+        if (shouldGenerateReusableDtos)
+        {
+            final String dtoValue = "dto." + formattedPropertyName + "()";
+            final StringBuilder decodeBlock = new StringBuilder();
+            final String nullDtoStatement;
+
+            if (primitiveType == PrimitiveType.CHAR)
+            {
+                decodeBlock
+                    .append("decoder.get").append(toUpperFirstChar(propertyName)).append("(").append(dtoValue)
+                    .append(".prepare(").append(decoderClassName).append(".").append(formattedPropertyName)
+                    .append("Length()), 0);\n")
+                    .append(dtoValue).append(".trimNullPadding();\n");
+                nullDtoStatement = dtoValue + ".clear();\n";
+            }
+            else
+            {
+                final String elementType = javaTypeName(primitiveType);
+                final int arrayLength = typeToken.arrayLength();
+                decodeBlock
+                    .append(elementType).append("[] ").append(formattedPropertyName).append(" = ")
+                    .append(dtoValue).append(";\n")
+                    .append("if (null == ").append(formattedPropertyName).append(" || ")
+                    .append(formattedPropertyName).append(".length != ").append(arrayLength).append(")\n")
+                    .append("{\n")
+                    .append(INDENT).append(formattedPropertyName).append(" = new ").append(elementType)
+                    .append("[").append(arrayLength).append("];\n")
+                    .append(INDENT).append("dto.").append(formattedPropertyName).append("(")
+                    .append(formattedPropertyName).append(");\n")
+                    .append("}\n")
+                    .append("for (int i = 0; i < ").append(arrayLength).append("; i++)\n")
+                    .append("{\n")
+                    .append(INDENT).append(formattedPropertyName).append("[i] = decoder.")
+                    .append(formattedPropertyName).append("(i);\n")
+                    .append("}\n");
+                nullDtoStatement = "dto." + formattedPropertyName + "(new " + elementType + "[0]);\n";
+            }
 
-        if (primitiveType == PrimitiveType.CHAR)
+            generateReusablePropertyDecode(
+                sb, fieldToken, indent, presenceExpression, decodeBlock, nullDtoStatement, wasAddedAfterParent);
+        }
+        else if (primitiveType == PrimitiveType.CHAR)
         {
             generateRecordPropertyAssignment(
                 sb,
@@ -749,10 +1239,6 @@ public class JavaDtoGenerator implements CodeGenerator
             final String formattedPropertyName = formatPropertyName(groupName);
             final String groupDtoClassName = formatDtoClassName(groupName);
 
-            sb.append(indent).append("dto.").append(formattedPropertyName).append("(")
-                .append(groupDtoClassName).append(".decodeManyWith(decoder.")
-                .append(formattedPropertyName).append("()));\n");
-
             i++;
             i += tokens.get(i).componentTokenCount();
 
@@ -764,6 +1250,23 @@ public class JavaDtoGenerator implements CodeGenerator
 
             final List<Token> varData = new ArrayList<>();
             i = collectVarData(tokens, i, varData);
+
+            if (isColumnarGroup(fields, groups, varData))
+            {
+                sb.append(indent).append(groupDtoClassName).append(".decodeWith(decoder.")
+                    .append(formattedPropertyName).append("(), dto.").append(formattedPropertyName).append("());\n");
+            }
+            else if (shouldGenerateReusableDtos)
+            {
+                sb.append(indent).append(groupDtoClassName).append(".decodeManyWith(decoder.")
+                    .append(formattedPropertyName).append("(), dto.").append(formattedPropertyName).append("());\n");
+            }
+            else
+            {
+                sb.append(indent).append("dto.").append(formattedPropertyName).append("(")
+                    .append(groupDtoClassName).append(".decodeManyWith(decoder.")
+                    .append(formattedPropertyName).append("()));\n");
+            }
         }
     }
 
@@ -789,6 +1292,13 @@ public class JavaDtoGenerator implements CodeGenerator
 
                 final String dataVar = toLowerFirstChar(propertyName) + "Data";
 
+                if (shouldGenerateReusableDtos)
+                {
+                    generateReusableVarDataDecodeWith(
+                        sb, decoderClassName, token, characterEncoding, indent, wasAddedAfterParent);
+                    continue;
+                }
+
                 final StringBuilder decoderValueExtraction = new StringBuilder();
 
                 if (characterEncoding == null)
@@ -837,6 +1347,95 @@ public class JavaDtoGenerator implements CodeGenerator
         }
     }
 
+    private static void generateReusableVarDataDecodeWith(
+        final StringBuilder sb,
+        final String decoderClassName,
+        final Token token,
+        final String characterEncoding,
+        final String indent,
+        final Predicate<Token> wasAddedAfterParent)
+    {
+        final String propertyName = token.name();
+        final String formattedPropertyName = formatPropertyName(propertyName);
+        final String dataVar = toLowerFirstChar(propertyName) + "Data";
+        final String lengthVar = toLowerFirstChar(propertyName) + "Length";
+        final StringBuilder decodeBlock = new StringBuilder();
+        final String nullDtoStatement;
+
+        decodeBlock.append("int ").append(lengthVar).append(" = decoder.")
+            .append(formattedPropertyName).append("Length();\n");
+
+        if (characterEncoding == null)
+        {
+            decodeBlock
+                .append("byte[] ").append(dataVar).append(" = dto.").append(formattedPropertyName).append("();\n")
+                .append("if (null == ").append(dataVar).append(" || ").append(dataVar).append(".length != ")
+                .append(lengthVar).append(")\n")
+                .append("{\n")
+                .append(INDENT).append(dataVar).append(" = new byte[").append(lengthVar).append("];\n")
+                .append(INDENT).append("dto.").append(formattedPropertyName).append("(").append(dataVar).append(");\n")
+                .append("}\n")
+                .append("decoder.get").append(toUpperFirstChar(formattedPropertyName))
+                .append("(").append(dataVar).append(", 0, ").append(lengthVar).append(");\n");
+            nullDtoStatement = "dto." + formattedPropertyName + "(new byte[0]);\n";
+        }
+        else
+        {
+            decodeBlock.append("decoder.get").append(toUpperFirstChar(formattedPropertyName))
+                .append("(dto.").append(formattedPropertyName).append("().prepare(").append(lengthVar)
+                .append("), 0, ").append(lengthVar).append(");\n");
+            nullDtoStatement = "dto." + formattedPropertyName + "().clear();\n";
+        }
+
+        generateReusablePropertyDecode(
+            sb,
+            token,
+            indent,
+            "decoder.actingVersion() >= " + decoderClassName + "." + formattedPropertyName + "SinceVersion()",
+            decodeBlock,
+            nullDtoStatement,
+            wasAddedAfterParent);
+    }
+
+    private static void generateReusablePropertyDecode(
+        final StringBuilder sb,
+        final Token token,
+        final String indent,
+        final String presenceExpression,
+        final CharSequence decodeBlock,
+        final String nullDtoStatement,
+        final Predicate<Token> wasAddedAfterParent)
+    {
+        if (wasAddedAfterParent.test(token))
+        {
+            sb.append(indent).append("if (").append(presenceExpression).append(")\n")
+                .append(indent).append("{\n");
+            appendIndented(sb, indent + INDENT, decodeBlock);
+            sb.append(indent).append("}\n")
+                .append(indent).append("else\n")
+                .append(indent).append("{\n")
+                .append(indent).append(INDENT).append(nullDtoStatement)
+                .append(indent).append("}\n");
+        }
+        else
+        {
+            appendIndented(sb, indent, decodeBlock);
+        }
+    }
+
+    private static void appendIndented(final StringBuilder sb, final String indent, final CharSequence lines)
+    {
+        int lineStart = 0;
+        for (int i = 0, length = lines.length(); i < length; i++)
+        {
+            if ('\n' == lines.charAt(i))
+            {
+                sb.append(indent).append(lines, lineStart, i + 1);
+                lineStart = i + 1;
+            }
+        }
+    }
+
     private void generateRecordPropertyAssignment(
         final StringBuilder sb,
         final Token token,
@@ -885,7 +1484,7 @@ public class JavaDtoGenerator implements CodeGenerator
             .append(dtoClassName).append(" dto)\n")
             .append(indent).append("{\n");
 
-        generateFieldsEncodeWith(encodeBuilder, fields, indent + INDENT);
+        generateFieldsEncodeWith(encodeBuilder, encoderClassName, fields, indent + INDENT);
         generateGroupsEncodeWith(encodeBuilder, encoderClassName, groups, indent + INDENT);
         generateVarDataEncodeWith(encodeBuilder, varData, indent + INDENT);
 
@@ -948,6 +1547,7 @@ public class JavaDtoGenerator implements CodeGenerator
 
     private void generateFieldsEncodeWith(
         final StringBuilder sb,
+        final String encoderClassName,
         final List<Token> tokens,
         final String indent)
     {
@@ -957,13 +1557,14 @@ public class JavaDtoGenerator implements CodeGenerator
             if (signalToken.signal() == Signal.BEGIN_FIELD)
             {
                 final Token encodingToken = tokens.get(i + 1);
-                generateFieldEncodeWith(sb, signalToken, encodingToken, indent);
+                generateFieldEncodeWith(sb, encoderClassName, signalToken, encodingToken, indent);
             }
         }
     }
 
     private void generateFieldEncodeWith(
         final StringBuilder sb,
+        final String encoderClassName,
         final Token fieldToken,
         final Token typeToken,
         final String indent)
@@ -971,7 +1572,7 @@ public class JavaDtoGenerator implements CodeGenerator
         switch (typeToken.signal())
         {
             case ENCODING:
-                generatePrimitiveEncodeWith(sb, fieldToken, typeToken, indent);
+                generatePrimitiveEncodeWith(sb, encoderClassName, fieldToken, typeToken, indent);
                 break;
 
             case BEGIN_ENUM:
@@ -990,6 +1591,7 @@ public class JavaDtoGenerator implements CodeGenerator
 
     private void generatePrimitiveEncodeWith(
         final StringBuilder sb,
+        final String encoderClassName,
         final Token fieldToken,
         final Token typeToken,
         final String indent)
@@ -1007,12 +1609,13 @@ public class JavaDtoGenerator implements CodeGenerator
         }
         else if (arrayLength > 1)
         {
-            generateArrayEncodeWith(sb, fieldToken, typeToken, indent);
+            generateArrayEncodeWith(sb, encoderClassName, fieldToken, typeToken, indent);
         }
     }
 
     private void generateArrayEncodeWith(
         final StringBuilder sb,
+        final String encoderClassName,
         final Token fieldToken,
         final Token typeToken,
         final String indent)
@@ -1027,7 +1630,13 @@ public class JavaDtoGenerator implements CodeGenerator
 
         final PrimitiveType primitiveType = typeToken.encoding().primitiveType();
 
-        if (primitiveType == PrimitiveType.CHAR)
+        if (primitiveType == PrimitiveType.CHAR && shouldGenerateReusableDtos)
+        {
+            sb.append(indent).append("encoder.put").append(toUpperFirstChar(propertyName)).append("(")
+                .append("dto.").append(formattedPropertyName).append("().nullPadded(")
+                .append(encoderClassName).append(".").append(formattedPropertyName).append("Length()), 0);\n");
+        }
+        else if (primitiveType == PrimitiveType.CHAR)
         {
             sb.append(indent).append("encoder.").append(toLowerFirstChar(propertyName)).append("(")
                 .append("dto.").append(formattedPropertyName).append("());\n");
@@ -1114,19 +1723,6 @@ public class JavaDtoGenerator implements CodeGenerator
             final String groupDtoTypeName = formatDtoClassName(groupName);
             final String groupEncoderTypeName = parentEncoderClassName + "." + encoderName(groupName);
 
-            sb.append("\n")
-                .append(indent).append("List<").append(groupDtoTypeName).append("> ")
-                .append(formattedPropertyName).append(" = dto.").append(formattedPropertyName).append("();\n\n")
-                .append(indent).append(groupEncoderTypeName).append(" ").append(groupEncoderVarName)
-                .append(" = encoder.").append(formattedPropertyName)
-                .append("Count(").append(formattedPropertyName).append(".size());\n\n")
-                .append(indent).append("for (").append(groupDtoTypeName).append(" group : ")
-                .append(formattedPropertyName).append(")\n")
-                .append(indent).append("{\n")
-                .append(indent).append(INDENT).append(groupDtoTypeName)
-                .append(".encodeWith(").append(groupEncoderVarName).append(".next(), group);\n")
-                .append(indent).append("}\n\n");
-
             i++;
             i += tokens.get(i).componentTokenCount();
 
@@ -1138,6 +1734,42 @@ public class JavaDtoGenerator implements CodeGenerator
 
             final List<Token> varData = new ArrayList<>();
             i = collectVarData(tokens, i, varData);
+
+            if (isColumnarGroup(fields, groups, varData))
+            {
+                sb.append("\n")
+                    .append(indent).append(groupDtoTypeName).append(".encodeWith(encoder.")
+                    .append(formattedPropertyName).append("Count(dto.").append(formattedPropertyName)
+                    .append("().count()), dto.").append(formattedPropertyName).append("());\n\n");
+                continue;
+            }
+
+            sb.append("\n")
+                .append(indent).append("List<").append(groupDtoTypeName).append("> ")
+                .append(formattedPropertyName).append(" = dto.").append(formattedPropertyName).append("();\n\n")
+                .append(indent).append(groupEncoderTypeName).append(" ").append(groupEncoderVarName)
+                .append(" = encoder.").append(formattedPropertyName)
+                .append("Count(").append(formattedPropertyName).append(".size());\n\n");
+
+            if (shouldGenerateReusableDtos)
+            {
+                sb.append(indent).append("for (int i = 0, size = ").append(formattedPropertyName)
+                    .append(".size(); i < size; i++)\n")
+                    .append(indent).append("{\n")
+                    .append(indent).append(INDENT).append(groupDtoTypeName)
+                    .append(".encodeWith(").append(groupEncoderVarName).append(".next(), ")
+                    .append(formattedPropertyName).append(".get(i));\n")
+                    .append(indent).append("}\n\n");
+            }
+            else
+            {
+                sb.append(indent).append("for (").append(groupDtoTypeName).append(" group : ")
+                    .append(formattedPropertyName).append(")\n")
+                    .append(indent).append("{\n")
+                    .append(indent).append(INDENT).append(groupDtoTypeName)
+                    .append(".encodeWith(").append(groupEncoderVarName).append(".next(), group);\n")
+                    .append(indent).append("}\n\n");
+            }
         }
     }
 
@@ -1163,6 +1795,12 @@ public class JavaDtoGenerator implements CodeGenerator
                         .append("0,")
                         .append("dto.").append(formattedPropertyName).append("().length);\n");
                 }
+                else if (shouldGenerateReusableDtos)
+                {
+                    sb.append(indent).append("encoder.put").append(toUpperFirstChar(propertyName)).append("(")
+                        .append("dto.").append(formattedPropertyName).append("().byteArray(), 0, ")
+                        .append("dto.").append(formattedPropertyName).append("().length());\n");
+                }
                 else
                 {
                     sb.append(indent).append("encoder.").append(formattedPropertyName).append("(")
@@ -1242,7 +1880,17 @@ public class JavaDtoGenerator implements CodeGenerator
         final Token typeToken,
         final String indent)
     {
-        final String typeName = formatDtoClassName(typeToken.applicableTypeName());
+        generateObjectProperty(
+            classBuilder, formatDtoClassName(typeToken.applicableTypeName()), propertyName, fieldToken, indent);
+    }
+
+    private static void generateObjectProperty(
+        final ClassBuilder classBuilder,
+        final String typeName,
+        final String propertyName,
+        final Token fieldToken,
+        final String indent)
+    {
         final String formattedPropertyName = formatPropertyName(propertyName);
         final String fieldName = formatFieldName(propertyName);
 
@@ -1370,7 +2018,23 @@ public class JavaDtoGenerator implements CodeGenerator
 
         final PrimitiveType primitiveType = typeToken.encoding().primitiveType();
 
-        if (primitiveType == PrimitiveType.CHAR)
+        if (primitiveType == PrimitiveType.CHAR && shouldGenerateReusableDtos)
+        {
+            generateReusableStringProperty(
+                classBuilder, fieldToken, typeToken.encoding().characterEncoding(), fieldName, formattedPropertyName,
+                validateMethod, indent);
+
+            generateArrayValidateMethod(
+                classBuilder,
+                decoderClassName,
+                indent,
+                validateMethod,
+                "CharSequence",
+                "ReusableString.encodedLength(value, " + charset(typeToken.encoding().characterEncoding()) + ")",
+                "bytes",
+                formattedPropertyName);
+        }
+        else if (primitiveType == PrimitiveType.CHAR)
         {
             final CharSequence typeName = "String";
 
@@ -1400,43 +2064,119 @@ public class JavaDtoGenerator implements CodeGenerator
                 indent,
                 validateMethod,
                 typeName,
-                ".length()",
+                "value.length()",
+                "elements",
                 formattedPropertyName);
         }
         else
         {
-            final String elementTypeName = javaTypeName(primitiveType);
-            final String typeName = elementTypeName + "[]";
+            generatePrimitiveArrayProperty(
+                classBuilder, decoderClassName, formattedPropertyName, fieldName, validateMethod, fieldToken,
+                typeToken, indent);
+        }
+    }
 
-            classBuilder.appendField()
-                .append(indent).append("private ").append(typeName).append(" ").append(fieldName).append(";\n");
+    private void generatePrimitiveArrayProperty(
+        final ClassBuilder classBuilder,
+        final String decoderClassName,
+        final String formattedPropertyName,
+        final String fieldName,
+        final String validateMethod,
+        final Token fieldToken,
+        final Token typeToken,
+        final String indent)
+    {
+        final PrimitiveType primitiveType = typeToken.encoding().primitiveType();
+        final String elementTypeName = javaTypeName(primitiveType);
+        final String typeName = elementTypeName + "[]";
 
-            classBuilder.appendPublic().append("\n")
-                .append(generateDocumentation(indent, fieldToken))
-                .append(indent).append("public ").append(typeName).append(" ")
-                .append(formattedPropertyName).append("()\n")
-                .append(indent).append("{\n")
-                .append(indent).append(INDENT).append("return this.").append(fieldName).append(";\n")
-                .append(indent).append("}\n");
+        classBuilder.appendField()
+            .append(indent).append("private ").append(typeName).append(" ").append(fieldName);
 
-            classBuilder.appendPublic().append("\n")
-                .append(generateDocumentation(indent, fieldToken))
-                .append(indent).append("public void ").append(formattedPropertyName).append("(")
-                .append(typeName).append(" value").append(")\n")
-                .append(indent).append("{\n")
-                .append(indent).append(INDENT).append(validateMethod).append("(value);\n")
-                .append(indent).append(INDENT).append("this.").append(fieldName).append(" = value;\n")
-                .append(indent).append("}\n");
+        if (shouldGenerateReusableDtos)
+        {
+            classBuilder.appendField().append(" = new ").append(elementTypeName)
+                .append("[").append(typeToken.arrayLength()).append("]");
+        }
 
-            generateArrayValidateMethod(
-                classBuilder,
-                decoderClassName,
-                indent,
-                validateMethod,
-                typeName,
-                ".length",
-                formattedPropertyName);
+        classBuilder.appendField().append(";\n");
+
+        classBuilder.appendPublic().append("\n")
+            .append(generateDocumentation(indent, fieldToken))
+            .append(indent).append("public ").append(typeName).append(" ")
+            .append(formattedPropertyName).append("()\n")
+            .append(indent).append("{\n")
+            .append(indent).append(INDENT).append("return this.").append(fieldName).append(";\n")
+            .append(indent).append("}\n");
+
+        classBuilder.appendPublic().append("\n")
+            .append(generateDocumentation(indent, fieldToken))
+            .append(indent).append("public void ").append(formattedPropertyName).append("(")
+            .append(typeName).append(" value").append(")\n")
+            .append(indent).append("{\n")
+            .append(indent).append(INDENT).append(validateMethod).append("(value);\n");
+
+        if (shouldGenerateReusableDtos)
+        {
+            classBuilder.appendPublic()
+                .append(indent).append(INDENT).append("System.arraycopy(value, 0, this.").append(fieldName)
+                .append(", 0, value.length);\n")
+                .append(indent).append(INDENT).append("java.util.Arrays.fill(this.").append(fieldName)
+                .append(", value.length, this.").append(fieldName).append(".length, ")
+                .append(generateLiteral(primitiveType, "0")).append(");\n");
+        }
+        else
+        {
+            classBuilder.appendPublic()
+                .append(indent).append(INDENT).append("this.").append(fieldName).append(" = value;\n");
         }
+
+        classBuilder.appendPublic().append(indent).append("}\n");
+
+        generateArrayValidateMethod(
+            classBuilder,
+            decoderClassName,
+            indent,
+            validateMethod,
+            typeName,
+            "value.length",
+            "elements",
+            formattedPropertyName);
+    }
+
+    private static void generateReusableStringProperty(
+        final ClassBuilder classBuilder,
+        final Token fieldToken,
+        final String characterEncoding,
+        final String fieldName,
+        final String formattedPropertyName,
+        final String validateMethod,
+        final String indent)
+    {
+        classBuilder.appendField()
+            .append(indent).append("private final ReusableString ").append(fieldName)
+            .append(" = new ReusableString(").append(charset(characterEncoding)).append(");\n");
+
+        classBuilder.appendPublic().append("\n")
+            .append(generateDocumentation(indent, fieldToken))
+            .append(indent).append("public ReusableString ").append(formattedPropertyName).append("()\n")
+            .append(indent).append("{\n")
+            .append(indent).append(INDENT).append("return this.").append(fieldName).append(";\n")
+            .append(indent).append("}\n");
+
+        classBuilder.appendPublic().append("\n")
+            .append(generateDocumentation(indent, fieldToken))
+            .append(indent).append("public void ").append(formattedPropertyName).append("(CharSequence value)\n")
+            .append(indent).append("{\n");
+
+        if (null != validateMethod)
+        {
+            classBuilder.appendPublic().append(indent).append(INDENT).append(validateMethod).append("(value);\n");
+        }
+
+        classBuilder.appendPublic()
+            .append(indent).append(INDENT).append("this.").append(fieldName).append(".set(value);\n")
+            .append(indent).append("}\n");
     }
 
     private static void generateArrayValidateMethod(
@@ -1445,7 +2185,8 @@ public class JavaDtoGenerator implements CodeGenerator
         final String indent,
         final String validateMethod,
         final CharSequence typeName,
-        final String lengthAccessor,
+        final String lengthExpression,
+        final String lengthUnit,
         final String formattedPropertyName)
     {
         final StringBuilder validateBuilder = classBuilder.appendPrivate().append("\n")
@@ -1454,15 +2195,15 @@ public class JavaDtoGenerator implements CodeGenerator
             .append(indent).append("{\n");
 
         validateBuilder.append(indent).append(INDENT)
-            .append("if (value").append(lengthAccessor).append(" > ").append(decoderClassName).append(".")
+            .append("if (").append(lengthExpression).append(" > ").append(decoderClassName).append(".")
             .append(formattedPropertyName).append("Length())\n")
             .append(indent).append(INDENT)
             .append("{\n")
             .append(indent).append(INDENT).append(INDENT)
             .append("throw new IllegalArgumentException(\"")
             .append(formattedPropertyName)
-            .append(": too many elements: \" + ")
-            .append("value").append(lengthAccessor).append(");\n")
+            .append(": too many ").append(lengthUnit).append(": \" + ")
+            .append(lengthExpression).append(");\n")
             .append(indent).append(INDENT)
             .append("}\n")
             .append(indent).append("}\n");
@@ -1481,33 +2222,10 @@ public class JavaDtoGenerator implements CodeGenerator
         final String fieldName = formatFieldName(propertyName);
         final String validateMethod = "validate" + toUpperFirstChar(propertyName);
 
-        final boolean representedWithinJavaType = typeToken.encoding().primitiveType() != PrimitiveType.UINT64;
-
         final StringBuilder validationCall = new StringBuilder();
 
-        if (representedWithinJavaType)
+        if (generateRangeValidateMethod(classBuilder, decoderClassName, propertyName, typeToken, indent))
         {
-            final StringBuilder validateBuilder = classBuilder.appendPrivate().append("\n")
-                .append(indent).append("private static void ").append(validateMethod).append("(")
-                .append(typeName).append(" value)\n")
-                .append(indent).append("{\n");
-
-            validateBuilder.append(indent).append(INDENT)
-                .append("if (value < ")
-                .append(decoderClassName).append(".").append(formattedPropertyName).append("MinValue() || ")
-                .append("value").append(" > ")
-                .append(decoderClassName).append(".").append(formattedPropertyName).append("MaxValue())\n")
-                .append(indent).append(INDENT)
-                .append("{\n")
-                .append(indent).append(INDENT).append(INDENT)
-                .append("throw new IllegalArgumentException(\"")
-                .append(propertyName)
-                .append(": value is out of allowed range: \" + ")
-                .append("value").append(");\n")
-                .append(indent).append(INDENT)
-                .append("}\n")
-                .append(indent).append("}\n");
-
             validationCall.append(indent).append(INDENT).append(validateMethod).append("(value);\n");
         }
 
@@ -1532,6 +2250,45 @@ public class JavaDtoGenerator implements CodeGenerator
             .append(indent).append("}\n");
     }
 
+    private static boolean generateRangeValidateMethod(
+        final ClassBuilder classBuilder,
+        final String decoderClassName,
+        final String propertyName,
+        final Token typeToken,
+        final String indent)
+    {
+        final PrimitiveType primitiveType = typeToken.encoding().primitiveType();
+        final boolean representedWithinJavaType = primitiveType != PrimitiveType.UINT64;
+
+        if (representedWithinJavaType)
+        {
+            final String formattedPropertyName = formatPropertyName(propertyName);
+            final StringBuilder validateBuilder = classBuilder.appendPrivate().append("\n")
+                .append(indent).append("private static void ").append("validate")
+                .append(toUpperFirstChar(propertyName)).append("(")
+                .append(javaTypeName(primitiveType)).append(" value)\n")
+                .append(indent).append("{\n");
+
+            validateBuilder.append(indent).append(INDENT)
+                .append("if (value < ")
+                .append(decoderClassName).append(".").append(formattedPropertyName).append("MinValue() || ")
+                .append("value").append(" > ")
+                .append(decoderClassName).append(".").append(formattedPropertyName).append("MaxValue())\n")
+                .append(indent).append(INDENT)
+                .append("{\n")
+                .append(indent).append(INDENT).append(INDENT)
+                .append("throw new IllegalArgumentException(\"")
+                .append(propertyName)
+                .append(": value is out of allowed range: \" + ")
+                .append("value").append(");\n")
+                .append(indent).append(INDENT)
+                .append("}\n")
+                .append(indent).append("}\n");
+        }
+
+        return representedWithinJavaType;
+    }
+
     private void generateConstPropertyMethods(
         final ClassBuilder classBuilder,
         final String propertyName,
@@ -1583,6 +2340,13 @@ public class JavaDtoGenerator implements CodeGenerator
                 final String fieldName = formatFieldName(propertyName);
                 final String formattedPropertyName = formatPropertyName(propertyName);
 
+                if (characterEncoding != null && shouldGenerateReusableDtos)
+                {
+                    generateReusableStringProperty(
+                        classBuilder, token, characterEncoding, fieldName, formattedPropertyName, null, indent);
+                    continue;
+                }
+
                 classBuilder.appendField()
                     .append(indent).append("private ").append(dtoType).append(" ").append(fieldName).append(";\n");
 
@@ -1656,6 +2420,10 @@ public class JavaDtoGenerator implements CodeGenerator
             out.append("import org.agrona.DirectBuffer;\n");
             out.append("import org.agrona.MutableDirectBuffer;\n");
             out.append("import org.agrona.concurrent.UnsafeBuffer;\n\n");
+            if (shouldGenerateReusableDtos)
+            {
+                out.append("import uk.co.real_logic.sbe.codec.java.ReusableString;\n\n");
+            }
             out.append(generateDocumentation(BASE_INDENT, tokens.get(0)));
 
             final ClassBuilder classBuilder = new ClassBuilder(className, BASE_INDENT, "public final");
@@ -57,7 +57,11 @@ public class JavaGenerator implements CodeGenerator
 
     private static final String META_ATTRIBUTE_ENUM = "MetaAttribute";
     private static final String PACKAGE_INFO = "package-info";
+    private static final String MESSAGE_DISPATCHER_SUFFIX = "MessageDispatcher";
     private static final String BASE_INDENT = "";
+    private static final String STRING_CACHE_CLASS = "uk.co.real_logic.sbe.codec.java.StringCache";
+    private static final String DECIMALS_CLASS = "uk.co.real_logic.sbe.codec.java.Decimals";
+    private static final String ASCII_SEQUENCE_VIEW_CLASS = "org.agrona.AsciiSequenceView";
     private static final String INDENT = "    ";
     private static final Set<String> PACKAGES_EMPTY_SET = Collections.emptySet();
 
@@ -74,7 +78,20 @@ public class JavaGenerator implements CodeGenerator
     private final PrecedenceChecks precedenceChecks;
     private final String precedenceChecksFlagName;
     private final String precedenceChecksPropName;
+    private final String precedenceChecksSampleRatePropName;
+    private final int stringCacheCapacity;
+    private final boolean shouldGenerateGroupScans;
+    private final boolean shouldGenerateGroupRandomAccess;
+    private final boolean shouldGenerateOpenGroups;
+    private final boolean shouldGenerateComputeLength;
+    private final boolean shouldGenerateAppendJson;
+    private final boolean shouldGenerateValidation;
+    private final boolean shouldGenerateWrapForUpdate;
+    private final boolean shouldGenerateComparisons;
+    private final boolean shouldGenerateMessageDispatcher;
+    private final boolean shouldGenerateVersionSpecialisedDecoders;
     private final Set<String> packageNameByTypes = new HashSet<>();
+    private boolean isGeneratingVersionSpecialisedDecoder;
 
     /**
      * Create a new Java language {@link CodeGenerator}. Generator support for types in their own package is disabled.
@@ -157,28 +174,67 @@ public class JavaGenerator implements CodeGenerator
         final boolean shouldSupportTypesPackageNames,
         final PrecedenceChecks precedenceChecks,
         final DynamicPackageOutputManager outputManager)
+    {
+        this(ir, new Options()
+            .mutableBuffer(mutableBuffer)
+            .readOnlyBuffer(readOnlyBuffer)
+            .shouldGenerateGroupOrderAnnotation(shouldGenerateGroupOrderAnnotation)
+            .shouldGenerateInterfaces(shouldGenerateInterfaces)
+            .shouldDecodeUnknownEnumValues(shouldDecodeUnknownEnumValues)
+            .shouldSupportTypesPackageNames(shouldSupportTypesPackageNames)
+            .precedenceChecks(precedenceChecks),
+            outputManager);
+    }
+
+    /**
+     * Create a new Java language {@link CodeGenerator}.
+     *
+     * @param ir            for the messages and types.
+     * @param options       describing what should be generated for the codecs.
+     * @param outputManager for generating the codecs to.
+     */
+    public JavaGenerator(final Ir ir, final Options options, final DynamicPackageOutputManager outputManager)
     {
         Verify.notNull(ir, "ir");
+        Verify.notNull(options, "options");
         Verify.notNull(outputManager, "outputManager");
-        Verify.notNull(precedenceChecks, "precedenceChecks");
+        Verify.notNull(options.precedenceChecks(), "precedenceChecks");
 
         this.ir = ir;
-        this.shouldSupportTypesPackageNames = shouldSupportTypesPackageNames;
+        this.shouldSupportTypesPackageNames = options.shouldSupportTypesPackageNames();
         this.outputManager = outputManager;
 
-        this.mutableBuffer = validateBufferImplementation(mutableBuffer, MutableDirectBuffer.class);
-        this.fqMutableBuffer = mutableBuffer;
+        this.mutableBuffer = validateBufferImplementation(options.mutableBuffer(), MutableDirectBuffer.class);
+        this.fqMutableBuffer = options.mutableBuffer();
 
-        this.readOnlyBuffer = validateBufferImplementation(readOnlyBuffer, DirectBuffer.class);
-        this.fqReadOnlyBuffer = readOnlyBuffer;
+        this.readOnlyBuffer = validateBufferImplementation(options.readOnlyBuffer(), DirectBuffer.class);
+        this.fqReadOnlyBuffer = options.readOnlyBuffer();
 
-        this.shouldGenerateGroupOrderAnnotation = shouldGenerateGroupOrderAnnotation;
-        this.shouldGenerateInterfaces = shouldGenerateInterfaces;
-        this.shouldDecodeUnknownEnumValues = shouldDecodeUnknownEnumValues;
+        this.shouldGenerateGroupOrderAnnotation = options.shouldGenerateGroupOrderAnnotation();
+        this.shouldGenerateInterfaces = options.shouldGenerateInterfaces();
+        this.shouldDecodeUnknownEnumValues = options.shouldDecodeUnknownEnumValues();
 
-        this.precedenceChecks = precedenceChecks;
+        this.precedenceChecks = options.precedenceChecks();
         this.precedenceChecksFlagName = precedenceChecks.context().precedenceChecksFlagName();
         this.precedenceChecksPropName = precedenceChecks.context().precedenceChecksPropName();
+        this.precedenceChecksSampleRatePropName = precedenceChecks.context().precedenceChecksSampleRatePropName();
+
+        if (options.stringCacheCapacity() < 0)
+        {
+            throw new IllegalArgumentException(
+                "stringCacheCapacity must not be negative: " + options.stringCacheCapacity());
+        }
+        this.stringCacheCapacity = options.stringCacheCapacity();
+        this.shouldGenerateGroupScans = options.shouldGenerateGroupScans();
+        this.shouldGenerateGroupRandomAccess = options.shouldGenerateGroupRandomAccess();
+        this.shouldGenerateOpenGroups = options.shouldGenerateOpenGroups();
+        this.shouldGenerateComputeLength = options.shouldGenerateComputeLength();
+        this.shouldGenerateAppendJson = options.shouldGenerateAppendJson();
+        this.shouldGenerateVersionSpecialisedDecoders = options.shouldGenerateVersionSpecialisedDecoders();
+        this.shouldGenerateValidation = options.shouldGenerateValidation();
+        this.shouldGenerateWrapForUpdate = options.shouldGenerateWrapForUpdate();
+        this.shouldGenerateComparisons = options.shouldGenerateComparisons();
+        this.shouldGenerateMessageDispatcher = options.shouldGenerateMessageDispatcher();
     }
 
     /**
@@ -278,12 +334,237 @@ public class JavaGenerator implements CodeGenerator
                 decoderStateClassName, tokens);
             generateDecoder(decoderClassName, msgToken, fields, groups, varData, hasVarData, decoderPrecedenceModel);
 
+            if (shouldGenerateVersionSpecialisedDecoders && hasVersionedTokens(messageBody))
+            {
+                final String latestClassName = latestDecoderName(msgToken);
+                final FieldPrecedenceModel latestPrecedenceModel = precedenceChecks.createDecoderModel(
+                    latestClassName + "#CodecStates", tokens);
+
+                isGeneratingVersionSpecialisedDecoder = true;
+                try
+                {
+                    generateDecoder(
+                        latestClassName, msgToken, fields, groups, varData, hasVarData, latestPrecedenceModel);
+                }
+                finally
+                {
+                    isGeneratingVersionSpecialisedDecoder = false;
+                }
+            }
+
             final String encoderClassName = formatClassName(encoderName(msgToken.name()));
             final String encoderStateClassName = encoderClassName + "#CodecStates";
             final FieldPrecedenceModel encoderPrecedenceModel = precedenceChecks.createEncoderModel(
                 encoderStateClassName, tokens);
             generateEncoder(encoderClassName, msgToken, fields, groups, varData, hasVarData, encoderPrecedenceModel);
         }
+
+        if (shouldGenerateMessageDispatcher)
+        {
+            generateMessageDispatcher();
+        }
+    }
+
+    private void generateMessageDispatcher() throws IOException
+    {
+        final List<Token> msgTokens = new ArrayList<>();
+        final Set<Integer> versionSpecialisedTemplateIds = new HashSet<>();
+        for (final List<Token> tokens : ir.messages())
+        {
+            msgTokens.add(tokens.get(0));
+            if (shouldGenerateVersionSpecialisedDecoders && hasVersionedTokens(getMessageBody(tokens)))
+            {
+                versionSpecialisedTemplateIds.add(tokens.get(0).id());
+            }
+        }
+        msgTokens.sort(Comparator.comparingInt(Token::id));
+
+        final boolean isMessageHandler = fqReadOnlyBuffer.equals(DirectBuffer.class.getName()) ||
+            fqReadOnlyBuffer.equals(MutableDirectBuffer.class.getName());
+        final String templateIdCast = PrimitiveType.UINT32 == ir.headerStructure().templateIdType() ? "(int)" : "";
+        final String className = messageDispatcherName();
+
+        try (Writer out = outputManager.createOutput(className))
+        {
+            out.append(generateMainHeader(ir.applicableNamespace(), DECODER, false));
+            out.append("\n")
+                .append("/**\n")
+                .append(" * Dispatches messages of the schema to a {@link Handler} by reading the message header\n")
+                .append(" * once and wrapping a reusable decoder for the template id. Handler methods default to\n")
+                .append(" * ignoring the message.\n")
+                .append(" */\n")
+                .append("@SuppressWarnings(\"all\")\n")
+                .append("public final class ").append(className)
+                .append(isMessageHandler ? " implements org.agrona.concurrent.MessageHandler\n" : "\n")
+                .append("{\n")
+                .append("    public interface Handler\n")
+                .append("    {\n");
+
+            for (final Token msgToken : msgTokens)
+            {
+                final String methodName = "on" + formatClassName(msgToken.name());
+                final String decoderName = formatClassName(decoderName(msgToken.name()));
+                out.append("        default void ").append(methodName)
+                    .append("(final ").append(decoderName).append(" decoder)\n")
+                    .append("        {\n")
+                    .append("        }\n\n");
+
+                if (versionSpecialisedTemplateIds.contains(msgToken.id()))
+                {
+                    out.append("        default void ").append(methodName)
+                        .append("(final ").append(latestDecoderName(msgToken)).append(" decoder)\n")
+                        .append("        {\n")
+                        .append("            ").append(methodName).append("(decoder.genericDecoder());\n")
+                        .append("        }\n\n");
+                }
+            }
+
+            out.append("        default void onUnknownMessage(\n")
+                .append("            final ").append(MESSAGE_HEADER_DECODER_TYPE).append(" header,\n")
+                .append("            final ").append(readOnlyBuffer).append(" buffer,\n")
+                .append("            final int offset,\n")
+                .append("            final int length)\n")
+                .append("        {\n")
+                .append("        }\n")
+                .append("    }\n\n")
+                .append("    private final ").append(MESSAGE_HEADER_DECODER_TYPE).append(" headerDecoder = new ")
+                .append(MESSAGE_HEADER_DECODER_TYPE).append("();\n");
+
+            for (final Token msgToken : msgTokens)
+            {
+                final String decoderName = formatClassName(decoderName(msgToken.name()));
+                out.append("    private final ").append(decoderName).append(" ")
+                    .append(dispatcherDecoderField(msgToken)).append(" = new ").append(decoderName).append("();\n");
+
+                if (versionSpecialisedTemplateIds.contains(msgToken.id()))
+                {
+                    final String latestDecoderName = latestDecoderName(msgToken);
+                    out.append("    private final ").append(latestDecoderName).append(" ")
+                        .append(dispatcherLatestDecoderField(msgToken)).append(" = new ")
+                        .append(latestDecoderName).append("();\n");
+                }
+            }
+
+            out.append("    private final Handler handler;\n\n")
+                .append("    public ").append(className).append("(final Handler handler)\n")
+                .append("    {\n")
+                .append("        this.handler = java.util.Objects.requireNonNull(handler, \"handler\");\n")
+                .append("    }\n\n")
+                .append("    public Handler handler()\n")
+                .append("    {\n")
+                .append("        return handler;\n")
+                .append("    }\n\n")
+                .append("    public boolean dispatch(final ").append(readOnlyBuffer)
+                .append(" buffer, final int offset, final int length)\n")
+                .append("    {\n")
+                .append("        final ").append(MESSAGE_HEADER_DECODER_TYPE)
+                .append(" headerDecoder = this.headerDecoder.wrap(buffer, offset);\n")
+                .append("        if (").append(MESSAGE_HEADER_DECODER_TYPE)
+                .append(".SCHEMA_ID == headerDecoder.schemaId())\n")
+                .append("        {\n")
+                .append("            final int bodyOffset = offset + ").append(MESSAGE_HEADER_DECODER_TYPE)
+                .append(".ENCODED_LENGTH;\n")
+                .append("            final int blockLength = headerDecoder.blockLength();\n")
+                .append("            final int version = headerDecoder.version();\n\n")
+                .append("            switch (").append(templateIdCast).append("headerDecoder.templateId())\n")
+                .append("            {\n");
+
+            for (final Token msgToken : msgTokens)
+            {
+                final String handlerCall = "handler.on" + formatClassName(msgToken.name()) + "(";
+                final String wrapArgs = ".wrap(buffer, bodyOffset, blockLength, version));\n";
+                out.append("                case ").append(Integer.toString(msgToken.id())).append(":\n");
+
+                if (versionSpecialisedTemplateIds.contains(msgToken.id()))
+                {
+                    final String latestDecoderName = latestDecoderName(msgToken);
+                    out.append("                    if (version >= ").append(latestDecoderName)
+                        .append(".SCHEMA_VERSION)\n")
+                        .append("                    {\n")
+                        .append("                        ").append(handlerCall)
+                        .append(dispatcherLatestDecoderField(msgToken)).append(wrapArgs)
+                        .append("                    }\n")
+                        .append("                    else\n")
+                        .append("                    {\n")
+                        .append("                        ").append(handlerCall)
+                        .append(dispatcherDecoderField(msgToken)).append(wrapArgs)
+                        .append("                    }\n");
+                }
+                else
+                {
+                    out.append("                    ").append(handlerCall)
+                        .append(dispatcherDecoderField(msgToken)).append(wrapArgs);
+                }
+
+                out.append("                    return true;\n\n");
+            }
+
+            out.append("                default:\n")
+                .append("                    break;\n")
+                .append("            }\n")
+                .append("        }\n\n")
+                .append("        handler.onUnknownMessage(headerDecoder, buffer, offset, length);\n\n")
+                .append("        return false;\n")
+                .append("    }\n");
+
+            if (isMessageHandler)
+            {
+                out.append("\n")
+                    .append("    public void onMessage(\n")
+                    .append("        final int msgTypeId, final org.agrona.MutableDirectBuffer buffer, ")
+                    .append("final int index, final int length)\n")
+                    .append("    {\n")
+                    .append("        dispatch(buffer, index, length);\n")
+                    .append("    }\n");
+            }
+
+            out.append("}\n");
+        }
+    }
+
+    private String messageDispatcherName()
+    {
+        final String packageName = ir.packageName();
+        final String className = formatClassName(packageName.substring(packageName.lastIndexOf('.') + 1)) +
+            MESSAGE_DISPATCHER_SUFFIX;
+
+        for (final List<Token> tokens : ir.types())
+        {
+            if (className.equals(formatClassName(tokens.get(0).applicableTypeName())))
+            {
+                throw new IllegalStateException("type name clashes with generated message dispatcher: " + className);
+            }
+        }
+
+        return className;
+    }
+
+    private static String dispatcherDecoderField(final Token msgToken)
+    {
+        return "decoder" + msgToken.id();
+    }
+
+    private static String dispatcherLatestDecoderField(final Token msgToken)
+    {
+        return "latestDecoder" + msgToken.id();
+    }
+
+    private static String latestDecoderName(final Token msgToken)
+    {
+        return formatClassName(decoderName(msgToken.name() + "Latest"));
+    }
+
+    private static boolean hasVersionedTokens(final List<Token> messageBody)
+    {
+        for (final Token token : messageBody)
+        {
+            if (token.version() > 0)
+            {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     private void generateEncoder(
@@ -316,6 +597,11 @@ public class JavaGenerator implements CodeGenerator
             generateEncoderGroups(sb, className, fieldPrecedenceModel, groups, BASE_INDENT, false);
             generateEncoderVarData(sb, className, fieldPrecedenceModel, varData, BASE_INDENT);
 
+            if (shouldGenerateComputeLength)
+            {
+                generateComputeLength(sb, msgToken.encodedLength(), groups, varData, BASE_INDENT);
+                generateMaxEncodedLength(sb, msgToken.encodedLength(), groups, varData, BASE_INDENT);
+            }
             generateEncoderDisplay(sb, decoderName(msgToken.name()));
             generateFullyEncodedCheck(sb, fieldPrecedenceModel);
 
@@ -355,6 +641,9 @@ public class JavaGenerator implements CodeGenerator
             .append("Boolean.parseBoolean(System.getProperty(\n")
             .append("        \"").append(precedenceChecksPropName).append("\",\n")
             .append("        Boolean.toString(ENABLE_BOUNDS_CHECKS)));\n\n");
+        sb.append("    private static final int SBE_PRECEDENCE_CHECKS_SAMPLE_RATE = ")
+            .append("Math.max(1, Integer.getInteger(\n")
+            .append("        \"").append(precedenceChecksSampleRatePropName).append("\", 1));\n\n");
 
         sb.append("    /**\n");
         sb.append("     * The states in which a encoder/decoder/codec can live.\n");
@@ -408,6 +697,8 @@ public class JavaGenerator implements CodeGenerator
         });
         sb.append("        };\n\n");
 
+        generateTransitionTable(sb, fieldPrecedenceModel);
+
         sb.append("        private static String name(final int state)\n")
             .append("        {\n")
             .append("            return STATE_NAME_LOOKUP[state];\n")
@@ -434,9 +725,68 @@ public class JavaGenerator implements CodeGenerator
             .append("        codecState = newState;\n")
             .append("    }\n\n");
 
+        sb.append("    private boolean precedenceChecked = true;\n")
+            .append("    private int precedenceChecksSampleCount;\n\n");
+
+        sb.append("    private boolean isPrecedenceChecked()\n")
+            .append("    {\n")
+            .append("        return precedenceChecked;\n")
+            .append("    }\n\n");
+
+        sb.append("    private void samplePrecedenceChecks()\n")
+            .append("    {\n")
+            .append("        if (SBE_PRECEDENCE_CHECKS_SAMPLE_RATE > 1)\n")
+            .append("        {\n")
+            .append("            if (++precedenceChecksSampleCount >= SBE_PRECEDENCE_CHECKS_SAMPLE_RATE)\n")
+            .append("            {\n")
+            .append("                precedenceChecksSampleCount = 0;\n")
+            .append("            }\n")
+            .append("            precedenceChecked = 0 == precedenceChecksSampleCount;\n")
+            .append("        }\n")
+            .append("        else\n")
+            .append("        {\n")
+            .append("            precedenceChecked = true;\n")
+            .append("        }\n")
+            .append("    }\n\n");
+
         return sb;
     }
 
+    private static void generateTransitionTable(
+        final StringBuilder sb,
+        final FieldPrecedenceModel fieldPrecedenceModel)
+    {
+        final int interactionCount = fieldPrecedenceModel.tableInteractionCount();
+        final int[] table = fieldPrecedenceModel.transitionTable();
+        final String tableType = fieldPrecedenceModel.stateCount() <= Byte.MAX_VALUE ? "byte" : "short";
+
+        sb.append("        private static final int INTERACTION_COUNT = ").append(interactionCount).append(";\n\n");
+
+        sb.append("        /**\n")
+            .append("         * The state reached by each interaction from each state, -1 if not allowed, with a row\n")
+            .append("         * per state and a column per interaction.\n")
+            .append("         */\n")
+            .append("        private static final ").append(tableType).append("[] TRANSITIONS =\n")
+            .append("        {\n");
+
+        for (int i = 0; i < table.length; i += interactionCount)
+        {
+            sb.append("            ");
+            for (int j = i; j < i + interactionCount; j++)
+            {
+                sb.append(j > i ? " " : "").append(table[j]).append(',');
+            }
+            sb.append('\n');
+        }
+
+        sb.append("        };\n\n");
+
+        sb.append("        private static int transition(final int state, final int interaction)\n")
+            .append("        {\n")
+            .append("            return TRANSITIONS[(state * INTERACTION_COUNT) + interaction];\n")
+            .append("        }\n\n");
+    }
+
     private void generateFullyEncodedCheck(
         final StringBuilder sb,
         final FieldPrecedenceModel fieldPrecedenceModel)
@@ -450,7 +800,7 @@ public class JavaGenerator implements CodeGenerator
 
         sb.append("    public void checkEncodingIsComplete()\n")
             .append("    {\n")
-            .append("        if (").append(precedenceChecksFlagName).append(")\n")
+            .append("        if (").append(precedenceChecksGuard()).append(")\n")
             .append("        {\n")
             .append("            switch (codecState)\n")
             .append("            {\n");
@@ -531,7 +881,7 @@ public class JavaGenerator implements CodeGenerator
         }
 
         final StringBuilder sb = new StringBuilder();
-        sb.append(indent).append("if (").append(precedenceChecksFlagName).append(")\n")
+        sb.append(indent).append("if (").append(precedenceChecksGuard()).append(")\n")
             .append(indent).append("{\n")
             .append(indent).append("    ").append(methodName).append("(");
 
@@ -613,23 +963,19 @@ public class JavaGenerator implements CodeGenerator
             generateAccessOrderException(sb, indent + "    ", action, fieldPrecedenceModel, interaction);
             sb.append(indent).append("}\n");
         }
+        else if (fieldPrecedenceModel.tableInteractionNumber(interaction) < 0)
+        {
+            generateAccessOrderException(sb, indent, action, fieldPrecedenceModel, interaction);
+        }
         else
         {
-            sb.append(indent).append("switch (codecState())\n")
+            sb.append(indent).append("final int nextState = CodecStates.transition(codecState(), ")
+                .append(fieldPrecedenceModel.tableInteractionNumber(interaction)).append(");\n")
+                .append(indent).append("if (nextState < 0)\n")
                 .append(indent).append("{\n");
-
-            fieldPrecedenceModel.forEachTransition(interaction, (transitionGroup) ->
-            {
-                transitionGroup.forEachStartState((startState) ->
-                    sb.append(indent).append("    case ").append(stateCaseForSwitchCase(startState)).append(":\n"));
-                sb.append(indent).append("        codecState(")
-                    .append(qualifiedStateCase(transitionGroup.endState())).append(");\n")
-                    .append(indent).append("        break;\n");
-            });
-
-            sb.append(indent).append("    default:\n");
-            generateAccessOrderException(sb, indent + "        ", action, fieldPrecedenceModel, interaction);
-            sb.append(indent).append("}\n");
+            generateAccessOrderException(sb, indent + "    ", action, fieldPrecedenceModel, interaction);
+            sb.append(indent).append("}\n")
+                .append(indent).append("codecState(nextState);\n");
         }
     }
 
@@ -697,6 +1043,65 @@ public class JavaGenerator implements CodeGenerator
             .append(indent).append("}\n\n");
     }
 
+    private static void generateAccessOrderListenerMethodForGroupElementAt(
+        final StringBuilder sb,
+        final FieldPrecedenceModel fieldPrecedenceModel,
+        final String indent,
+        final Token token)
+    {
+        if (null == fieldPrecedenceModel)
+        {
+            return;
+        }
+
+        sb.append(indent).append("private void onElementAccessedAt(final int index)\n")
+            .append(indent).append("{\n")
+            .append(indent).append("    final boolean isLast = index == count - 1;\n")
+            .append(indent).append("    switch (codecState())\n")
+            .append(indent).append("    {\n");
+
+        final FieldPrecedenceModel.CodecInteraction selectNextElementInGroup =
+            fieldPrecedenceModel.interactionFactory().moveToNextElement(token);
+        final FieldPrecedenceModel.CodecInteraction selectLastElementInGroup =
+            fieldPrecedenceModel.interactionFactory().moveToLastElement(token);
+
+        fieldPrecedenceModel.forEachTransition(selectNextElementInGroup, (nextTransitionGroup) ->
+        {
+            final Set<FieldPrecedenceModel.State> startStates = new HashSet<>();
+            nextTransitionGroup.forEachStartState(startStates::add);
+
+            fieldPrecedenceModel.forEachTransition(selectLastElementInGroup, (lastTransitionGroup) ->
+            {
+                final Set<FieldPrecedenceModel.State> lastStartStates = new HashSet<>();
+                lastTransitionGroup.forEachStartState(lastStartStates::add);
+
+                if (startStates.equals(lastStartStates))
+                {
+                    final Set<FieldPrecedenceModel.State> states = new LinkedHashSet<>(startStates);
+                    states.add(nextTransitionGroup.endState());
+                    states.add(lastTransitionGroup.endState());
+
+                    states.forEach((state) ->
+                        sb.append(indent).append("        case ").append(stateCaseForSwitchCase(state)).append(":\n"));
+                    sb.append(indent).append("            codecState(isLast ? ")
+                        .append(qualifiedStateCase(lastTransitionGroup.endState())).append(" : ")
+                        .append(qualifiedStateCase(nextTransitionGroup.endState())).append(");\n")
+                        .append(indent).append("            break;\n");
+                }
+            });
+        });
+
+        sb.append(indent).append("        default:\n");
+        generateAccessOrderException(
+            sb,
+            indent + "            ",
+            "access element at index in repeating group",
+            fieldPrecedenceModel,
+            selectNextElementInGroup);
+        sb.append(indent).append("    }\n")
+            .append(indent).append("}\n\n");
+    }
+
     private static void generateAccessOrderListenerMethodForResetGroupCount(
         final StringBuilder sb,
         final FieldPrecedenceModel fieldPrecedenceModel,
@@ -790,7 +1195,8 @@ public class JavaGenerator implements CodeGenerator
         }
 
         final StringBuilder sb = new StringBuilder();
-        sb.append(indent).append("if (").append(precedenceChecksFlagName).append(")")
+        sb.append(generatePrecedenceChecksSample(fieldPrecedenceModel, indent))
+            .append(indent).append("if (").append(precedenceChecksGuard()).append(")")
             .append("\n").append(indent).append("{\n")
             .append(indent).append("    codecState(")
             .append(qualifiedStateCase(fieldPrecedenceModel.latestVersionWrappedState()))
@@ -799,6 +1205,26 @@ public class JavaGenerator implements CodeGenerator
         return sb;
     }
 
+    private CharSequence generatePrecedenceChecksSample(
+        final FieldPrecedenceModel fieldPrecedenceModel,
+        final String indent)
+    {
+        if (null == fieldPrecedenceModel)
+        {
+            return "";
+        }
+
+        return indent + "if (" + precedenceChecksFlagName + ")\n" +
+            indent + "{\n" +
+            indent + "    samplePrecedenceChecks();\n" +
+            indent + "}\n\n";
+    }
+
+    private String precedenceChecksGuard()
+    {
+        return precedenceChecksFlagName + " && isPrecedenceChecked()";
+    }
+
     private void generateDecoder(
         final String className,
         final Token msgToken,
@@ -809,7 +1235,8 @@ public class JavaGenerator implements CodeGenerator
         final FieldPrecedenceModel fieldPrecedenceModel)
         throws IOException
     {
-        final String implementsString = implementsInterface(MessageDecoderFlyweight.class.getSimpleName());
+        final String implementsString = implementsComparable(
+            implementsInterface(MessageDecoderFlyweight.class.getSimpleName()), className);
 
         try (Writer out = outputManager.createOutput(className))
         {
@@ -829,7 +1256,20 @@ public class JavaGenerator implements CodeGenerator
             generateDecoderGroups(sb, fieldPrecedenceModel, className, groups, BASE_INDENT, false);
             generateDecoderVarData(sb, fieldPrecedenceModel, varData, BASE_INDENT);
 
+            if (shouldGenerateComparisons)
+            {
+                generateMessageDecoderComparison(sb, className, fields);
+            }
             generateDecoderDisplay(sb, msgToken.name(), fields, groups, varData);
+            if (shouldGenerateAppendJson)
+            {
+                sb.append(new JavaJsonGenerator(fqMutableBuffer).generateAppendJson(fields, groups, varData));
+            }
+            if (shouldGenerateValidation)
+            {
+                sb.append(new JavaValidationGenerator(readOnlyBuffer, shouldDecodeUnknownEnumValues)
+                    .generateValidate(fields, groups, varData));
+            }
             generateMessageLength(sb, className, true, groups, varData, BASE_INDENT);
 
             out.append(sb);
@@ -869,6 +1309,9 @@ public class JavaGenerator implements CodeGenerator
             final List<Token> varData = new ArrayList<>();
             i = collectVarData(tokens, i, varData);
 
+            final boolean isFlat = groups.isEmpty() && varData.isEmpty() &&
+                (shouldGenerateGroupRandomAccess || shouldGenerateGroupScans);
+
             generateGroupDecoderProperty(sb, groupName, fieldPrecedenceModel, groupToken, indent, isSubGroup);
             generateTypeJavadoc(sb, indent + INDENT, groupToken);
 
@@ -877,12 +1320,26 @@ public class JavaGenerator implements CodeGenerator
                 generateAnnotations(indent + INDENT, groupName, groups, sb, JavaUtil::decoderName);
             }
             generateGroupDecoderClassHeader(sb, groupName, outerClassName, fieldPrecedenceModel, groupToken,
-                tokens, groups, index, indent + INDENT);
+                tokens, groups, isFlat, index, indent + INDENT);
 
             generateDecoderFields(sb, fieldPrecedenceModel, fields, indent + INDENT);
             generateDecoderGroups(sb, fieldPrecedenceModel, outerClassName, groups, indent + INDENT, true);
             generateDecoderVarData(sb, fieldPrecedenceModel, varData, indent + INDENT);
 
+            if (isFlat)
+            {
+                if (shouldGenerateGroupRandomAccess)
+                {
+                    generateGroupRandomAccess(
+                        sb, groupName, fieldPrecedenceModel, groupToken, fields, indent + INDENT);
+                }
+
+                if (shouldGenerateGroupScans)
+                {
+                    generateGroupScans(sb, fields, indent + INDENT);
+                }
+            }
+
             appendGroupInstanceDecoderDisplay(sb, fields, groups, varData, indent + INDENT);
             generateMessageLength(sb, groupName, false, groups, varData, indent + INDENT);
 
@@ -923,7 +1380,15 @@ public class JavaGenerator implements CodeGenerator
             final List<Token> varData = new ArrayList<>();
             i = collectVarData(tokens, i, varData);
 
-            generateGroupEncoderProperty(sb, groupName, fieldPrecedenceModel, groupToken, indent, isSubGroup);
+            final Token numInGroupToken = Generators.findFirst("numInGroup", tokens, index);
+            generateGroupEncoderProperty(
+                sb, groupName, fieldPrecedenceModel, groupToken, numInGroupToken, indent, isSubGroup);
+            JavaUpdateGenerator updateGenerator = null;
+            if (shouldGenerateWrapForUpdate)
+            {
+                updateGenerator = new JavaUpdateGenerator(mutableBuffer, precedenceChecksFlagName);
+                sb.append(updateGenerator.generateGroupForUpdateProperty(tokens, index, indent, isSubGroup));
+            }
             generateTypeJavadoc(sb, indent + INDENT, groupToken);
 
             if (shouldGenerateGroupOrderAnnotation)
@@ -933,10 +1398,19 @@ public class JavaGenerator implements CodeGenerator
             generateGroupEncoderClassHeader(
                 sb, groupName, outerClassName, fieldPrecedenceModel, groupToken,
                 tokens, groups, index, indent + INDENT);
+            if (null != updateGenerator)
+            {
+                sb.append(updateGenerator.generateGroupUpdate(
+                    tokens, index, groups, varData, isSubGroup || i + 1 < size, indent + INDENT));
+            }
 
             generateEncoderFields(sb, groupClassName, fieldPrecedenceModel, fields, indent + INDENT);
             generateEncoderGroups(sb, outerClassName, fieldPrecedenceModel, groups, indent + INDENT, true);
             generateEncoderVarData(sb, groupClassName, fieldPrecedenceModel, varData, indent + INDENT);
+            if (shouldGenerateComputeLength)
+            {
+                generateComputeLength(sb, groupToken.encodedLength(), groups, varData, indent + INDENT);
+            }
 
             sb.append(indent).append("    }\n");
         }
@@ -950,6 +1424,7 @@ public class JavaGenerator implements CodeGenerator
         final Token groupToken,
         final List<Token> tokens,
         final List<Token> subGroupTokens,
+        final boolean isFlat,
         final int index,
         final String indent)
     {
@@ -974,6 +1449,7 @@ public class JavaGenerator implements CodeGenerator
             groupName,
             parentMessageClassName,
             findSubGroupNames(subGroupTokens),
+            isFlat,
             indent,
             dimensionHeaderLen);
 
@@ -990,12 +1466,14 @@ public class JavaGenerator implements CodeGenerator
             .append(indent).append("        index = 0;\n")
             .append(indent).append("        final int limit = parentMessage.limit();\n")
             .append(indent).append("        parentMessage.limit(limit + HEADER_SIZE);\n")
+            .append(isFlat ? indent + "        entriesOffset = limit + HEADER_SIZE;\n" : "")
             .append(indent).append("        blockLength = ").append(blockLenCast).append(blockLengthGet).append(";\n")
             .append(indent).append("        count = ").append(numInGroupCast).append(numInGroupGet).append(";\n")
             .append(indent).append("    }\n\n");
 
         generateAccessOrderListenerMethodForNextGroupElement(sb, fieldPrecedenceModel, indent + "    ", groupToken);
 
+        final String nextOffset = isFlat ? "entriesOffset + (index * blockLength)" : "parentMessage.limit()";
         sb.append(indent).append("    public ").append(className).append(" next()\n")
             .append(indent).append("    {\n")
             .append(indent).append("        if (index >= count)\n")
@@ -1003,7 +1481,7 @@ public class JavaGenerator implements CodeGenerator
             .append(indent).append("            throw new java.util.NoSuchElementException();\n")
             .append(indent).append("        }\n\n")
             .append(generateAccessOrderListenerCall(fieldPrecedenceModel, indent + "        ", "onNextElementAccessed"))
-            .append(indent).append("        offset = parentMessage.limit();\n")
+            .append(indent).append("        offset = ").append(nextOffset).append(";\n")
             .append(indent).append("        parentMessage.limit(offset + blockLength);\n")
             .append(indent).append("        ++index;\n\n")
             .append(indent).append("        return this;\n")
@@ -1068,45 +1546,559 @@ public class JavaGenerator implements CodeGenerator
                 .append(indent).append("    {\n")
                 .append(indent).append("        parentMessage.codecState(newState);\n")
                 .append(indent).append("    }\n");
+
+            sb.append("\n")
+                .append(indent).append("    private boolean isPrecedenceChecked()\n")
+                .append(indent).append("    {\n")
+                .append(indent).append("        return parentMessage.isPrecedenceChecked();\n")
+                .append(indent).append("    }\n");
         }
     }
 
-    private void generateGroupEncoderClassHeader(
+    private void generateGroupRandomAccess(
         final StringBuilder sb,
         final String groupName,
-        final String parentMessageClassName,
         final FieldPrecedenceModel fieldPrecedenceModel,
         final Token groupToken,
-        final List<Token> tokens,
-        final List<Token> subGroupTokens,
-        final int index,
-        final String ind)
+        final List<Token> fields,
+        final String indent)
     {
-        final int dimensionHeaderSize = tokens.get(index + 1).encodedLength();
-
-        generateGroupEncoderClassDeclaration(
-            sb,
-            groupName,
-            parentMessageClassName,
-            findSubGroupNames(subGroupTokens),
-            ind,
-            dimensionHeaderSize);
+        for (final Token fieldToken : fields)
+        {
+            if (fieldToken.signal() != Signal.BEGIN_FIELD)
+            {
+                continue;
+            }
 
-        final int blockLength = tokens.get(index).encodedLength();
-        final Token blockLengthToken = Generators.findFirst("blockLength", tokens, index);
-        final Token numInGroupToken = Generators.findFirst("numInGroup", tokens, index);
+            final String propertyName = formatPropertyName(fieldToken.name());
+            if ("at".equals(propertyName) || "previous".equals(propertyName) || "hasPrevious".equals(propertyName))
+            {
+                throw new IllegalStateException(
+                    "group field name clashes with generated random access method: " + groupToken.name() + "." +
+                    propertyName);
+            }
+        }
 
-        final PrimitiveType blockLengthType = blockLengthToken.encoding().primitiveType();
-        final String blockLengthOffset = "limit + " + blockLengthToken.offset();
-        final String blockLengthValue = Integer.toString(blockLength);
-        final String blockLengthPut = generatePut(
-            blockLengthType, blockLengthOffset, blockLengthValue, byteOrderString(blockLengthToken.encoding()));
+        generateAccessOrderListenerMethodForGroupElementAt(sb, fieldPrecedenceModel, indent + "    ", groupToken);
 
-        final PrimitiveType numInGroupType = numInGroupToken.encoding().primitiveType();
+        sb.append(indent).append("    public ").append(groupName).append(" at(final int index)\n")
+            .append(indent).append("    {\n")
+            .append(indent).append("        if (index < 0 || index >= count)\n")
+            .append(indent).append("        {\n")
+            .append(indent).append("            throw new IndexOutOfBoundsException(")
+            .append("\"index out of range: index=\" + index);\n")
+            .append(indent).append("        }\n\n")
+            .append(generateAccessOrderListenerCall(fieldPrecedenceModel, indent + "        ",
+                "onElementAccessedAt", "index"))
+            .append(indent).append("        final int blockLength = this.blockLength;\n")
+            .append(indent).append("        offset = entriesOffset + (index * blockLength);\n")
+            .append(indent).append("        parentMessage.limit(entriesOffset + (count * blockLength));\n")
+            .append(indent).append("        this.index = index + 1;\n\n")
+            .append(indent).append("        return this;\n")
+            .append(indent).append("    }\n\n")
+            .append(indent).append("    public boolean hasPrevious()\n")
+            .append(indent).append("    {\n")
+            .append(indent).append("        return index > 1;\n")
+            .append(indent).append("    }\n\n")
+            .append(indent).append("    public ").append(groupName).append(" previous()\n")
+            .append(indent).append("    {\n")
+            .append(indent).append("        if (index <= 1)\n")
+            .append(indent).append("        {\n")
+            .append(indent).append("            throw new java.util.NoSuchElementException();\n")
+            .append(indent).append("        }\n\n")
+            .append(indent).append("        return at(index - 2);\n")
+            .append(indent).append("    }\n");
+    }
 
-        final PrimitiveType numInGroupTypeCast = PrimitiveType.UINT32 == numInGroupType ?
-            PrimitiveType.INT32 : numInGroupType;
-        final String numInGroupOffset = "limit + " + numInGroupToken.offset();
+    private void generateGroupScans(final StringBuilder sb, final List<Token> fields, final String indent)
+    {
+        for (int i = 0, size = fields.size(); i < size;)
+        {
+            final Token fieldToken = fields.get(i);
+            if (fieldToken.signal() == Signal.BEGIN_FIELD && 0 == fieldToken.version())
+            {
+                final Token typeToken = fields.get(i + 1);
+                final String propertyName = formatPropertyName(fieldToken.name());
+
+                if (typeToken.signal() == Signal.ENCODING)
+                {
+                    generateGroupScan(sb, propertyName, typeToken, typeToken.offset(), indent);
+                }
+                else if (typeToken.signal() == Signal.BEGIN_COMPOSITE)
+                {
+                    for (int j = i + 2, end = i + 1 + typeToken.componentTokenCount() - 1; j < end;)
+                    {
+                        final Token memberToken = fields.get(j);
+                        if (memberToken.signal() == Signal.ENCODING)
+                        {
+                            generateGroupScan(
+                                sb,
+                                propertyName + Generators.toUpperFirstChar(memberToken.name()),
+                                memberToken,
+                                typeToken.offset() + memberToken.offset(),
+                                indent);
+                        }
+
+                        j += memberToken.componentTokenCount();
+                    }
+                }
+            }
+
+            i += fieldToken.componentTokenCount();
+        }
+    }
+
+    private void generateGroupScan(
+        final StringBuilder sb,
+        final String scanName,
+        final Token typeToken,
+        final int offset,
+        final String indent)
+    {
+        final Encoding encoding = typeToken.encoding();
+        final PrimitiveType primitiveType = encoding.primitiveType();
+        if (typeToken.isConstantEncoding() || typeToken.arrayLength() != 1 || PrimitiveType.CHAR == primitiveType)
+        {
+            return;
+        }
+
+        final String javaTypeName = javaTypeName(primitiveType);
+        final String get = generateGet(primitiveType, "pos", byteOrderString(encoding));
+        final String nullValue = generateLiteral(primitiveType, encoding.applicableNullValue().toString());
+        final boolean isFloatingPoint = PrimitiveType.FLOAT == primitiveType || PrimitiveType.DOUBLE == primitiveType;
+        String isNull = null;
+        String isNotNull = null;
+        if (typeToken.isOptionalEncoding())
+        {
+            if (isFloatingPoint)
+            {
+                isNull = (PrimitiveType.FLOAT == primitiveType ? "Float" : "Double") + ".isNaN(%s)";
+                isNotNull = "!" + isNull;
+            }
+            else
+            {
+                isNull = nullValue + " == %s";
+                isNotNull = nullValue + " != %s";
+            }
+        }
+
+        final String loopHeader =
+            indent + "        final int blockLength = this.blockLength;\n" +
+            indent + "        int pos = entriesOffset + " + offset + ";\n" +
+            indent + "        for (int i = 0; i < count; i++, pos += blockLength)\n" +
+            indent + "        {\n";
+
+        final String minCondition = scanExtremumCondition("<", primitiveType, isNull, isNotNull);
+        final String maxCondition = scanExtremumCondition(">", primitiveType, isNull, isNotNull);
+        generateGroupScanExtremum(sb, scanName, "Min", javaTypeName, get, nullValue, minCondition, loopHeader, indent);
+        generateGroupScanExtremum(sb, scanName, "Max", javaTypeName, get, nullValue, maxCondition, loopHeader, indent);
+
+        if (PrimitiveType.UINT64 != primitiveType)
+        {
+            final String sumValue = null == isNotNull ?
+                "value" : "(" + String.format(isNotNull, "value") + " ? value : 0)";
+            new Formatter(sb).format("\n" +
+                indent + "    public %1$s %2$sSum()\n" +
+                indent + "    {\n" +
+                indent + "        %1$s sum = 0;\n" +
+                "%4$s" +
+                indent + "            final %5$s value = %3$s;\n" +
+                indent + "            sum += %6$s;\n" +
+                indent + "        }\n\n" +
+                indent + "        return sum;\n" +
+                indent + "    }\n",
+                isFloatingPoint ? "double" : "long",
+                scanName,
+                get,
+                loopHeader,
+                javaTypeName,
+                sumValue);
+        }
+
+        new Formatter(sb).format("\n" +
+            indent + "    public int %1$sCount(final %2$s value)\n" +
+            indent + "    {\n" +
+            indent + "        int matches = 0;\n" +
+            "%4$s" +
+            indent + "            if (%3$s == value)\n" +
+            indent + "            {\n" +
+            indent + "                ++matches;\n" +
+            indent + "            }\n" +
+            indent + "        }\n\n" +
+            indent + "        return matches;\n" +
+            indent + "    }\n",
+            scanName,
+            javaTypeName,
+            get,
+            loopHeader);
+
+        new Formatter(sb).format("\n" +
+            indent + "    public int %1$sFilter(final %2$s predicate, final int[] indices)\n" +
+            indent + "    {\n" +
+            indent + "        int matches = 0;\n" +
+            "%4$s" +
+            indent + "            if (predicate.test(%3$s))\n" +
+            indent + "            {\n" +
+            indent + "                if (matches < indices.length)\n" +
+            indent + "                {\n" +
+            indent + "                    indices[matches] = i;\n" +
+            indent + "                }\n" +
+            indent + "                ++matches;\n" +
+            indent + "            }\n" +
+            indent + "        }\n\n" +
+            indent + "        return matches;\n" +
+            indent + "    }\n",
+            scanName,
+            scanPredicateTypeName(primitiveType),
+            get,
+            loopHeader);
+
+        new Formatter(sb).format("\n" +
+            indent + "    public int %1$sBinarySearch(final %2$s key)\n" +
+            indent + "    {\n" +
+            indent + "        final int blockLength = this.blockLength;\n" +
+            indent + "        final int start = entriesOffset + %3$d;\n" +
+            indent + "        int low = 0;\n" +
+            indent + "        int high = count - 1;\n\n" +
+            indent + "        while (low <= high)\n" +
+            indent + "        {\n" +
+            indent + "            final int mid = (low + high) >>> 1;\n" +
+            indent + "            final int pos = start + (mid * blockLength);\n" +
+            indent + "            final int result = %4$s;\n" +
+            indent + "            if (result < 0)\n" +
+            indent + "            {\n" +
+            indent + "                low = mid + 1;\n" +
+            indent + "            }\n" +
+            indent + "            else if (result > 0)\n" +
+            indent + "            {\n" +
+            indent + "                high = mid - 1;\n" +
+            indent + "            }\n" +
+            indent + "            else\n" +
+            indent + "            {\n" +
+            indent + "                return mid;\n" +
+            indent + "            }\n" +
+            indent + "        }\n\n" +
+            indent + "        return -(low + 1);\n" +
+            indent + "    }\n",
+            scanName,
+            javaTypeName,
+            offset,
+            scanCompareMethod(primitiveType) + "(" + get + ", key)");
+    }
+
+    private static String scanCompareMethod(final PrimitiveType primitiveType)
+    {
+        switch (primitiveType)
+        {
+            case UINT32:
+            case INT64:
+                return "Long.compare";
+
+            case UINT64:
+                return "Long.compareUnsigned";
+
+            case FLOAT:
+                return "Float.compare";
+
+            case DOUBLE:
+                return "Double.compare";
+
+            default:
+                return "Integer.compare";
+        }
+    }
+
+    private static String scanPredicateTypeName(final PrimitiveType primitiveType)
+    {
+        switch (primitiveType)
+        {
+            case UINT32:
+            case INT64:
+            case UINT64:
+                return "java.util.function.LongPredicate";
+
+            case FLOAT:
+            case DOUBLE:
+                return "java.util.function.DoublePredicate";
+
+            default:
+                return "java.util.function.IntPredicate";
+        }
+    }
+
+    private static String scanExtremumCondition(
+        final String operator, final PrimitiveType primitiveType, final String isNull, final String isNotNull)
+    {
+        final String comparison = PrimitiveType.UINT64 == primitiveType ?
+            "Long.compareUnsigned(value, result) " + operator + " 0" : "value " + operator + " result";
+        if (null == isNull)
+        {
+            return "0 == i || " + comparison;
+        }
+
+        return String.format(isNotNull, "value") +
+            " && (" + String.format(isNull, "result") + " || " + comparison + ")";
+    }
+
+    private static void generateGroupScanExtremum(
+        final StringBuilder sb,
+        final String scanName,
+        final String suffix,
+        final String javaTypeName,
+        final String get,
+        final String nullValue,
+        final String condition,
+        final String loopHeader,
+        final String indent)
+    {
+
+        new Formatter(sb).format("\n" +
+            indent + "    public %1$s %2$s%3$s()\n" +
+            indent + "    {\n" +
+            indent + "        %1$s result = %4$s;\n" +
+            "%7$s" +
+            indent + "            final %1$s value = %5$s;\n" +
+            indent + "            if (%6$s)\n" +
+            indent + "            {\n" +
+            indent + "                result = value;\n" +
+            indent + "            }\n" +
+            indent + "        }\n\n" +
+            indent + "        return result;\n" +
+            indent + "    }\n",
+            javaTypeName,
+            scanName,
+            suffix,
+            nullValue,
+            get,
+            condition,
+            loopHeader);
+    }
+
+    private static void generateComputeLength(
+        final StringBuilder sb,
+        final int blockLength,
+        final List<Token> groups,
+        final List<Token> varData,
+        final String indent)
+    {
+        final List<String> params = new ArrayList<>();
+        final StringBuilder body = new StringBuilder();
+
+        for (int i = 0, size = groups.size(); i < size; i++)
+        {
+            final Token groupToken = groups.get(i);
+            if (groupToken.signal() != Signal.BEGIN_GROUP)
+            {
+                throw new IllegalStateException("tokens must begin with BEGIN_GROUP: token=" + groupToken);
+            }
+
+            final int endSignal = findEndSignal(groups, i, Signal.END_GROUP, groupToken.name());
+            final List<Token> groupTokens = groups.subList(i, endSignal + 1);
+            final List<Token> groupBody = groupTokens.subList(1, groupTokens.size());
+            final boolean isConstLength = -1 == findSignal(groupBody, Signal.BEGIN_GROUP) &&
+                -1 == findSignal(groupBody, Signal.BEGIN_VAR_DATA);
+
+            final Token numInGroupToken = Generators.findFirst("numInGroup", groups, i);
+            final Encoding numInGroupEncoding = numInGroupToken.encoding();
+            final String countName = formatPropertyName(groupToken.name()) + "Count";
+            final String entriesLengthName = formatPropertyName(groupToken.name()) + "EntriesLength";
+
+            params.add("final int " + countName);
+            if (!isConstLength)
+            {
+                params.add("final int " + entriesLengthName);
+                new Formatter(body).format("\n" +
+                    indent + "        if (%1$s < 0)\n" +
+                    indent + "        {\n" +
+                    indent + "            throw new IllegalArgumentException(" +
+                    "\"entries length outside allowed range: entriesLength=\" + %1$s);\n" +
+                    indent + "        }\n",
+                    entriesLengthName);
+            }
+
+            new Formatter(body).format("\n" +
+                indent + "        if (%1$s < %2$d || %1$s > %3$d)\n" +
+                indent + "        {\n" +
+                indent + "            throw new IllegalArgumentException(" +
+                "\"count outside allowed range: count=\" + %1$s);\n" +
+                indent + "        }\n" +
+                indent + "        length += %4$d + %5$s;\n",
+                countName,
+                Math.max(0, numInGroupEncoding.applicableMinValue().longValue()),
+                numInGroupEncoding.applicableMaxValue().longValue(),
+                groups.get(i + 1).encodedLength(),
+                isConstLength ? "(" + countName + " * " + groupToken.encodedLength() + ")" : entriesLengthName);
+
+            i = endSignal;
+        }
+
+        for (int i = 0, size = varData.size(); i < size;)
+        {
+            final Token varDataToken = varData.get(i);
+            if (varDataToken.signal() != Signal.BEGIN_VAR_DATA)
+            {
+                throw new IllegalStateException("tokens must begin with BEGIN_VAR_DATA: token=" + varDataToken);
+            }
+
+            final Token lengthToken = Generators.findFirst("length", varData, i);
+            final String lengthName = formatPropertyName(varDataToken.name()) + "Length";
+
+            params.add("final int " + lengthName);
+
+            new Formatter(body).format("\n" +
+                indent + "        if (%1$s < 0 || %1$s > %2$d)\n" +
+                indent + "        {\n" +
+                indent + "            throw new IllegalArgumentException(" +
+                "\"length outside allowed range: length=\" + %1$s);\n" +
+                indent + "        }\n" +
+                indent + "        length += %3$d + %1$s;\n",
+                lengthName,
+                (int)lengthToken.encoding().applicableMaxValue().longValue(),
+                lengthToken.encodedLength());
+
+            i += varDataToken.componentTokenCount();
+        }
+
+        sb.append("\n").append(indent).append("    public static int computeLength(");
+        if (params.size() > 1)
+        {
+            for (int i = 0, size = params.size(); i < size; i++)
+            {
+                sb.append("\n").append(indent).append("        ").append(params.get(i)).append(i < size - 1 ? "," : "");
+            }
+        }
+        else if (params.size() == 1)
+        {
+            sb.append(params.get(0));
+        }
+        sb.append(")\n").append(indent).append("    {\n");
+
+        if (body.length() == 0)
+        {
+            sb.append(indent).append("        return ").append(blockLength).append(";\n");
+        }
+        else
+        {
+            sb.append(indent).append("        int length = ").append(blockLength).append(";\n")
+                .append(body).append("\n")
+                .append(indent).append("        return length;\n");
+        }
+
+        sb.append(indent).append("    }\n");
+    }
+
+    private static void generateMaxEncodedLength(
+        final StringBuilder sb,
+        final int blockLength,
+        final List<Token> groups,
+        final List<Token> varData,
+        final String indent)
+    {
+        final long maxEncodedLength = maxEncodedLength(blockLength, groups, varData);
+        if (maxEncodedLength < 0 || maxEncodedLength > Integer.MAX_VALUE)
+        {
+            return;
+        }
+
+        sb.append("\n")
+            .append(indent).append("    public static int sbeMaxEncodedLength()\n")
+            .append(indent).append("    {\n")
+            .append(indent).append("        return ").append(maxEncodedLength).append(";\n")
+            .append(indent).append("    }\n");
+    }
+
+    private static long maxEncodedLength(final int blockLength, final List<Token> groups, final List<Token> varData)
+    {
+        long length = blockLength;
+
+        for (int i = 0, size = groups.size(); i < size; i++)
+        {
+            final Token groupToken = groups.get(i);
+            final int endSignal = findEndSignal(groups, i, Signal.END_GROUP, groupToken.name());
+            final Encoding numInGroupEncoding = Generators.findFirst("numInGroup", groups, i).encoding();
+            if (null == numInGroupEncoding.maxValue())
+            {
+                return -1;
+            }
+
+            int j = i + 1;
+            final int headerLength = groups.get(j).encodedLength();
+            j += groups.get(j).componentTokenCount();
+
+            final List<Token> fields = new ArrayList<>();
+            j = collectFields(groups, j, fields);
+            final List<Token> subGroups = new ArrayList<>();
+            j = collectGroups(groups, j, subGroups);
+            final List<Token> subVarData = new ArrayList<>();
+            collectVarData(groups, j, subVarData);
+
+            final long entryLength = maxEncodedLength(groupToken.encodedLength(), subGroups, subVarData);
+            if (entryLength < 0 || entryLength > Integer.MAX_VALUE)
+            {
+                return -1;
+            }
+
+            length += headerLength + (numInGroupEncoding.maxValue().longValue() * entryLength);
+            if (length > Integer.MAX_VALUE)
+            {
+                return -1;
+            }
+
+            i = endSignal;
+        }
+
+        for (int i = 0, size = varData.size(); i < size;)
+        {
+            final Token varDataToken = varData.get(i);
+            final Token lengthToken = Generators.findFirst("length", varData, i);
+            if (null == lengthToken.encoding().maxValue())
+            {
+                return -1;
+            }
+
+            length += lengthToken.encodedLength() + lengthToken.encoding().maxValue().longValue();
+            i += varDataToken.componentTokenCount();
+        }
+
+        return length;
+    }
+
+    private void generateGroupEncoderClassHeader(
+        final StringBuilder sb,
+        final String groupName,
+        final String parentMessageClassName,
+        final FieldPrecedenceModel fieldPrecedenceModel,
+        final Token groupToken,
+        final List<Token> tokens,
+        final List<Token> subGroupTokens,
+        final int index,
+        final String ind)
+    {
+        final int dimensionHeaderSize = tokens.get(index + 1).encodedLength();
+
+        generateGroupEncoderClassDeclaration(
+            sb,
+            groupName,
+            parentMessageClassName,
+            findSubGroupNames(subGroupTokens),
+            ind,
+            dimensionHeaderSize);
+
+        final int blockLength = tokens.get(index).encodedLength();
+        final Token blockLengthToken = Generators.findFirst("blockLength", tokens, index);
+        final Token numInGroupToken = Generators.findFirst("numInGroup", tokens, index);
+
+        final PrimitiveType blockLengthType = blockLengthToken.encoding().primitiveType();
+        final String blockLengthOffset = "limit + " + blockLengthToken.offset();
+        final String blockLengthValue = Integer.toString(blockLength);
+        final String blockLengthPut = generatePut(
+            blockLengthType, blockLengthOffset, blockLengthValue, byteOrderString(blockLengthToken.encoding()));
+
+        final PrimitiveType numInGroupType = numInGroupToken.encoding().primitiveType();
+
+        final PrimitiveType numInGroupTypeCast = PrimitiveType.UINT32 == numInGroupType ?
+            PrimitiveType.INT32 : numInGroupType;
+        final String numInGroupOffset = "limit + " + numInGroupToken.offset();
         final String numInGroupValue = "count";
         final String numInGroupPut = generatePut(
             numInGroupTypeCast, numInGroupOffset, numInGroupValue, byteOrderString(numInGroupToken.encoding()));
@@ -1165,6 +2157,11 @@ public class JavaGenerator implements CodeGenerator
             .append(ind).append("        return count;\n")
             .append(ind).append("    }\n");
 
+        if (shouldGenerateOpenGroups)
+        {
+            generateGroupEncoderClose(sb, numInGroupToken, ind);
+        }
+
         final String numInGroupJavaTypeName = javaTypeName(numInGroupType);
         final String numInGroupMinValue = generateLiteral(
             numInGroupType, numInGroupToken.encoding().applicableMinValue().toString());
@@ -1198,7 +2195,13 @@ public class JavaGenerator implements CodeGenerator
                 .append(ind).append("    {\n")
                 .append(ind).append("        parentMessage.codecState(newState);\n")
                 .append(ind).append("    }\n");
-        }
+
+            sb.append("\n")
+                .append(ind).append("    private boolean isPrecedenceChecked()\n")
+                .append(ind).append("    {\n")
+                .append(ind).append("        return parentMessage.isPrecedenceChecked();\n")
+                .append(ind).append("    }\n");
+        }
     }
 
     private static String primitiveTypeName(final Token token)
@@ -1211,6 +2214,7 @@ public class JavaGenerator implements CodeGenerator
         final String groupName,
         final String parentMessageClassName,
         final List<String> subGroupNames,
+        final boolean isFlat,
         final String indent,
         final int dimensionHeaderSize)
     {
@@ -1232,6 +2236,11 @@ public class JavaGenerator implements CodeGenerator
             parentMessageClassName,
             readOnlyBuffer);
 
+        if (isFlat)
+        {
+            sb.append(indent).append("    private int entriesOffset;\n");
+        }
+
         for (final String subGroupName : subGroupNames)
         {
             final String type = formatClassName(decoderName(subGroupName));
@@ -1345,7 +2354,7 @@ public class JavaGenerator implements CodeGenerator
             formatPropertyName(groupName),
             token.version());
 
-        final String actingVersionGuard = token.version() == 0 ?
+        final String actingVersionGuard = token.version() == 0 || isGeneratingVersionSpecialisedDecoder ?
             "" :
             indent + "        if (parentMessage.actingVersion < " + token.version() + ")\n" +
             indent + "        {\n" +
@@ -1371,11 +2380,34 @@ public class JavaGenerator implements CodeGenerator
             generateAccessOrderListenerCall(fieldPrecedenceModel, indent + "        ", token, propertyName + ".count"));
     }
 
+    private static void generateGroupEncoderClose(
+        final StringBuilder sb, final Token numInGroupToken, final String ind)
+    {
+        final long countMin = numInGroupToken.encoding().applicableMinValue().longValue();
+
+        sb.append("\n")
+            .append(ind).append("    public int close()\n")
+            .append(ind).append("    {\n");
+
+        if (countMin > 0)
+        {
+            sb.append(ind).append("        if (index < ").append(countMin).append(")\n")
+                .append(ind).append("        {\n")
+                .append(ind).append("            throw new IllegalStateException(")
+                .append("\"count outside allowed range: count=\" + index);\n")
+                .append(ind).append("        }\n\n");
+        }
+
+        sb.append(ind).append("        return resetCountToIndex();\n")
+            .append(ind).append("    }\n");
+    }
+
     private void generateGroupEncoderProperty(
         final StringBuilder sb,
         final String groupName,
         final FieldPrecedenceModel fieldPrecedenceModel,
         final Token token,
+        final Token numInGroupToken,
         final String indent,
         final boolean isSubGroup)
     {
@@ -1412,6 +2444,21 @@ public class JavaGenerator implements CodeGenerator
             className,
             propertyName,
             generateAccessOrderListenerCall(fieldPrecedenceModel, indent + "        ", token, "count"));
+
+        if (shouldGenerateOpenGroups)
+        {
+            final long openCount = Math.min(
+                Integer.MAX_VALUE, numInGroupToken.encoding().applicableMaxValue().longValue());
+
+            new Formatter(sb).format("\n" +
+                indent + "    public %1$s %2$sOpen()\n" +
+                indent + "    {\n" +
+                indent + "        return %2$sCount(%3$d);\n" +
+                indent + "    }\n",
+                className,
+                propertyName,
+                openCount);
+        }
     }
 
     private void generateDecoderVarData(
@@ -1594,7 +2641,31 @@ public class JavaGenerator implements CodeGenerator
             accessOrderListenerCall,
             indent);
 
-        if (null != characterEncoding)
+        if (null != characterEncoding && stringCacheCapacity > 0)
+        {
+            generateStringCacheField(sb, propertyName, indent);
+
+            new Formatter(sb).format("\n" +
+                indent + "    public String %1$s()\n" +
+                indent + "    {\n" +
+                "%2$s" +
+                "%7$s" +
+                indent + "        final int headerLength = %3$d;\n" +
+                indent + "        final int limit = parentMessage.limit();\n" +
+                indent + "        final int dataLength = %4$s%5$s;\n" +
+                indent + "        parentMessage.limit(limit + headerLength + dataLength);\n\n" +
+                indent + "        return %8$s.get(buffer, limit + headerLength, dataLength, %6$s);\n" +
+                indent + "    }\n",
+                formatPropertyName(propertyName),
+                generateStringNotPresentCondition(false, token.version(), indent),
+                sizeOfLengthField,
+                PrimitiveType.UINT32 == lengthType ? "(int)" : "",
+                generateGet(lengthType, "limit", byteOrderStr),
+                charset(characterEncoding),
+                accessOrderListenerCall,
+                stringCacheFieldName(propertyName));
+        }
+        else if (null != characterEncoding)
         {
             new Formatter(sb).format("\n" +
                 indent + "    public String %1$s()\n" +
@@ -1620,6 +2691,10 @@ public class JavaGenerator implements CodeGenerator
                 generateGet(lengthType, "limit", byteOrderStr),
                 charset(characterEncoding),
                 accessOrderListenerCall);
+        }
+
+        if (null != characterEncoding)
+        {
 
             if (isAsciiEncoding(characterEncoding))
             {
@@ -1642,10 +2717,54 @@ public class JavaGenerator implements CodeGenerator
                     PrimitiveType.UINT32 == lengthType ? "(int)" : "",
                     generateGet(lengthType, "limit", byteOrderStr),
                     accessOrderListenerCall);
+
+                new Formatter(sb).format("\n" +
+                    indent + "    public %1$s %2$s(final %1$s view)\n" +
+                    indent + "    {\n" +
+                    "%3$s" +
+                    "%7$s" +
+                    indent + "        final int headerLength = %4$d;\n" +
+                    indent + "        final int limit = parentMessage.limit();\n" +
+                    indent + "        final int dataLength = %5$s%6$s;\n" +
+                    indent + "        final int dataOffset = limit + headerLength;\n\n" +
+                    indent + "        parentMessage.limit(dataOffset + dataLength);\n\n" +
+                    indent + "        return view.wrap(buffer, dataOffset, dataLength);\n" +
+                    indent + "    }\n",
+                    ASCII_SEQUENCE_VIEW_CLASS,
+                    formatPropertyName(propertyName),
+                    generateAsciiSequenceViewNotPresentCondition(false, token.version(), indent),
+                    sizeOfLengthField,
+                    PrimitiveType.UINT32 == lengthType ? "(int)" : "",
+                    generateGet(lengthType, "limit", byteOrderStr),
+                    accessOrderListenerCall);
             }
         }
     }
 
+    private void generateStringCacheField(final StringBuilder sb, final String propertyName, final String indent)
+    {
+        final String fieldName = stringCacheFieldName(propertyName);
+
+        new Formatter(sb).format("\n" +
+            indent + "    private %1$s %2$s = new %1$s(%3$d);\n\n" +
+            indent + "    public %1$s %2$s()\n" +
+            indent + "    {\n" +
+            indent + "        return %2$s;\n" +
+            indent + "    }\n\n" +
+            indent + "    public void %2$s(final %1$s stringCache)\n" +
+            indent + "    {\n" +
+            indent + "        this.%2$s = stringCache;\n" +
+            indent + "    }\n",
+            STRING_CACHE_CLASS,
+            fieldName,
+            stringCacheCapacity);
+    }
+
+    private static String stringCacheFieldName(final String propertyName)
+    {
+        return formatPropertyName(propertyName) + "StringCache";
+    }
+
     private void generateVarDataWrapDecoder(
         final StringBuilder sb,
         final Token token,
@@ -1996,7 +3115,8 @@ public class JavaGenerator implements CodeGenerator
 
         try (Writer out = outputManager.createOutput(decoderName))
         {
-            final String implementsString = implementsInterface(CompositeDecoderFlyweight.class.getSimpleName());
+            final String implementsString = implementsComparable(
+                implementsInterface(CompositeDecoderFlyweight.class.getSimpleName()), decoderName);
             generateCompositeFlyweightHeader(
                 token, decoderName, out, readOnlyBuffer, fqReadOnlyBuffer, implementsString, importedTypesPackages);
 
@@ -2043,6 +3163,15 @@ public class JavaGenerator implements CodeGenerator
                 i += encodingToken.componentTokenCount();
             }
 
+            if (isDecimalComposite(tokens, 0, tokens.size() - 1))
+            {
+                out.append(generateDecimalCompositeDecoderMethods(tokens));
+            }
+
+            if (shouldGenerateComparisons)
+            {
+                out.append(generateCompositeDecoderComparison(decoderName, tokens));
+            }
             out.append(generateCompositeDecoderDisplay(tokens));
 
             out.append("}\n");
@@ -2680,7 +3809,7 @@ public class JavaGenerator implements CodeGenerator
         final int sinceVersion,
         final String indent)
     {
-        if (inComposite || 0 == sinceVersion)
+        if (inComposite || 0 == sinceVersion || isGeneratingVersionSpecialisedDecoder)
         {
             return "";
         }
@@ -2696,7 +3825,7 @@ public class JavaGenerator implements CodeGenerator
     private CharSequence generateFieldNotPresentCondition(
         final boolean inComposite, final int sinceVersion, final Encoding encoding, final String indent)
     {
-        if (inComposite || 0 == sinceVersion)
+        if (inComposite || 0 == sinceVersion || isGeneratingVersionSpecialisedDecoder)
         {
             return "";
         }
@@ -2709,10 +3838,10 @@ public class JavaGenerator implements CodeGenerator
             indent + "        }\n\n";
     }
 
-    private static CharSequence generateArrayFieldNotPresentCondition(
+    private CharSequence generateArrayFieldNotPresentCondition(
         final boolean inComposite, final int sinceVersion, final String indent)
     {
-        if (inComposite || 0 == sinceVersion)
+        if (inComposite || 0 == sinceVersion || isGeneratingVersionSpecialisedDecoder)
         {
             return "";
         }
@@ -2724,10 +3853,10 @@ public class JavaGenerator implements CodeGenerator
             indent + "        }\n\n";
     }
 
-    private static CharSequence generateStringNotPresentConditionForAppendable(
+    private CharSequence generateStringNotPresentConditionForAppendable(
         final boolean inComposite, final int sinceVersion, final String indent)
     {
-        if (inComposite || 0 == sinceVersion)
+        if (inComposite || 0 == sinceVersion || isGeneratingVersionSpecialisedDecoder)
         {
             return "";
         }
@@ -2739,10 +3868,10 @@ public class JavaGenerator implements CodeGenerator
             indent + "        }\n\n";
     }
 
-    private static CharSequence generateStringNotPresentCondition(
+    private CharSequence generateStringNotPresentCondition(
         final boolean inComposite, final int sinceVersion, final String indent)
     {
-        if (inComposite || 0 == sinceVersion)
+        if (inComposite || 0 == sinceVersion || isGeneratingVersionSpecialisedDecoder)
         {
             return "";
         }
@@ -2754,14 +3883,30 @@ public class JavaGenerator implements CodeGenerator
             indent + "        }\n\n";
     }
 
-    private static CharSequence generatePropertyNotPresentCondition(
+    private CharSequence generateAsciiSequenceViewNotPresentCondition(
+        final boolean inComposite, final int sinceVersion, final String indent)
+    {
+        if (inComposite || 0 == sinceVersion || isGeneratingVersionSpecialisedDecoder)
+        {
+            return "";
+        }
+
+        return
+            indent + "        if (parentMessage.actingVersion < " + sinceVersion + ")\n" +
+            indent + "        {\n" +
+            indent + "            return view.wrap(buffer, 0, 0);\n" +
+            indent + "        }\n\n";
+    }
+
+    private CharSequence generatePropertyNotPresentCondition(
         final boolean inComposite,
         final CodecType codecType,
         final Token propertyToken,
         final String enumName,
         final String indent)
     {
-        if (inComposite || codecType == ENCODER || 0 == propertyToken.version())
+        if (inComposite || codecType == ENCODER || 0 == propertyToken.version() ||
+            isGeneratingVersionSpecialisedDecoder)
         {
             return "";
         }
@@ -2838,25 +3983,49 @@ public class JavaGenerator implements CodeGenerator
                 accessOrderListenerCall,
                 offset);
 
-            new Formatter(sb).format("\n" +
-                indent + "    public String %s()\n" +
-                indent + "    {\n" +
-                "%s" +
-                "%s" +
-                indent + "        final byte[] dst = new byte[%d];\n" +
-                indent + "        buffer.getBytes(offset + %d, dst, 0, %d);\n\n" +
-                indent + "        int end = 0;\n" +
-                indent + "        for (; end < %d && dst[end] != 0; ++end);\n\n" +
-                indent + "        return new String(dst, 0, end, %s);\n" +
-                indent + "    }\n\n",
-                propertyName,
-                generateStringNotPresentCondition(inComposite, propertyToken.version(), indent),
-                accessOrderListenerCall,
-                fieldLength,
-                offset,
-                fieldLength,
-                fieldLength,
-                charset(encoding.characterEncoding()));
+            if (stringCacheCapacity > 0)
+            {
+                generateStringCacheField(sb, propertyName, indent);
+
+                new Formatter(sb).format("\n" +
+                    indent + "    public String %1$s()\n" +
+                    indent + "    {\n" +
+                    "%2$s" +
+                    "%3$s" +
+                    indent + "        int end = 0;\n" +
+                    indent + "        for (; end < %4$d && buffer.getByte(offset + %5$d + end) != 0; ++end);\n\n" +
+                    indent + "        return %7$s.get(buffer, offset + %5$d, end, %6$s);\n" +
+                    indent + "    }\n\n",
+                    propertyName,
+                    generateStringNotPresentCondition(inComposite, propertyToken.version(), indent),
+                    accessOrderListenerCall,
+                    fieldLength,
+                    offset,
+                    charset(encoding.characterEncoding()),
+                    stringCacheFieldName(propertyName));
+            }
+            else
+            {
+                new Formatter(sb).format("\n" +
+                    indent + "    public String %s()\n" +
+                    indent + "    {\n" +
+                    "%s" +
+                    "%s" +
+                    indent + "        final byte[] dst = new byte[%d];\n" +
+                    indent + "        buffer.getBytes(offset + %d, dst, 0, %d);\n\n" +
+                    indent + "        int end = 0;\n" +
+                    indent + "        for (; end < %d && dst[end] != 0; ++end);\n\n" +
+                    indent + "        return new String(dst, 0, end, %s);\n" +
+                    indent + "    }\n\n",
+                    propertyName,
+                    generateStringNotPresentCondition(inComposite, propertyToken.version(), indent),
+                    accessOrderListenerCall,
+                    fieldLength,
+                    offset,
+                    fieldLength,
+                    fieldLength,
+                    charset(encoding.characterEncoding()));
+            }
 
             if (isAsciiEncoding(encoding.characterEncoding()))
             {
@@ -2888,6 +4057,22 @@ public class JavaGenerator implements CodeGenerator
                     fieldLength,
                     offset,
                     accessOrderListenerCall);
+
+                new Formatter(sb).format("\n" +
+                    indent + "    public %1$s %2$s(final %1$s view)\n" +
+                    indent + "    {\n" +
+                    "%3$s" +
+                    "%6$s" +
+                    indent + "        int end = 0;\n" +
+                    indent + "        for (; end < %4$d && buffer.getByte(offset + %5$d + end) != 0; ++end);\n\n" +
+                    indent + "        return view.wrap(buffer, offset + %5$d, end);\n" +
+                    indent + "    }\n\n",
+                    ASCII_SEQUENCE_VIEW_CLASS,
+                    propertyName,
+                    generateAsciiSequenceViewNotPresentCondition(inComposite, propertyToken.version(), indent),
+                    fieldLength,
+                    offset,
+                    accessOrderListenerCall);
             }
         }
         else if (encoding.primitiveType() == PrimitiveType.UINT8)
@@ -2938,9 +4123,83 @@ public class JavaGenerator implements CodeGenerator
                 fieldLength);
         }
 
+        if (encoding.primitiveType() != PrimitiveType.CHAR)
+        {
+            generatePrimitiveArrayBulkDecodeMethods(
+                sb,
+                propertyName,
+                generateArrayFieldNotPresentCondition(inComposite, propertyToken.version(), indent),
+                accessOrderListenerCall,
+                encoding,
+                offset,
+                fieldLength,
+                indent);
+        }
+
         return sb;
     }
 
+    private void generatePrimitiveArrayBulkDecodeMethods(
+        final StringBuilder sb,
+        final String propertyName,
+        final CharSequence notPresentCondition,
+        final CharSequence accessOrderListenerCall,
+        final Encoding encoding,
+        final int offset,
+        final int fieldLength,
+        final String indent)
+    {
+        final PrimitiveType primitiveType = encoding.primitiveType();
+        final int typeSize = sizeOfPrimitive(encoding);
+        final String methodName = "get" + Generators.toUpperFirstChar(propertyName);
+
+        new Formatter(sb).format("\n" +
+            indent + "    public int %s(final %s[] dst, final int dstOffset, final int length)\n" +
+            indent + "    {\n" +
+            "%s" +
+            "%s" +
+            indent + "        final int count = Math.min(length, %d);\n" +
+            indent + "        if (dstOffset < 0 || count < 0 || dstOffset > (dst.length - count))\n" +
+            indent + "        {\n" +
+            indent + "            throw new IndexOutOfBoundsException(" +
+            "\"Copy will go out of range: offset=\" + dstOffset + \" length=\" + length);\n" +
+            indent + "        }\n\n" +
+            indent + "        final int pos = offset + %d;\n" +
+            indent + "        for (int i = 0; i < count; i++)\n" +
+            indent + "        {\n" +
+            indent + "            dst[dstOffset + i] = %s;\n" +
+            indent + "        }\n\n" +
+            indent + "        return count;\n" +
+            indent + "    }\n",
+            methodName,
+            javaTypeName(primitiveType),
+            notPresentCondition,
+            accessOrderListenerCall,
+            fieldLength,
+            offset,
+            generateGet(primitiveType, "pos + (i * " + typeSize + ")", byteOrderString(encoding)));
+
+        if (primitiveType != PrimitiveType.UINT8)
+        {
+            new Formatter(sb).format("\n" +
+                indent + "    public int %s(final %s dst, final int dstOffset, final int length)\n" +
+                indent + "    {\n" +
+                "%s" +
+                "%s" +
+                indent + "        final int count = Math.min(length, %d);\n" +
+                indent + "        buffer.getBytes(offset + %d, dst, dstOffset, count * %d);\n\n" +
+                indent + "        return count;\n" +
+                indent + "    }\n",
+                methodName,
+                fqMutableBuffer,
+                notPresentCondition,
+                accessOrderListenerCall,
+                fieldLength,
+                offset,
+                typeSize);
+        }
+    }
+
     private static void generateArrayLengthMethod(
         final String propertyName, final String indent, final int fieldLength, final StringBuilder sb)
     {
@@ -2952,7 +4211,7 @@ public class JavaGenerator implements CodeGenerator
             .append(indent).append("    }\n\n");
     }
 
-    private String byteOrderString(final Encoding encoding)
+    static String byteOrderString(final Encoding encoding)
     {
         return sizeOfPrimitive(encoding) == 1 ? "" : ", BYTE_ORDER";
     }
@@ -3042,19 +4301,103 @@ public class JavaGenerator implements CodeGenerator
                 arrayLength,
                 sb);
         }
-        else if (primitiveType == PrimitiveType.UINT8)
+        else
         {
-            generateByteArrayEncodeMethods(
-                containingClassName,
-                propertyName,
-                indent,
+            if (primitiveType == PrimitiveType.UINT8)
+            {
+                generateByteArrayEncodeMethods(
+                    containingClassName,
+                    propertyName,
+                    indent,
+                    accessOrderListenerCall,
+                    offset,
+                    arrayLength,
+                    sb);
+            }
+
+            generatePrimitiveArrayBulkEncodeMethods(
+                sb, className, propertyName, accessOrderListenerCall, encoding, offset, arrayLength, indent);
+        }
+
+        return sb;
+    }
+
+    private void generatePrimitiveArrayBulkEncodeMethods(
+        final StringBuilder sb,
+        final String className,
+        final String propertyName,
+        final CharSequence accessOrderListenerCall,
+        final Encoding encoding,
+        final int offset,
+        final int arrayLength,
+        final String indent)
+    {
+        final PrimitiveType primitiveType = encoding.primitiveType();
+        final int typeSize = sizeOfPrimitive(encoding);
+        final String methodName = "put" + Generators.toUpperFirstChar(propertyName);
+        final String put = generatePut(
+            primitiveType, "pos + (i * " + typeSize + ")", "src[srcOffset + i]", byteOrderString(encoding));
+
+        new Formatter(sb).format("\n" +
+            indent + "    public %s %s(final %s[] src, final int srcOffset, final int length)\n" +
+            indent + "    {\n" +
+            indent + "        if (length > %d)\n" +
+            indent + "        {\n" +
+            indent + "            throw new IllegalStateException(" +
+            "\"length > maxValue for type: \" + length);\n" +
+            indent + "        }\n\n" +
+            indent + "        if (srcOffset < 0 || length < 0 || srcOffset > (src.length - length))\n" +
+            indent + "        {\n" +
+            indent + "            throw new IndexOutOfBoundsException(" +
+            "\"Copy will go out of range: offset=\" + srcOffset + \" length=\" + length);\n" +
+            indent + "        }\n\n" +
+            "%s" +
+            indent + "        final int pos = offset + %d;\n" +
+            indent + "        for (int i = 0; i < length; i++)\n" +
+            indent + "        {\n" +
+            indent + "            %s;\n" +
+            indent + "        }\n\n" +
+            indent + "        buffer.setMemory(pos + (length * %d), (%d - length) * %d, (byte)0);\n\n" +
+            indent + "        return this;\n" +
+            indent + "    }\n",
+            className,
+            methodName,
+            javaTypeName(primitiveType),
+            arrayLength,
+            accessOrderListenerCall,
+            offset,
+            put,
+            typeSize,
+            arrayLength,
+            typeSize);
+
+        if (primitiveType != PrimitiveType.UINT8)
+        {
+            new Formatter(sb).format("\n" +
+                indent + "    public %s %s(final %s src, final int srcOffset, final int length)\n" +
+                indent + "    {\n" +
+                indent + "        if (length > %d)\n" +
+                indent + "        {\n" +
+                indent + "            throw new IllegalStateException(" +
+                "\"length > maxValue for type: \" + length);\n" +
+                indent + "        }\n\n" +
+                "%s" +
+                indent + "        final int pos = offset + %d;\n" +
+                indent + "        buffer.putBytes(pos, src, srcOffset, length * %d);\n" +
+                indent + "        buffer.setMemory(pos + (length * %d), (%d - length) * %d, (byte)0);\n\n" +
+                indent + "        return this;\n" +
+                indent + "    }\n",
+                className,
+                methodName,
+                fqReadOnlyBuffer,
+                arrayLength,
                 accessOrderListenerCall,
                 offset,
+                typeSize,
+                typeSize,
                 arrayLength,
-                sb);
+                typeSize);
         }
-
-        return sb;
     }
 
     private void generateCharArrayEncodeMethods(
@@ -3412,8 +4755,18 @@ public class JavaGenerator implements CodeGenerator
             .append("        final int offset,\n")
             .append("        final int actingBlockLength,\n")
             .append("        final int actingVersion)\n")
-            .append("    {\n")
-            .append("        if (buffer != this.buffer)\n")
+            .append("    {\n");
+
+        if (isGeneratingVersionSpecialisedDecoder)
+        {
+            methods.append("        if (actingVersion < SCHEMA_VERSION)\n")
+                .append("        {\n")
+                .append("            throw new IllegalArgumentException(\n")
+                .append("                \"actingVersion below SCHEMA_VERSION: actingVersion=\" + actingVersion);\n")
+                .append("        }\n\n");
+        }
+
+        methods.append("        if (buffer != this.buffer)\n")
             .append("        {\n")
             .append("            this.buffer = buffer;\n")
             .append("        }\n")
@@ -3421,6 +4774,7 @@ public class JavaGenerator implements CodeGenerator
             .append("        this.actingBlockLength = actingBlockLength;\n")
             .append("        this.actingVersion = actingVersion;\n")
             .append("        limit(offset + actingBlockLength);\n\n")
+            .append(generatePrecedenceChecksSample(fieldPrecedenceModel, "        "))
             .append(generateAccessOrderListenerCall(fieldPrecedenceModel, "        ", "onWrap", "actingVersion"))
             .append("        return this;\n")
             .append("    }\n\n");
@@ -3464,7 +4818,7 @@ public class JavaGenerator implements CodeGenerator
 
         if (null != fieldPrecedenceModel)
         {
-            methods.append("        if (").append(precedenceChecksFlagName).append(")\n")
+            methods.append("        if (").append(precedenceChecksGuard()).append(")\n")
                 .append("        {\n")
                 .append("            codecState(currentCodecState);\n")
                 .append("        }\n\n");
@@ -3478,6 +4832,20 @@ public class JavaGenerator implements CodeGenerator
             .append("        return actingVersion;\n")
             .append("    }\n\n");
 
+        if (isGeneratingVersionSpecialisedDecoder)
+        {
+            final String genericClassName = formatClassName(decoderName(token.name()));
+            methods.append("    private ").append(genericClassName).append(" genericDecoder;\n\n")
+                .append("    public ").append(genericClassName).append(" genericDecoder()\n")
+                .append("    {\n")
+                .append("        if (null == genericDecoder)\n")
+                .append("        {\n")
+                .append("            genericDecoder = new ").append(genericClassName).append("();\n")
+                .append("        }\n\n")
+                .append("        return genericDecoder.wrap(buffer, offset, actingBlockLength, actingVersion);\n")
+                .append("    }\n\n");
+        }
+
         return generateFlyweightCode(DECODER, className, token, methods.toString(), readOnlyBuffer);
     }
 
@@ -3637,8 +5005,15 @@ public class JavaGenerator implements CodeGenerator
             mutableBuffer,
             formatClassName(ir.headerStructure().tokens().get(0).applicableTypeName() + "Encoder"));
 
+        String wrapForUpdateMethod = "";
+        if (shouldGenerateWrapForUpdate)
+        {
+            wrapForUpdateMethod = new JavaUpdateGenerator(mutableBuffer, precedenceChecksFlagName)
+                .generateWrapForUpdate(className, null != fieldPrecedenceModel).toString();
+        }
+
         return generateFlyweightCode(
-            CodecType.ENCODER, className, token, wrapMethod + wrapAndApplyMethod, mutableBuffer);
+            CodecType.ENCODER, className, token, wrapMethod + wrapAndApplyMethod + wrapForUpdateMethod, mutableBuffer);
     }
 
     private void generateEncoderFields(
@@ -4011,7 +5386,7 @@ public class JavaGenerator implements CodeGenerator
             propertyName);
     }
 
-    private String generateGet(final PrimitiveType type, final String index, final String byteOrder)
+    static String generateGet(final PrimitiveType type, final String index, final String byteOrder)
     {
         switch (type)
         {
@@ -4147,79 +5522,666 @@ public class JavaGenerator implements CodeGenerator
         throw new IllegalArgumentException("primitive type not supported: " + type);
     }
 
-    private String generateStaticChoiceGet(final PrimitiveType type, final String bitIndex)
+    private String generateStaticChoiceGet(final PrimitiveType type, final String bitIndex)
+    {
+        switch (type)
+        {
+            case UINT8:
+            case UINT16:
+            case UINT32:
+                return "0 != (value & (1 << " + bitIndex + "))";
+
+            case UINT64:
+                return "0 != (value & (1L << " + bitIndex + "))";
+
+            default:
+                break;
+        }
+
+        throw new IllegalArgumentException("primitive type not supported: " + type);
+    }
+
+    private String generateChoicePut(final PrimitiveType type, final String bitIdx, final String byteOrder)
+    {
+        switch (type)
+        {
+            case UINT8:
+                return
+                    "        byte bits = buffer.getByte(offset);\n" +
+                    "        bits = (byte)(value ? bits | (1 << " + bitIdx + ") : bits & ~(1 << " + bitIdx + "));\n" +
+                    "        buffer.putByte(offset, bits);";
+
+            case UINT16:
+                return
+                    "        short bits = buffer.getShort(offset" + byteOrder + ");\n" +
+                    "        bits = (short)(value ? bits | (1 << " + bitIdx + ") : bits & ~(1 << " + bitIdx + "));\n" +
+                    "        buffer.putShort(offset, bits" + byteOrder + ");";
+
+            case UINT32:
+                return
+                    "        int bits = buffer.getInt(offset" + byteOrder + ");\n" +
+                    "        bits = value ? bits | (1 << " + bitIdx + ") : bits & ~(1 << " + bitIdx + ");\n" +
+                    "        buffer.putInt(offset, bits" + byteOrder + ");";
+
+            case UINT64:
+                return
+                    "        long bits = buffer.getLong(offset" + byteOrder + ");\n" +
+                    "        bits = value ? bits | (1L << " + bitIdx + ") : bits & ~(1L << " + bitIdx + ");\n" +
+                    "        buffer.putLong(offset, bits" + byteOrder + ");";
+
+            default:
+                break;
+        }
+
+        throw new IllegalArgumentException("primitive type not supported: " + type);
+    }
+
+    private String generateStaticChoicePut(final PrimitiveType type, final String bitIdx)
+    {
+        switch (type)
+        {
+            case UINT8:
+                return
+                    "        return (byte)(value ? bits | (1 << " + bitIdx + ") : bits & ~(1 << " + bitIdx + "));\n";
+
+            case UINT16:
+                return
+                    "        return (short)(value ? bits | (1 << " + bitIdx + ") : bits & ~(1 << " + bitIdx + "));\n";
+
+            case UINT32:
+                return
+                    "        return value ? bits | (1 << " + bitIdx + ") : bits & ~(1 << " + bitIdx + ");\n";
+
+            case UINT64:
+                return
+                    "        return value ? bits | (1L << " + bitIdx + ") : bits & ~(1L << " + bitIdx + ");\n";
+
+            default:
+                break;
+        }
+
+        throw new IllegalArgumentException("primitive type not supported: " + type);
+    }
+
+    private void generateEncoderDisplay(final StringBuilder sb, final String decoderName)
+    {
+        appendToString(sb);
+
+        sb.append('\n');
+        append(sb, INDENT, "public StringBuilder appendTo(final StringBuilder builder)");
+        append(sb, INDENT, "{");
+        append(sb, INDENT, "    if (null == buffer)");
+        append(sb, INDENT, "    {");
+        append(sb, INDENT, "        return builder;");
+        append(sb, INDENT, "    }");
+        sb.append('\n');
+        append(sb, INDENT, "    final " + decoderName + " decoder = new " + decoderName + "();");
+        append(sb, INDENT, "    decoder.wrap(buffer, offset, BLOCK_LENGTH, SCHEMA_VERSION);");
+        sb.append('\n');
+        append(sb, INDENT, "    return decoder.appendTo(builder);");
+        append(sb, INDENT, "}");
+    }
+
+    private CharSequence generateCompositeEncoderDisplay(final String decoderName)
+    {
+        final StringBuilder sb = new StringBuilder();
+
+        appendToString(sb);
+        sb.append('\n');
+        append(sb, INDENT, "public StringBuilder appendTo(final StringBuilder builder)");
+        append(sb, INDENT, "{");
+        append(sb, INDENT, "    if (null == buffer)");
+        append(sb, INDENT, "    {");
+        append(sb, INDENT, "        return builder;");
+        append(sb, INDENT, "    }");
+        sb.append('\n');
+        append(sb, INDENT, "    final " + decoderName + " decoder = new " + decoderName + "();");
+        append(sb, INDENT, "    decoder.wrap(buffer, offset);");
+        sb.append('\n');
+        append(sb, INDENT, "    return decoder.appendTo(builder);");
+        append(sb, INDENT, "}");
+
+        return sb;
+    }
+
+    private CharSequence generateDecimalCompositeDecoderMethods(final List<Token> tokens)
+    {
+        Token mantissaToken = null;
+        Token exponentToken = null;
+        for (int i = 1, end = tokens.size() - 1; i < end; i++)
+        {
+            final Token token = tokens.get(i);
+            if ("mantissa".equalsIgnoreCase(token.name()))
+            {
+                mantissaToken = token;
+            }
+            else
+            {
+                exponentToken = token;
+            }
+        }
+
+        final String mantissa = formatPropertyName(Objects.requireNonNull(mantissaToken).name());
+        final String exponent = formatPropertyName(Objects.requireNonNull(exponentToken).name());
+        final boolean isOptional = mantissaToken.isOptionalEncoding();
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append("\n")
+            .append("    private static final long MAX_EXACT_DOUBLE_MANTISSA = 1L << 53;\n")
+            .append("    private static final double[] DOUBLE_POWERS_OF_TEN =\n")
+            .append("    {\n")
+            .append("        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,\n")
+            .append("        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22\n")
+            .append("    };\n")
+            .append("    private static final long[] LONG_POWERS_OF_TEN =\n")
+            .append("    {\n");
+
+        long power = 1;
+        for (int i = 0; i < 19; i++, power *= 10)
+        {
+            sb.append(0 == i % 4 ? "        " : " ").append(power).append('L').append(i < 18 ? "," : "");
+            if (3 == i % 4 || 18 == i)
+            {
+                sb.append('\n');
+            }
+        }
+        sb.append("    };\n");
+
+        final String nullCheck = isOptional ?
+            "        if (" + mantissa + "NullValue() == mantissa)\n" +
+            "        {\n" +
+            "            return %s;\n" +
+            "        }\n\n" : "";
+
+        new Formatter(sb).format("\n" +
+            "    public long toScaledLong(final int targetExponent)\n" +
+            "    {\n" +
+            "        final long mantissa = %1$s();\n" +
+            "%3$s" +
+            "        final int shift = %2$s() - targetExponent;\n" +
+            "        if (shift >= 0)\n" +
+            "        {\n" +
+            "            if (0 == mantissa)\n" +
+            "            {\n" +
+            "                return 0;\n" +
+            "            }\n\n" +
+            "            if (shift >= LONG_POWERS_OF_TEN.length)\n" +
+            "            {\n" +
+            "                throw new ArithmeticException(\"long overflow\");\n" +
+            "            }\n\n" +
+            "            return Math.multiplyExact(mantissa, LONG_POWERS_OF_TEN[shift]);\n" +
+            "        }\n\n" +
+            "        return -shift >= LONG_POWERS_OF_TEN.length ? 0 : mantissa / LONG_POWERS_OF_TEN[-shift];\n" +
+            "    }\n",
+            mantissa,
+            exponent,
+            String.format(nullCheck, "Long.MIN_VALUE"));
+
+        new Formatter(sb).format("\n" +
+            "    public double toDouble()\n" +
+            "    {\n" +
+            "        final long mantissa = %1$s();\n" +
+            "%3$s" +
+            "        final int exponent = %2$s();\n" +
+            "        if (-MAX_EXACT_DOUBLE_MANTISSA <= mantissa && mantissa <= MAX_EXACT_DOUBLE_MANTISSA)\n" +
+            "        {\n" +
+            "            if (exponent >= 0 && exponent < DOUBLE_POWERS_OF_TEN.length)\n" +
+            "            {\n" +
+            "                return mantissa * DOUBLE_POWERS_OF_TEN[exponent];\n" +
+            "            }\n\n" +
+            "            if (exponent < 0 && -exponent < DOUBLE_POWERS_OF_TEN.length)\n" +
+            "            {\n" +
+            "                return mantissa / DOUBLE_POWERS_OF_TEN[-exponent];\n" +
+            "            }\n" +
+            "        }\n\n" +
+            "        return Double.parseDouble(mantissa + \"e\" + exponent);\n" +
+            "    }\n",
+            mantissa,
+            exponent,
+            String.format(nullCheck, "Double.NaN"));
+
+        new Formatter(sb).format("\n" +
+            "    public StringBuilder appendDecimal(final StringBuilder builder)\n" +
+            "    {\n" +
+            "        final long mantissa = %1$s();\n" +
+            "%3$s" +
+            "        return %4$s.appendDecimal(builder, mantissa, %2$s());\n" +
+            "    }\n",
+            mantissa,
+            exponent,
+            String.format(nullCheck, "builder.append(\"null\")"),
+            DECIMALS_CLASS);
+
+        new Formatter(sb).format("\n" +
+            "    public int appendDecimal(final %4$s buffer, final int index)\n" +
+            "    {\n" +
+            "        final long mantissa = %1$s();\n" +
+            "%3$s" +
+            "        return appendDecimal(buffer, index, mantissa, %2$s());\n" +
+            "    }\n\n" +
+            "    public static int appendDecimal(\n" +
+            "        final %4$s buffer, final int index, final long mantissa, final int exponent)\n" +
+            "    {\n" +
+            "        return %5$s.appendDecimal(buffer, index, mantissa, exponent);\n" +
+            "    }\n",
+            mantissa,
+            exponent,
+            String.format(nullCheck, "buffer.putStringWithoutLengthAscii(index, \"null\")"),
+            fqMutableBuffer,
+            DECIMALS_CLASS);
+
+        return sb;
+    }
+
+    private CharSequence generateCompositeDecoderComparison(final String decoderName, final List<Token> tokens)
+    {
+        final StringBuilder sb = new StringBuilder();
+        final List<int[]> ranges = new ArrayList<>();
+        for (int i = 1, end = tokens.size() - 1; i < end;)
+        {
+            final Token encodingToken = tokens.get(i);
+            collectEncodedRanges(tokens, i, encodingToken.offset(), ranges);
+            i += encodingToken.componentTokenCount();
+        }
+
+        sb.append("\n")
+            .append("    public int sbeHashCode()\n")
+            .append("    {\n")
+            .append("        int hash = 1;\n");
+        appendRangeHashes(sb, ranges, INDENT + INDENT);
+        sb.append("\n")
+            .append("        return hash;\n")
+            .append("    }\n");
+
+        new Formatter(sb).format("\n" +
+            "    public boolean sbeEquals(final %s other)\n" +
+            "    {\n" +
+            "        return null != other%s;\n" +
+            "    }\n",
+            decoderName,
+            ranges.isEmpty() ? "" : " &&\n            " + generateRangeEquals(ranges, " &&\n            "));
+
+        new Formatter(sb).format("\n" +
+            "    public int compareTo(final %s other)\n" +
+            "    {\n",
+            decoderName);
+
+        final StringBuilder comparisons = new StringBuilder();
+        for (int i = 1, end = tokens.size() - 1; i < end;)
+        {
+            final Token encodingToken = tokens.get(i);
+            generateTypeComparison(comparisons, tokens, i, encodingToken.offset(), INDENT + INDENT);
+            i += encodingToken.componentTokenCount();
+        }
+
+        appendComparisons(sb, comparisons);
+        sb.append("    }\n");
+        generateRangeHelpers(sb, decoderName);
+
+        return sb;
+    }
+
+    private void generateMessageDecoderComparison(
+        final StringBuilder sb, final String className, final List<Token> fields)
+    {
+        final TreeMap<Integer, List<int[]>> rangesBySinceVersion = new TreeMap<>();
+        for (int i = 0, size = fields.size(); i < size;)
+        {
+            final Token fieldToken = fields.get(i);
+            if (fieldToken.signal() == Signal.BEGIN_FIELD && !fieldToken.isConstantEncoding())
+            {
+                final Token typeToken = fields.get(i + 1);
+                collectEncodedRanges(
+                    fields,
+                    i + 1,
+                    typeToken.offset(),
+                    rangesBySinceVersion.computeIfAbsent(fieldToken.version(), (version) -> new ArrayList<>()));
+            }
+
+            i += fieldToken.componentTokenCount();
+        }
+
+        sb.append("\n")
+            .append("    public int sbeHashCode()\n")
+            .append("    {\n")
+            .append("        int hash = 1;\n");
+        for (final Map.Entry<Integer, List<int[]>> entry : rangesBySinceVersion.entrySet())
+        {
+            final int sinceVersion = entry.getKey();
+            if (sinceVersion > 0)
+            {
+                sb.append("\n")
+                    .append("        if (actingVersion >= ").append(sinceVersion).append(")\n")
+                    .append("        {\n");
+                appendRangeHashes(sb, entry.getValue(), INDENT + INDENT + INDENT);
+                sb.append("        }\n");
+            }
+            else
+            {
+                appendRangeHashes(sb, entry.getValue(), INDENT + INDENT);
+            }
+        }
+        sb.append("\n")
+            .append("        return hash;\n")
+            .append("    }\n");
+
+        new Formatter(sb).format("\n" +
+            "    public boolean sbeEquals(final %s other)\n" +
+            "    {\n" +
+            "        if (null == other)\n" +
+            "        {\n" +
+            "            return false;\n" +
+            "        }\n",
+            className);
+        for (final Map.Entry<Integer, List<int[]>> entry : rangesBySinceVersion.entrySet())
+        {
+            final int sinceVersion = entry.getKey();
+            if (entry.getValue().isEmpty())
+            {
+                continue;
+            }
+
+            final String rangeEquals = generateRangeEquals(entry.getValue(), " &&\n            ");
+            sb.append("\n");
+            if (sinceVersion > 0)
+            {
+                sb.append("        if ((actingVersion >= ").append(sinceVersion)
+                    .append(") != (other.actingVersion >= ").append(sinceVersion).append(") ||\n")
+                    .append("            (actingVersion >= ").append(sinceVersion).append(" && !(")
+                    .append(rangeEquals).append(")))\n");
+            }
+            else
+            {
+                sb.append("        if (!(").append(rangeEquals).append("))\n");
+            }
+            sb.append("        {\n")
+                .append("            return false;\n")
+                .append("        }\n");
+        }
+        sb.append("\n")
+            .append("        return true;\n")
+            .append("    }\n");
+
+        new Formatter(sb).format("\n" +
+            "    public int compareTo(final %s other)\n" +
+            "    {\n",
+            className);
+
+        final StringBuilder comparisons = new StringBuilder();
+        for (int i = 0, size = fields.size(); i < size;)
+        {
+            final Token fieldToken = fields.get(i);
+            if (fieldToken.signal() == Signal.BEGIN_FIELD && !fieldToken.isConstantEncoding())
+            {
+                final Token typeToken = fields.get(i + 1);
+                final int sinceVersion = fieldToken.version();
+                String indent = INDENT + INDENT;
+
+                if (sinceVersion > 0)
+                {
+                    comparisons
+                        .append(indent).append("cmp = Boolean.compare(actingVersion >= ").append(sinceVersion)
+                        .append(", other.actingVersion >= ").append(sinceVersion).append(");\n");
+                    appendReturnIfNotEqual(comparisons, indent);
+                    comparisons
+                        .append(indent).append("if (actingVersion >= ").append(sinceVersion).append(")\n")
+                        .append(indent).append("{\n");
+                    indent += INDENT;
+                }
+
+                generateTypeComparison(comparisons, fields, i + 1, typeToken.offset(), indent);
+
+                if (sinceVersion > 0)
+                {
+                    comparisons.setLength(comparisons.length() - 1);
+                    comparisons.append(INDENT + INDENT).append("}\n\n");
+                }
+            }
+
+            i += fieldToken.componentTokenCount();
+        }
+
+        appendComparisons(sb, comparisons);
+        sb.append("    }\n");
+        generateRangeHelpers(sb, className);
+    }
+
+    private static void collectEncodedRanges(
+        final List<Token> tokens, final int index, final int offset, final List<int[]> ranges)
+    {
+        final Token typeToken = tokens.get(index);
+        if (typeToken.isConstantEncoding())
+        {
+            return;
+        }
+
+        switch (typeToken.signal())
+        {
+            case ENCODING:
+            case BEGIN_ENUM:
+            case BEGIN_SET:
+            {
+                final int length = typeToken.encodedLength();
+                final int[] last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+                if (null != last && last[0] + last[1] == offset)
+                {
+                    last[1] += length;
+                }
+                else if (length > 0)
+                {
+                    ranges.add(new int[]{ offset, length });
+                }
+                break;
+            }
+
+            case BEGIN_COMPOSITE:
+            {
+                for (int i = index + 1, end = index + typeToken.componentTokenCount() - 1; i < end;)
+                {
+                    final Token encodingToken = tokens.get(i);
+                    collectEncodedRanges(tokens, i, offset + encodingToken.offset(), ranges);
+                    i += encodingToken.componentTokenCount();
+                }
+                break;
+            }
+
+            default:
+                break;
+        }
+    }
+
+    private static void appendRangeHashes(final StringBuilder sb, final List<int[]> ranges, final String indent)
+    {
+        for (final int[] range : ranges)
+        {
+            sb.append(indent).append("hash = sbeHashRange(hash, ")
+                .append(range[0]).append(", ").append(range[1]).append(");\n");
+        }
+    }
+
+    private static String generateRangeEquals(final List<int[]> ranges, final String separator)
+    {
+        final StringJoiner joiner = new StringJoiner(separator);
+        for (final int[] range : ranges)
+        {
+            joiner.add("sbeEqualsRange(other, " + range[0] + ", " + range[1] + ")");
+        }
+
+        return joiner.toString();
+    }
+
+    private static void generateRangeHelpers(final StringBuilder sb, final String className)
+    {
+        new Formatter(sb).format("\n" +
+            "    private int sbeHashRange(final int hash, final int index, final int length)\n" +
+            "    {\n" +
+            "        final int limit = offset + index + length;\n" +
+            "        int result = hash;\n" +
+            "        int i = offset + index;\n" +
+            "        for (; i <= limit - 8; i += 8)\n" +
+            "        {\n" +
+            "            result = 31 * result + Long.hashCode(buffer.getLong(i, BYTE_ORDER));\n" +
+            "        }\n\n" +
+            "        for (; i < limit; i++)\n" +
+            "        {\n" +
+            "            result = 31 * result + buffer.getByte(i);\n" +
+            "        }\n\n" +
+            "        return result;\n" +
+            "    }\n\n" +
+            "    private boolean sbeEqualsRange(final %s other, final int index, final int length)\n" +
+            "    {\n" +
+            "        final int delta = other.offset - offset;\n" +
+            "        final int limit = offset + index + length;\n" +
+            "        int i = offset + index;\n" +
+            "        for (; i <= limit - 8; i += 8)\n" +
+            "        {\n" +
+            "            if (buffer.getLong(i) != other.buffer.getLong(i + delta))\n" +
+            "            {\n" +
+            "                return false;\n" +
+            "            }\n" +
+            "        }\n\n" +
+            "        for (; i < limit; i++)\n" +
+            "        {\n" +
+            "            if (buffer.getByte(i) != other.buffer.getByte(i + delta))\n" +
+            "            {\n" +
+            "                return false;\n" +
+            "            }\n" +
+            "        }\n\n" +
+            "        return true;\n" +
+            "    }\n",
+            className);
+    }
+
+    private static void appendComparisons(final StringBuilder sb, final StringBuilder comparisons)
     {
-        switch (type)
+        if (comparisons.length() > 0)
         {
-            case UINT8:
-            case UINT16:
-            case UINT32:
-                return "0 != (value & (1 << " + bitIndex + "))";
-
-            case UINT64:
-                return "0 != (value & (1L << " + bitIndex + "))";
-
-            default:
-                break;
+            sb.append("        int cmp;\n\n").append(comparisons);
         }
 
-        throw new IllegalArgumentException("primitive type not supported: " + type);
+        sb.append("        return 0;\n");
     }
 
-    private String generateChoicePut(final PrimitiveType type, final String bitIdx, final String byteOrder)
+    private static void appendReturnIfNotEqual(final StringBuilder sb, final String indent)
     {
-        switch (type)
+        sb.append(indent).append("if (0 != cmp)\n")
+            .append(indent).append("{\n")
+            .append(indent).append("    return cmp;\n")
+            .append(indent).append("}\n\n");
+    }
+
+    private void generateTypeComparison(
+        final StringBuilder sb, final List<Token> tokens, final int index, final int offset, final String indent)
+    {
+        final Token typeToken = tokens.get(index);
+        if (typeToken.isConstantEncoding())
         {
-            case UINT8:
-                return
-                    "        byte bits = buffer.getByte(offset);\n" +
-                    "        bits = (byte)(value ? bits | (1 << " + bitIdx + ") : bits & ~(1 << " + bitIdx + "));\n" +
-                    "        buffer.putByte(offset, bits);";
+            return;
+        }
 
-            case UINT16:
-                return
-                    "        short bits = buffer.getShort(offset" + byteOrder + ");\n" +
-                    "        bits = (short)(value ? bits | (1 << " + bitIdx + ") : bits & ~(1 << " + bitIdx + "));\n" +
-                    "        buffer.putShort(offset, bits" + byteOrder + ");";
+        switch (typeToken.signal())
+        {
+            case ENCODING:
+            {
+                final Encoding encoding = typeToken.encoding();
+                final int arrayLength = typeToken.arrayLength();
+                if (arrayLength > 1)
+                {
+                    final String elementOffset = offset + " + (i * " + sizeOfPrimitive(encoding) + ")";
+                    sb.append(indent).append("for (int i = 0; i < ").append(arrayLength).append("; i++)\n")
+                        .append(indent).append("{\n")
+                        .append(indent).append(INDENT).append("cmp = ")
+                        .append(generateCompare(encoding.primitiveType(), elementOffset, byteOrderString(encoding)))
+                        .append(";\n");
+                    appendReturnIfNotEqual(sb, indent + INDENT);
+                    sb.setLength(sb.length() - 1);
+                    sb.append(indent).append("}\n\n");
+                }
+                else
+                {
+                    sb.append(indent).append("cmp = ")
+                        .append(generateCompare(encoding.primitiveType(), Integer.toString(offset),
+                            byteOrderString(encoding)))
+                        .append(";\n");
+                    appendReturnIfNotEqual(sb, indent);
+                }
+                break;
+            }
 
-            case UINT32:
-                return
-                    "        int bits = buffer.getInt(offset" + byteOrder + ");\n" +
-                    "        bits = value ? bits | (1 << " + bitIdx + ") : bits & ~(1 << " + bitIdx + ");\n" +
-                    "        buffer.putInt(offset, bits" + byteOrder + ");";
+            case BEGIN_ENUM:
+            case BEGIN_SET:
+            {
+                final Encoding encoding = typeToken.encoding();
+                sb.append(indent).append("cmp = ")
+                    .append(generateCompare(encoding.primitiveType(), Integer.toString(offset),
+                        byteOrderString(encoding)))
+                    .append(";\n");
+                appendReturnIfNotEqual(sb, indent);
+                break;
+            }
 
-            case UINT64:
-                return
-                    "        long bits = buffer.getLong(offset" + byteOrder + ");\n" +
-                    "        bits = value ? bits | (1L << " + bitIdx + ") : bits & ~(1L << " + bitIdx + ");\n" +
-                    "        buffer.putLong(offset, bits" + byteOrder + ");";
+            case BEGIN_COMPOSITE:
+            {
+                for (int i = index + 1, end = index + typeToken.componentTokenCount() - 1; i < end;)
+                {
+                    final Token encodingToken = tokens.get(i);
+                    generateTypeComparison(sb, tokens, i, offset + encodingToken.offset(), indent);
+                    i += encodingToken.componentTokenCount();
+                }
+                break;
+            }
 
             default:
                 break;
         }
-
-        throw new IllegalArgumentException("primitive type not supported: " + type);
     }
 
-    private String generateStaticChoicePut(final PrimitiveType type, final String bitIdx)
+    private static String generateCompare(final PrimitiveType type, final String index, final String byteOrder)
     {
+        final String thisIndex = "offset + " + index;
+        final String otherIndex = "other.offset + " + index;
+
         switch (type)
         {
+            case INT8:
+                return "Integer.compare(buffer.getByte(" + thisIndex + "), other.buffer.getByte(" + otherIndex + "))";
+
+            case CHAR:
             case UINT8:
-                return
-                    "        return (byte)(value ? bits | (1 << " + bitIdx + ") : bits & ~(1 << " + bitIdx + "));\n";
+                return "Integer.compare(buffer.getByte(" + thisIndex + ") & 0xFF, " +
+                    "other.buffer.getByte(" + otherIndex + ") & 0xFF)";
+
+            case INT16:
+                return "Integer.compare(buffer.getShort(" + thisIndex + byteOrder + "), " +
+                    "other.buffer.getShort(" + otherIndex + byteOrder + "))";
 
             case UINT16:
-                return
-                    "        return (short)(value ? bits | (1 << " + bitIdx + ") : bits & ~(1 << " + bitIdx + "));\n";
+                return "Integer.compare(buffer.getShort(" + thisIndex + byteOrder + ") & 0xFFFF, " +
+                    "other.buffer.getShort(" + otherIndex + byteOrder + ") & 0xFFFF)";
+
+            case INT32:
+                return "Integer.compare(buffer.getInt(" + thisIndex + byteOrder + "), " +
+                    "other.buffer.getInt(" + otherIndex + byteOrder + "))";
 
             case UINT32:
-                return
-                    "        return value ? bits | (1 << " + bitIdx + ") : bits & ~(1 << " + bitIdx + ");\n";
+                return "Integer.compareUnsigned(buffer.getInt(" + thisIndex + byteOrder + "), " +
+                    "other.buffer.getInt(" + otherIndex + byteOrder + "))";
+
+            case INT64:
+                return "Long.compare(buffer.getLong(" + thisIndex + byteOrder + "), " +
+                    "other.buffer.getLong(" + otherIndex + byteOrder + "))";
 
             case UINT64:
-                return
-                    "        return value ? bits | (1L << " + bitIdx + ") : bits & ~(1L << " + bitIdx + ");\n";
+                return "Long.compareUnsigned(buffer.getLong(" + thisIndex + byteOrder + "), " +
+                    "other.buffer.getLong(" + otherIndex + byteOrder + "))";
+
+            case FLOAT:
+                return "Float.compare(buffer.getFloat(" + thisIndex + byteOrder + "), " +
+                    "other.buffer.getFloat(" + otherIndex + byteOrder + "))";
+
+            case DOUBLE:
+                return "Double.compare(buffer.getDouble(" + thisIndex + byteOrder + "), " +
+                    "other.buffer.getDouble(" + otherIndex + byteOrder + "))";
 
             default:
                 break;
@@ -4228,47 +6190,6 @@ public class JavaGenerator implements CodeGenerator
         throw new IllegalArgumentException("primitive type not supported: " + type);
     }
 
-    private void generateEncoderDisplay(final StringBuilder sb, final String decoderName)
-    {
-        appendToString(sb);
-
-        sb.append('\n');
-        append(sb, INDENT, "public StringBuilder appendTo(final StringBuilder builder)");
-        append(sb, INDENT, "{");
-        append(sb, INDENT, "    if (null == buffer)");
-        append(sb, INDENT, "    {");
-        append(sb, INDENT, "        return builder;");
-        append(sb, INDENT, "    }");
-        sb.append('\n');
-        append(sb, INDENT, "    final " + decoderName + " decoder = new " + decoderName + "();");
-        append(sb, INDENT, "    decoder.wrap(buffer, offset, BLOCK_LENGTH, SCHEMA_VERSION);");
-        sb.append('\n');
-        append(sb, INDENT, "    return decoder.appendTo(builder);");
-        append(sb, INDENT, "}");
-    }
-
-    private CharSequence generateCompositeEncoderDisplay(final String decoderName)
-    {
-        final StringBuilder sb = new StringBuilder();
-
-        appendToString(sb);
-        sb.append('\n');
-        append(sb, INDENT, "public StringBuilder appendTo(final StringBuilder builder)");
-        append(sb, INDENT, "{");
-        append(sb, INDENT, "    if (null == buffer)");
-        append(sb, INDENT, "    {");
-        append(sb, INDENT, "        return builder;");
-        append(sb, INDENT, "    }");
-        sb.append('\n');
-        append(sb, INDENT, "    final " + decoderName + " decoder = new " + decoderName + "();");
-        append(sb, INDENT, "    decoder.wrap(buffer, offset);");
-        sb.append('\n');
-        append(sb, INDENT, "    return decoder.appendTo(builder);");
-        append(sb, INDENT, "}");
-
-        return sb;
-    }
-
     private CharSequence generateCompositeDecoderDisplay(final List<Token> tokens)
     {
         final StringBuilder sb = new StringBuilder();
@@ -4712,4 +6633,473 @@ public class JavaGenerator implements CodeGenerator
     {
         return shouldGenerateInterfaces ? " implements " + interfaceName : "";
     }
+
+    private String implementsComparable(final String implementsString, final String className)
+    {
+        if (!shouldGenerateComparisons)
+        {
+            return implementsString;
+        }
+
+        final String comparable = "Comparable<" + className + ">";
+        return implementsString.isEmpty() ? " implements " + comparable : implementsString + ", " + comparable;
+    }
+
+    /**
+     * Options describing what should be generated by a {@link JavaGenerator}. The defaults match the
+     * codecs generated by the shorter constructors.
+     */
+    public static final class Options
+    {
+        private String mutableBuffer = MutableDirectBuffer.class.getName();
+        private String readOnlyBuffer = DirectBuffer.class.getName();
+        private boolean shouldGenerateGroupOrderAnnotation;
+        private boolean shouldGenerateInterfaces;
+        private boolean shouldDecodeUnknownEnumValues;
+        private boolean shouldSupportTypesPackageNames;
+        private PrecedenceChecks precedenceChecks = PrecedenceChecks.newInstance(new PrecedenceChecks.Context());
+        private int stringCacheCapacity;
+        private boolean shouldGenerateGroupScans;
+        private boolean shouldGenerateGroupRandomAccess;
+        private boolean shouldGenerateOpenGroups;
+        private boolean shouldGenerateComputeLength;
+        private boolean shouldGenerateAppendJson;
+        private boolean shouldGenerateVersionSpecialisedDecoders;
+        private boolean shouldGenerateValidation;
+        private boolean shouldGenerateWrapForUpdate;
+        private boolean shouldGenerateComparisons;
+        private boolean shouldGenerateMessageDispatcher;
+
+        /**
+         * Returns the implementation used for mutating underlying buffers.
+         *
+         * @return the implementation used for mutating underlying buffers.
+         */
+        public String mutableBuffer()
+        {
+            return mutableBuffer;
+        }
+
+        /**
+         * Sets the implementation used for mutating underlying buffers.
+         *
+         * @param mutableBuffer the implementation used for mutating underlying buffers.
+         * @return this {@link Options} instance.
+         */
+        public Options mutableBuffer(final String mutableBuffer)
+        {
+            this.mutableBuffer = mutableBuffer;
+            return this;
+        }
+
+        /**
+         * Returns the implementation used for reading underlying buffers.
+         *
+         * @return the implementation used for reading underlying buffers.
+         */
+        public String readOnlyBuffer()
+        {
+            return readOnlyBuffer;
+        }
+
+        /**
+         * Sets the implementation used for reading underlying buffers.
+         *
+         * @param readOnlyBuffer the implementation used for reading underlying buffers.
+         * @return this {@link Options} instance.
+         */
+        public Options readOnlyBuffer(final String readOnlyBuffer)
+        {
+            this.readOnlyBuffer = readOnlyBuffer;
+            return this;
+        }
+
+        /**
+         * Returns {@code true} if group order annotations should be generated in the codecs; {@code false} otherwise.
+         *
+         * @return {@code true} if group order annotations should be generated in the codecs; {@code false} otherwise.
+         */
+        public boolean shouldGenerateGroupOrderAnnotation()
+        {
+            return shouldGenerateGroupOrderAnnotation;
+        }
+
+        /**
+         * Sets whether group order annotations should be generated in the codecs.
+         *
+         * @param shouldGenerateGroupOrderAnnotation {@code true} if they should be generated; {@code false} otherwise.
+         * @return this {@link Options} instance.
+         */
+        public Options shouldGenerateGroupOrderAnnotation(final boolean shouldGenerateGroupOrderAnnotation)
+        {
+            this.shouldGenerateGroupOrderAnnotation = shouldGenerateGroupOrderAnnotation;
+            return this;
+        }
+
+        /**
+         * Returns {@code true} if interfaces should be generated for common methods; {@code false} otherwise.
+         *
+         * @return {@code true} if interfaces should be generated for common methods; {@code false} otherwise.
+         */
+        public boolean shouldGenerateInterfaces()
+        {
+            return shouldGenerateInterfaces;
+        }
+
+        /**
+         * Sets whether interfaces should be generated for common methods.
+         *
+         * @param shouldGenerateInterfaces {@code true} if they should be generated; {@code false} otherwise.
+         * @return this {@link Options} instance.
+         */
+        public Options shouldGenerateInterfaces(final boolean shouldGenerateInterfaces)
+        {
+            this.shouldGenerateInterfaces = shouldGenerateInterfaces;
+            return this;
+        }
+
+        /**
+         * Returns {@code true} if support for unknown enum values should be generated when decoding;
+         * {@code false} otherwise.
+         *
+         * @return {@code true} if support for unknown enum values should be generated when decoding;
+         * {@code false} otherwise.
+         */
+        public boolean shouldDecodeUnknownEnumValues()
+        {
+            return shouldDecodeUnknownEnumValues;
+        }
+
+        /**
+         * Sets whether support for unknown enum values should be generated when decoding.
+         *
+         * @param shouldDecodeUnknownEnumValues {@code true} if they should be generated; {@code false} otherwise.
+         * @return this {@link Options} instance.
+         */
+        public Options shouldDecodeUnknownEnumValues(final boolean shouldDecodeUnknownEnumValues)
+        {
+            this.shouldDecodeUnknownEnumValues = shouldDecodeUnknownEnumValues;
+            return this;
+        }
+
+        /**
+         * Returns {@code true} if types may be generated in their own package; {@code false} otherwise.
+         *
+         * @return {@code true} if types may be generated in their own package; {@code false} otherwise.
+         */
+        public boolean shouldSupportTypesPackageNames()
+        {
+            return shouldSupportTypesPackageNames;
+        }
+
+        /**
+         * Sets whether types may be generated in their own package.
+         *
+         * @param shouldSupportTypesPackageNames {@code true} if they should be generated; {@code false} otherwise.
+         * @return this {@link Options} instance.
+         */
+        public Options shouldSupportTypesPackageNames(final boolean shouldSupportTypesPackageNames)
+        {
+            this.shouldSupportTypesPackageNames = shouldSupportTypesPackageNames;
+            return this;
+        }
+
+        /**
+         * Returns whether and how field precedence checks should be generated.
+         *
+         * @return whether and how field precedence checks should be generated.
+         */
+        public PrecedenceChecks precedenceChecks()
+        {
+            return precedenceChecks;
+        }
+
+        /**
+         * Sets whether and how field precedence checks should be generated.
+         *
+         * @param precedenceChecks whether and how field precedence checks should be generated.
+         * @return this {@link Options} instance.
+         */
+        public Options precedenceChecks(final PrecedenceChecks precedenceChecks)
+        {
+            this.precedenceChecks = precedenceChecks;
+            return this;
+        }
+
+        /**
+         * Returns the capacity of the {@link uk.co.real_logic.sbe.codec.java.StringCache} used by each decoder
+         * {@link String} accessor, or 0 to not cache.
+         *
+         * @return the capacity of the {@link uk.co.real_logic.sbe.codec.java.StringCache} used by each decoder
+         * {@link String} accessor, or 0 to not cache.
+         */
+        public int stringCacheCapacity()
+        {
+            return stringCacheCapacity;
+        }
+
+        /**
+         * Sets the capacity of the {@link uk.co.real_logic.sbe.codec.java.StringCache} used by each decoder
+         * {@link String} accessor, or 0 to not cache.
+         *
+         * @param stringCacheCapacity of the cache used by each decoder {@link String} accessor, or 0 to not cache.
+         * @return this {@link Options} instance.
+         */
+        public Options stringCacheCapacity(final int stringCacheCapacity)
+        {
+            this.stringCacheCapacity = stringCacheCapacity;
+            return this;
+        }
+
+        /**
+         * Returns {@code true} if methods which scan a field over all entries should be generated on group decoders;
+         * {@code false} otherwise.
+         *
+         * @return {@code true} if methods which scan a field over all entries should be generated on group decoders;
+         * {@code false} otherwise.
+         */
+        public boolean shouldGenerateGroupScans()
+        {
+            return shouldGenerateGroupScans;
+        }
+
+        /**
+         * Sets whether methods which scan a field over all entries should be generated on group decoders.
+         *
+         * @param shouldGenerateGroupScans {@code true} if they should be generated; {@code false} otherwise.
+         * @return this {@link Options} instance.
+         */
+        public Options shouldGenerateGroupScans(final boolean shouldGenerateGroupScans)
+        {
+            this.shouldGenerateGroupScans = shouldGenerateGroupScans;
+            return this;
+        }
+
+        /**
+         * Returns {@code true} if {@code at(index)}, {@code hasPrevious()}, and {@code previous()} should be generated
+         * on group decoders for random access to entries; {@code false} otherwise.
+         *
+         * @return {@code true} if {@code at(index)}, {@code hasPrevious()}, and {@code previous()} should be generated
+         * on group decoders for random access to entries; {@code false} otherwise.
+         */
+        public boolean shouldGenerateGroupRandomAccess()
+        {
+            return shouldGenerateGroupRandomAccess;
+        }
+
+        /**
+         * Sets whether {@code at(index)}, {@code hasPrevious()}, and {@code previous()} should be generated on group
+         * decoders for random access to entries.
+         *
+         * @param shouldGenerateGroupRandomAccess {@code true} if they should be generated; {@code false} otherwise.
+         * @return this {@link Options} instance.
+         */
+        public Options shouldGenerateGroupRandomAccess(final boolean shouldGenerateGroupRandomAccess)
+        {
+            this.shouldGenerateGroupRandomAccess = shouldGenerateGroupRandomAccess;
+            return this;
+        }
+
+        /**
+         * Returns {@code true} if {@code computeLength(...)} and {@code sbeMaxEncodedLength()} should be generated on
+         * encoders; {@code false} otherwise.
+         *
+         * @return {@code true} if {@code computeLength(...)} and {@code sbeMaxEncodedLength()} should be generated on
+         * encoders; {@code false} otherwise.
+         */
+        public boolean shouldGenerateComputeLength()
+        {
+            return shouldGenerateComputeLength;
+        }
+
+        /**
+         * Sets whether {@code computeLength(...)} and {@code sbeMaxEncodedLength()} should be generated on encoders.
+         *
+         * @param shouldGenerateComputeLength {@code true} if they should be generated; {@code false} otherwise.
+         * @return this {@link Options} instance.
+         */
+        public Options shouldGenerateComputeLength(final boolean shouldGenerateComputeLength)
+        {
+            this.shouldGenerateComputeLength = shouldGenerateComputeLength;
+            return this;
+        }
+
+        /**
+         * Returns {@code true} if {@code xxxOpen()} should be generated on encoders and {@code close()} on group
+         * encoders to encode a group before its count is known; {@code false} otherwise.
+         *
+         * @return {@code true} if {@code xxxOpen()} should be generated on encoders and {@code close()} on group
+         * encoders to encode a group before its count is known; {@code false} otherwise.
+         */
+        public boolean shouldGenerateOpenGroups()
+        {
+            return shouldGenerateOpenGroups;
+        }
+
+        /**
+         * Sets whether {@code xxxOpen()} should be generated on encoders and {@code close()} on group
+         * encoders to encode a group before its count is known.
+         *
+         * @param shouldGenerateOpenGroups {@code true} if they should be generated; {@code false} otherwise.
+         * @return this {@link Options} instance.
+         */
+        public Options shouldGenerateOpenGroups(final boolean shouldGenerateOpenGroups)
+        {
+            this.shouldGenerateOpenGroups = shouldGenerateOpenGroups;
+            return this;
+        }
+
+        /**
+         * Returns {@code true} if {@code appendJsonTo} should be generated on message decoders which writes the same
+         * JSON as the {@link uk.co.real_logic.sbe.json.JsonPrinter}; {@code false} otherwise.
+         *
+         * @return {@code true} if {@code appendJsonTo} should be generated on message decoders which writes the same
+         * JSON as the {@link uk.co.real_logic.sbe.json.JsonPrinter}; {@code false} otherwise.
+         */
+        public boolean shouldGenerateAppendJson()
+        {
+            return shouldGenerateAppendJson;
+        }
+
+        /**
+         * Sets whether {@code appendJsonTo} should be generated on message decoders which writes the same
+         * JSON as the {@link uk.co.real_logic.sbe.json.JsonPrinter}.
+         *
+         * @param shouldGenerateAppendJson {@code true} if they should be generated; {@code false} otherwise.
+         * @return this {@link Options} instance.
+         */
+        public Options shouldGenerateAppendJson(final boolean shouldGenerateAppendJson)
+        {
+            this.shouldGenerateAppendJson = shouldGenerateAppendJson;
+            return this;
+        }
+
+        /**
+         * Returns {@code true} if a {@code xxxLatestDecoder} without acting version checks should be generated
+         * alongside each message decoder which has fields added in later versions; {@code false} otherwise.
+         *
+         * @return {@code true} if a {@code xxxLatestDecoder} without acting version checks should be generated
+         * alongside each message decoder which has fields added in later versions; {@code false} otherwise.
+         */
+        public boolean shouldGenerateVersionSpecialisedDecoders()
+        {
+            return shouldGenerateVersionSpecialisedDecoders;
+        }
+
+        /**
+         * Sets whether a {@code xxxLatestDecoder} without acting version checks should be generated
+         * alongside each message decoder which has fields added in later versions.
+         *
+         * @param shouldGenerateVersionSpecialisedDecoders {@code true} if they should be generated;
+         *                                                 {@code false} otherwise.
+         * @return this {@link Options} instance.
+         */
+        public Options shouldGenerateVersionSpecialisedDecoders(final boolean shouldGenerateVersionSpecialisedDecoders)
+        {
+            this.shouldGenerateVersionSpecialisedDecoders = shouldGenerateVersionSpecialisedDecoders;
+            return this;
+        }
+
+        /**
+         * Returns {@code true} if {@code sbeValidate(int limit)} should be generated on message decoders to check an
+         * untrusted message in one pass before it is read; {@code false} otherwise.
+         *
+         * @return {@code true} if {@code sbeValidate(int limit)} should be generated on message decoders to check an
+         * untrusted message in one pass before it is read; {@code false} otherwise.
+         */
+        public boolean shouldGenerateValidation()
+        {
+            return shouldGenerateValidation;
+        }
+
+        /**
+         * Sets whether {@code sbeValidate(int limit)} should be generated on message decoders to check an
+         * untrusted message in one pass before it is read.
+         *
+         * @param shouldGenerateValidation {@code true} if they should be generated; {@code false} otherwise.
+         * @return this {@link Options} instance.
+         */
+        public Options shouldGenerateValidation(final boolean shouldGenerateValidation)
+        {
+            this.shouldGenerateValidation = shouldGenerateValidation;
+            return this;
+        }
+
+        /**
+         * Returns {@code true} if {@code wrapForUpdate} should be generated on message encoders, and
+         * {@code xxxForUpdate()} for their groups, to set fields of an encoded message in place;
+         * {@code false} otherwise.
+         *
+         * @return {@code true} if {@code wrapForUpdate} should be generated on message encoders, and
+         * {@code xxxForUpdate()} for their groups, to set fields of an encoded message in place;
+         * {@code false} otherwise.
+         */
+        public boolean shouldGenerateWrapForUpdate()
+        {
+            return shouldGenerateWrapForUpdate;
+        }
+
+        /**
+         * Sets whether {@code wrapForUpdate} should be generated on message encoders, and
+         * {@code xxxForUpdate()} for their groups, to set fields of an encoded message in place.
+         *
+         * @param shouldGenerateWrapForUpdate {@code true} if they should be generated; {@code false} otherwise.
+         * @return this {@link Options} instance.
+         */
+        public Options shouldGenerateWrapForUpdate(final boolean shouldGenerateWrapForUpdate)
+        {
+            this.shouldGenerateWrapForUpdate = shouldGenerateWrapForUpdate;
+            return this;
+        }
+
+        /**
+         * Returns {@code true} if {@code sbeHashCode()}, {@code sbeEquals(other)} and {@code compareTo(other)}
+         * should be generated over the encoded fields of composite and message decoders; {@code false} otherwise.
+         *
+         * @return {@code true} if {@code sbeHashCode()}, {@code sbeEquals(other)} and {@code compareTo(other)}
+         * should be generated over the encoded fields of composite and message decoders; {@code false} otherwise.
+         */
+        public boolean shouldGenerateComparisons()
+        {
+            return shouldGenerateComparisons;
+        }
+
+        /**
+         * Sets whether {@code sbeHashCode()}, {@code sbeEquals(other)} and {@code compareTo(other)} should be
+         * generated over the encoded fields of composite and message decoders, which then implement
+         * {@link Comparable}.
+         *
+         * @param shouldGenerateComparisons {@code true} if they should be generated; {@code false} otherwise.
+         * @return this {@link Options} instance.
+         */
+        public Options shouldGenerateComparisons(final boolean shouldGenerateComparisons)
+        {
+            this.shouldGenerateComparisons = shouldGenerateComparisons;
+            return this;
+        }
+
+        /**
+         * Returns {@code true} if a {@code <Schema>MessageDispatcher} should be generated to dispatch decoded messages
+         * to a handler by template id; {@code false} otherwise.
+         *
+         * @return {@code true} if a {@code <Schema>MessageDispatcher} should be generated; {@code false} otherwise.
+         */
+        public boolean shouldGenerateMessageDispatcher()
+        {
+            return shouldGenerateMessageDispatcher;
+        }
+
+        /**
+         * Sets whether a {@code <Schema>MessageDispatcher} should be generated to dispatch decoded messages to a
+         * handler by template id.
+         *
+         * @param shouldGenerateMessageDispatcher {@code true} if it should be generated; {@code false} otherwise.
+         * @return this {@link Options} instance.
+         */
+        public Options shouldGenerateMessageDispatcher(final boolean shouldGenerateMessageDispatcher)
+        {
+            this.shouldGenerateMessageDispatcher = shouldGenerateMessageDispatcher;
+            return this;
+        }
+    }
 }
@@ -0,0 +1,1008 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.generation.java;
+
+import uk.co.real_logic.sbe.PrimitiveType;
+import uk.co.real_logic.sbe.PrimitiveValue;
+import uk.co.real_logic.sbe.generation.Generators;
+import uk.co.real_logic.sbe.ir.Encoding;
+import uk.co.real_logic.sbe.ir.Signal;
+import uk.co.real_logic.sbe.ir.Token;
+import uk.co.real_logic.sbe.otf.Types;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static uk.co.real_logic.sbe.generation.java.JavaGenerator.byteOrderString;
+import static uk.co.real_logic.sbe.generation.java.JavaGenerator.generateGet;
+import static uk.co.real_logic.sbe.generation.java.JavaUtil.*;
+import static uk.co.real_logic.sbe.ir.GenerationUtil.*;
+
+/**
+ * Generates {@code appendJsonTo} for a message decoder which writes the same JSON as the
+ * {@link uk.co.real_logic.sbe.json.JsonTokenListener} by reading the fields directly from the buffer.
+ * <p>
+ * The structure of the message is walked at generation time, in the same order as the
+ * {@link uk.co.real_logic.sbe.otf.OtfMessageDecoder}, so field names, indentation, separators, and constant values are
+ * merged into byte array constants and no tokens are interpreted when a message is written. The state of the decoder,
+ * including the precedence checks, is not changed by writing a message.
+ */
+final class JavaJsonGenerator
+{
+    private static final String INDENT = "    ";
+
+    private final String fqMutableBuffer;
+    private final StringBuilder body = new StringBuilder();
+    private final StringBuilder text = new StringBuilder();
+    private final Map<String, String> constantNameByText = new LinkedHashMap<>();
+    private String indent = INDENT + INDENT;
+    private int indentation = 0;
+    private boolean hasPendingSeparator = false;
+    private boolean usesFloat = false;
+    private boolean usesDouble = false;
+    private boolean usesChars = false;
+    private boolean usesEscapedBytes = false;
+    private boolean usesEscapedString = false;
+    private boolean usesHex = false;
+
+    JavaJsonGenerator(final String fqMutableBuffer)
+    {
+        this.fqMutableBuffer = fqMutableBuffer;
+    }
+
+    CharSequence generateAppendJson(final List<Token> fields, final List<Token> groups, final List<Token> varData)
+    {
+        if (!groups.isEmpty() || !varData.isEmpty())
+        {
+            line("int limit = offset + actingBlockLength;");
+        }
+
+        startObject();
+        generateFields(fields, "offset", "");
+        generateGroups(groups, "");
+        generateVarData(varData, "");
+        endObject();
+        flush();
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append('\n');
+        for (final Map.Entry<String, String> entry : constantNameByText.entrySet())
+        {
+            append(sb, INDENT, "private static final byte[] " + entry.getValue() + " =");
+            append(sb, INDENT, "    \"" + escapeJavaString(entry.getKey()) +
+                "\".getBytes(java.nio.charset.StandardCharsets.UTF_8);");
+        }
+
+        sb.append('\n');
+        append(sb, INDENT, "public int appendJsonTo(final " + fqMutableBuffer + " dst, final int dstOffset)");
+        append(sb, INDENT, "{");
+        append(sb, INDENT, "    int pos = dstOffset;");
+        sb.append(body);
+        sb.append('\n');
+        append(sb, INDENT, "    return pos - dstOffset;");
+        append(sb, INDENT, "}");
+
+        generateHelpers(sb);
+
+        return sb;
+    }
+
+    private void generateFields(final List<Token> tokens, final String base, final String prefix)
+    {
+        for (int i = 0, size = tokens.size(); i < size;)
+        {
+            final Token fieldToken = tokens.get(i);
+            if (fieldToken.signal() != Signal.BEGIN_FIELD)
+            {
+                ++i;
+                continue;
+            }
+
+            final int nextFieldIndex = i + fieldToken.componentTokenCount();
+            final Token typeToken = tokens.get(i + 1);
+            final int offset = typeToken.offset();
+
+            switch (typeToken.signal())
+            {
+                case BEGIN_COMPOSITE:
+                    generateComposite(fieldToken, tokens, i + 1, nextFieldIndex - 2, base, offset, prefix, 1);
+                    break;
+
+                case BEGIN_ENUM:
+                    generateEnum(fieldToken.name(), fieldToken, tokens, i + 1, nextFieldIndex - 2, base, offset);
+                    break;
+
+                case BEGIN_SET:
+                    generateBitSet(fieldToken.name(), fieldToken, tokens, i + 1, nextFieldIndex - 2, base, offset);
+                    break;
+
+                case ENCODING:
+                    property(fieldToken.name());
+                    generateEncoding(fieldToken, typeToken, base, offset);
+                    hasPendingSeparator = true;
+                    break;
+
+                default:
+                    break;
+            }
+
+            i = nextFieldIndex;
+        }
+    }
+
+    private void generateComposite(
+        final Token fieldToken,
+        final List<Token> tokens,
+        final int fromIndex,
+        final int toIndex,
+        final String base,
+        final int offset,
+        final String prefix,
+        final int compositeLevel)
+    {
+        final String name = compositeLevel > 1 ? tokens.get(fromIndex).name() : fieldToken.name();
+        property(name);
+
+        if (isDecimalComposite(tokens, fromIndex, toIndex))
+        {
+            generateDecimal(tokens, fromIndex, toIndex, base, offset, localName(prefix, name));
+            hasPendingSeparator = true;
+            return;
+        }
+
+        text("\n");
+        startObject();
+
+        for (int i = fromIndex + 1; i < toIndex;)
+        {
+            final Token typeToken = tokens.get(i);
+            final int nextIndex = i + typeToken.componentTokenCount();
+            final int memberOffset = offset + typeToken.offset();
+
+            switch (typeToken.signal())
+            {
+                case BEGIN_COMPOSITE:
+                    generateComposite(
+                        fieldToken, tokens, i, nextIndex - 1, base, memberOffset, localName(prefix, name),
+                        compositeLevel + 1);
+                    break;
+
+                case BEGIN_ENUM:
+                    generateEnum(typeToken.name(), fieldToken, tokens, i, nextIndex - 1, base, memberOffset);
+                    break;
+
+                case BEGIN_SET:
+                    generateBitSet(typeToken.name(), fieldToken, tokens, i, nextIndex - 1, base, memberOffset);
+                    break;
+
+                case ENCODING:
+                    property(typeToken.name());
+                    generateEncoding(typeToken, typeToken, base, memberOffset);
+                    hasPendingSeparator = true;
+                    break;
+
+                default:
+                    break;
+            }
+
+            i = nextIndex;
+        }
+
+        endObject();
+    }
+
+    private void generateDecimal(
+        final List<Token> tokens,
+        final int fromIndex,
+        final int toIndex,
+        final String base,
+        final int offset,
+        final String localName)
+    {
+        Token mantissaToken = null;
+        Token exponentToken = null;
+        for (int i = fromIndex + 1; i < toIndex; i++)
+        {
+            final Token token = tokens.get(i);
+            if ("mantissa".equalsIgnoreCase(token.name()))
+            {
+                mantissaToken = token;
+            }
+            else if (token.signal() == Signal.ENCODING)
+            {
+                exponentToken = token;
+            }
+        }
+
+        final String decoderName = formatClassName(decoderName(tokens.get(fromIndex).applicableTypeName()));
+        final String mantissa = decimalValue(mantissaToken, base, offset);
+        final String exponent = exponentToken.isConstantEncoding() || !isNotPresentOptional(exponentToken) ?
+            decimalValue(exponentToken, base, offset) : "(int)(" + decimalValue(exponentToken, base, offset) + ")";
+        final String appendDecimal = "pos += " + decoderName + ".appendDecimal(dst, pos, ";
+
+        if (mantissaToken.isOptionalEncoding())
+        {
+            final Encoding encoding = mantissaToken.encoding();
+            final String mantissaName = localName + "Mantissa";
+
+            line("final long " + mantissaName + " = " + mantissa + ";");
+            openBlock("if (" + generateLiteral(encoding.primitiveType(), encoding.applicableNullValue().toString()) +
+                " == " + mantissaName + ")");
+            text("null");
+            closeBlock();
+            line("else");
+            openBlock();
+            line(appendDecimal + mantissaName + ", " + exponent + ");");
+            closeBlock();
+        }
+        else
+        {
+            line(appendDecimal + mantissa + ", " + exponent + ");");
+        }
+    }
+
+    private String decimalValue(final Token typeToken, final String base, final int offset)
+    {
+        final Encoding encoding = typeToken.encoding();
+        if (typeToken.isConstantEncoding())
+        {
+            return Long.toString(encoding.constValue().longValue());
+        }
+
+        final String value = generateGet(
+            encoding.primitiveType(), index(base, offset + typeToken.offset()), byteOrderString(encoding));
+        if (isNotPresentOptional(typeToken))
+        {
+            return "actingVersion < " + typeToken.version() + " ? " +
+                encoding.applicableNullValue().longValue() + "L : " + value;
+        }
+
+        return value;
+    }
+
+    private void generateEnum(
+        final String name,
+        final Token fieldToken,
+        final List<Token> tokens,
+        final int fromIndex,
+        final int toIndex,
+        final String base,
+        final int offset)
+    {
+        property(name);
+
+        if (fieldToken.isConstantEncoding())
+        {
+            final String constValue = fieldToken.encoding().constValue().toString();
+            text("\"" + constValue.substring(constValue.indexOf('.') + 1) + "\"");
+            hasPendingSeparator = true;
+            return;
+        }
+
+        text("\"");
+
+        final Token typeToken = tokens.get(fromIndex + 1);
+        if (isNotPresentOptional(fieldToken))
+        {
+            openBlock("if (actingVersion < " + fieldToken.version() + ")");
+            text(enumValueName(tokens, fromIndex, toIndex, typeToken.encoding().applicableNullValue().longValue()));
+            closeBlock();
+            line("else");
+            openBlock();
+        }
+
+        final Encoding encoding = typeToken.encoding();
+        final String value = generateGet(encoding.primitiveType(), index(base, offset), byteOrderString(encoding));
+        line("switch (" + (PrimitiveType.UINT32 == encoding.primitiveType() ? "(int)" + value : value) + ")");
+        line("{");
+        for (int i = fromIndex + 1; i < toIndex; i++)
+        {
+            final Token validValue = tokens.get(i);
+            line("    case " + (int)validValue.encoding().constValue().longValue() + ":");
+            generateEnumCase(validValue.name());
+            line("");
+        }
+        line("    default:");
+        generateEnumCase("null");
+        line("}");
+
+        if (isNotPresentOptional(fieldToken))
+        {
+            closeBlock();
+        }
+
+        text("\"");
+        hasPendingSeparator = true;
+    }
+
+    private void generateEnumCase(final String name)
+    {
+        final String caseIndent = indent;
+        indent = caseIndent + INDENT + INDENT;
+        text(name);
+        flush();
+        line("break;");
+        indent = caseIndent;
+    }
+
+    private static String enumValueName(
+        final List<Token> tokens, final int fromIndex, final int toIndex, final long value)
+    {
+        for (int i = fromIndex + 1; i < toIndex; i++)
+        {
+            if (value == tokens.get(i).encoding().constValue().longValue())
+            {
+                return tokens.get(i).name();
+            }
+        }
+
+        return "null";
+    }
+
+    private void generateBitSet(
+        final String name,
+        final Token fieldToken,
+        final List<Token> tokens,
+        final int fromIndex,
+        final int toIndex,
+        final String base,
+        final int offset)
+    {
+        property(name);
+        text("{ ");
+
+        final Encoding encoding = tokens.get(fromIndex + 1).encoding();
+        if (isNotPresentOptional(fieldToken))
+        {
+            openBlock("if (actingVersion < " + fieldToken.version() + ")");
+            final long nullValue = encoding.applicableNullValue().longValue();
+            for (int i = fromIndex + 1; i < toIndex; i++)
+            {
+                final long bitPosition = tokens.get(i).encoding().constValue().longValue();
+                text("\"" + tokens.get(i).name() + "\": " + ((nullValue & (1L << bitPosition)) != 0));
+                text(i < (toIndex - 1) ? ", " : "");
+            }
+            closeBlock();
+            line("else");
+            openBlock();
+        }
+
+        final String value = generateGet(encoding.primitiveType(), index(base, offset), byteOrderString(encoding));
+        final String trueName = constantName("true");
+        final String falseName = constantName("false");
+        for (int i = fromIndex + 1; i < toIndex; i++)
+        {
+            final long bitPosition = tokens.get(i).encoding().constValue().longValue();
+            text("\"" + tokens.get(i).name() + "\": ");
+            line("pos = appendJson(dst, pos, 0 != (" + value + " & (1L << " + bitPosition + ")) ? " +
+                trueName + " : " + falseName + ");");
+            text(i < (toIndex - 1) ? ", " : "");
+        }
+
+        if (isNotPresentOptional(fieldToken))
+        {
+            closeBlock();
+        }
+
+        text(" }");
+        hasPendingSeparator = true;
+    }
+
+    private void generateEncoding(final Token fieldToken, final Token typeToken, final String base, final int offset)
+    {
+        final Encoding encoding = typeToken.encoding();
+        if (typeToken.isConstantEncoding())
+        {
+            text(constOrNotPresentText(typeToken, encoding.constValue()));
+            return;
+        }
+
+        if (isNotPresentOptional(fieldToken))
+        {
+            openBlock("if (actingVersion < " + fieldToken.version() + ")");
+            text(constOrNotPresentText(typeToken, encoding.applicableNullValue()));
+            closeBlock();
+            line("else");
+            openBlock();
+            generateEncodingValue(typeToken, base, offset);
+            closeBlock();
+        }
+        else
+        {
+            generateEncodingValue(typeToken, base, offset);
+        }
+    }
+
+    private void generateEncodingValue(final Token typeToken, final String base, final int offset)
+    {
+        final PrimitiveType primitiveType = typeToken.encoding().primitiveType();
+        final int arrayLength = typeToken.arrayLength();
+
+        if (arrayLength > 1 && primitiveType == PrimitiveType.CHAR)
+        {
+            usesChars = true;
+            usesEscapedBytes = true;
+            text("\"");
+            line("pos = appendJsonChars(dst, pos, " + index(base, offset) + ", " + arrayLength + ");");
+            text("\"");
+        }
+        else if (arrayLength <= 1)
+        {
+            generatePrimitiveValue(typeToken.encoding(), index(base, offset));
+        }
+        else
+        {
+            final int elementSize = primitiveType.size();
+            text("[");
+            generatePrimitiveValue(typeToken.encoding(), index(base, offset));
+            openBlock("for (int i = 1; i < " + arrayLength + "; i++)");
+            text(", ");
+            generatePrimitiveValue(typeToken.encoding(), index(base, offset) + " + (i * " + elementSize + ")");
+            closeBlock();
+            text("]");
+        }
+    }
+
+    private void generatePrimitiveValue(final Encoding encoding, final String index)
+    {
+        final PrimitiveType primitiveType = encoding.primitiveType();
+        final String value = generateGet(primitiveType, index, byteOrderString(encoding));
+
+        switch (primitiveType)
+        {
+            case CHAR:
+                text("'");
+                line("dst.putByte(pos++, " + value + ");");
+                text("'");
+                break;
+
+            case INT8:
+            case UINT8:
+            case INT16:
+            case UINT16:
+            case INT32:
+                line("pos += dst.putIntAscii(pos, " + value + ");");
+                break;
+
+            case UINT32:
+            case INT64:
+            case UINT64:
+                line("pos += dst.putLongAscii(pos, " + value + ");");
+                break;
+
+            case FLOAT:
+                usesFloat = true;
+                line("pos = appendJson(dst, pos, " + value + ");");
+                break;
+
+            case DOUBLE:
+                usesDouble = true;
+                line("pos = appendJson(dst, pos, " + value + ");");
+                break;
+        }
+    }
+
+    private void generateGroups(final List<Token> tokens, final String prefix)
+    {
+        for (int i = 0, size = tokens.size(); i < size; i++)
+        {
+            final Token groupToken = tokens.get(i);
+            if (groupToken.signal() != Signal.BEGIN_GROUP)
+            {
+                throw new IllegalStateException("tokens must begin with BEGIN_GROUP: token=" + groupToken);
+            }
+
+            final String localName = localName(prefix, groupToken.name());
+            final String blockLengthName = localName + "BlockLength";
+            final String countName = localName + "Count";
+            final String indexName = localName + "Index";
+            final String offsetName = localName + "Offset";
+
+            final Token dimensionsToken = tokens.get(i + 1);
+            final Token blockLengthToken = Generators.findFirst("blockLength", tokens, i);
+            final Token numInGroupToken = Generators.findFirst("numInGroup", tokens, i);
+            final String blockLength = dimensionValue(blockLengthToken);
+            final String count = dimensionValue(numInGroupToken);
+
+            ++i;
+            i += tokens.get(i).componentTokenCount();
+
+            final List<Token> fields = new ArrayList<>();
+            i = collectFields(tokens, i, fields);
+
+            final List<Token> groups = new ArrayList<>();
+            i = collectGroups(tokens, i, groups);
+
+            final List<Token> varData = new ArrayList<>();
+            i = collectVarData(tokens, i, varData);
+
+            property(groupToken.name());
+
+            if (groupToken.version() > 0)
+            {
+                line("int " + blockLengthName + " = 0;");
+                line("int " + countName + " = 0;");
+                openBlock("if (actingVersion >= " + groupToken.version() + ")");
+                line(blockLengthName + " = " + blockLength + ";");
+                line(countName + " = " + count + ";");
+                line("limit += " + dimensionsToken.encodedLength() + ";");
+                closeBlock();
+            }
+            else
+            {
+                line("final int " + blockLengthName + " = " + blockLength + ";");
+                line("final int " + countName + " = " + count + ";");
+                line("limit += " + dimensionsToken.encodedLength() + ";");
+            }
+
+            openBlock("if (0 == " + countName + ")");
+            text("[]");
+            closeBlock();
+            line("else");
+            openBlock();
+            text("[\n");
+            openBlock("for (int " + indexName + " = 0; " + indexName + " < " + countName + "; " + indexName + "++)");
+            line("final int " + offsetName + " = limit;");
+            line("limit += " + blockLengthName + ";");
+            startObject();
+            generateFields(fields, offsetName, localName);
+            generateGroups(groups, localName);
+            generateVarData(varData, localName);
+            endObject();
+            hasPendingSeparator = false;
+            text(",\n");
+            closeBlock();
+            line("pos -= 2;");
+            text("]");
+            closeBlock();
+
+            hasPendingSeparator = true;
+        }
+    }
+
+    private void generateVarData(final List<Token> tokens, final String prefix)
+    {
+        for (int i = 0, size = tokens.size(); i < size;)
+        {
+            final Token varDataToken = tokens.get(i);
+            if (varDataToken.signal() != Signal.BEGIN_VAR_DATA)
+            {
+                throw new IllegalStateException("tokens must begin with BEGIN_VAR_DATA: token=" + varDataToken);
+            }
+
+            final String lengthName = localName(prefix, varDataToken.name()) + "Length";
+            final Token lengthToken = tokens.get(i + 2);
+            final Token dataToken = tokens.get(i + 3);
+            final String length = dimensionValue(lengthToken);
+
+            property(varDataToken.name());
+            text("\"");
+
+            if (varDataToken.version() > 0)
+            {
+                line("int " + lengthName + " = 0;");
+                openBlock("if (actingVersion >= " + varDataToken.version() + ")");
+                line(lengthName + " = " + length + ";");
+                line("limit += " + dataToken.offset() + ";");
+                closeBlock();
+            }
+            else
+            {
+                line("final int " + lengthName + " = " + length + ";");
+                line("limit += " + dataToken.offset() + ";");
+            }
+
+            final String characterEncoding = dataToken.encoding().characterEncoding();
+            if (null == characterEncoding)
+            {
+                usesHex = true;
+                line("pos = appendJsonHex(dst, pos, limit, " + lengthName + ");");
+            }
+            else if (isAsciiEncoding(characterEncoding) || isUtf8Encoding(characterEncoding))
+            {
+                usesEscapedBytes = true;
+                line("pos = appendJsonEscaped(dst, pos, limit, " + lengthName + ");");
+            }
+            else
+            {
+                usesEscapedBytes = true;
+                usesEscapedString = true;
+                final String bytesName = localName(prefix, varDataToken.name()) + "Bytes";
+                line("final byte[] " + bytesName + " = new byte[" + lengthName + "];");
+                line("buffer.getBytes(limit, " + bytesName + ");");
+                line("pos = appendJsonEscaped(dst, pos, new String(" + bytesName + ", " +
+                    charset(characterEncoding) + "));");
+            }
+
+            line("limit += " + lengthName + ";");
+            text("\"");
+            hasPendingSeparator = true;
+
+            i += varDataToken.componentTokenCount();
+        }
+    }
+
+    private void generateHelpers(final StringBuilder sb)
+    {
+        sb.append('\n');
+        append(sb, INDENT, "private static int appendJson(final " + fqMutableBuffer +
+            " dst, final int index, final byte[] bytes)");
+        append(sb, INDENT, "{");
+        append(sb, INDENT, "    dst.putBytes(index, bytes);");
+        append(sb, INDENT, "    return index + bytes.length;");
+        append(sb, INDENT, "}");
+
+        if (usesFloat)
+        {
+            generateFloatingPointHelper(sb, "float", "Float");
+        }
+
+        if (usesDouble)
+        {
+            generateFloatingPointHelper(sb, "double", "Double");
+        }
+
+        generateEscapeHelpers(sb);
+
+        if (usesHex)
+        {
+            sb.append('\n');
+            append(sb, INDENT, "private int appendJsonHex(final " + fqMutableBuffer +
+                " dst, final int index, final int srcIndex, final int length)");
+            append(sb, INDENT, "{");
+            append(sb, INDENT, "    int pos = index;");
+            append(sb, INDENT, "    for (int i = 0; i < length; i++)");
+            append(sb, INDENT, "    {");
+            append(sb, INDENT, "        final int b = buffer.getByte(srcIndex + i) & 0xFF;");
+            append(sb, INDENT, "        dst.putByte(pos++, (byte)Character.forDigit(b >>> 4, 16));");
+            append(sb, INDENT, "        dst.putByte(pos++, (byte)Character.forDigit(b & 0xF, 16));");
+            append(sb, INDENT, "    }");
+            sb.append('\n');
+            append(sb, INDENT, "    return pos;");
+            append(sb, INDENT, "}");
+        }
+    }
+
+    private void generateEscapeHelpers(final StringBuilder sb)
+    {
+        if (usesChars)
+        {
+            sb.append('\n');
+            append(sb, INDENT, "private int appendJsonChars(final " + fqMutableBuffer +
+                " dst, final int index, final int srcIndex, final int length)");
+            append(sb, INDENT, "{");
+            append(sb, INDENT, "    int pos = index;");
+            append(sb, INDENT, "    for (int i = 0; i < length; i++)");
+            append(sb, INDENT, "    {");
+            append(sb, INDENT, "        final byte c = buffer.getByte(srcIndex + i);");
+            append(sb, INDENT, "        if (c <= 0)");
+            append(sb, INDENT, "        {");
+            append(sb, INDENT, "            break;");
+            append(sb, INDENT, "        }");
+            sb.append('\n');
+            append(sb, INDENT, "        pos = appendJsonEscaped(dst, pos, c);");
+            append(sb, INDENT, "    }");
+            sb.append('\n');
+            append(sb, INDENT, "    return pos;");
+            append(sb, INDENT, "}");
+        }
+
+        if (usesEscapedBytes)
+        {
+            sb.append('\n');
+            append(sb, INDENT, "private int appendJsonEscaped(final " + fqMutableBuffer +
+                " dst, final int index, final int srcIndex, final int length)");
+            append(sb, INDENT, "{");
+            append(sb, INDENT, "    int pos = index;");
+            append(sb, INDENT, "    for (int i = 0; i < length; i++)");
+            append(sb, INDENT, "    {");
+            append(sb, INDENT, "        pos = appendJsonEscaped(dst, pos, buffer.getByte(srcIndex + i));");
+            append(sb, INDENT, "    }");
+            sb.append('\n');
+            append(sb, INDENT, "    return pos;");
+            append(sb, INDENT, "}");
+
+            sb.append('\n');
+            append(sb, INDENT, "private static int appendJsonEscaped(final " + fqMutableBuffer +
+                " dst, final int index, final byte c)");
+            append(sb, INDENT, "{");
+            append(sb, INDENT, "    int pos = index;");
+            append(sb, INDENT, "    if ('\"' == c || '\\\\' == c || '\\b' == c || '\\f' == c || '\\n' == c || " +
+                "'\\r' == c || '\\t' == c)");
+            append(sb, INDENT, "    {");
+            append(sb, INDENT, "        dst.putByte(pos++, (byte)'\\\\');");
+            append(sb, INDENT, "    }");
+            sb.append('\n');
+            append(sb, INDENT, "    dst.putByte(pos++, c);");
+            append(sb, INDENT, "    return pos;");
+            append(sb, INDENT, "}");
+        }
+
+        if (usesEscapedString)
+        {
+            sb.append('\n');
+            append(sb, INDENT, "private static int appendJsonEscaped(final " + fqMutableBuffer +
+                " dst, final int index, final String value)");
+            append(sb, INDENT, "{");
+            append(sb, INDENT, "    int pos = index;");
+            append(sb, INDENT, "    int i = 0;");
+            append(sb, INDENT, "    final int length = value.length();");
+            append(sb, INDENT, "    while (i < length)");
+            append(sb, INDENT, "    {");
+            append(sb, INDENT, "        final char c = value.charAt(i);");
+            append(sb, INDENT, "        if (c < 0x80)");
+            append(sb, INDENT, "        {");
+            append(sb, INDENT, "            pos = appendJsonEscaped(dst, pos, (byte)c);");
+            append(sb, INDENT, "            i++;");
+            append(sb, INDENT, "        }");
+            append(sb, INDENT, "        else");
+            append(sb, INDENT, "        {");
+            append(sb, INDENT, "            int end = i + 1;");
+            append(sb, INDENT, "            while (end < length && value.charAt(end) >= 0x80)");
+            append(sb, INDENT, "            {");
+            append(sb, INDENT, "                end++;");
+            append(sb, INDENT, "            }");
+            sb.append('\n');
+            append(sb, INDENT, "            pos += dst.putStringWithoutLengthUtf8(pos, value.substring(i, end));");
+            append(sb, INDENT, "            i = end;");
+            append(sb, INDENT, "        }");
+            append(sb, INDENT, "    }");
+            sb.append('\n');
+            append(sb, INDENT, "    return pos;");
+            append(sb, INDENT, "}");
+        }
+    }
+
+    private void generateFloatingPointHelper(final StringBuilder sb, final String type, final String boxedType)
+    {
+        sb.append('\n');
+        append(sb, INDENT, "private static int appendJson(final " + fqMutableBuffer +
+            " dst, final int index, final " + type + " value)");
+        append(sb, INDENT, "{");
+        append(sb, INDENT, "    if (" + boxedType + ".isNaN(value))");
+        append(sb, INDENT, "    {");
+        append(sb, INDENT, "        return index + dst.putStringWithoutLengthAscii(index, \"0/0\");");
+        append(sb, INDENT, "    }");
+        sb.append('\n');
+        append(sb, INDENT, "    if (" + boxedType + ".POSITIVE_INFINITY == value)");
+        append(sb, INDENT, "    {");
+        append(sb, INDENT, "        return index + dst.putStringWithoutLengthAscii(index, \"1/0\");");
+        append(sb, INDENT, "    }");
+        sb.append('\n');
+        append(sb, INDENT, "    if (" + boxedType + ".NEGATIVE_INFINITY == value)");
+        append(sb, INDENT, "    {");
+        append(sb, INDENT, "        return index + dst.putStringWithoutLengthAscii(index, \"-1/0\");");
+        append(sb, INDENT, "    }");
+        sb.append('\n');
+        append(sb, INDENT, "    return index + dst.putStringWithoutLengthAscii(index, " + boxedType +
+            ".toString(value));");
+        append(sb, INDENT, "}");
+    }
+
+    private static String dimensionValue(final Token token)
+    {
+        final Encoding encoding = token.encoding();
+        final String value = generateGet(
+            encoding.primitiveType(), index("limit", token.offset()), byteOrderString(encoding));
+
+        return PrimitiveType.UINT32 == encoding.primitiveType() ? "(int)" + value : value;
+    }
+
+    private static String constOrNotPresentText(final Token typeToken, final PrimitiveValue value)
+    {
+        final Encoding encoding = typeToken.encoding();
+        final StringBuilder sb = new StringBuilder();
+        final String characterEncoding = encoding.characterEncoding();
+
+        if (null != characterEncoding)
+        {
+            sb.append('"');
+            if (PrimitiveValue.Representation.LONG == value.representation())
+            {
+                final long longValue = value.longValue();
+                if (PrimitiveValue.NULL_VALUE_CHAR != longValue)
+                {
+                    escape(sb, new String(new byte[]{ (byte)longValue }, Charset.forName(characterEncoding)));
+                }
+            }
+            else
+            {
+                escape(sb, value.toString());
+            }
+            sb.append('"');
+        }
+        else if (typeToken.arrayLength() < 2)
+        {
+            Types.appendAsJsonString(sb, value, encoding);
+        }
+        else
+        {
+            sb.append('[');
+            for (int i = 0; i < typeToken.arrayLength(); i++)
+            {
+                if (i > 0)
+                {
+                    sb.append(", ");
+                }
+                Types.appendAsJsonString(sb, value, encoding);
+            }
+            sb.append(']');
+        }
+
+        return sb.toString();
+    }
+
+    private static boolean isNotPresentOptional(final Token fieldToken)
+    {
+        return fieldToken.isOptionalEncoding() && fieldToken.version() > 0;
+    }
+
+    private static String index(final String base, final int offset)
+    {
+        return 0 == offset ? base : base + " + " + offset;
+    }
+
+    private static String localName(final String prefix, final String name)
+    {
+        return prefix.isEmpty() ? Generators.toLowerFirstChar(name) : prefix + Generators.toUpperFirstChar(name);
+    }
+
+    private static void escape(final StringBuilder sb, final String value)
+    {
+        for (int i = 0, length = value.length(); i < length; i++)
+        {
+            final char c = value.charAt(i);
+            if ('"' == c || '\\' == c || '\b' == c || '\f' == c || '\n' == c || '\r' == c || '\t' == c)
+            {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+    }
+
+    private static String escapeJavaString(final String value)
+    {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0, length = value.length(); i < length; i++)
+        {
+            final char c = value.charAt(i);
+            switch (c)
+            {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+
+                case '\n':
+                    sb.append("\\n");
+                    break;
+
+                default:
+                    if (c < 0x20 || c > 0x7E)
+                    {
+                        sb.append(String.format("\\u%04x", (int)c));
+                    }
+                    else
+                    {
+                        sb.append(c);
+                    }
+                    break;
+            }
+        }
+
+        return sb.toString();
+    }
+
+    private String constantName(final String value)
+    {
+        return constantNameByText.computeIfAbsent(value, (k) -> "JSON_" + constantNameByText.size());
+    }
+
+    private static void appendIndentation(final StringBuilder sb, final int level)
+    {
+        for (int i = 0; i < level; i++)
+        {
+            sb.append(INDENT);
+        }
+    }
+
+    private void startObject()
+    {
+        text("");
+        appendIndentation(text, indentation);
+        text.append("{\n");
+        indentation++;
+    }
+
+    private void endObject()
+    {
+        hasPendingSeparator = false;
+        indentation--;
+        text("\n");
+        appendIndentation(text, indentation);
+        text.append('}');
+
+        if (indentation > 0)
+        {
+            hasPendingSeparator = true;
+        }
+    }
+
+    private void property(final String name)
+    {
+        text("");
+        appendIndentation(text, indentation);
+        text.append('"').append(name).append("\": ");
+    }
+
+    private void text(final String value)
+    {
+        if (hasPendingSeparator)
+        {
+            text.append(",\n");
+            hasPendingSeparator = false;
+        }
+
+        text.append(value);
+    }
+
+    private void flush()
+    {
+        if (text.length() > 0)
+        {
+            append(body, indent, "pos = appendJson(dst, pos, " + constantName(text.toString()) + ");");
+            text.setLength(0);
+        }
+    }
+
+    private void line(final String code)
+    {
+        flush();
+        if (code.isEmpty())
+        {
+            body.append('\n');
+        }
+        else
+        {
+            append(body, indent, code);
+        }
+    }
+
+    private void openBlock(final String code)
+    {
+        line(code);
+        openBlock();
+    }
+
+    private void openBlock()
+    {
+        line("{");
+        indent += INDENT;
+    }
+
+    private void closeBlock()
+    {
+        flush();
+        indent = indent.substring(INDENT.length());
+        line("}");
+    }
+}
@@ -0,0 +1,1507 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.generation.java;
+
+import org.agrona.Verify;
+import org.agrona.generation.OutputManager;
+import uk.co.real_logic.sbe.PrimitiveType;
+import uk.co.real_logic.sbe.generation.CodeGenerator;
+import uk.co.real_logic.sbe.generation.Generators;
+import uk.co.real_logic.sbe.ir.Encoding;
+import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.ir.Signal;
+import uk.co.real_logic.sbe.ir.Token;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import static uk.co.real_logic.sbe.generation.Generators.toUpperFirstChar;
+import static uk.co.real_logic.sbe.generation.java.JavaUtil.*;
+import static uk.co.real_logic.sbe.ir.GenerationUtil.collectFields;
+import static uk.co.real_logic.sbe.ir.GenerationUtil.collectGroups;
+import static uk.co.real_logic.sbe.ir.GenerationUtil.collectVarData;
+
+/**
+ * Generate flyweight codecs for the Java programming language which wrap a {@code java.lang.foreign.MemorySegment}
+ * rather than an Agrona buffer.
+ * <p>
+ * Offsets and limits are {@code long} so a memory mapped file or shared arena larger than 2 GB can be decoded in
+ * place. Multibyte values are accessed via unaligned {@code java.lang.foreign.ValueLayout}s with the byte order of the
+ * schema made explicit, so no use is made of {@code sun.misc.Unsafe}, and heap, native, read-only, and mapped
+ * segments can all be wrapped.
+ * <p>
+ * Only the source is generated here, which needs Java 22 or later to compile as that is when the foreign function and
+ * memory API became final.
+ */
+public class JavaMemorySegmentGenerator implements CodeGenerator
+{
+    private static final String INDENT = "    ";
+    private static final String BASE_INDENT = "";
+    private static final String DECODER = "Decoder";
+    private static final String ENCODER = "Encoder";
+
+    private final Ir ir;
+    private final boolean shouldDecodeUnknownEnumValues;
+    private final OutputManager outputManager;
+    private final String byteOrderSuffix;
+    private final String byteOrder;
+
+    /**
+     * Create a new Java {@code MemorySegment} flyweight {@link CodeGenerator}.
+     *
+     * @param ir                            for the messages and types.
+     * @param shouldDecodeUnknownEnumValues generate support for unknown enum values when decoding.
+     * @param outputManager                 for generating the codecs to.
+     */
+    public JavaMemorySegmentGenerator(
+        final Ir ir, final boolean shouldDecodeUnknownEnumValues, final OutputManager outputManager)
+    {
+        Verify.notNull(ir, "ir");
+        Verify.notNull(outputManager, "outputManager");
+
+        this.ir = ir;
+        this.shouldDecodeUnknownEnumValues = shouldDecodeUnknownEnumValues;
+        this.outputManager = outputManager;
+
+        final boolean isBigEndian = ByteOrder.BIG_ENDIAN == ir.byteOrder();
+        byteOrderSuffix = isBigEndian ? "_BE" : "_LE";
+        byteOrder = isBigEndian ? "ByteOrder.BIG_ENDIAN" : "ByteOrder.LITTLE_ENDIAN";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void generate() throws IOException
+    {
+        generateComposite(ir.headerStructure().tokens());
+
+        for (final List<Token> tokens : ir.types())
+        {
+            switch (tokens.get(0).signal())
+            {
+                case BEGIN_ENUM:
+                    generateEnum(tokens);
+                    break;
+
+                case BEGIN_SET:
+                    generateBitSet(tokens);
+                    break;
+
+                case BEGIN_COMPOSITE:
+                    generateComposite(tokens);
+                    break;
+
+                default:
+                    break;
+            }
+        }
+
+        for (final List<Token> tokens : ir.messages())
+        {
+            generateMessage(tokens, DECODER);
+            generateMessage(tokens, ENCODER);
+        }
+    }
+
+    private void generateMessage(final List<Token> tokens, final String codecType) throws IOException
+    {
+        final Token msgToken = tokens.get(0);
+        final String className = formatClassName(msgToken.name()) + codecType;
+        final List<Token> messageBody = tokens.subList(1, tokens.size() - 1);
+
+        int i = 0;
+        final List<Token> fields = new ArrayList<>();
+        i = collectFields(messageBody, i, fields);
+
+        final List<Token> groups = new ArrayList<>();
+        i = collectGroups(messageBody, i, groups);
+
+        final List<Token> varData = new ArrayList<>();
+        collectVarData(messageBody, i, varData);
+
+        final StringBuilder sb = new StringBuilder();
+        generateTypeJavadoc(sb, BASE_INDENT, msgToken);
+        sb.append("@SuppressWarnings(\"all\")\n")
+            .append("public final class ").append(className).append("\n{\n");
+        sb.append(generateLayouts(tokens));
+        sb.append(generateMessageFlyweightCode(className, msgToken, codecType));
+
+        final boolean isDecoder = DECODER.equals(codecType);
+        generateFields(sb, className, fields, isDecoder, false, INDENT);
+        generateGroups(sb, className, groups, isDecoder, INDENT);
+        generateVarData(sb, className, varData, isDecoder, INDENT);
+
+        sb.append("}\n");
+
+        try (Writer out = outputManager.createOutput(className))
+        {
+            out.append(generateFileHeader());
+            out.append(sb);
+        }
+    }
+
+    private CharSequence generateMessageFlyweightCode(
+        final String className, final Token msgToken, final String codecType)
+    {
+        final List<Token> headerTokens = ir.headerStructure().tokens();
+        final String headerClassName = formatClassName(headerTokens.get(0).applicableTypeName()) + codecType;
+        final String blockLengthType = javaTypeName(ir.headerStructure().blockLengthType());
+        final String templateIdType = javaTypeName(ir.headerStructure().templateIdType());
+        final String schemaIdType = javaTypeName(ir.headerStructure().schemaIdType());
+        final String schemaVersionType = javaTypeName(ir.headerStructure().schemaVersionType());
+        final String semanticVersion = null == ir.semanticVersion() ? "" : ir.semanticVersion();
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append(
+            "    public static final " + blockLengthType + " BLOCK_LENGTH = " +
+            generateLiteral(ir.headerStructure().blockLengthType(), Integer.toString(msgToken.encodedLength())) +
+            ";\n" +
+            "    public static final " + templateIdType + " TEMPLATE_ID = " +
+            generateLiteral(ir.headerStructure().templateIdType(), Integer.toString(msgToken.id())) + ";\n" +
+            "    public static final " + schemaIdType + " SCHEMA_ID = " +
+            generateLiteral(ir.headerStructure().schemaIdType(), Integer.toString(ir.id())) + ";\n" +
+            "    public static final " + schemaVersionType + " SCHEMA_VERSION = " +
+            generateLiteral(ir.headerStructure().schemaVersionType(), Integer.toString(ir.version())) + ";\n" +
+            "    public static final String SEMANTIC_VERSION = \"" + semanticVersion + "\";\n" +
+            "    public static final ByteOrder BYTE_ORDER = " + byteOrder + ";\n\n" +
+            "    private final " + className + " parentMessage = this;\n" +
+            "    private MemorySegment segment;\n" +
+            "    private long offset;\n" +
+            "    private long limit;\n");
+
+        if (DECODER.equals(codecType))
+        {
+            sb.append(
+                "    int actingBlockLength;\n" +
+                "    int actingVersion;\n");
+        }
+
+        sb.append(
+            "\n" +
+            "    public " + blockLengthType + " sbeBlockLength()\n" +
+            "    {\n" +
+            "        return BLOCK_LENGTH;\n" +
+            "    }\n\n" +
+            "    public " + templateIdType + " sbeTemplateId()\n" +
+            "    {\n" +
+            "        return TEMPLATE_ID;\n" +
+            "    }\n\n" +
+            "    public " + schemaIdType + " sbeSchemaId()\n" +
+            "    {\n" +
+            "        return SCHEMA_ID;\n" +
+            "    }\n\n" +
+            "    public " + schemaVersionType + " sbeSchemaVersion()\n" +
+            "    {\n" +
+            "        return SCHEMA_VERSION;\n" +
+            "    }\n\n" +
+            "    public String sbeSemanticType()\n" +
+            "    {\n" +
+            "        return \"" + (null == msgToken.encoding().semanticType() ? "" :
+            msgToken.encoding().semanticType()) + "\";\n" +
+            "    }\n\n" +
+            "    public MemorySegment segment()\n" +
+            "    {\n" +
+            "        return segment;\n" +
+            "    }\n\n" +
+            "    public long offset()\n" +
+            "    {\n" +
+            "        return offset;\n" +
+            "    }\n\n");
+
+        generateMessageWrap(sb, className, headerClassName, codecType);
+
+        return sb;
+    }
+
+    private static void generateMessageWrap(
+        final StringBuilder sb, final String className, final String headerClassName, final String codecType)
+    {
+        if (DECODER.equals(codecType))
+        {
+            sb.append(
+                "    public " + className + " wrap(\n" +
+                "        final MemorySegment segment, final long offset, final int actingBlockLength, " +
+                "final int actingVersion)\n" +
+                "    {\n" +
+                "        this.segment = segment;\n" +
+                "        this.offset = offset;\n" +
+                "        this.actingBlockLength = actingBlockLength;\n" +
+                "        this.actingVersion = actingVersion;\n" +
+                "        limit(offset + actingBlockLength);\n\n" +
+                "        return this;\n" +
+                "    }\n\n" +
+                "    public " + className + " wrapAndApplyHeader(\n" +
+                "        final MemorySegment segment, final long offset, " +
+                "final " + headerClassName + " headerDecoder)\n" +
+                "    {\n" +
+                "        headerDecoder.wrap(segment, offset);\n\n" +
+                "        final int templateId = headerDecoder.templateId();\n" +
+                "        if (TEMPLATE_ID != templateId)\n" +
+                "        {\n" +
+                "            throw new IllegalStateException(\"Invalid TEMPLATE_ID: \" + templateId);\n" +
+                "        }\n\n" +
+                "        return wrap(\n" +
+                "            segment,\n" +
+                "            offset + " + headerClassName + ".ENCODED_LENGTH,\n" +
+                "            headerDecoder.blockLength(),\n" +
+                "            headerDecoder.version());\n" +
+                "    }\n\n" +
+                "    public int actingBlockLength()\n" +
+                "    {\n" +
+                "        return actingBlockLength;\n" +
+                "    }\n\n" +
+                "    public int actingVersion()\n" +
+                "    {\n" +
+                "        return actingVersion;\n" +
+                "    }\n\n");
+        }
+        else
+        {
+            sb.append(
+                "    public " + className + " wrap(final MemorySegment segment, final long offset)\n" +
+                "    {\n" +
+                "        this.segment = segment;\n" +
+                "        this.offset = offset;\n" +
+                "        limit(offset + BLOCK_LENGTH);\n\n" +
+                "        return this;\n" +
+                "    }\n\n" +
+                "    public " + className + " wrapAndApplyHeader(\n" +
+                "        final MemorySegment segment, final long offset, " +
+                "final " + headerClassName + " headerEncoder)\n" +
+                "    {\n" +
+                "        headerEncoder\n" +
+                "            .wrap(segment, offset)\n" +
+                "            .blockLength(BLOCK_LENGTH)\n" +
+                "            .templateId(TEMPLATE_ID)\n" +
+                "            .schemaId(SCHEMA_ID)\n" +
+                "            .version(SCHEMA_VERSION);\n\n" +
+                "        return wrap(segment, offset + " + headerClassName + ".ENCODED_LENGTH);\n" +
+                "    }\n\n");
+        }
+
+        sb.append(
+            "    public int encodedLength()\n" +
+            "    {\n" +
+            "        return (int)(limit - offset);\n" +
+            "    }\n\n" +
+            "    public long limit()\n" +
+            "    {\n" +
+            "        return limit;\n" +
+            "    }\n\n" +
+            "    public void limit(final long limit)\n" +
+            "    {\n" +
+            "        this.limit = limit;\n" +
+            "    }\n");
+    }
+
+    private void generateGroups(
+        final StringBuilder sb,
+        final String parentMessageClassName,
+        final List<Token> tokens,
+        final boolean isDecoder,
+        final String indent)
+    {
+        final String codecType = isDecoder ? DECODER : ENCODER;
+
+        for (int i = 0, size = tokens.size(); i < size; i++)
+        {
+            final Token groupToken = tokens.get(i);
+            if (groupToken.signal() != Signal.BEGIN_GROUP)
+            {
+                throw new IllegalStateException("tokens must begin with BEGIN_GROUP: token=" + groupToken);
+            }
+
+            final int index = i;
+            final String groupClassName = formatClassName(groupToken.name()) + codecType;
+            final String propertyName = formatPropertyName(groupToken.name());
+
+            ++i;
+            final int groupHeaderTokenCount = tokens.get(i).componentTokenCount();
+            i += groupHeaderTokenCount;
+
+            final List<Token> fields = new ArrayList<>();
+            i = collectFields(tokens, i, fields);
+
+            final List<Token> groups = new ArrayList<>();
+            i = collectGroups(tokens, i, groups);
+
+            final List<Token> varData = new ArrayList<>();
+            i = collectVarData(tokens, i, varData);
+
+            generateGroupProperty(sb, groupClassName, propertyName, groupToken, isDecoder, indent);
+            generateTypeJavadoc(sb, indent + INDENT, groupToken);
+            generateGroupClassHeader(
+                sb, groupClassName, parentMessageClassName, groupToken, tokens, groups, index, isDecoder, indent);
+
+            generateFields(sb, groupClassName, fields, isDecoder, false, indent + INDENT);
+            generateGroups(sb, parentMessageClassName, groups, isDecoder, indent + INDENT);
+            generateVarData(sb, groupClassName, varData, isDecoder, indent + INDENT);
+
+            sb.append(indent).append("    }\n");
+        }
+    }
+
+    private void generateGroupProperty(
+        final StringBuilder sb,
+        final String groupClassName,
+        final String propertyName,
+        final Token groupToken,
+        final boolean isDecoder,
+        final String indent)
+    {
+        if (indent.equals(INDENT))
+        {
+            sb.append("\n")
+                .append(indent).append("private final ").append(groupClassName).append(' ').append(propertyName)
+                .append(" = new ").append(groupClassName).append("(this);\n");
+        }
+        else
+        {
+            sb.append("\n")
+                .append(indent).append("private final ").append(groupClassName).append(' ').append(propertyName)
+                .append(";\n");
+        }
+
+        sb.append("\n")
+            .append(indent).append("public static int ").append(propertyName).append("Id()\n")
+            .append(indent).append("{\n")
+            .append(indent).append("    return ").append(groupToken.id()).append(";\n")
+            .append(indent).append("}\n");
+
+        if (isDecoder)
+        {
+            sb.append("\n")
+                .append(indent).append("public ").append(groupClassName).append(' ').append(propertyName).append("()\n")
+                .append(indent).append("{\n");
+
+            if (groupToken.version() > 0)
+            {
+                sb.append(indent).append("    if (parentMessage.actingVersion < ").append(groupToken.version())
+                    .append(")\n")
+                    .append(indent).append("    {\n")
+                    .append(indent).append("        ").append(propertyName).append(".count = 0;\n")
+                    .append(indent).append("        ").append(propertyName).append(".index = 0;\n")
+                    .append(indent).append("        return ").append(propertyName).append(";\n")
+                    .append(indent).append("    }\n\n");
+            }
+
+            sb.append(indent).append("    ").append(propertyName).append(".wrap(segment);\n")
+                .append(indent).append("    return ").append(propertyName).append(";\n")
+                .append(indent).append("}\n");
+        }
+        else
+        {
+            sb.append("\n")
+                .append(indent).append("public ").append(groupClassName).append(' ').append(propertyName)
+                .append("Count(final int count)\n")
+                .append(indent).append("{\n")
+                .append(indent).append("    ").append(propertyName).append(".wrap(segment, count);\n")
+                .append(indent).append("    return ").append(propertyName).append(";\n")
+                .append(indent).append("}\n");
+        }
+    }
+
+    private void generateGroupClassHeader(
+        final StringBuilder sb,
+        final String groupClassName,
+        final String parentMessageClassName,
+        final Token groupToken,
+        final List<Token> tokens,
+        final List<Token> subGroupTokens,
+        final int index,
+        final boolean isDecoder,
+        final String indent)
+    {
+        final String ind = indent + INDENT;
+        final Token blockLengthToken = Generators.findFirst("blockLength", tokens, index);
+        final Token numInGroupToken = Generators.findFirst("numInGroup", tokens, index);
+        final int headerSize = tokens.get(index + 1).encodedLength();
+
+        sb.append(ind).append("public static final class ").append(groupClassName);
+        if (isDecoder)
+        {
+            sb.append("\n")
+                .append(ind).append("    implements Iterable<").append(groupClassName).append(">, ")
+                .append("java.util.Iterator<").append(groupClassName).append(">");
+        }
+
+        sb.append("\n")
+            .append(ind).append("{\n")
+            .append(ind).append("    public static final int HEADER_SIZE = ").append(headerSize).append(";\n")
+            .append(ind).append("    private final ").append(parentMessageClassName).append(" parentMessage;\n")
+            .append(ind).append("    private MemorySegment segment;\n")
+            .append(ind).append("    private int count;\n")
+            .append(ind).append("    private int index;\n")
+            .append(ind).append("    private long offset;\n");
+
+        if (isDecoder)
+        {
+            sb.append(ind).append("    private int blockLength;\n");
+        }
+
+        sb.append("\n")
+            .append(ind).append("    ").append(groupClassName).append("(final ").append(parentMessageClassName)
+            .append(" parentMessage)\n")
+            .append(ind).append("    {\n")
+            .append(ind).append("        this.parentMessage = parentMessage;\n");
+
+        final String codecType = isDecoder ? DECODER : ENCODER;
+        for (int i = 0, size = subGroupTokens.size(); i < size; i++)
+        {
+            final Token subGroupToken = subGroupTokens.get(i);
+            if (subGroupToken.signal() == Signal.BEGIN_GROUP)
+            {
+                sb.append(ind).append("        ").append(formatPropertyName(subGroupToken.name()))
+                    .append(" = new ").append(formatClassName(subGroupToken.name())).append(codecType)
+                    .append("(parentMessage);\n");
+                i += subGroupToken.componentTokenCount() - 1;
+            }
+        }
+
+        sb.append(ind).append("    }\n\n");
+
+        final int blockLength = groupToken.encodedLength();
+        generateGroupWrapAndNext(sb, groupClassName, blockLengthToken, numInGroupToken, blockLength, isDecoder, ind);
+        generateGroupAccessors(sb, groupClassName, blockLength, isDecoder, ind);
+    }
+
+    private void generateGroupWrapAndNext(
+        final StringBuilder sb,
+        final String groupClassName,
+        final Token blockLengthToken,
+        final Token numInGroupToken,
+        final int blockLength,
+        final boolean isDecoder,
+        final String ind)
+    {
+        if (isDecoder)
+        {
+            sb.append(ind).append("    public void wrap(final MemorySegment segment)\n")
+                .append(ind).append("    {\n")
+                .append(ind).append("        this.segment = segment;\n")
+                .append(ind).append("        index = 0;\n")
+                .append(ind).append("        final long limit = parentMessage.limit();\n")
+                .append(ind).append("        parentMessage.limit(limit + HEADER_SIZE);\n")
+                .append(ind).append("        blockLength = ")
+                .append(generateIntGet(blockLengthToken, "limit + " + blockLengthToken.offset())).append(";\n")
+                .append(ind).append("        count = ")
+                .append(generateIntGet(numInGroupToken, "limit + " + numInGroupToken.offset())).append(";\n")
+                .append(ind).append("    }\n\n")
+                .append(ind).append("    public ").append(groupClassName).append(" next()\n")
+                .append(ind).append("    {\n")
+                .append(ind).append("        if (index >= count)\n")
+                .append(ind).append("        {\n")
+                .append(ind).append("            throw new java.util.NoSuchElementException();\n")
+                .append(ind).append("        }\n\n")
+                .append(ind).append("        offset = parentMessage.limit();\n")
+                .append(ind).append("        parentMessage.limit(offset + blockLength);\n")
+                .append(ind).append("        ++index;\n\n")
+                .append(ind).append("        return this;\n")
+                .append(ind).append("    }\n\n");
+        }
+        else
+        {
+            final PrimitiveType numInGroupType = numInGroupToken.encoding().primitiveType();
+            final String minCount = generateLiteral(
+                numInGroupType, numInGroupToken.encoding().applicableMinValue().toString());
+            final String maxCount = generateLiteral(
+                numInGroupType, numInGroupToken.encoding().applicableMaxValue().toString());
+
+            sb.append(ind).append("    public void wrap(final MemorySegment segment, final int count)\n")
+                .append(ind).append("    {\n")
+                .append(ind).append("        if (count < ").append(minCount).append(" || count > ").append(maxCount)
+                .append(")\n")
+                .append(ind).append("        {\n")
+                .append(ind).append("            throw new IllegalArgumentException(")
+                .append("\"count outside allowed range: count=\" + count);\n")
+                .append(ind).append("        }\n\n")
+                .append(ind).append("        this.segment = segment;\n")
+                .append(ind).append("        index = 0;\n")
+                .append(ind).append("        this.count = count;\n")
+                .append(ind).append("        final long limit = parentMessage.limit();\n")
+                .append(ind).append("        parentMessage.limit(limit + HEADER_SIZE);\n")
+                .append(ind).append("        ")
+                .append(generatePut(blockLengthToken, "limit + " + blockLengthToken.offset(),
+                    Integer.toString(blockLength), "int")).append(";\n")
+                .append(ind).append("        ")
+                .append(generatePut(numInGroupToken, "limit + " + numInGroupToken.offset(), "count", "int"))
+                .append(";\n")
+                .append(ind).append("    }\n\n")
+                .append(ind).append("    public ").append(groupClassName).append(" next()\n")
+                .append(ind).append("    {\n")
+                .append(ind).append("        if (index >= count)\n")
+                .append(ind).append("        {\n")
+                .append(ind).append("            throw new java.util.NoSuchElementException();\n")
+                .append(ind).append("        }\n\n")
+                .append(ind).append("        offset = parentMessage.limit();\n")
+                .append(ind).append("        parentMessage.limit(offset + sbeBlockLength());\n")
+                .append(ind).append("        ++index;\n\n")
+                .append(ind).append("        return this;\n")
+                .append(ind).append("    }\n\n");
+        }
+
+    }
+
+    private static void generateGroupAccessors(
+        final StringBuilder sb,
+        final String groupClassName,
+        final int blockLength,
+        final boolean isDecoder,
+        final String ind)
+    {
+        sb.append(ind).append("    public static int sbeHeaderSize()\n")
+            .append(ind).append("    {\n")
+            .append(ind).append("        return HEADER_SIZE;\n")
+            .append(ind).append("    }\n\n")
+            .append(ind).append("    public static int sbeBlockLength()\n")
+            .append(ind).append("    {\n")
+            .append(ind).append("        return ").append(blockLength).append(";\n")
+            .append(ind).append("    }\n\n")
+            .append(ind).append("    public int count()\n")
+            .append(ind).append("    {\n")
+            .append(ind).append("        return count;\n")
+            .append(ind).append("    }\n");
+
+        if (isDecoder)
+        {
+            sb.append("\n")
+                .append(ind).append("    public int actingBlockLength()\n")
+                .append(ind).append("    {\n")
+                .append(ind).append("        return blockLength;\n")
+                .append(ind).append("    }\n\n")
+                .append(ind).append("    public int actingVersion()\n")
+                .append(ind).append("    {\n")
+                .append(ind).append("        return parentMessage.actingVersion;\n")
+                .append(ind).append("    }\n\n")
+                .append(ind).append("    public java.util.Iterator<").append(groupClassName).append("> iterator()\n")
+                .append(ind).append("    {\n")
+                .append(ind).append("        return this;\n")
+                .append(ind).append("    }\n\n")
+                .append(ind).append("    public void remove()\n")
+                .append(ind).append("    {\n")
+                .append(ind).append("        throw new UnsupportedOperationException();\n")
+                .append(ind).append("    }\n\n")
+                .append(ind).append("    public boolean hasNext()\n")
+                .append(ind).append("    {\n")
+                .append(ind).append("        return index < count;\n")
+                .append(ind).append("    }\n");
+        }
+    }
+
+    private void generateVarData(
+        final StringBuilder sb,
+        final String className,
+        final List<Token> tokens,
+        final boolean isDecoder,
+        final String indent)
+    {
+        for (int i = 0, size = tokens.size(); i < size; i++)
+        {
+            final Token token = tokens.get(i);
+            if (token.signal() != Signal.BEGIN_VAR_DATA)
+            {
+                continue;
+            }
+
+            final String propertyName = formatPropertyName(token.name());
+            final String upperName = toUpperFirstChar(token.name());
+            final Token lengthToken = Generators.findFirst("length", tokens, i);
+            final Token varDataToken = Generators.findFirst("varData", tokens, i);
+            final String characterEncoding = varDataToken.encoding().characterEncoding();
+            final int headerLength = lengthToken.encodedLength();
+            final String lengthGet = generateIntGet(lengthToken, "limit");
+
+            sb.append("\n")
+                .append(indent).append("public static int ").append(propertyName).append("Id()\n")
+                .append(indent).append("{\n")
+                .append(indent).append("    return ").append(token.id()).append(";\n")
+                .append(indent).append("}\n\n")
+                .append(indent).append("public static int ").append(propertyName).append("HeaderLength()\n")
+                .append(indent).append("{\n")
+                .append(indent).append("    return ").append(headerLength).append(";\n")
+                .append(indent).append("}\n");
+
+            if (isDecoder)
+            {
+                final String versionGuard = generateVersionGuard(token.version(), "0", indent);
+
+                sb.append("\n")
+                    .append(indent).append("public int ").append(propertyName).append("Length()\n")
+                    .append(indent).append("{\n")
+                    .append(versionGuard)
+                    .append(indent).append("    final long limit = parentMessage.limit();\n")
+                    .append(indent).append("    return ").append(lengthGet).append(";\n")
+                    .append(indent).append("}\n\n")
+                    .append(indent).append("public int skip").append(upperName).append("()\n")
+                    .append(indent).append("{\n")
+                    .append(versionGuard)
+                    .append(indent).append("    final long limit = parentMessage.limit();\n")
+                    .append(indent).append("    final int dataLength = ").append(lengthGet).append(";\n")
+                    .append(indent).append("    parentMessage.limit(limit + ").append(headerLength)
+                    .append(" + dataLength);\n\n")
+                    .append(indent).append("    return dataLength;\n")
+                    .append(indent).append("}\n");
+
+                generateVarDataGet(sb, upperName, "byte[]", "int", lengthGet, headerLength, versionGuard,
+                    "MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, limit + " + headerLength +
+                    ", dst, dstOffset, bytesCopied)", indent);
+                generateVarDataGet(sb, upperName, "MemorySegment", "long", lengthGet, headerLength, versionGuard,
+                    "MemorySegment.copy(segment, limit + " + headerLength + ", dst, dstOffset, bytesCopied)", indent);
+
+                if (null != characterEncoding)
+                {
+                    sb.append("\n")
+                        .append(indent).append("public String ").append(propertyName).append("()\n")
+                        .append(indent).append("{\n")
+                        .append(generateVersionGuard(token.version(), "\"\"", indent))
+                        .append(indent).append("    final long limit = parentMessage.limit();\n")
+                        .append(indent).append("    final int dataLength = ").append(lengthGet).append(";\n")
+                        .append(indent).append("    parentMessage.limit(limit + ").append(headerLength)
+                        .append(" + dataLength);\n\n")
+                        .append(indent).append("    final byte[] tmp = new byte[dataLength];\n")
+                        .append(indent).append("    MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, limit + ")
+                        .append(headerLength).append(", tmp, 0, dataLength);\n\n")
+                        .append(indent).append("    return new String(tmp, ").append(charset(characterEncoding))
+                        .append(");\n")
+                        .append(indent).append("}\n");
+                }
+            }
+            else
+            {
+                final String maxLength = generateLiteral(
+                    lengthToken.encoding().primitiveType(), lengthToken.encoding().applicableMaxValue().toString());
+                final String lengthPut = generatePut(lengthToken, "limit", "length", "int");
+
+                generateVarDataPut(sb, className, upperName, "byte[]", "int", maxLength, lengthPut, headerLength,
+                    "MemorySegment.copy(src, srcOffset, segment, ValueLayout.JAVA_BYTE, limit + " + headerLength +
+                    ", length)", indent);
+                generateVarDataPut(sb, className, upperName, "MemorySegment", "long", maxLength, lengthPut,
+                    headerLength, "MemorySegment.copy(src, srcOffset, segment, limit + " + headerLength + ", length)",
+                    indent);
+
+                if (null != characterEncoding)
+                {
+                    sb.append("\n")
+                        .append(indent).append("public ").append(className).append(' ').append(propertyName)
+                        .append("(final String value)\n")
+                        .append(indent).append("{\n")
+                        .append(indent).append("    final byte[] bytes = null == value || value.isEmpty() ?\n")
+                        .append(indent).append("        new byte[0] : value.getBytes(")
+                        .append(charset(characterEncoding)).append(");\n\n")
+                        .append(indent).append("    return put").append(upperName).append("(bytes, 0, bytes.length);\n")
+                        .append(indent).append("}\n");
+                }
+            }
+        }
+    }
+
+    private static void generateVarDataGet(
+        final StringBuilder sb,
+        final String upperName,
+        final String dstType,
+        final String dstOffsetType,
+        final String lengthGet,
+        final int headerLength,
+        final String versionGuard,
+        final String copy,
+        final String indent)
+    {
+        sb.append("\n")
+            .append(indent).append("public int get").append(upperName).append("(final ").append(dstType)
+            .append(" dst, final ").append(dstOffsetType).append(" dstOffset, final int length)\n")
+            .append(indent).append("{\n")
+            .append(versionGuard)
+            .append(indent).append("    final long limit = parentMessage.limit();\n")
+            .append(indent).append("    final int dataLength = ").append(lengthGet).append(";\n")
+            .append(indent).append("    final int bytesCopied = Math.min(length, dataLength);\n")
+            .append(indent).append("    parentMessage.limit(limit + ").append(headerLength)
+            .append(" + dataLength);\n")
+            .append(indent).append("    ").append(copy).append(";\n\n")
+            .append(indent).append("    return bytesCopied;\n")
+            .append(indent).append("}\n");
+    }
+
+    private static void generateVarDataPut(
+        final StringBuilder sb,
+        final String className,
+        final String upperName,
+        final String srcType,
+        final String srcOffsetType,
+        final String maxLength,
+        final String lengthPut,
+        final int headerLength,
+        final String copy,
+        final String indent)
+    {
+        sb.append("\n")
+            .append(indent).append("public ").append(className).append(" put").append(upperName)
+            .append("(final ").append(srcType).append(" src, final ").append(srcOffsetType)
+            .append(" srcOffset, final int length)\n")
+            .append(indent).append("{\n")
+            .append(indent).append("    if (length > ").append(maxLength).append(")\n")
+            .append(indent).append("    {\n")
+            .append(indent).append("        throw new IllegalStateException(")
+            .append("\"length > maxValue for type: \" + length);\n")
+            .append(indent).append("    }\n\n")
+            .append(indent).append("    final long limit = parentMessage.limit();\n")
+            .append(indent).append("    parentMessage.limit(limit + ").append(headerLength).append(" + length);\n")
+            .append(indent).append("    ").append(lengthPut).append(";\n")
+            .append(indent).append("    ").append(copy).append(";\n\n")
+            .append(indent).append("    return this;\n")
+            .append(indent).append("}\n");
+    }
+
+    private void generateFields(
+        final StringBuilder sb,
+        final String className,
+        final List<Token> tokens,
+        final boolean isDecoder,
+        final boolean inComposite,
+        final String indent)
+    {
+        Generators.forEachField(
+            tokens,
+            (fieldToken, typeToken) ->
+            {
+                final String propertyName = formatPropertyName(fieldToken.name());
+                final int version = inComposite ? 0 : fieldToken.version();
+
+                if (!inComposite)
+                {
+                    sb.append("\n")
+                        .append(indent).append("public static int ").append(propertyName).append("Id()\n")
+                        .append(indent).append("{\n")
+                        .append(indent).append("    return ").append(fieldToken.id()).append(";\n")
+                        .append(indent).append("}\n\n")
+                        .append(indent).append("public static int ").append(propertyName).append("SinceVersion()\n")
+                        .append(indent).append("{\n")
+                        .append(indent).append("    return ").append(fieldToken.version()).append(";\n")
+                        .append(indent).append("}\n");
+                }
+
+                generateProperty(sb, className, propertyName, fieldToken, typeToken, version, isDecoder, indent);
+            });
+    }
+
+    private void generateProperty(
+        final StringBuilder sb,
+        final String className,
+        final String propertyName,
+        final Token fieldToken,
+        final Token typeToken,
+        final int version,
+        final boolean isDecoder,
+        final String indent)
+    {
+        switch (typeToken.signal())
+        {
+            case ENCODING:
+                if (typeToken.isConstantEncoding())
+                {
+                    generateConstProperty(sb, propertyName, typeToken, indent);
+                }
+                else if (typeToken.arrayLength() > 1)
+                {
+                    generateArrayProperty(sb, className, propertyName, typeToken, version, isDecoder, indent);
+                }
+                else
+                {
+                    generatePrimitiveProperty(sb, className, propertyName, typeToken, version, isDecoder, indent);
+                }
+                break;
+
+            case BEGIN_ENUM:
+                generateEnumProperty(sb, className, propertyName, fieldToken, typeToken, version, isDecoder, indent);
+                break;
+
+            case BEGIN_SET:
+            case BEGIN_COMPOSITE:
+                generateFlyweightProperty(sb, propertyName, typeToken, version, isDecoder, indent);
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    private void generatePrimitiveProperty(
+        final StringBuilder sb,
+        final String className,
+        final String propertyName,
+        final Token typeToken,
+        final int version,
+        final boolean isDecoder,
+        final String indent)
+    {
+        final Encoding encoding = typeToken.encoding();
+        final PrimitiveType primitiveType = encoding.primitiveType();
+        final String javaTypeName = javaTypeName(primitiveType);
+        final String index = "offset + " + typeToken.offset();
+
+        generateEncodingOffsetAndLength(sb, propertyName, typeToken, indent);
+        generatePrimitiveValueMethod(sb, javaTypeName, propertyName, "NullValue",
+            generateLiteral(primitiveType, encoding.applicableNullValue().toString()), indent);
+        generatePrimitiveValueMethod(sb, javaTypeName, propertyName, "MinValue",
+            generateLiteral(primitiveType, encoding.applicableMinValue().toString()), indent);
+        generatePrimitiveValueMethod(sb, javaTypeName, propertyName, "MaxValue",
+            generateLiteral(primitiveType, encoding.applicableMaxValue().toString()), indent);
+
+        if (isDecoder)
+        {
+            sb.append("\n")
+                .append(indent).append("public ").append(javaTypeName).append(' ').append(propertyName).append("()\n")
+                .append(indent).append("{\n")
+                .append(generateVersionGuard(version, propertyName + "NullValue()", indent))
+                .append(indent).append("    return ").append(generateGet(primitiveType, index)).append(";\n")
+                .append(indent).append("}\n");
+        }
+        else
+        {
+            sb.append("\n")
+                .append(indent).append("public ").append(className).append(' ').append(propertyName)
+                .append("(final ").append(javaTypeName).append(" value)\n")
+                .append(indent).append("{\n")
+                .append(indent).append("    ").append(generatePut(primitiveType, index, "value", javaTypeName))
+                .append(";\n")
+                .append(indent).append("    return this;\n")
+                .append(indent).append("}\n");
+        }
+    }
+
+    private void generateArrayProperty(
+        final StringBuilder sb,
+        final String className,
+        final String propertyName,
+        final Token typeToken,
+        final int version,
+        final boolean isDecoder,
+        final String indent)
+    {
+        final Encoding encoding = typeToken.encoding();
+        final PrimitiveType primitiveType = encoding.primitiveType();
+        final String javaTypeName = javaTypeName(primitiveType);
+        final int arrayLength = typeToken.arrayLength();
+        final int offset = typeToken.offset();
+        final String upperName = toUpperFirstChar(propertyName);
+        final String index = "offset + " + offset + " + (index * " + primitiveType.size() + ")";
+
+        generateEncodingOffsetAndLength(sb, propertyName, typeToken, indent);
+        sb.append("\n")
+            .append(indent).append("public static int ").append(propertyName).append("Length()\n")
+            .append(indent).append("{\n")
+            .append(indent).append("    return ").append(arrayLength).append(";\n")
+            .append(indent).append("}\n");
+
+        final String boundsCheck =
+            indent + "    if (index < 0 || index >= " + arrayLength + ")\n" +
+            indent + "    {\n" +
+            indent + "        throw new IndexOutOfBoundsException(\"index out of range: index=\" + index);\n" +
+            indent + "    }\n\n";
+
+        if (isDecoder)
+        {
+            final String nullValue = generateLiteral(primitiveType, encoding.applicableNullValue().toString());
+            sb.append("\n")
+                .append(indent).append("public ").append(javaTypeName).append(' ').append(propertyName)
+                .append("(final int index)\n")
+                .append(indent).append("{\n")
+                .append(boundsCheck)
+                .append(generateVersionGuard(version, nullValue, indent))
+                .append(indent).append("    return ").append(generateGet(primitiveType, index)).append(";\n")
+                .append(indent).append("}\n");
+
+            if (PrimitiveType.CHAR == primitiveType)
+            {
+                sb.append("\n")
+                    .append(indent).append("public int get").append(upperName)
+                    .append("(final byte[] dst, final int dstOffset)\n")
+                    .append(indent).append("{\n")
+                    .append(indent).append("    final int length = ").append(arrayLength).append(";\n")
+                    .append(indent).append("    if (dstOffset < 0 || dstOffset > (dst.length - length))\n")
+                    .append(indent).append("    {\n")
+                    .append(indent).append("        throw new IndexOutOfBoundsException(")
+                    .append("\"Copy will go out of range: offset=\" + dstOffset);\n")
+                    .append(indent).append("    }\n\n")
+                    .append(generateVersionGuard(version, "0", indent))
+                    .append(indent).append("    MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, offset + ")
+                    .append(offset).append(", dst, dstOffset, length);\n\n")
+                    .append(indent).append("    return length;\n")
+                    .append(indent).append("}\n\n")
+                    .append(indent).append("public String ").append(propertyName).append("()\n")
+                    .append(indent).append("{\n")
+                    .append(generateVersionGuard(version, "\"\"", indent))
+                    .append(indent).append("    final byte[] dst = new byte[").append(arrayLength).append("];\n")
+                    .append(indent).append("    MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, offset + ")
+                    .append(offset).append(", dst, 0, ").append(arrayLength).append(");\n\n")
+                    .append(indent).append("    int end = 0;\n")
+                    .append(indent).append("    for (; end < ").append(arrayLength)
+                    .append(" && dst[end] != 0; ++end);\n\n")
+                    .append(indent).append("    return new String(dst, 0, end, ")
+                    .append(charset(encoding.characterEncoding())).append(");\n")
+                    .append(indent).append("}\n");
+            }
+        }
+        else
+        {
+            sb.append("\n")
+                .append(indent).append("public ").append(className).append(' ').append(propertyName)
+                .append("(final int index, final ").append(javaTypeName).append(" value)\n")
+                .append(indent).append("{\n")
+                .append(boundsCheck)
+                .append(indent).append("    ").append(generatePut(primitiveType, index, "value", javaTypeName))
+                .append(";\n")
+                .append(indent).append("    return this;\n")
+                .append(indent).append("}\n");
+
+            if (PrimitiveType.CHAR == primitiveType)
+            {
+                generateCharArrayEncoder(sb, className, propertyName, typeToken, indent);
+            }
+        }
+    }
+
+    private static void generateCharArrayEncoder(
+        final StringBuilder sb,
+        final String className,
+        final String propertyName,
+        final Token typeToken,
+        final String indent)
+    {
+        final int arrayLength = typeToken.arrayLength();
+        final int offset = typeToken.offset();
+        final String upperName = toUpperFirstChar(propertyName);
+
+        sb.append("\n")
+            .append(indent).append("public ").append(className).append(" put").append(upperName)
+            .append("(final byte[] src, final int srcOffset)\n")
+            .append(indent).append("{\n")
+            .append(indent).append("    final int length = ").append(arrayLength).append(";\n")
+            .append(indent).append("    if (srcOffset < 0 || srcOffset > (src.length - length))\n")
+            .append(indent).append("    {\n")
+            .append(indent).append("        throw new IndexOutOfBoundsException(")
+            .append("\"Copy will go out of range: offset=\" + srcOffset);\n")
+            .append(indent).append("    }\n\n")
+            .append(indent).append("    MemorySegment.copy(src, srcOffset, segment, ValueLayout.JAVA_BYTE, offset + ")
+            .append(offset).append(", length);\n\n")
+            .append(indent).append("    return this;\n")
+            .append(indent).append("}\n\n")
+            .append(indent).append("public ").append(className).append(' ').append(propertyName)
+            .append("(final String src)\n")
+            .append(indent).append("{\n")
+            .append(indent).append("    final int length = ").append(arrayLength).append(";\n")
+            .append(indent).append("    final byte[] bytes = null == src ? new byte[0] : src.getBytes(")
+            .append(charset(typeToken.encoding().characterEncoding())).append(");\n")
+            .append(indent).append("    if (bytes.length > length)\n")
+            .append(indent).append("    {\n")
+            .append(indent).append("        throw new IndexOutOfBoundsException(")
+            .append("\"String too large for copy: byte length=\" + bytes.length);\n")
+            .append(indent).append("    }\n\n")
+            .append(indent).append("    MemorySegment.copy(bytes, 0, segment, ValueLayout.JAVA_BYTE, offset + ")
+            .append(offset).append(", bytes.length);\n")
+            .append(indent).append("    for (int start = bytes.length; start < length; ++start)\n")
+            .append(indent).append("    {\n")
+            .append(indent).append("        segment.set(ValueLayout.JAVA_BYTE, offset + ").append(offset)
+            .append(" + start, (byte)0);\n")
+            .append(indent).append("    }\n\n")
+            .append(indent).append("    return this;\n")
+            .append(indent).append("}\n");
+    }
+
+    private static void generateConstProperty(
+        final StringBuilder sb, final String propertyName, final Token typeToken, final String indent)
+    {
+        final Encoding encoding = typeToken.encoding();
+        final PrimitiveType primitiveType = encoding.primitiveType();
+
+        if (PrimitiveType.CHAR == primitiveType &&
+            encoding.constValue().byteArrayValue(primitiveType).length > 1)
+        {
+            sb.append("\n")
+                .append(indent).append("public String ").append(propertyName).append("()\n")
+                .append(indent).append("{\n")
+                .append(indent).append("    return \"").append(encoding.constValue()).append("\";\n")
+                .append(indent).append("}\n");
+        }
+        else
+        {
+            sb.append("\n")
+                .append(indent).append("public ").append(javaTypeName(primitiveType)).append(' ')
+                .append(propertyName).append("()\n")
+                .append(indent).append("{\n")
+                .append(indent).append("    return ")
+                .append(generateLiteral(primitiveType, encoding.constValue().toString())).append(";\n")
+                .append(indent).append("}\n");
+        }
+    }
+
+    private void generateEnumProperty(
+        final StringBuilder sb,
+        final String className,
+        final String propertyName,
+        final Token fieldToken,
+        final Token typeToken,
+        final int version,
+        final boolean isDecoder,
+        final String indent)
+    {
+        final String enumName = formatClassName(typeToken.applicableTypeName());
+        final PrimitiveType primitiveType = typeToken.encoding().primitiveType();
+        final String javaTypeName = javaTypeName(primitiveType);
+        final String index = "offset + " + typeToken.offset();
+
+        if (fieldToken.isConstantEncoding())
+        {
+            if (isDecoder)
+            {
+                final String enumValue = formatClassName(fieldToken.encoding().constValue().toString());
+                sb.append("\n")
+                    .append(indent).append("public ").append(enumName).append(' ').append(propertyName)
+                    .append("()\n")
+                    .append(indent).append("{\n")
+                    .append(indent).append("    return ").append(enumValue).append(";\n")
+                    .append(indent).append("}\n");
+            }
+
+            return;
+        }
+
+        generateEncodingOffsetAndLength(sb, propertyName, typeToken, indent);
+
+        if (isDecoder)
+        {
+            final String nullValue = generateLiteral(
+                primitiveType, typeToken.encoding().applicableNullValue().toString());
+            sb.append("\n")
+                .append(indent).append("public ").append(javaTypeName).append(' ').append(propertyName)
+                .append("Raw()\n")
+                .append(indent).append("{\n")
+                .append(generateVersionGuard(version, nullValue, indent))
+                .append(indent).append("    return ").append(generateGet(primitiveType, index)).append(";\n")
+                .append(indent).append("}\n\n")
+                .append(indent).append("public ").append(enumName).append(' ').append(propertyName).append("()\n")
+                .append(indent).append("{\n")
+                .append(generateVersionGuard(version, enumName + ".NULL_VAL", indent))
+                .append(indent).append("    return ").append(enumName).append(".get(")
+                .append(generateGet(primitiveType, index)).append(");\n")
+                .append(indent).append("}\n");
+        }
+        else
+        {
+            sb.append("\n")
+                .append(indent).append("public ").append(className).append(' ').append(propertyName)
+                .append("(final ").append(enumName).append(" value)\n")
+                .append(indent).append("{\n")
+                .append(indent).append("    ")
+                .append(generatePut(primitiveType, index, "value.value()", javaTypeName)).append(";\n")
+                .append(indent).append("    return this;\n")
+                .append(indent).append("}\n");
+        }
+    }
+
+    private void generateFlyweightProperty(
+        final StringBuilder sb,
+        final String propertyName,
+        final Token typeToken,
+        final int version,
+        final boolean isDecoder,
+        final String indent)
+    {
+        final String flyweightClassName =
+            formatClassName(typeToken.applicableTypeName()) + (isDecoder ? DECODER : ENCODER);
+
+        generateEncodingOffsetAndLength(sb, propertyName, typeToken, indent);
+        sb.append("\n")
+            .append(indent).append("private final ").append(flyweightClassName).append(' ').append(propertyName)
+            .append(" = new ").append(flyweightClassName).append("();\n\n")
+            .append(indent).append("public ").append(flyweightClassName).append(' ').append(propertyName)
+            .append("()\n")
+            .append(indent).append("{\n")
+            .append(isDecoder ? generateVersionGuard(version, "null", indent) : "")
+            .append(indent).append("    ").append(propertyName).append(".wrap(segment, offset + ")
+            .append(typeToken.offset()).append(");\n")
+            .append(indent).append("    return ").append(propertyName).append(";\n")
+            .append(indent).append("}\n");
+    }
+
+    private static void generateEncodingOffsetAndLength(
+        final StringBuilder sb, final String propertyName, final Token typeToken, final String indent)
+    {
+        sb.append("\n")
+            .append(indent).append("public static int ").append(propertyName).append("EncodingOffset()\n")
+            .append(indent).append("{\n")
+            .append(indent).append("    return ").append(typeToken.offset()).append(";\n")
+            .append(indent).append("}\n\n")
+            .append(indent).append("public static int ").append(propertyName).append("EncodingLength()\n")
+            .append(indent).append("{\n")
+            .append(indent).append("    return ").append(typeToken.encodedLength()).append(";\n")
+            .append(indent).append("}\n");
+    }
+
+    private static void generatePrimitiveValueMethod(
+        final StringBuilder sb,
+        final String javaTypeName,
+        final String propertyName,
+        final String suffix,
+        final String literal,
+        final String indent)
+    {
+        sb.append("\n")
+            .append(indent).append("public static ").append(javaTypeName).append(' ').append(propertyName)
+            .append(suffix).append("()\n")
+            .append(indent).append("{\n")
+            .append(indent).append("    return ").append(literal).append(";\n")
+            .append(indent).append("}\n");
+    }
+
+    private static String generateVersionGuard(final int version, final String nullValue, final String indent)
+    {
+        if (0 == version)
+        {
+            return "";
+        }
+
+        return
+            indent + "    if (parentMessage.actingVersion < " + version + ")\n" +
+            indent + "    {\n" +
+            indent + "        return " + nullValue + ";\n" +
+            indent + "    }\n\n";
+    }
+
+    private void generateComposite(final List<Token> tokens) throws IOException
+    {
+        generateFixedFlyweight(tokens, DECODER);
+        generateFixedFlyweight(tokens, ENCODER);
+    }
+
+    private void generateBitSet(final List<Token> tokens) throws IOException
+    {
+        generateFixedFlyweight(tokens, DECODER);
+        generateFixedFlyweight(tokens, ENCODER);
+    }
+
+    private void generateFixedFlyweight(final List<Token> tokens, final String codecType) throws IOException
+    {
+        final Token token = tokens.get(0);
+        final String className = formatClassName(token.applicableTypeName()) + codecType;
+        final boolean isDecoder = DECODER.equals(codecType);
+
+        final StringBuilder sb = new StringBuilder();
+        generateTypeJavadoc(sb, BASE_INDENT, token);
+        sb.append("@SuppressWarnings(\"all\")\n")
+            .append("public final class ").append(className).append("\n{\n")
+            .append(generateLayouts(tokens))
+            .append("    public static final int ENCODED_LENGTH = ").append(token.encodedLength()).append(";\n")
+            .append("    private MemorySegment segment;\n")
+            .append("    private long offset;\n\n")
+            .append("    public ").append(className).append(" wrap(final MemorySegment segment, final long offset)\n")
+            .append("    {\n")
+            .append("        this.segment = segment;\n")
+            .append("        this.offset = offset;\n\n")
+            .append("        return this;\n")
+            .append("    }\n\n")
+            .append("    public MemorySegment segment()\n")
+            .append("    {\n")
+            .append("        return segment;\n")
+            .append("    }\n\n")
+            .append("    public long offset()\n")
+            .append("    {\n")
+            .append("        return offset;\n")
+            .append("    }\n\n")
+            .append("    public int encodedLength()\n")
+            .append("    {\n")
+            .append("        return ENCODED_LENGTH;\n")
+            .append("    }\n");
+
+        if (token.signal() == Signal.BEGIN_SET)
+        {
+            generateChoices(sb, className, token, tokens.subList(1, tokens.size() - 1), isDecoder);
+        }
+        else
+        {
+            for (int i = 1, end = tokens.size() - 1; i < end; )
+            {
+                final Token memberToken = tokens.get(i);
+                final String propertyName = formatPropertyName(memberToken.name());
+                generateProperty(sb, className, propertyName, memberToken, memberToken, 0, isDecoder, INDENT);
+                i += memberToken.componentTokenCount();
+            }
+        }
+
+        sb.append("}\n");
+
+        try (Writer out = outputManager.createOutput(className))
+        {
+            out.append(generateFileHeader());
+            out.append(sb);
+        }
+    }
+
+    private void generateChoices(
+        final StringBuilder sb,
+        final String className,
+        final Token setToken,
+        final List<Token> choiceTokens,
+        final boolean isDecoder)
+    {
+        final PrimitiveType primitiveType = setToken.encoding().primitiveType();
+        final String javaTypeName = javaTypeName(primitiveType);
+        final String one = "long".equals(javaTypeName) ? "1L" : "1";
+        final String get = generateGet(primitiveType, "offset");
+
+        if (isDecoder)
+        {
+            sb.append("\n")
+                .append("    public ").append(javaTypeName).append(" rawValue()\n")
+                .append("    {\n")
+                .append("        return ").append(get).append(";\n")
+                .append("    }\n\n")
+                .append("    public boolean isEmpty()\n")
+                .append("    {\n")
+                .append("        return 0 == ").append(get).append(";\n")
+                .append("    }\n");
+        }
+        else
+        {
+            sb.append("\n")
+                .append("    public ").append(className).append(" clear()\n")
+                .append("    {\n")
+                .append("        ").append(generatePut(primitiveType, "offset", "0", "int")).append(";\n")
+                .append("        return this;\n")
+                .append("    }\n");
+        }
+
+        for (final Token choiceToken : choiceTokens)
+        {
+            final String choiceName = formatPropertyName(choiceToken.name());
+            final String bit = "(" + one + " << " + choiceToken.encoding().constValue().toString() + ")";
+
+            if (isDecoder)
+            {
+                sb.append("\n")
+                    .append("    public boolean ").append(choiceName).append("()\n")
+                    .append("    {\n")
+                    .append("        return 0 != (").append(get).append(" & ").append(bit).append(");\n")
+                    .append("    }\n");
+            }
+            else
+            {
+                sb.append("\n")
+                    .append("    public ").append(className).append(' ').append(choiceName)
+                    .append("(final boolean value)\n")
+                    .append("    {\n")
+                    .append("        ").append(javaTypeName).append(" bits = ").append(get).append(";\n")
+                    .append("        bits = (").append(javaTypeName).append(")(value ? bits | ").append(bit)
+                    .append(" : bits & ~").append(bit).append(");\n")
+                    .append("        ").append(generatePut(primitiveType, "offset", "bits", javaTypeName))
+                    .append(";\n")
+                    .append("        return this;\n")
+                    .append("    }\n");
+            }
+        }
+    }
+
+    private void generateEnum(final List<Token> tokens) throws IOException
+    {
+        final Token enumToken = tokens.get(0);
+        final String enumName = formatClassName(enumToken.applicableTypeName());
+        final Encoding encoding = enumToken.encoding();
+        final PrimitiveType primitiveType = encoding.primitiveType();
+        final String javaTypeName = javaTypeName(primitiveType);
+        final String nullValue = encoding.applicableNullValue().toString();
+        final String nullLiteral = generateLiteral(primitiveType, nullValue);
+        final List<Token> valueTokens = tokens.subList(1, tokens.size() - 1);
+
+        final StringBuilder sb = new StringBuilder();
+        generateTypeJavadoc(sb, BASE_INDENT, enumToken);
+        sb.append("@SuppressWarnings(\"all\")\n")
+            .append("public enum ").append(enumName).append("\n{\n");
+
+        for (final Token token : valueTokens)
+        {
+            final String constValue = generateLiteral(primitiveType, token.encoding().constValue().toString());
+            generateTypeJavadoc(sb, INDENT, token);
+            sb.append(INDENT).append(formatForJavaKeyword(token.name())).append('(').append(constValue)
+                .append("),\n\n");
+        }
+
+        if (shouldDecodeUnknownEnumValues)
+        {
+            sb.append(INDENT).append("SBE_UNKNOWN(").append(nullLiteral).append("),\n\n");
+        }
+
+        sb.append(INDENT).append("NULL_VAL(").append(nullLiteral).append(");\n\n")
+            .append("    private final ").append(javaTypeName).append(" value;\n\n")
+            .append("    ").append(enumName).append("(final ").append(javaTypeName).append(" value)\n")
+            .append("    {\n")
+            .append("        this.value = value;\n")
+            .append("    }\n\n")
+            .append("    public ").append(javaTypeName).append(" value()\n")
+            .append("    {\n")
+            .append("        return value;\n")
+            .append("    }\n\n")
+            .append("    public static ").append(enumName).append(" get(final ").append(javaTypeName)
+            .append(" value)\n")
+            .append("    {\n")
+            .append("        switch (value)\n")
+            .append("        {\n");
+
+        for (final Token token : valueTokens)
+        {
+            sb.append("            case ").append(token.encoding().constValue().toString()).append(": return ")
+                .append(formatForJavaKeyword(token.name())).append(";\n");
+        }
+
+        sb.append("            case ").append(nullValue).append(": return NULL_VAL;\n")
+            .append("        }\n\n")
+            .append(shouldDecodeUnknownEnumValues ?
+                "        return SBE_UNKNOWN;\n" :
+                "        throw new IllegalArgumentException(\"Unknown value: \" + value);\n")
+            .append("    }\n")
+            .append("}\n");
+
+        try (Writer out = outputManager.createOutput(enumName))
+        {
+            out.append("/* Generated SBE (Simple Binary Encoding) message codec. */\n")
+                .append("package ").append(ir.applicableNamespace()).append(";\n\n")
+                .append(sb);
+        }
+    }
+
+    private CharSequence generateFileHeader()
+    {
+        return
+            "/* Generated SBE (Simple Binary Encoding) message codec. */\n" +
+            "package " + ir.applicableNamespace() + ";\n\n" +
+            "import java.lang.foreign.MemorySegment;\n" +
+            "import java.lang.foreign.ValueLayout;\n" +
+            "import java.nio.ByteOrder;\n\n";
+    }
+
+    private CharSequence generateLayouts(final List<Token> tokens)
+    {
+        final TreeSet<String> valueTypes = new TreeSet<>();
+        for (final Token token : tokens)
+        {
+            final Signal signal = token.signal();
+            if ((Signal.ENCODING == signal || Signal.BEGIN_ENUM == signal || Signal.BEGIN_SET == signal) &&
+                !token.isConstantEncoding() && token.encoding().primitiveType().size() > 1)
+            {
+                valueTypes.add(valueTypeName(token.encoding().primitiveType()));
+            }
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        for (final String valueType : valueTypes)
+        {
+            final String upperName = valueType.toUpperCase();
+            sb.append("    private static final ValueLayout.Of").append(toUpperFirstChar(valueType)).append(' ')
+                .append(upperName).append(byteOrderSuffix).append(" =\n")
+                .append("        ValueLayout.JAVA_").append(upperName).append("_UNALIGNED.withOrder(")
+                .append(byteOrder).append(");\n");
+        }
+
+        if (sb.length() > 0)
+        {
+            sb.append('\n');
+        }
+
+        return sb;
+    }
+
+    private String generateGet(final PrimitiveType type, final String index)
+    {
+        final String layout = layoutName(type);
+        switch (type)
+        {
+            case CHAR:
+            case INT8:
+                return "segment.get(ValueLayout.JAVA_BYTE, " + index + ")";
+
+            case UINT8:
+                return "((short)(segment.get(ValueLayout.JAVA_BYTE, " + index + ") & 0xFF))";
+
+            case UINT16:
+                return "(segment.get(" + layout + ", " + index + ") & 0xFFFF)";
+
+            case UINT32:
+                return "(segment.get(" + layout + ", " + index + ") & 0xFFFF_FFFFL)";
+
+            default:
+                return "segment.get(" + layout + ", " + index + ")";
+        }
+    }
+
+    private String generateIntGet(final Token token, final String index)
+    {
+        final PrimitiveType type = token.encoding().primitiveType();
+        final String get = generateGet(type, index);
+
+        return "long".equals(javaTypeName(type)) ? "(int)" + get : get;
+    }
+
+    private String generatePut(final Token token, final String index, final String value, final String valueType)
+    {
+        return generatePut(token.encoding().primitiveType(), index, value, valueType);
+    }
+
+    private String generatePut(
+        final PrimitiveType type, final String index, final String value, final String valueType)
+    {
+        final String valueTypeName = valueTypeName(type);
+        final String castValue = valueTypeName.equals(valueType) ? value : "(" + valueTypeName + ")" + value;
+        final String layout = 1 == type.size() ? "ValueLayout.JAVA_BYTE" : layoutName(type);
+
+        return "segment.set(" + layout + ", " + index + ", " + castValue + ")";
+    }
+
+    private String layoutName(final PrimitiveType type)
+    {
+        return valueTypeName(type).toUpperCase() + byteOrderSuffix;
+    }
+
+    private static String valueTypeName(final PrimitiveType type)
+    {
+        switch (type)
+        {
+            case CHAR:
+            case INT8:
+            case UINT8:
+                return "byte";
+
+            case INT16:
+            case UINT16:
+                return "short";
+
+            case INT32:
+            case UINT32:
+                return "int";
+
+            case INT64:
+            case UINT64:
+                return "long";
+
+            case FLOAT:
+                return "float";
+
+            default:
+                return "double";
+        }
+    }
+}
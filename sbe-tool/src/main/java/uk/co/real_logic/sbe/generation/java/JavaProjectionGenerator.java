@@ -0,0 +1,1155 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.generation.java;
+
+import org.agrona.Strings;
+import org.agrona.Verify;
+import org.agrona.generation.DynamicPackageOutputManager;
+import uk.co.real_logic.sbe.PrimitiveType;
+import uk.co.real_logic.sbe.generation.CodeGenerator;
+import uk.co.real_logic.sbe.generation.Generators;
+import uk.co.real_logic.sbe.ir.Encoding;
+import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.ir.Signal;
+import uk.co.real_logic.sbe.ir.Token;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static uk.co.real_logic.sbe.generation.Generators.toUpperFirstChar;
+import static uk.co.real_logic.sbe.generation.java.JavaGenerator.byteOrderString;
+import static uk.co.real_logic.sbe.generation.java.JavaGenerator.generateGet;
+import static uk.co.real_logic.sbe.generation.java.JavaUtil.*;
+import static uk.co.real_logic.sbe.ir.GenerationUtil.collectFields;
+import static uk.co.real_logic.sbe.ir.GenerationUtil.collectGroups;
+import static uk.co.real_logic.sbe.ir.GenerationUtil.collectVarData;
+
+/**
+ * Generate projection decoders for the Java programming language which decode only the fields, groups, and var data
+ * of a message selected by a projection and skip over the rest.
+ * <p>
+ * A projection is a list of entries of a message name followed by the dot separated path of a field, group, or var
+ * data, e.g. {@code Car.serialNumber} or {@code Car.fuelFigures.speed}. A path to a group selects the whole group and
+ * an entry of only the message name selects the whole message. The decoder is generated as
+ * {@code <Message>ProjectionDecoder} alongside, and using the types of, the codecs from the {@link JavaGenerator}.
+ * <p>
+ * Fields of a block can be accessed in any order. Groups and var data must be accessed in schema order and those
+ * which are not accessed, or not projected, are skipped on the way to the next one accessed. The skips are generated
+ * per group with a group of only fixed length entries skipped with a single multiplication of its count by its
+ * block length, rather than by iterating the entries as a full decoder would.
+ */
+public class JavaProjectionGenerator implements CodeGenerator
+{
+    private static final String INDENT = "    ";
+    private static final String BASE_INDENT = "";
+    private static final String CLASS_SUFFIX = "ProjectionDecoder";
+
+    private final Ir ir;
+    private final String fqReadOnlyBuffer;
+    private final String readOnlyBuffer;
+    private final boolean shouldSupportTypesPackageNames;
+    private final DynamicPackageOutputManager outputManager;
+    private final Map<String, Set<String>> pathsByMessageName = new LinkedHashMap<>();
+
+    /**
+     * Create a new Java projection decoder {@link CodeGenerator}.
+     *
+     * @param ir                             for the messages and types.
+     * @param readOnlyBuffer                 implementation used for decoding, fully qualified.
+     * @param shouldSupportTypesPackageNames generator support for types in their own package.
+     * @param projection                     entries of message name and path, blank and {@code #} lines ignored.
+     * @param outputManager                  for generating the decoders to.
+     */
+    public JavaProjectionGenerator(
+        final Ir ir,
+        final String readOnlyBuffer,
+        final boolean shouldSupportTypesPackageNames,
+        final Collection<String> projection,
+        final DynamicPackageOutputManager outputManager)
+    {
+        Verify.notNull(ir, "ir");
+        Verify.notNull(readOnlyBuffer, "readOnlyBuffer");
+        Verify.notNull(projection, "projection");
+        Verify.notNull(outputManager, "outputManager");
+
+        this.ir = ir;
+        this.fqReadOnlyBuffer = readOnlyBuffer;
+        this.readOnlyBuffer = readOnlyBuffer.substring(readOnlyBuffer.lastIndexOf('.') + 1);
+        this.shouldSupportTypesPackageNames = shouldSupportTypesPackageNames;
+        this.outputManager = outputManager;
+
+        for (final String line : projection)
+        {
+            final String entry = line.trim();
+            if (entry.isEmpty() || entry.startsWith("#"))
+            {
+                continue;
+            }
+
+            final int dotIndex = entry.indexOf('.');
+            final String messageName = -1 == dotIndex ? entry : entry.substring(0, dotIndex);
+            final String path = -1 == dotIndex ? "" : entry.substring(dotIndex + 1);
+            pathsByMessageName.computeIfAbsent(messageName, (ignore) -> new LinkedHashSet<>()).add(path);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void generate() throws IOException
+    {
+        for (final Map.Entry<String, Set<String>> entry : pathsByMessageName.entrySet())
+        {
+            final List<Token> tokens = findMessage(entry.getKey());
+            if (null == tokens)
+            {
+                throw new IllegalArgumentException("projection of unknown message: " + entry.getKey());
+            }
+
+            generateMessage(tokens, entry.getValue());
+        }
+    }
+
+    private List<Token> findMessage(final String name)
+    {
+        for (final List<Token> tokens : ir.messages())
+        {
+            if (tokens.get(0).name().equals(name))
+            {
+                return tokens;
+            }
+        }
+
+        return null;
+    }
+
+    private void generateMessage(final List<Token> tokens, final Set<String> paths) throws IOException
+    {
+        final Token msgToken = tokens.get(0);
+        final String className = formatClassName(msgToken.name()) + CLASS_SUFFIX;
+        final Body body = new Body(tokens.subList(1, tokens.size() - 1));
+
+        final Set<String> knownPaths = new TreeSet<>();
+        knownPaths.add("");
+        collectPaths(body, "", knownPaths);
+        for (final String path : paths)
+        {
+            if (!knownPaths.contains(path))
+            {
+                throw new IllegalArgumentException(
+                    "projection of unknown field, group, or var data: " + msgToken.name() + "." + path);
+            }
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        generateTypeJavadoc(sb, BASE_INDENT, msgToken);
+        sb.append("@SuppressWarnings(\"all\")\n")
+            .append("public final class ").append(className).append("\n{\n");
+        generateMessageFlyweight(sb, className, msgToken, body, paths);
+        generateFields(sb, body.fields, "", paths, false, INDENT);
+        generateSections(sb, className, body, "", paths, false, INDENT);
+        generateGroupSkips(sb, body.groups, "", INDENT);
+        sb.append("}\n");
+
+        final String packageName = typesPackageName(msgToken);
+        outputManager.setPackageName(packageName);
+        try (Writer out = outputManager.createOutput(className))
+        {
+            out.append("/* Generated SBE (Simple Binary Encoding) message codec. */\n")
+                .append("package ").append(packageName).append(";\n\n")
+                .append("import ").append(fqReadOnlyBuffer).append(";\n");
+
+            for (final String typesPackageName : typesPackageNames())
+            {
+                if (!typesPackageName.equals(packageName))
+                {
+                    out.append("import ").append(typesPackageName).append(".*;\n");
+                }
+            }
+
+            out.append("\n").append(sb);
+        }
+    }
+
+    private String typesPackageName(final Token token)
+    {
+        if (shouldSupportTypesPackageNames && null != token.packageName())
+        {
+            return token.packageName();
+        }
+
+        return ir.applicableNamespace();
+    }
+
+    private Set<String> typesPackageNames()
+    {
+        final Set<String> packageNames = new TreeSet<>();
+        packageNames.add(typesPackageName(ir.headerStructure().tokens().get(0)));
+        for (final List<Token> tokens : ir.types())
+        {
+            packageNames.add(typesPackageName(tokens.get(0)));
+        }
+
+        return packageNames;
+    }
+
+    private void generateMessageFlyweight(
+        final StringBuilder sb,
+        final String className,
+        final Token msgToken,
+        final Body body,
+        final Set<String> paths)
+    {
+        final String headerClassName = decoderName(ir.headerStructure().tokens().get(0).applicableTypeName());
+        final String byteOrder = ir.byteOrder().toString();
+
+        sb.append("    public static final int BLOCK_LENGTH = ").append(msgToken.encodedLength()).append(";\n")
+            .append("    public static final int TEMPLATE_ID = ").append(msgToken.id()).append(";\n")
+            .append("    public static final int SCHEMA_ID = ").append(ir.id()).append(";\n")
+            .append("    public static final int SCHEMA_VERSION = ").append(ir.version()).append(";\n")
+            .append("    public static final java.nio.ByteOrder BYTE_ORDER = java.nio.ByteOrder.")
+            .append(byteOrder).append(";\n\n")
+            .append("    private ").append(readOnlyBuffer).append(" buffer;\n")
+            .append("    private int offset;\n")
+            .append("    private int limit;\n")
+            .append("    private int actingBlockLength;\n")
+            .append("    private int actingVersion;\n");
+
+        if (body.sectionCount() > 0)
+        {
+            sb.append("    private int section;\n");
+        }
+
+        sb.append("\n")
+            .append("    public ").append(className).append(" wrap(\n")
+            .append("        final ").append(readOnlyBuffer).append(" buffer,\n")
+            .append("        final int offset,\n")
+            .append("        final int actingBlockLength,\n")
+            .append("        final int actingVersion)\n")
+            .append("    {\n")
+            .append("        this.buffer = buffer;\n")
+            .append("        this.offset = offset;\n")
+            .append("        this.actingBlockLength = actingBlockLength;\n")
+            .append("        this.actingVersion = actingVersion;\n")
+            .append("        limit = offset + actingBlockLength;\n");
+
+        generateSectionReset(sb, body, "", paths, 0, INDENT + INDENT);
+
+        sb.append("\n")
+            .append("        return this;\n")
+            .append("    }\n\n")
+            .append("    public ").append(className).append(" wrapAndApplyHeader(\n")
+            .append("        final ").append(readOnlyBuffer).append(" buffer,\n")
+            .append("        final int offset,\n")
+            .append("        final ").append(headerClassName).append(" headerDecoder)\n")
+            .append("    {\n")
+            .append("        headerDecoder.wrap(buffer, offset);\n\n")
+            .append("        final int templateId = headerDecoder.templateId();\n")
+            .append("        if (TEMPLATE_ID != templateId)\n")
+            .append("        {\n")
+            .append("            throw new IllegalStateException(\"Invalid TEMPLATE_ID: \" + templateId);\n")
+            .append("        }\n\n")
+            .append("        return wrap(\n")
+            .append("            buffer,\n")
+            .append("            offset + ").append(headerClassName).append(".ENCODED_LENGTH,\n")
+            .append("            headerDecoder.blockLength(),\n")
+            .append("            headerDecoder.version());\n")
+            .append("    }\n\n")
+            .append("    public ").append(readOnlyBuffer).append(" buffer()\n")
+            .append("    {\n")
+            .append("        return buffer;\n")
+            .append("    }\n\n")
+            .append("    public int offset()\n")
+            .append("    {\n")
+            .append("        return offset;\n")
+            .append("    }\n\n")
+            .append("    public int actingBlockLength()\n")
+            .append("    {\n")
+            .append("        return actingBlockLength;\n")
+            .append("    }\n\n")
+            .append("    public int actingVersion()\n")
+            .append("    {\n")
+            .append("        return actingVersion;\n")
+            .append("    }\n\n")
+            .append("    public int limit()\n")
+            .append("    {\n")
+            .append("        return limit;\n")
+            .append("    }\n\n")
+            .append("    public int encodedLength()\n")
+            .append("    {\n")
+            .append("        return limit - offset;\n")
+            .append("    }\n\n")
+            .append("    public ").append(className).append(" sbeSkip()\n")
+            .append("    {\n");
+
+        if (body.sectionCount() > 0)
+        {
+            sb.append("        sbeSkipTo(").append(body.sectionCount()).append(");\n\n");
+        }
+
+        sb.append("        return this;\n")
+            .append("    }\n");
+    }
+
+    private static void generateSectionReset(
+        final StringBuilder sb,
+        final Body body,
+        final String pathPrefix,
+        final Set<String> paths,
+        final int section,
+        final String ind)
+    {
+        if (body.sectionCount() > 0)
+        {
+            sb.append(ind).append("section = ").append(section).append(";\n");
+        }
+
+        for (final Token groupToken : projectedGroups(body, pathPrefix, paths))
+        {
+            sb.append(ind).append(formatPropertyName(groupToken.name())).append(".isOpen = false;\n");
+        }
+    }
+
+    private void generateSections(
+        final StringBuilder sb,
+        final String parentMessageClassName,
+        final Body body,
+        final String pathPrefix,
+        final Set<String> paths,
+        final boolean inGroup,
+        final String indent)
+    {
+        if (0 == body.sectionCount())
+        {
+            return;
+        }
+
+        int section = 0;
+        for (int i = 0, size = body.groups.size(); i < size; section++)
+        {
+            final Token groupToken = body.groups.get(i);
+            final List<Token> groupTokens = body.groups.subList(i, i + groupToken.componentTokenCount());
+            final String path = pathPrefix + groupToken.name();
+            if (isPresent(paths, path))
+            {
+                generateGroup(sb, parentMessageClassName, groupTokens, path, paths, section, inGroup, indent);
+            }
+
+            i += groupToken.componentTokenCount();
+        }
+
+        for (int i = 0, size = body.varData.size(); i < size; section++)
+        {
+            final Token varDataToken = body.varData.get(i);
+            if (isSelected(paths, pathPrefix + varDataToken.name()))
+            {
+                generateVarData(sb, body.varData, i, section, inGroup, indent);
+            }
+
+            i += varDataToken.componentTokenCount();
+        }
+
+        generateSkipTo(sb, body, pathPrefix, paths, inGroup, indent);
+    }
+
+    private void generateSkipTo(
+        final StringBuilder sb,
+        final Body body,
+        final String pathPrefix,
+        final Set<String> paths,
+        final boolean inGroup,
+        final String indent)
+    {
+        final String limit = inGroup ? "parentMessage.limit" : "limit";
+        final String actingVersion = inGroup ? "parentMessage.actingVersion" : "actingVersion";
+
+        sb.append("\n")
+            .append(indent).append("private void sbeSkipTo(final int section)\n")
+            .append(indent).append("{\n")
+            .append(indent).append("    if (section < this.section)\n")
+            .append(indent).append("    {\n")
+            .append(indent).append("        throw new IllegalStateException(\n")
+            .append(indent).append("            \"groups and var data must be accessed in schema order: section=\" +")
+            .append(" section +\n")
+            .append(indent).append("            \" current=\" + this.section);\n")
+            .append(indent).append("    }\n\n");
+
+        for (final Token groupToken : projectedGroups(body, pathPrefix, paths))
+        {
+            sb.append(indent).append("    ").append(formatPropertyName(groupToken.name())).append(".sbeSkip();\n");
+        }
+
+        sb.append(indent).append("    while (this.section < section)\n")
+            .append(indent).append("    {\n")
+            .append(indent).append("        switch (this.section++)\n")
+            .append(indent).append("        {\n");
+
+        int section = 0;
+        for (int i = 0, size = body.groups.size(); i < size; section++)
+        {
+            final Token groupToken = body.groups.get(i);
+            sb.append(indent).append("            case ").append(section).append(":\n")
+                .append(indent).append("                ").append(limit).append(" = ")
+                .append(skipMethodName(pathPrefix + groupToken.name())).append("(buffer, ").append(limit)
+                .append(", ").append(actingVersion).append(");\n")
+                .append(indent).append("                break;\n\n");
+
+            i += groupToken.componentTokenCount();
+        }
+
+        for (int i = 0, size = body.varData.size(); i < size; section++)
+        {
+            sb.append(indent).append("            case ").append(section).append(":\n");
+            generateVarDataSkip(sb, body.varData, i, limit, actingVersion, indent + INDENT + INDENT + INDENT + INDENT);
+            sb.append(indent).append("                break;\n\n");
+
+            i += body.varData.get(i).componentTokenCount();
+        }
+
+        sb.append(indent).append("            default:\n")
+            .append(indent).append("                break;\n")
+            .append(indent).append("        }\n")
+            .append(indent).append("    }\n")
+            .append(indent).append("}\n");
+    }
+
+    private void generateGroup(
+        final StringBuilder sb,
+        final String parentMessageClassName,
+        final List<Token> groupTokens,
+        final String path,
+        final Set<String> paths,
+        final int section,
+        final boolean inGroup,
+        final String indent)
+    {
+        final Token groupToken = groupTokens.get(0);
+        final String groupClassName = formatClassName(groupToken.name()) + CLASS_SUFFIX;
+        final String propertyName = formatPropertyName(groupToken.name());
+
+        sb.append("\n")
+            .append(indent).append("private final ").append(groupClassName).append(' ').append(propertyName);
+        if (inGroup)
+        {
+            sb.append(";\n");
+        }
+        else
+        {
+            sb.append(" = new ").append(groupClassName).append("(this);\n");
+        }
+
+        sb.append("\n")
+            .append(indent).append("public ").append(groupClassName).append(' ').append(propertyName).append("()\n")
+            .append(indent).append("{\n")
+            .append(indent).append("    sbeSkipTo(").append(section).append(");\n")
+            .append(indent).append("    section = ").append(section + 1).append(";\n")
+            .append(indent).append("    ").append(propertyName).append(".wrap(buffer);\n\n")
+            .append(indent).append("    return ").append(propertyName).append(";\n")
+            .append(indent).append("}\n");
+
+        final String ind = indent + INDENT;
+        final Body body = new Body(groupTokens.subList(1 + groupTokens.get(1).componentTokenCount(),
+            groupTokens.size() - 1));
+
+        if (Strings.isEmpty(groupToken.description()))
+        {
+            sb.append("\n");
+        }
+
+        generateTypeJavadoc(sb, indent, groupToken);
+        sb.append(indent).append("public static final class ").append(groupClassName).append("\n")
+            .append(indent).append("{\n")
+            .append(ind).append("public static final int HEADER_SIZE = ").append(groupTokens.get(1).encodedLength())
+            .append(";\n")
+            .append(ind).append("private final ").append(parentMessageClassName).append(" parentMessage;\n")
+            .append(ind).append("private ").append(readOnlyBuffer).append(" buffer;\n")
+            .append(ind).append("private int blockLength;\n")
+            .append(ind).append("private int count;\n")
+            .append(ind).append("private int index;\n")
+            .append(ind).append("private int offset;\n");
+
+        if (body.sectionCount() > 0)
+        {
+            sb.append(ind).append("private int section;\n");
+        }
+
+        sb.append(ind).append("private boolean isOpen;\n\n")
+            .append(ind).append(groupClassName).append("(final ").append(parentMessageClassName)
+            .append(" parentMessage)\n")
+            .append(ind).append("{\n")
+            .append(ind).append("    this.parentMessage = parentMessage;\n");
+
+        for (final Token subGroupToken : projectedGroups(body, path + ".", paths))
+        {
+            sb.append(ind).append("    ").append(formatPropertyName(subGroupToken.name())).append(" = new ")
+                .append(formatClassName(subGroupToken.name())).append(CLASS_SUFFIX).append("(parentMessage);\n");
+        }
+
+        sb.append(ind).append("}\n");
+
+        generateGroupFlyweight(sb, groupClassName, groupTokens, body, path, paths, ind);
+        generateFields(sb, body.fields, path + ".", paths, true, ind);
+        generateSections(sb, parentMessageClassName, body, path + ".", paths, true, ind);
+
+        sb.append(indent).append("}\n");
+    }
+
+    private void generateGroupFlyweight(
+        final StringBuilder sb,
+        final String groupClassName,
+        final List<Token> groupTokens,
+        final Body body,
+        final String path,
+        final Set<String> paths,
+        final String ind)
+    {
+        final Token groupToken = groupTokens.get(0);
+        final Token blockLengthToken = Generators.findFirst("blockLength", groupTokens, 1);
+        final Token numInGroupToken = Generators.findFirst("numInGroup", groupTokens, 1);
+        final int sectionCount = body.sectionCount();
+
+        sb.append("\n")
+            .append(ind).append("private void wrap(final ").append(readOnlyBuffer).append(" buffer)\n")
+            .append(ind).append("{\n")
+            .append(ind).append("    this.buffer = buffer;\n")
+            .append(ind).append("    index = 0;\n")
+            .append(ind).append("    isOpen = true;\n");
+
+        generateSectionReset(sb, body, path + ".", paths, sectionCount, ind + INDENT);
+
+        if (groupToken.version() > 0)
+        {
+            sb.append("\n")
+                .append(ind).append("    if (parentMessage.actingVersion < ").append(groupToken.version()).append(")\n")
+                .append(ind).append("    {\n")
+                .append(ind).append("        count = 0;\n")
+                .append(ind).append("        return;\n")
+                .append(ind).append("    }\n");
+        }
+
+        sb.append("\n")
+            .append(ind).append("    final int limit = parentMessage.limit;\n")
+            .append(ind).append("    parentMessage.limit = limit + HEADER_SIZE;\n")
+            .append(ind).append("    blockLength = ").append(generateIntGet(blockLengthToken, "limit")).append(";\n")
+            .append(ind).append("    count = ").append(generateIntGet(numInGroupToken, "limit")).append(";\n")
+            .append(ind).append("}\n\n")
+            .append(ind).append("public ").append(groupClassName).append(" next()\n")
+            .append(ind).append("{\n")
+            .append(ind).append("    if (index >= count)\n")
+            .append(ind).append("    {\n")
+            .append(ind).append("        throw new java.util.NoSuchElementException();\n")
+            .append(ind).append("    }\n\n");
+
+        if (sectionCount > 0)
+        {
+            sb.append(ind).append("    sbeSkipTo(").append(sectionCount).append(");\n");
+        }
+
+        sb.append(ind).append("    offset = parentMessage.limit;\n")
+            .append(ind).append("    parentMessage.limit = offset + blockLength;\n");
+
+        if (sectionCount > 0)
+        {
+            sb.append(ind).append("    section = 0;\n");
+        }
+
+        sb.append(ind).append("    ++index;\n\n")
+            .append(ind).append("    return this;\n")
+            .append(ind).append("}\n\n")
+            .append(ind).append("public boolean hasNext()\n")
+            .append(ind).append("{\n")
+            .append(ind).append("    return index < count;\n")
+            .append(ind).append("}\n\n")
+            .append(ind).append("public int count()\n")
+            .append(ind).append("{\n")
+            .append(ind).append("    return count;\n")
+            .append(ind).append("}\n\n")
+            .append(ind).append("public ").append(groupClassName).append(" sbeSkip()\n")
+            .append(ind).append("{\n")
+            .append(ind).append("    if (isOpen)\n")
+            .append(ind).append("    {\n")
+            .append(ind).append("        isOpen = false;\n");
+
+        if (sectionCount > 0)
+        {
+            sb.append(ind).append("        sbeSkipTo(").append(sectionCount).append(");\n");
+        }
+
+        sb.append(ind).append("        parentMessage.limit = ").append(skipMethodName(path)).append("Entries(\n")
+            .append(ind).append("            buffer, parentMessage.limit, blockLength, count - index, ")
+            .append("parentMessage.actingVersion);\n")
+            .append(ind).append("        index = count;\n")
+            .append(ind).append("    }\n\n")
+            .append(ind).append("    return this;\n")
+            .append(ind).append("}\n");
+    }
+
+    private void generateGroupSkips(
+        final StringBuilder sb, final List<Token> groups, final String pathPrefix, final String indent)
+    {
+        for (int i = 0, size = groups.size(); i < size;)
+        {
+            final Token groupToken = groups.get(i);
+            final List<Token> groupTokens = groups.subList(i, i + groupToken.componentTokenCount());
+            final Token blockLengthToken = Generators.findFirst("blockLength", groupTokens, 1);
+            final Token numInGroupToken = Generators.findFirst("numInGroup", groupTokens, 1);
+            final String path = pathPrefix + groupToken.name();
+            final String methodName = skipMethodName(path);
+            final Body body = new Body(groupTokens.subList(1 + groupTokens.get(1).componentTokenCount(),
+                groupTokens.size() - 1));
+
+            sb.append("\n")
+                .append(indent).append("private static int ").append(methodName).append("(\n")
+                .append(indent).append("    final ").append(readOnlyBuffer).append(" buffer, final int limit, ")
+                .append("final int actingVersion)\n")
+                .append(indent).append("{\n");
+
+            if (groupToken.version() > 0)
+            {
+                sb.append(indent).append("    if (actingVersion < ").append(groupToken.version()).append(")\n")
+                    .append(indent).append("    {\n")
+                    .append(indent).append("        return limit;\n")
+                    .append(indent).append("    }\n\n");
+            }
+
+            sb.append(indent).append("    final int blockLength = ").append(generateIntGet(blockLengthToken, "limit"))
+                .append(";\n")
+                .append(indent).append("    final int count = ").append(generateIntGet(numInGroupToken, "limit"))
+                .append(";\n\n")
+                .append(indent).append("    return ").append(methodName).append("Entries(\n")
+                .append(indent).append("        buffer, limit + ").append(groupTokens.get(1).encodedLength())
+                .append(", blockLength, count, actingVersion);\n")
+                .append(indent).append("}\n\n")
+                .append(indent).append("private static int ").append(methodName).append("Entries(\n")
+                .append(indent).append("    final ").append(readOnlyBuffer).append(" buffer,\n")
+                .append(indent).append("    final int limit,\n")
+                .append(indent).append("    final int blockLength,\n")
+                .append(indent).append("    final int count,\n")
+                .append(indent).append("    final int actingVersion)\n")
+                .append(indent).append("{\n");
+
+            if (0 == body.sectionCount())
+            {
+                sb.append(indent).append("    return limit + (count * blockLength);\n");
+            }
+            else
+            {
+                generateEntriesSkipLoop(sb, body, path + ".", indent + INDENT);
+            }
+
+            sb.append(indent).append("}\n");
+
+            generateGroupSkips(sb, body.groups, path + ".", indent);
+            i += groupToken.componentTokenCount();
+        }
+    }
+
+    private void generateEntriesSkipLoop(
+        final StringBuilder sb, final Body body, final String pathPrefix, final String ind)
+    {
+        sb.append(ind).append("int entryLimit = limit;\n")
+            .append(ind).append("for (int i = 0; i < count; i++)\n")
+            .append(ind).append("{\n")
+            .append(ind).append("    entryLimit += blockLength;\n");
+
+        for (int i = 0, size = body.groups.size(); i < size;)
+        {
+            final Token groupToken = body.groups.get(i);
+            sb.append(ind).append("    entryLimit = ").append(skipMethodName(pathPrefix + groupToken.name()))
+                .append("(buffer, entryLimit, actingVersion);\n");
+
+            i += groupToken.componentTokenCount();
+        }
+
+        for (int i = 0, size = body.varData.size(); i < size;)
+        {
+            generateVarDataSkip(sb, body.varData, i, "entryLimit", "actingVersion", ind + INDENT);
+            i += body.varData.get(i).componentTokenCount();
+        }
+
+        sb.append(ind).append("}\n\n")
+            .append(ind).append("return entryLimit;\n");
+    }
+
+    private static void generateVarDataSkip(
+        final StringBuilder sb,
+        final List<Token> varData,
+        final int index,
+        final String limit,
+        final String actingVersion,
+        final String ind)
+    {
+        final Token varDataToken = varData.get(index);
+        final Token lengthToken = Generators.findFirst("length", varData, index);
+        final String skip = limit + " += " + lengthToken.encodedLength() + " + " +
+            generateIntGet(lengthToken, limit) + ";\n";
+
+        if (varDataToken.version() > 0)
+        {
+            sb.append(ind).append("if (").append(actingVersion).append(" >= ").append(varDataToken.version())
+                .append(")\n")
+                .append(ind).append("{\n")
+                .append(ind).append(INDENT).append(skip)
+                .append(ind).append("}\n");
+        }
+        else
+        {
+            sb.append(ind).append(skip);
+        }
+    }
+
+    private void generateVarData(
+        final StringBuilder sb,
+        final List<Token> varData,
+        final int index,
+        final int section,
+        final boolean inGroup,
+        final String indent)
+    {
+        final Token token = varData.get(index);
+        final Token lengthToken = Generators.findFirst("length", varData, index);
+        final String characterEncoding = Generators.findFirst("varData", varData, index)
+            .encoding().characterEncoding();
+        final String propertyName = formatPropertyName(token.name());
+        final String upperName = toUpperFirstChar(token.name());
+        final String limit = inGroup ? "parentMessage.limit" : "limit";
+        final String actingVersion = inGroup ? "parentMessage.actingVersion" : "actingVersion";
+        final String enter = indent + "    sbeSkipTo(" + section + ");\n";
+        final String consume =
+            indent + "    sbeSkipTo(" + section + ");\n" +
+            indent + "    section = " + (section + 1) + ";\n";
+        final String read =
+            indent + "    final int dataLength = " + generateIntGet(lengthToken, limit) + ";\n" +
+            indent + "    final int dataOffset = " + limit + " + " + lengthToken.encodedLength() + ";\n" +
+            indent + "    " + limit + " = dataOffset + dataLength;\n";
+
+        sb.append("\n")
+            .append(indent).append("public int ").append(propertyName).append("Length()\n")
+            .append(indent).append("{\n")
+            .append(enter)
+            .append(generateVersionGuard(token.version(), actingVersion, "0", indent))
+            .append(indent).append("    return ").append(generateIntGet(lengthToken, limit)).append(";\n")
+            .append(indent).append("}\n\n")
+            .append(indent).append("public int get").append(upperName)
+            .append("(final byte[] dst, final int dstOffset, final int length)\n")
+            .append(indent).append("{\n")
+            .append(consume)
+            .append(generateVersionGuard(token.version(), actingVersion, "0", indent))
+            .append(read)
+            .append(indent).append("    final int bytesCopied = Math.min(length, dataLength);\n")
+            .append(indent).append("    buffer.getBytes(dataOffset, dst, dstOffset, bytesCopied);\n\n")
+            .append(indent).append("    return bytesCopied;\n")
+            .append(indent).append("}\n\n")
+            .append(indent).append("public void wrap").append(upperName).append("(final ").append(readOnlyBuffer)
+            .append(" wrapBuffer)\n")
+            .append(indent).append("{\n")
+            .append(consume);
+
+        if (token.version() > 0)
+        {
+            sb.append(indent).append("    if (").append(actingVersion).append(" < ").append(token.version())
+                .append(")\n")
+                .append(indent).append("    {\n")
+                .append(indent).append("        wrapBuffer.wrap(buffer, offset, 0);\n")
+                .append(indent).append("        return;\n")
+                .append(indent).append("    }\n\n");
+        }
+
+        sb.append(read)
+            .append(indent).append("    wrapBuffer.wrap(buffer, dataOffset, dataLength);\n")
+            .append(indent).append("}\n");
+
+        if (null != characterEncoding)
+        {
+            sb.append("\n")
+                .append(indent).append("public String ").append(propertyName).append("()\n")
+                .append(indent).append("{\n")
+                .append(consume)
+                .append(generateVersionGuard(token.version(), actingVersion, "\"\"", indent))
+                .append(read)
+                .append(indent).append("    if (0 == dataLength)\n")
+                .append(indent).append("    {\n")
+                .append(indent).append("        return \"\";\n")
+                .append(indent).append("    }\n\n")
+                .append(indent).append("    final byte[] tmp = new byte[dataLength];\n")
+                .append(indent).append("    buffer.getBytes(dataOffset, tmp, 0, dataLength);\n\n")
+                .append(indent).append("    return new String(tmp, ").append(charset(characterEncoding))
+                .append(");\n")
+                .append(indent).append("}\n");
+        }
+    }
+
+    private void generateFields(
+        final StringBuilder sb,
+        final List<Token> fields,
+        final String pathPrefix,
+        final Set<String> paths,
+        final boolean inGroup,
+        final String indent)
+    {
+        final String actingVersion = inGroup ? "parentMessage.actingVersion" : "actingVersion";
+
+        Generators.forEachField(
+            fields,
+            (fieldToken, typeToken) ->
+            {
+                if (!isSelected(paths, pathPrefix + fieldToken.name()))
+                {
+                    return;
+                }
+
+                final String propertyName = formatPropertyName(fieldToken.name());
+                final int version = fieldToken.version();
+
+                switch (typeToken.signal())
+                {
+                    case ENCODING:
+                        if (typeToken.isConstantEncoding())
+                        {
+                            generateConstProperty(sb, propertyName, typeToken, indent);
+                        }
+                        else if (typeToken.arrayLength() > 1)
+                        {
+                            generateArrayProperty(sb, propertyName, typeToken, version, actingVersion, indent);
+                        }
+                        else
+                        {
+                            generatePrimitiveProperty(sb, propertyName, typeToken, version, actingVersion, indent);
+                        }
+                        break;
+
+                    case BEGIN_ENUM:
+                        generateEnumProperty(sb, propertyName, fieldToken, typeToken, actingVersion, indent);
+                        break;
+
+                    case BEGIN_SET:
+                    case BEGIN_COMPOSITE:
+                        generateFlyweightProperty(sb, propertyName, typeToken, version, actingVersion, indent);
+                        break;
+
+                    default:
+                        break;
+                }
+            });
+    }
+
+    private static void generatePrimitiveProperty(
+        final StringBuilder sb,
+        final String propertyName,
+        final Token typeToken,
+        final int version,
+        final String actingVersion,
+        final String indent)
+    {
+        final Encoding encoding = typeToken.encoding();
+        final PrimitiveType primitiveType = encoding.primitiveType();
+        final String nullValue = generateLiteral(primitiveType, encoding.applicableNullValue().toString());
+
+        sb.append("\n")
+            .append(indent).append("public ").append(javaTypeName(primitiveType)).append(' ').append(propertyName)
+            .append("()\n")
+            .append(indent).append("{\n")
+            .append(generateVersionGuard(version, actingVersion, nullValue, indent))
+            .append(indent).append("    return ")
+            .append(generateGet(primitiveType, "offset + " + typeToken.offset(), byteOrderString(encoding)))
+            .append(";\n")
+            .append(indent).append("}\n");
+    }
+
+    private static void generateArrayProperty(
+        final StringBuilder sb,
+        final String propertyName,
+        final Token typeToken,
+        final int version,
+        final String actingVersion,
+        final String indent)
+    {
+        final Encoding encoding = typeToken.encoding();
+        final PrimitiveType primitiveType = encoding.primitiveType();
+        final int arrayLength = typeToken.arrayLength();
+        final int offset = typeToken.offset();
+        final String nullValue = generateLiteral(primitiveType, encoding.applicableNullValue().toString());
+        final String index = "offset + " + offset + " + (index * " + primitiveType.size() + ")";
+
+        sb.append("\n")
+            .append(indent).append("public ").append(javaTypeName(primitiveType)).append(' ').append(propertyName)
+            .append("(final int index)\n")
+            .append(indent).append("{\n")
+            .append(indent).append("    if (index < 0 || index >= ").append(arrayLength).append(")\n")
+            .append(indent).append("    {\n")
+            .append(indent).append("        throw new IndexOutOfBoundsException(\"index out of range: index=\" + ")
+            .append("index);\n")
+            .append(indent).append("    }\n\n")
+            .append(generateVersionGuard(version, actingVersion, nullValue, indent))
+            .append(indent).append("    return ").append(generateGet(primitiveType, index, byteOrderString(encoding)))
+            .append(";\n")
+            .append(indent).append("}\n");
+
+        if (PrimitiveType.CHAR == primitiveType)
+        {
+            sb.append("\n")
+                .append(indent).append("public String ").append(propertyName).append("()\n")
+                .append(indent).append("{\n")
+                .append(generateVersionGuard(version, actingVersion, "\"\"", indent))
+                .append(indent).append("    final byte[] dst = new byte[").append(arrayLength).append("];\n")
+                .append(indent).append("    buffer.getBytes(offset + ").append(offset).append(", dst, 0, ")
+                .append(arrayLength).append(");\n\n")
+                .append(indent).append("    int end = 0;\n")
+                .append(indent).append("    for (; end < ").append(arrayLength)
+                .append(" && dst[end] != 0; ++end);\n\n")
+                .append(indent).append("    return new String(dst, 0, end, ")
+                .append(charset(encoding.characterEncoding())).append(");\n")
+                .append(indent).append("}\n");
+        }
+    }
+
+    private static void generateConstProperty(
+        final StringBuilder sb, final String propertyName, final Token typeToken, final String indent)
+    {
+        final Encoding encoding = typeToken.encoding();
+        final PrimitiveType primitiveType = encoding.primitiveType();
+
+        if (PrimitiveType.CHAR == primitiveType &&
+            encoding.constValue().byteArrayValue(primitiveType).length > 1)
+        {
+            sb.append("\n")
+                .append(indent).append("public String ").append(propertyName).append("()\n")
+                .append(indent).append("{\n")
+                .append(indent).append("    return \"").append(encoding.constValue()).append("\";\n")
+                .append(indent).append("}\n");
+        }
+        else
+        {
+            sb.append("\n")
+                .append(indent).append("public ").append(javaTypeName(primitiveType)).append(' ')
+                .append(propertyName).append("()\n")
+                .append(indent).append("{\n")
+                .append(indent).append("    return ")
+                .append(generateLiteral(primitiveType, encoding.constValue().toString())).append(";\n")
+                .append(indent).append("}\n");
+        }
+    }
+
+    private static void generateEnumProperty(
+        final StringBuilder sb,
+        final String propertyName,
+        final Token fieldToken,
+        final Token typeToken,
+        final String actingVersion,
+        final String indent)
+    {
+        final String enumName = formatClassName(typeToken.applicableTypeName());
+
+        sb.append("\n")
+            .append(indent).append("public ").append(enumName).append(' ').append(propertyName).append("()\n")
+            .append(indent).append("{\n");
+
+        if (fieldToken.isConstantEncoding())
+        {
+            sb.append(indent).append("    return ")
+                .append(formatClassName(fieldToken.encoding().constValue().toString())).append(";\n");
+        }
+        else
+        {
+            final Encoding encoding = typeToken.encoding();
+            sb.append(generateVersionGuard(fieldToken.version(), actingVersion, enumName + ".NULL_VAL", indent))
+                .append(indent).append("    return ").append(enumName).append(".get(")
+                .append(generateGet(
+                    encoding.primitiveType(), "offset + " + typeToken.offset(), byteOrderString(encoding)))
+                .append(");\n");
+        }
+
+        sb.append(indent).append("}\n");
+    }
+
+    private static void generateFlyweightProperty(
+        final StringBuilder sb,
+        final String propertyName,
+        final Token typeToken,
+        final int version,
+        final String actingVersion,
+        final String indent)
+    {
+        final String typeName = decoderName(typeToken.applicableTypeName());
+
+        sb.append("\n")
+            .append(indent).append("private final ").append(typeName).append(' ').append(propertyName)
+            .append(" = new ").append(typeName).append("();\n\n")
+            .append(indent).append("public ").append(typeName).append(' ').append(propertyName).append("()\n")
+            .append(indent).append("{\n")
+            .append(generateVersionGuard(version, actingVersion, "null", indent))
+            .append(indent).append("    ").append(propertyName).append(".wrap(buffer, offset + ")
+            .append(typeToken.offset()).append(");\n")
+            .append(indent).append("    return ").append(propertyName).append(";\n")
+            .append(indent).append("}\n");
+    }
+
+    private static String generateVersionGuard(
+        final int version, final String actingVersion, final String notPresentValue, final String indent)
+    {
+        if (0 == version)
+        {
+            return "";
+        }
+
+        return
+            indent + "    if (" + actingVersion + " < " + version + ")\n" +
+            indent + "    {\n" +
+            indent + "        return " + notPresentValue + ";\n" +
+            indent + "    }\n\n";
+    }
+
+    private static String generateIntGet(final Token token, final String index)
+    {
+        final PrimitiveType type = token.encoding().primitiveType();
+        final String get = generateGet(type, index + " + " + token.offset(), byteOrderString(token.encoding()));
+
+        return PrimitiveType.UINT32 == type || PrimitiveType.INT64 == type || PrimitiveType.UINT64 == type ?
+            "(int)" + get : get;
+    }
+
+    private static String skipMethodName(final String path)
+    {
+        final StringBuilder sb = new StringBuilder("sbeSkip");
+        for (final String name : path.split("\\."))
+        {
+            sb.append(formatClassName(name));
+        }
+
+        return sb.toString();
+    }
+
+    private static List<Token> projectedGroups(final Body body, final String pathPrefix, final Set<String> paths)
+    {
+        final List<Token> projectedGroups = new ArrayList<>();
+        for (int i = 0, size = body.groups.size(); i < size;)
+        {
+            final Token groupToken = body.groups.get(i);
+            if (isPresent(paths, pathPrefix + groupToken.name()))
+            {
+                projectedGroups.add(groupToken);
+            }
+
+            i += groupToken.componentTokenCount();
+        }
+
+        return projectedGroups;
+    }
+
+    private static boolean isSelected(final Set<String> paths, final String path)
+    {
+        String prefix = path;
+        while (!paths.contains(prefix))
+        {
+            final int dotIndex = prefix.lastIndexOf('.');
+            if (-1 == dotIndex)
+            {
+                return paths.contains("");
+            }
+
+            prefix = prefix.substring(0, dotIndex);
+        }
+
+        return true;
+    }
+
+    private static boolean isPresent(final Set<String> paths, final String path)
+    {
+        if (isSelected(paths, path))
+        {
+            return true;
+        }
+
+        for (final String selectedPath : paths)
+        {
+            if (selectedPath.startsWith(path + "."))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static void collectPaths(final Body body, final String pathPrefix, final Set<String> paths)
+    {
+        Generators.forEachField(body.fields, (fieldToken, typeToken) -> paths.add(pathPrefix + fieldToken.name()));
+
+        for (int i = 0, size = body.groups.size(); i < size;)
+        {
+            final Token groupToken = body.groups.get(i);
+            final List<Token> groupTokens = body.groups.subList(i, i + groupToken.componentTokenCount());
+            final String path = pathPrefix + groupToken.name();
+
+            paths.add(path);
+            collectPaths(
+                new Body(groupTokens.subList(1 + groupTokens.get(1).componentTokenCount(), groupTokens.size() - 1)),
+                path + ".",
+                paths);
+
+            i += groupToken.componentTokenCount();
+        }
+
+        for (int i = 0, size = body.varData.size(); i < size;)
+        {
+            final Token varDataToken = body.varData.get(i);
+            if (Signal.BEGIN_VAR_DATA == varDataToken.signal())
+            {
+                paths.add(pathPrefix + varDataToken.name());
+            }
+
+            i += varDataToken.componentTokenCount();
+        }
+    }
+
+    private static final class Body
+    {
+        final List<Token> fields = new ArrayList<>();
+        final List<Token> groups = new ArrayList<>();
+        final List<Token> varData = new ArrayList<>();
+
+        Body(final List<Token> tokens)
+        {
+            int i = collectFields(tokens, 0, fields);
+            i = collectGroups(tokens, i, groups);
+            collectVarData(tokens, i, varData);
+        }
+
+        int sectionCount()
+        {
+            int count = 0;
+            for (int i = 0, size = groups.size(); i < size; count++)
+            {
+                i += groups.get(i).componentTokenCount();
+            }
+
+            for (int i = 0, size = varData.size(); i < size; count++)
+            {
+                i += varData.get(i).componentTokenCount();
+            }
+
+            return count;
+        }
+    }
+}
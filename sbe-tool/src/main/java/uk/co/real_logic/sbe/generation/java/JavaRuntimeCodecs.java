@@ -0,0 +1,302 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.generation.java;
+
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.generation.CompilerUtil;
+import org.agrona.generation.StringWriterOutputManager;
+import org.agrona.sbe.CompositeDecoderFlyweight;
+import org.agrona.sbe.CompositeEncoderFlyweight;
+import org.agrona.sbe.MessageDecoderFlyweight;
+import org.agrona.sbe.MessageEncoderFlyweight;
+import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.ir.Token;
+
+import java.util.List;
+import java.util.Map;
+
+import static uk.co.real_logic.sbe.generation.java.JavaUtil.decoderName;
+import static uk.co.real_logic.sbe.generation.java.JavaUtil.encoderName;
+
+/**
+ * Flyweight codecs for an {@link Ir} which are generated with the {@link JavaGenerator} and compiled in memory at
+ * runtime, so that schemas which are only known at runtime, e.g. loaded via an
+ * {@link uk.co.real_logic.sbe.ir.IrDecoder} from a schema registry, can be decoded at the speed of codecs generated at
+ * build time rather than with the {@link uk.co.real_logic.sbe.otf.OtfMessageDecoder}.
+ * <p>
+ * Codecs are generated with interfaces so instances can be used via the {@link MessageDecoderFlyweight} and
+ * {@link MessageEncoderFlyweight} API. Compilation requires the {@code java.compiler} module of a JDK to be available
+ * at runtime and is expensive so instances should be obtained via a {@link Cache} which holds one instance per
+ * schema id and version.
+ */
+public final class JavaRuntimeCodecs
+{
+    private final int schemaId;
+    private final int schemaVersion;
+    private final ClassLoader classLoader;
+    private final Class<?> headerDecoderClass;
+    private final Class<?> headerEncoderClass;
+    private final Int2ObjectHashMap<Class<?>> decoderClassByTemplateId = new Int2ObjectHashMap<>();
+    private final Int2ObjectHashMap<Class<?>> encoderClassByTemplateId = new Int2ObjectHashMap<>();
+
+    private JavaRuntimeCodecs(final Ir ir)
+    {
+        schemaId = ir.id();
+        schemaVersion = ir.version();
+
+        final StringWriterOutputManager outputManager = new StringWriterOutputManager();
+        outputManager.setPackageName(ir.applicableNamespace());
+
+        try
+        {
+            new JavaGenerator(ir, "org.agrona.MutableDirectBuffer", "org.agrona.DirectBuffer", false, true, false,
+                outputManager).generate();
+
+            final String packagePrefix = ir.applicableNamespace() + ".";
+            final String headerName = ir.headerStructure().tokens().get(0).name();
+            final Map<String, CharSequence> sources = outputManager.getSources();
+
+            headerDecoderClass = CompilerUtil.compileInMemory(packagePrefix + decoderName(headerName), sources);
+            if (null == headerDecoderClass)
+            {
+                throw new IllegalStateException("failed to compile codecs for schema id=" + schemaId +
+                    " version=" + schemaVersion);
+            }
+
+            classLoader = headerDecoderClass.getClassLoader();
+            headerEncoderClass = classLoader.loadClass(packagePrefix + encoderName(headerName));
+
+            for (final List<Token> tokens : ir.messages())
+            {
+                final Token msgToken = tokens.get(0);
+                final int templateId = msgToken.id();
+
+                decoderClassByTemplateId.put(templateId, classLoader.loadClass(packagePrefix +
+                    decoderName(msgToken.name())));
+                encoderClassByTemplateId.put(templateId, classLoader.loadClass(packagePrefix +
+                    encoderName(msgToken.name())));
+            }
+        }
+        catch (final IllegalStateException ex)
+        {
+            throw ex;
+        }
+        catch (final Exception ex)
+        {
+            throw new IllegalStateException("failed to generate codecs for schema id=" + schemaId, ex);
+        }
+    }
+
+    /**
+     * Generate and compile the codecs for an {@link Ir}.
+     *
+     * @param ir for which the codecs should be generated.
+     * @return the compiled codecs for the {@link Ir}.
+     * @throws IllegalStateException if the codecs cannot be generated or compiled.
+     */
+    public static JavaRuntimeCodecs compile(final Ir ir)
+    {
+        return new JavaRuntimeCodecs(ir);
+    }
+
+    /**
+     * Schema id of the {@link Ir} from which the codecs were generated.
+     *
+     * @return schema id of the {@link Ir} from which the codecs were generated.
+     */
+    public int schemaId()
+    {
+        return schemaId;
+    }
+
+    /**
+     * Schema version of the {@link Ir} from which the codecs were generated.
+     *
+     * @return schema version of the {@link Ir} from which the codecs were generated.
+     */
+    public int schemaVersion()
+    {
+        return schemaVersion;
+    }
+
+    /**
+     * The {@link ClassLoader} into which the generated codecs have been loaded.
+     *
+     * @return the {@link ClassLoader} into which the generated codecs have been loaded.
+     */
+    public ClassLoader classLoader()
+    {
+        return classLoader;
+    }
+
+    /**
+     * The generated decoder class for a message template.
+     *
+     * @param templateId of the message.
+     * @return the generated decoder class or null if the template is not in the schema.
+     */
+    public Class<?> decoderClass(final int templateId)
+    {
+        return decoderClassByTemplateId.get(templateId);
+    }
+
+    /**
+     * The generated encoder class for a message template.
+     *
+     * @param templateId of the message.
+     * @return the generated encoder class or null if the template is not in the schema.
+     */
+    public Class<?> encoderClass(final int templateId)
+    {
+        return encoderClassByTemplateId.get(templateId);
+    }
+
+    /**
+     * Create a new decoder flyweight for a message template.
+     *
+     * @param templateId of the message.
+     * @return a new decoder flyweight for the message template.
+     * @throws IllegalArgumentException if the template is not in the schema.
+     */
+    public MessageDecoderFlyweight newDecoder(final int templateId)
+    {
+        return (MessageDecoderFlyweight)newInstance(decoderClassByTemplateId.get(templateId), templateId);
+    }
+
+    /**
+     * Create a new encoder flyweight for a message template.
+     *
+     * @param templateId of the message.
+     * @return a new encoder flyweight for the message template.
+     * @throws IllegalArgumentException if the template is not in the schema.
+     */
+    public MessageEncoderFlyweight newEncoder(final int templateId)
+    {
+        return (MessageEncoderFlyweight)newInstance(encoderClassByTemplateId.get(templateId), templateId);
+    }
+
+    /**
+     * Create a new decoder flyweight for the message header.
+     *
+     * @return a new decoder flyweight for the message header.
+     */
+    public CompositeDecoderFlyweight newHeaderDecoder()
+    {
+        return (CompositeDecoderFlyweight)newInstance(headerDecoderClass, -1);
+    }
+
+    /**
+     * Create a new encoder flyweight for the message header.
+     *
+     * @return a new encoder flyweight for the message header.
+     */
+    public CompositeEncoderFlyweight newHeaderEncoder()
+    {
+        return (CompositeEncoderFlyweight)newInstance(headerEncoderClass, -1);
+    }
+
+    private static Object newInstance(final Class<?> clazz, final int templateId)
+    {
+        if (null == clazz)
+        {
+            throw new IllegalArgumentException("unknown templateId: " + templateId);
+        }
+
+        try
+        {
+            return clazz.getDeclaredConstructor().newInstance();
+        }
+        catch (final ReflectiveOperationException ex)
+        {
+            throw new IllegalStateException("failed to create instance of " + clazz.getName(), ex);
+        }
+    }
+
+    /**
+     * Cache of compiled codecs keyed by schema id and version so that each schema is only compiled once and the codecs
+     * for a message are found by (schemaId, version, templateId).
+     * <p>
+     * <b>Note:</b> this class is not threadsafe.
+     */
+    public static final class Cache
+    {
+        private final Long2ObjectHashMap<JavaRuntimeCodecs> codecsBySchema = new Long2ObjectHashMap<>();
+
+        /**
+         * Get the compiled codecs for an {@link Ir}, compiling them if not already in the cache.
+         *
+         * @param ir for which the codecs are required.
+         * @return the compiled codecs for the {@link Ir}.
+         */
+        public JavaRuntimeCodecs codecs(final Ir ir)
+        {
+            final long key = key(ir.id(), ir.version());
+            JavaRuntimeCodecs codecs = codecsBySchema.get(key);
+            if (null == codecs)
+            {
+                codecs = compile(ir);
+                codecsBySchema.put(key, codecs);
+            }
+
+            return codecs;
+        }
+
+        /**
+         * Get the compiled codecs for a schema id and version if previously compiled.
+         *
+         * @param schemaId      of the schema.
+         * @param schemaVersion of the schema.
+         * @return the compiled codecs or null if not in the cache.
+         */
+        public JavaRuntimeCodecs codecs(final int schemaId, final int schemaVersion)
+        {
+            return codecsBySchema.get(key(schemaId, schemaVersion));
+        }
+
+        /**
+         * Create a new decoder for a message if the codecs for its schema id and version have been compiled.
+         *
+         * @param schemaId      of the schema.
+         * @param schemaVersion of the schema.
+         * @param templateId    of the message.
+         * @return a new decoder for the message or null if the schema has not been compiled.
+         */
+        public MessageDecoderFlyweight newDecoder(final int schemaId, final int schemaVersion, final int templateId)
+        {
+            final JavaRuntimeCodecs codecs = codecsBySchema.get(key(schemaId, schemaVersion));
+
+            return null == codecs ? null : codecs.newDecoder(templateId);
+        }
+
+        /**
+         * Remove the compiled codecs for a schema id and version so they can be garbage collected.
+         *
+         * @param schemaId      of the schema.
+         * @param schemaVersion of the schema.
+         * @return the removed codecs or null if not in the cache.
+         */
+        public JavaRuntimeCodecs remove(final int schemaId, final int schemaVersion)
+        {
+            return codecsBySchema.remove(key(schemaId, schemaVersion));
+        }
+
+        private static long key(final int schemaId, final int schemaVersion)
+        {
+            return ((long)schemaId << 32) | (schemaVersion & 0xFFFF_FFFFL);
+        }
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.generation.java;
+
+import uk.co.real_logic.sbe.PrimitiveType;
+import uk.co.real_logic.sbe.generation.Generators;
+import uk.co.real_logic.sbe.ir.Token;
+
+import java.util.List;
+
+import static uk.co.real_logic.sbe.generation.java.JavaGenerator.byteOrderString;
+import static uk.co.real_logic.sbe.generation.java.JavaGenerator.generateGet;
+import static uk.co.real_logic.sbe.generation.java.JavaUtil.*;
+
+/**
+ * Generates {@code wrapForUpdate} for a message encoder, and {@code xxxForUpdate()} with {@code nextForUpdate()} for
+ * its groups, so the fields of an encoded message and of its group entries can be set in place.
+ * <p>
+ * The message is bound at the block length and version from its header, and group entries at the block length from
+ * their group header. Groups and var data are only read to find the following groups and entries, so are left
+ * untouched. A block shorter than that of the encoder, i.e. from an earlier version, is rejected as setting the later
+ * fields would overwrite what follows it. Precedence checks are not applied to a message wrapped for update as its
+ * fields can be set in any order.
+ */
+final class JavaUpdateGenerator
+{
+    private static final String INDENT = "    ";
+
+    private final String mutableBuffer;
+    private final String precedenceChecksFlagName;
+
+    JavaUpdateGenerator(final String mutableBuffer, final String precedenceChecksFlagName)
+    {
+        this.mutableBuffer = mutableBuffer;
+        this.precedenceChecksFlagName = precedenceChecksFlagName;
+    }
+
+    CharSequence generateWrapForUpdate(final String className, final boolean hasPrecedenceChecks)
+    {
+        final StringBuilder sb = new StringBuilder();
+
+        sb.append(INDENT).append("private int actingBlockLength;\n")
+            .append(INDENT).append("private int actingVersion;\n\n")
+            .append(INDENT).append("/**\n")
+            .append(INDENT).append(" * Wrap a message which has already been encoded so its fields can be set in ")
+            .append("place, leaving its groups and\n")
+            .append(INDENT).append(" * var data untouched. The limit is set to the end of the block.\n")
+            .append(INDENT).append(" *\n")
+            .append(INDENT).append(" * @param buffer            containing the encoded message.\n")
+            .append(INDENT).append(" * @param offset            at which the message block begins.\n")
+            .append(INDENT).append(" * @param actingBlockLength from the message header.\n")
+            .append(INDENT).append(" * @param actingVersion     from the message header.\n")
+            .append(INDENT).append(" * @return this for a fluent API.\n")
+            .append(INDENT).append(" * @throws IllegalArgumentException if the block is shorter than ")
+            .append("{@link #BLOCK_LENGTH}.\n")
+            .append(INDENT).append(" */\n")
+            .append(INDENT).append("public ").append(className).append(" wrapForUpdate(\n")
+            .append(INDENT).append("    final ").append(mutableBuffer).append(" buffer, final int offset, ")
+            .append("final int actingBlockLength, final int actingVersion)\n")
+            .append(INDENT).append("{\n")
+            .append(INDENT).append("    if (actingBlockLength < BLOCK_LENGTH)\n")
+            .append(INDENT).append("    {\n")
+            .append(INDENT).append("        throw new IllegalArgumentException(")
+            .append("\"block too short to update in place: actingBlockLength=\" + actingBlockLength);\n")
+            .append(INDENT).append("    }\n\n")
+            .append(INDENT).append("    if (buffer != this.buffer)\n")
+            .append(INDENT).append("    {\n")
+            .append(INDENT).append("        this.buffer = buffer;\n")
+            .append(INDENT).append("    }\n")
+            .append(INDENT).append("    this.offset = offset;\n")
+            .append(INDENT).append("    this.actingBlockLength = actingBlockLength;\n")
+            .append(INDENT).append("    this.actingVersion = actingVersion;\n")
+            .append(INDENT).append("    limit(offset + actingBlockLength);\n\n");
+
+        if (hasPrecedenceChecks)
+        {
+            sb.append(INDENT).append("    if (").append(precedenceChecksFlagName).append(")\n")
+                .append(INDENT).append("    {\n")
+                .append(INDENT).append("        precedenceChecked = false;\n")
+                .append(INDENT).append("    }\n\n");
+        }
+
+        sb.append(INDENT).append("    return this;\n")
+            .append(INDENT).append("}\n\n");
+
+        return sb;
+    }
+
+    CharSequence generateGroupForUpdateProperty(
+        final List<Token> siblingGroups, final int index, final String indent, final boolean isSubGroup)
+    {
+        final Token groupToken = siblingGroups.get(index);
+        final String className = encoderName(groupToken.name());
+        final String propertyName = formatPropertyName(groupToken.name());
+        final String actingVersion = isSubGroup ? "parentMessage.actingVersion" : "actingVersion";
+        final String ind = indent + INDENT;
+        final StringBuilder sb = new StringBuilder();
+
+        sb.append("\n")
+            .append(ind).append("/**\n")
+            .append(ind).append(" * Bind to the entries of the encoded ").append(propertyName)
+            .append(" group to set their fields in place.\n")
+            .append(ind).append(" *\n")
+            .append(ind).append(" * @return the group encoder to iterate with {@code nextForUpdate()}.\n")
+            .append(ind).append(" */\n")
+            .append(ind).append("public ").append(className).append(" ").append(propertyName)
+            .append("ForUpdate()\n")
+            .append(ind).append("{\n");
+
+        if (0 == index)
+        {
+            sb.append(ind).append(INDENT).append(propertyName)
+                .append(".wrapForUpdate(buffer, offset + actingBlockLength);\n");
+        }
+        else
+        {
+            sb.append(ind).append(INDENT).append("int position = offset + actingBlockLength;\n");
+            for (int i = 0; i < index;)
+            {
+                final Token previousGroupToken = siblingGroups.get(i);
+                sb.append(ind).append(INDENT).append("position = ").append(encoderName(previousGroupToken.name()))
+                    .append(".sbeSkipGroup(buffer, position, ").append(actingVersion).append(");\n");
+                i += previousGroupToken.componentTokenCount();
+            }
+            sb.append(ind).append(INDENT).append(propertyName).append(".wrapForUpdate(buffer, position);\n");
+        }
+
+        sb.append(ind).append(INDENT).append("return ").append(propertyName).append(";\n")
+            .append(ind).append("}\n");
+
+        return sb;
+    }
+
+    CharSequence generateGroupUpdate(
+        final List<Token> tokens,
+        final int index,
+        final List<Token> subGroups,
+        final List<Token> varData,
+        final boolean isSkipped,
+        final String indent)
+    {
+        final Token groupToken = tokens.get(index);
+        final String className = encoderName(groupToken.name());
+        final Token blockLengthToken = Generators.findFirst("blockLength", tokens, index);
+        final Token numInGroupToken = Generators.findFirst("numInGroup", tokens, index);
+        final boolean isFlat = subGroups.isEmpty() && varData.isEmpty();
+        final String ind = indent + INDENT;
+        final String bodyInd = ind + INDENT;
+        final StringBuilder sb = new StringBuilder();
+
+        sb.append("\n")
+            .append(ind).append("private int actingBlockLength;\n")
+            .append(ind).append("private int nextOffset;\n\n")
+            .append(ind).append("public void wrapForUpdate(final ").append(mutableBuffer)
+            .append(" buffer, final int offset)\n")
+            .append(ind).append("{\n")
+            .append(bodyInd).append("if (buffer != this.buffer)\n")
+            .append(bodyInd).append("{\n")
+            .append(bodyInd).append("    this.buffer = buffer;\n")
+            .append(bodyInd).append("}\n\n")
+            .append(bodyInd).append("index = 0;\n");
+
+        if (groupToken.version() > 0)
+        {
+            sb.append(bodyInd).append("if (parentMessage.actingVersion < ").append(groupToken.version()).append(")\n")
+                .append(bodyInd).append("{\n")
+                .append(bodyInd).append("    actingBlockLength = 0;\n")
+                .append(bodyInd).append("    count = 0;\n")
+                .append(bodyInd).append("    return;\n")
+                .append(bodyInd).append("}\n\n");
+        }
+
+        sb.append(bodyInd).append("actingBlockLength = ").append(getInt(blockLengthToken, "offset")).append(";\n")
+            .append(bodyInd).append("count = ").append(getInt(numInGroupToken, "offset")).append(";\n")
+            .append(bodyInd).append("if (count > 0 && actingBlockLength < sbeBlockLength())\n")
+            .append(bodyInd).append("{\n")
+            .append(bodyInd).append("    throw new IllegalStateException(")
+            .append("\"block too short to update in place: actingBlockLength=\" + actingBlockLength);\n")
+            .append(bodyInd).append("}\n")
+            .append(bodyInd).append("nextOffset = offset + HEADER_SIZE;\n")
+            .append(ind).append("}\n\n");
+
+        sb.append(ind).append("public int count()\n")
+            .append(ind).append("{\n")
+            .append(bodyInd).append("return count;\n")
+            .append(ind).append("}\n\n")
+            .append(ind).append("public boolean hasNext()\n")
+            .append(ind).append("{\n")
+            .append(bodyInd).append("return index < count;\n")
+            .append(ind).append("}\n\n")
+            .append(ind).append("public ").append(className).append(" nextForUpdate()\n")
+            .append(ind).append("{\n")
+            .append(bodyInd).append("if (index >= count)\n")
+            .append(bodyInd).append("{\n")
+            .append(bodyInd).append("    throw new java.util.NoSuchElementException();\n")
+            .append(bodyInd).append("}\n\n")
+            .append(bodyInd).append("offset = nextOffset;\n")
+            .append(bodyInd).append("nextOffset = ")
+            .append(isFlat ? "offset + actingBlockLength" :
+                "sbeSkipEntry(buffer, offset, actingBlockLength, parentMessage.actingVersion)")
+            .append(";\n")
+            .append(bodyInd).append("++index;\n\n")
+            .append(bodyInd).append("return this;\n")
+            .append(ind).append("}\n");
+
+        if (isSkipped)
+        {
+            generateSkipGroup(sb, groupToken, blockLengthToken, numInGroupToken, isFlat, ind);
+        }
+
+        if (!isFlat)
+        {
+            generateSkipEntry(sb, subGroups, varData, ind);
+        }
+
+        return sb;
+    }
+
+    private void generateSkipGroup(
+        final StringBuilder sb,
+        final Token groupToken,
+        final Token blockLengthToken,
+        final Token numInGroupToken,
+        final boolean isFlat,
+        final String ind)
+    {
+        final String bodyInd = ind + INDENT;
+
+        sb.append("\n")
+            .append(ind).append("private static int sbeSkipGroup(\n")
+            .append(bodyInd).append("final ").append(mutableBuffer)
+            .append(" buffer, final int offset, final int actingVersion)\n")
+            .append(ind).append("{\n");
+
+        if (groupToken.version() > 0)
+        {
+            sb.append(bodyInd).append("if (actingVersion < ").append(groupToken.version()).append(")\n")
+                .append(bodyInd).append("{\n")
+                .append(bodyInd).append("    return offset;\n")
+                .append(bodyInd).append("}\n\n");
+        }
+
+        sb.append(bodyInd).append("final int blockLength = ").append(getInt(blockLengthToken, "offset")).append(";\n")
+            .append(bodyInd).append("final int count = ").append(getInt(numInGroupToken, "offset")).append(";\n");
+
+        if (isFlat)
+        {
+            sb.append(bodyInd).append("return offset + HEADER_SIZE + (count * blockLength);\n");
+        }
+        else
+        {
+            sb.append(bodyInd).append("int position = offset + HEADER_SIZE;\n")
+                .append(bodyInd).append("for (int i = 0; i < count; i++)\n")
+                .append(bodyInd).append("{\n")
+                .append(bodyInd).append("    position = sbeSkipEntry(buffer, position, blockLength, actingVersion);\n")
+                .append(bodyInd).append("}\n\n")
+                .append(bodyInd).append("return position;\n");
+        }
+
+        sb.append(ind).append("}\n");
+    }
+
+    private void generateSkipEntry(
+        final StringBuilder sb, final List<Token> subGroups, final List<Token> varData, final String ind)
+    {
+        final String bodyInd = ind + INDENT;
+
+        sb.append("\n")
+            .append(ind).append("private static int sbeSkipEntry(\n")
+            .append(bodyInd).append("final ").append(mutableBuffer)
+            .append(" buffer, final int offset, final int blockLength, final int actingVersion)\n")
+            .append(ind).append("{\n")
+            .append(bodyInd).append("int position = offset + blockLength;\n");
+
+        for (int i = 0, size = subGroups.size(); i < size;)
+        {
+            final Token subGroupToken = subGroups.get(i);
+            sb.append(bodyInd).append("position = ").append(encoderName(subGroupToken.name()))
+                .append(".sbeSkipGroup(buffer, position, actingVersion);\n");
+            i += subGroupToken.componentTokenCount();
+        }
+
+        for (int i = 0, size = varData.size(); i < size;)
+        {
+            final Token varDataToken = varData.get(i);
+            final Token lengthToken = Generators.findFirst("length", varData, i);
+            final String skip = "position += " + lengthToken.encodedLength() + " + " +
+                getInt(lengthToken, "position") + ";\n";
+
+            if (varDataToken.version() > 0)
+            {
+                sb.append(bodyInd).append("if (actingVersion >= ").append(varDataToken.version()).append(")\n")
+                    .append(bodyInd).append("{\n")
+                    .append(bodyInd).append(INDENT).append(skip)
+                    .append(bodyInd).append("}\n");
+            }
+            else
+            {
+                sb.append(bodyInd).append(skip);
+            }
+
+            i += varDataToken.componentTokenCount();
+        }
+
+        sb.append("\n")
+            .append(bodyInd).append("return position;\n")
+            .append(ind).append("}\n");
+    }
+
+    private static String getInt(final Token token, final String base)
+    {
+        final PrimitiveType type = token.encoding().primitiveType();
+        final String get = generateGet(type, base + " + " + token.offset(), byteOrderString(token.encoding()));
+
+        return PrimitiveType.UINT32 == type || PrimitiveType.INT64 == type || PrimitiveType.UINT64 == type ?
+            "(int)" + get : get;
+    }
+}
@@ -0,0 +1,515 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.generation.java;
+
+import uk.co.real_logic.sbe.PrimitiveType;
+import uk.co.real_logic.sbe.generation.Generators;
+import uk.co.real_logic.sbe.ir.Encoding;
+import uk.co.real_logic.sbe.ir.Signal;
+import uk.co.real_logic.sbe.ir.Token;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static uk.co.real_logic.sbe.generation.java.JavaGenerator.byteOrderString;
+import static uk.co.real_logic.sbe.generation.java.JavaGenerator.generateGet;
+import static uk.co.real_logic.sbe.generation.java.JavaUtil.*;
+import static uk.co.real_logic.sbe.ir.GenerationUtil.collectFields;
+import static uk.co.real_logic.sbe.ir.GenerationUtil.collectGroups;
+import static uk.co.real_logic.sbe.ir.GenerationUtil.collectVarData;
+
+/**
+ * Generates {@code sbeValidate(int limit)} for a message decoder which walks the encoded message once, reading only
+ * what is needed to find its end, and returns a {@link uk.co.real_logic.sbe.codec.java.MessageValidation} code.
+ * <p>
+ * Every read is checked against the limit before it is made, so untrusted input can be validated with Agrona bounds
+ * checks disabled. Block lengths are checked against the fields of the acting version, group counts against the min
+ * and max of the {@code numInGroup} encoding, var data lengths against the max of the {@code length} encoding, and
+ * enum and set fields against their values and choices. Unknown enum values are accepted when the decoders are
+ * generated to decode them. A group of fixed length entries without enums or sets is checked in one step.
+ */
+final class JavaValidationGenerator
+{
+    private static final String INDENT = "    ";
+    private static final String RESULT = "uk.co.real_logic.sbe.codec.java.MessageValidation.";
+
+    private final String readOnlyBuffer;
+    private final boolean shouldDecodeUnknownEnumValues;
+    private final StringBuilder helpers = new StringBuilder();
+
+    JavaValidationGenerator(final String readOnlyBuffer, final boolean shouldDecodeUnknownEnumValues)
+    {
+        this.readOnlyBuffer = readOnlyBuffer;
+        this.shouldDecodeUnknownEnumValues = shouldDecodeUnknownEnumValues;
+    }
+
+    CharSequence generateValidate(final List<Token> fields, final List<Token> groups, final List<Token> varData)
+    {
+        final String ind = INDENT + INDENT;
+        final StringBuilder sb = new StringBuilder();
+
+        sb.append("\n")
+            .append(INDENT).append("/**\n")
+            .append(INDENT).append(" * Walk the encoded message once, from the wrapped offset to the limit, checking ")
+            .append("block lengths, group\n")
+            .append(INDENT).append(" * counts, var data lengths, and enum and set values so that a valid message can ")
+            .append("then be read without\n")
+            .append(INDENT).append(" * bounds checks. The position of the decoder is not changed.\n")
+            .append(INDENT).append(" *\n")
+            .append(INDENT).append(" * @param limit in the buffer which the message must not extend beyond.\n")
+            .append(INDENT).append(" * @return {@link uk.co.real_logic.sbe.codec.java.MessageValidation#VALID} ")
+            .append("or the negative code of the first error.\n")
+            .append(INDENT).append(" */\n")
+            .append(INDENT).append("public int sbeValidate(final int limit)\n")
+            .append(INDENT).append("{\n")
+            .append(ind).append("final int end = Math.min(limit, buffer.capacity());\n")
+            .append(ind).append("if (actingBlockLength < ").append(minBlockLength(fields)).append(")\n")
+            .append(ind).append("{\n")
+            .append(ind).append("    return ").append(RESULT).append("INVALID_BLOCK_LENGTH;\n")
+            .append(ind).append("}\n\n")
+            .append(ind).append("if (offset < 0 || actingBlockLength > end - offset)\n")
+            .append(ind).append("{\n")
+            .append(ind).append("    return ").append(RESULT).append("BUFFER_TOO_SHORT;\n")
+            .append(ind).append("}\n\n");
+
+        generateFieldChecks(sb, fields, "offset", ind);
+
+        if (!groups.isEmpty() || !varData.isEmpty())
+        {
+            sb.append(ind).append("int position = offset + actingBlockLength;\n");
+            generateGroupCalls(sb, groups, "", ind);
+            generateVarDataChecks(sb, varData, ind);
+        }
+
+        sb.append(ind).append("return ").append(RESULT).append("VALID;\n")
+            .append(INDENT).append("}\n");
+
+        generateGroupMethods(groups, "");
+        sb.append(helpers);
+
+        return sb;
+    }
+
+    private void generateGroupMethods(final List<Token> groups, final String pathPrefix)
+    {
+        for (int i = 0, size = groups.size(); i < size;)
+        {
+            final Token groupToken = groups.get(i);
+            final List<Token> groupTokens = groups.subList(i, i + groupToken.componentTokenCount());
+            final Token dimensionsToken = groupTokens.get(1);
+            final Token blockLengthToken = Generators.findFirst("blockLength", groupTokens, 1);
+            final Token numInGroupToken = Generators.findFirst("numInGroup", groupTokens, 1);
+            final String path = pathPrefix + Generators.toUpperFirstChar(groupToken.name());
+
+            final List<Token> body = groupTokens.subList(1 + dimensionsToken.componentTokenCount(),
+                groupTokens.size() - 1);
+            int index = 0;
+            final List<Token> fields = new ArrayList<>();
+            index = collectFields(body, index, fields);
+            final List<Token> subGroups = new ArrayList<>();
+            index = collectGroups(body, index, subGroups);
+            final List<Token> varData = new ArrayList<>();
+            collectVarData(body, index, varData);
+
+            final String ind = INDENT + INDENT;
+            final Encoding countEncoding = numInGroupToken.encoding();
+            final PrimitiveType countType = countEncoding.primitiveType();
+            final boolean isLongCount = PrimitiveType.UINT32 == countType || PrimitiveType.INT64 == countType ||
+                PrimitiveType.UINT64 == countType;
+            final String countJavaType = isLongCount ? "long" : "int";
+            final String countSuffix = isLongCount ? "L" : "";
+
+            helpers.append("\n")
+                .append(INDENT).append("private static int sbeValidate").append(path).append("(\n")
+                .append(ind).append("final ").append(readOnlyBuffer).append(" buffer, final int offset, ")
+                .append("final int end, final int actingVersion)\n")
+                .append(INDENT).append("{\n");
+
+            if (groupToken.version() > 0)
+            {
+                helpers.append(ind).append("if (actingVersion < ").append(groupToken.version()).append(")\n")
+                    .append(ind).append("{\n")
+                    .append(ind).append("    return offset;\n")
+                    .append(ind).append("}\n\n");
+            }
+
+            helpers.append(ind).append("if (").append(dimensionsToken.encodedLength()).append(" > end - offset)\n")
+                .append(ind).append("{\n")
+                .append(ind).append("    return ").append(RESULT).append("BUFFER_TOO_SHORT;\n")
+                .append(ind).append("}\n\n")
+                .append(ind).append("final int blockLength = ").append(get(blockLengthToken, "offset"))
+                .append(";\n")
+                .append(ind).append("if (blockLength < ").append(minBlockLength(fields)).append(")\n")
+                .append(ind).append("{\n")
+                .append(ind).append("    return ").append(RESULT).append("INVALID_BLOCK_LENGTH;\n")
+                .append(ind).append("}\n\n")
+                .append(ind).append("final ").append(countJavaType).append(" count = ")
+                .append(get(numInGroupToken, "offset")).append(";\n")
+                .append(ind).append("if (count < ").append(countEncoding.applicableMinValue().longValue())
+                .append(countSuffix).append(" || count > ").append(countEncoding.applicableMaxValue().longValue())
+                .append(countSuffix).append(")\n")
+                .append(ind).append("{\n")
+                .append(ind).append("    return ").append(RESULT).append("INVALID_GROUP_COUNT;\n")
+                .append(ind).append("}\n\n")
+                .append(ind).append("int position = offset + ").append(dimensionsToken.encodedLength()).append(";\n");
+
+            if (subGroups.isEmpty() && varData.isEmpty() && !hasFieldChecks(fields))
+            {
+                helpers.append(ind).append("if ((long)count * blockLength > end - position)\n")
+                    .append(ind).append("{\n")
+                    .append(ind).append("    return ").append(RESULT).append("BUFFER_TOO_SHORT;\n")
+                    .append(ind).append("}\n\n")
+                    .append(ind).append("return position + ").append(isLongCount ? "(int)(count * blockLength)" :
+                    "(count * blockLength)").append(";\n");
+            }
+            else
+            {
+                final String loopInd = ind + INDENT;
+                helpers.append(ind).append("for (").append(countJavaType).append(" i = 0; i < count; i++)\n")
+                    .append(ind).append("{\n")
+                    .append(loopInd).append("if (blockLength > end - position)\n")
+                    .append(loopInd).append("{\n")
+                    .append(loopInd).append("    return ").append(RESULT).append("BUFFER_TOO_SHORT;\n")
+                    .append(loopInd).append("}\n\n");
+
+                generateFieldChecks(helpers, fields, "position", loopInd);
+
+                helpers.append(loopInd).append("position += blockLength;\n\n");
+                generateGroupCalls(helpers, subGroups, path, loopInd);
+                generateVarDataChecks(helpers, varData, loopInd);
+
+                trimBlankLine(helpers);
+                helpers.append(ind).append("}\n\n")
+                    .append(ind).append("return position;\n");
+            }
+
+            helpers.append(INDENT).append("}\n");
+
+            generateGroupMethods(subGroups, path);
+            i += groupToken.componentTokenCount();
+        }
+    }
+
+    private static void generateGroupCalls(
+        final StringBuilder sb, final List<Token> groups, final String pathPrefix, final String ind)
+    {
+        for (int i = 0, size = groups.size(); i < size;)
+        {
+            final Token groupToken = groups.get(i);
+            sb.append(ind).append("position = sbeValidate").append(pathPrefix)
+                .append(Generators.toUpperFirstChar(groupToken.name()))
+                .append("(buffer, position, end, actingVersion);\n")
+                .append(ind).append("if (position < 0)\n")
+                .append(ind).append("{\n")
+                .append(ind).append("    return position;\n")
+                .append(ind).append("}\n\n");
+
+            i += groupToken.componentTokenCount();
+        }
+    }
+
+    private static void generateVarDataChecks(final StringBuilder sb, final List<Token> varData, final String ind)
+    {
+        for (int i = 0, size = varData.size(); i < size;)
+        {
+            final Token varDataToken = varData.get(i);
+            final Token lengthToken = Generators.findFirst("length", varData, i);
+            final PrimitiveType lengthType = lengthToken.encoding().primitiveType();
+            final boolean isLongLength = PrimitiveType.UINT32 == lengthType;
+            final String lengthName = formatPropertyName(varDataToken.name()) + "Length";
+            final int lengthSize = lengthToken.encodedLength();
+
+            String checkInd = ind;
+            if (varDataToken.version() > 0)
+            {
+                sb.append(ind).append("if (actingVersion >= ").append(varDataToken.version()).append(")\n")
+                    .append(ind).append("{\n");
+                checkInd = ind + INDENT;
+            }
+
+            sb.append(checkInd).append("if (").append(lengthSize).append(" > end - position)\n")
+                .append(checkInd).append("{\n")
+                .append(checkInd).append("    return ").append(RESULT).append("BUFFER_TOO_SHORT;\n")
+                .append(checkInd).append("}\n\n")
+                .append(checkInd).append("final ").append(isLongLength ? "long " : "int ").append(lengthName)
+                .append(" = ").append(get(lengthToken, "position")).append(";\n")
+                .append(checkInd).append("if (").append(lengthName).append(" > ")
+                .append(lengthToken.encoding().applicableMaxValue().longValue()).append(isLongLength ? "L" : "")
+                .append(")\n")
+                .append(checkInd).append("{\n")
+                .append(checkInd).append("    return ").append(RESULT).append("INVALID_VAR_DATA_LENGTH;\n")
+                .append(checkInd).append("}\n\n")
+                .append(checkInd).append("position += ").append(lengthSize).append(";\n")
+                .append(checkInd).append("if (").append(lengthName).append(" > end - position)\n")
+                .append(checkInd).append("{\n")
+                .append(checkInd).append("    return ").append(RESULT).append("BUFFER_TOO_SHORT;\n")
+                .append(checkInd).append("}\n")
+                .append(checkInd).append("position += ").append(isLongLength ? "(int)" : "").append(lengthName)
+                .append(";\n");
+
+            if (varDataToken.version() > 0)
+            {
+                sb.append(ind).append("}\n");
+            }
+            sb.append("\n");
+
+            i += varDataToken.componentTokenCount();
+        }
+    }
+
+    private void generateFieldChecks(
+        final StringBuilder sb, final List<Token> fields, final String base, final String ind)
+    {
+        for (int i = 0, size = fields.size(); i < size;)
+        {
+            final Token fieldToken = fields.get(i);
+            if (fieldToken.signal() != Signal.BEGIN_FIELD)
+            {
+                ++i;
+                continue;
+            }
+
+            final int nextFieldIndex = i + fieldToken.componentTokenCount();
+            final Token typeToken = fields.get(i + 1);
+            if (!fieldToken.isConstantEncoding() && hasTypeChecks(fields, i + 1, nextFieldIndex - 2))
+            {
+                String checkInd = ind;
+                if (fieldToken.version() > 0)
+                {
+                    sb.append(ind).append("if (actingVersion >= ").append(fieldToken.version()).append(")\n")
+                        .append(ind).append("{\n");
+                    checkInd = ind + INDENT;
+                }
+
+                generateTypeChecks(sb, fields, i + 1, nextFieldIndex - 2, base + " + " + typeToken.offset(), checkInd);
+
+                if (fieldToken.version() > 0)
+                {
+                    sb.append(ind).append("}\n\n");
+                }
+            }
+
+            i = nextFieldIndex;
+        }
+    }
+
+    private void generateTypeChecks(
+        final StringBuilder sb, final List<Token> tokens, final int index, final int endIndex, final String position,
+        final String ind)
+    {
+        final Token typeToken = tokens.get(index);
+        switch (typeToken.signal())
+        {
+            case BEGIN_ENUM:
+                if (!shouldDecodeUnknownEnumValues)
+                {
+                    generateEnumCheck(sb, tokens, index, endIndex, position, ind);
+                }
+                break;
+
+            case BEGIN_SET:
+                generateSetCheck(sb, tokens, index, endIndex, position, ind);
+                break;
+
+            case BEGIN_COMPOSITE:
+                for (int i = index + 1; i < endIndex;)
+                {
+                    final Token memberToken = tokens.get(i);
+                    final int memberEndIndex = i + memberToken.componentTokenCount() - 1;
+                    if (!memberToken.isConstantEncoding() && hasTypeChecks(tokens, i, memberEndIndex))
+                    {
+                        generateTypeChecks(
+                            sb, tokens, i, memberEndIndex, position + " + " + memberToken.offset(), ind);
+                    }
+                    i += memberToken.componentTokenCount();
+                }
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    private static void generateEnumCheck(
+        final StringBuilder sb, final List<Token> tokens, final int index, final int endIndex, final String position,
+        final String ind)
+    {
+        final Token enumToken = tokens.get(index);
+        final Encoding encoding = enumToken.encoding();
+
+        sb.append(ind).append("switch (").append(generateGet(encoding.primitiveType(), position,
+            byteOrderString(encoding))).append(")\n")
+            .append(ind).append("{\n");
+
+        for (int i = index + 1; i < endIndex; i++)
+        {
+            sb.append(ind).append("    case ").append(tokens.get(i).encoding().constValue().toString())
+                .append(":\n");
+        }
+
+        sb.append(ind).append("    case ")
+            .append(generateLiteral(encoding.primitiveType(), encoding.applicableNullValue().toString())).append(":\n")
+            .append(ind).append("        break;\n\n")
+            .append(ind).append("    default:\n")
+            .append(ind).append("        return ").append(RESULT).append("INVALID_ENUM_VALUE;\n")
+            .append(ind).append("}\n\n");
+    }
+
+    private static void generateSetCheck(
+        final StringBuilder sb, final List<Token> tokens, final int index, final int endIndex, final String position,
+        final String ind)
+    {
+        final Token setToken = tokens.get(index);
+        final Encoding encoding = setToken.encoding();
+
+        long mask = 0;
+        for (int i = index + 1; i < endIndex; i++)
+        {
+            mask |= 1L << tokens.get(i).encoding().constValue().longValue();
+        }
+
+        sb.append(ind).append("if ((").append(generateGet(encoding.primitiveType(), position,
+            byteOrderString(encoding))).append(" & ~0x").append(Long.toHexString(mask)).append("L) != 0)\n")
+            .append(ind).append("{\n")
+            .append(ind).append("    return ").append(RESULT).append("INVALID_SET_VALUE;\n")
+            .append(ind).append("}\n\n");
+    }
+
+    private boolean hasFieldChecks(final List<Token> fields)
+    {
+        for (int i = 0, size = fields.size(); i < size;)
+        {
+            final Token fieldToken = fields.get(i);
+            if (fieldToken.signal() != Signal.BEGIN_FIELD)
+            {
+                ++i;
+                continue;
+            }
+
+            final int nextFieldIndex = i + fieldToken.componentTokenCount();
+            if (!fieldToken.isConstantEncoding() && hasTypeChecks(fields, i + 1, nextFieldIndex - 2))
+            {
+                return true;
+            }
+
+            i = nextFieldIndex;
+        }
+
+        return false;
+    }
+
+    private boolean hasTypeChecks(final List<Token> tokens, final int index, final int endIndex)
+    {
+        switch (tokens.get(index).signal())
+        {
+            case BEGIN_ENUM:
+                return !shouldDecodeUnknownEnumValues;
+
+            case BEGIN_SET:
+                return true;
+
+            case BEGIN_COMPOSITE:
+                for (int i = index + 1; i < endIndex;)
+                {
+                    final Token memberToken = tokens.get(i);
+                    final int memberEndIndex = i + memberToken.componentTokenCount() - 1;
+                    if (!memberToken.isConstantEncoding() && hasTypeChecks(tokens, i, memberEndIndex))
+                    {
+                        return true;
+                    }
+                    i += memberToken.componentTokenCount();
+                }
+                return false;
+
+            default:
+                return false;
+        }
+    }
+
+    private static String minBlockLength(final List<Token> fields)
+    {
+        final TreeMap<Integer, Integer> fieldsEndByVersion = new TreeMap<>();
+        for (int i = 0, size = fields.size(); i < size;)
+        {
+            final Token fieldToken = fields.get(i);
+            if (fieldToken.signal() != Signal.BEGIN_FIELD)
+            {
+                ++i;
+                continue;
+            }
+
+            final Token typeToken = fields.get(i + 1);
+            if (!fieldToken.isConstantEncoding() && typeToken.encodedLength() > 0)
+            {
+                fieldsEndByVersion.merge(
+                    fieldToken.version(), typeToken.offset() + typeToken.encodedLength(), Math::max);
+            }
+
+            i += fieldToken.componentTokenCount();
+        }
+
+        final TreeMap<Integer, Integer> minBlockLengthByVersion = new TreeMap<>();
+        int minBlockLength = 0;
+        for (final Map.Entry<Integer, Integer> entry : fieldsEndByVersion.entrySet())
+        {
+            minBlockLength = Math.max(minBlockLength, entry.getValue());
+            minBlockLengthByVersion.put(entry.getKey(), minBlockLength);
+        }
+
+        if (minBlockLengthByVersion.isEmpty())
+        {
+            return "0";
+        }
+
+        if (1 == minBlockLengthByVersion.size() && 0 == minBlockLengthByVersion.firstKey())
+        {
+            return minBlockLengthByVersion.firstEntry().getValue().toString();
+        }
+
+        final StringBuilder sb = new StringBuilder("(");
+        for (final Map.Entry<Integer, Integer> entry : minBlockLengthByVersion.descendingMap().entrySet())
+        {
+            if (entry.getKey() > 0)
+            {
+                sb.append("actingVersion >= ").append(entry.getKey()).append(" ? ").append(entry.getValue())
+                    .append(" : ");
+            }
+            else
+            {
+                return sb.append(entry.getValue()).append(')').toString();
+            }
+        }
+
+        return sb.append("0)").toString();
+    }
+
+    private static void trimBlankLine(final StringBuilder sb)
+    {
+        final int length = sb.length();
+        if (length > 1 && sb.charAt(length - 1) == '\n' && sb.charAt(length - 2) == '\n')
+        {
+            sb.setLength(length - 1);
+        }
+    }
+
+    private static String get(final Token token, final String base)
+    {
+        return generateGet(token.encoding().primitiveType(), base + " + " + token.offset(),
+            byteOrderString(token.encoding()));
+    }
+}
@@ -15,6 +15,8 @@
  */
 package uk.co.real_logic.sbe.ir;
 
+import uk.co.real_logic.sbe.PrimitiveType;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -181,4 +183,60 @@ public final class GenerationUtil
 
         return -1;
     }
+
+    /**
+     * Is a composite decimal shaped, i.e. does it have only an integer mantissa and an integer exponent, each of which
+     * is a single value. A {@link PrimitiveType#UINT64} mantissa is not decimal shaped as it may not fit in a long.
+     *
+     * @param tokens    containing the composite.
+     * @param fromIndex of the {@link Signal#BEGIN_COMPOSITE} token.
+     * @param toIndex   of the {@link Signal#END_COMPOSITE} token.
+     * @return true if the composite is decimal shaped otherwise false.
+     */
+    public static boolean isDecimalComposite(final List<Token> tokens, final int fromIndex, final int toIndex)
+    {
+        Token mantissa = null;
+        Token exponent = null;
+
+        for (int i = fromIndex + 1; i < toIndex; i++)
+        {
+            final Token token = tokens.get(i);
+            if (Signal.ENCODING != token.signal() || token.arrayLength() > 1 || !isInteger(token))
+            {
+                return false;
+            }
+
+            if ("mantissa".equalsIgnoreCase(token.name()) && null == mantissa)
+            {
+                mantissa = token;
+            }
+            else if ("exponent".equalsIgnoreCase(token.name()) && null == exponent)
+            {
+                exponent = token;
+            }
+            else
+            {
+                return false;
+            }
+        }
+
+        return null != mantissa && null != exponent &&
+            PrimitiveType.UINT64 != mantissa.encoding().primitiveType() &&
+            PrimitiveType.UINT64 != exponent.encoding().primitiveType() &&
+            PrimitiveType.UINT32 != exponent.encoding().primitiveType();
+    }
+
+    private static boolean isInteger(final Token token)
+    {
+        switch (token.encoding().primitiveType())
+        {
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return false;
+
+            default:
+                return true;
+        }
+    }
 }
@@ -0,0 +1,810 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.json;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Object2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+import uk.co.real_logic.sbe.PrimitiveValue;
+import uk.co.real_logic.sbe.ir.Encoding;
+import uk.co.real_logic.sbe.ir.Token;
+import uk.co.real_logic.sbe.otf.TokenListener;
+import uk.co.real_logic.sbe.otf.Types;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static uk.co.real_logic.sbe.PrimitiveType.CHAR;
+import static uk.co.real_logic.sbe.ir.GenerationUtil.isDecimalComposite;
+
+/**
+ * Listener for tokens when dynamically decoding a message which converts them to UTF-8 encoded JSON written directly
+ * to a {@link MutableDirectBuffer}.
+ * <p>
+ * The output is the same as for {@link JsonTokenListener} but the listener can be reused via
+ * {@link #reset(MutableDirectBuffer, int)} and does not allocate in the steady state. Escaping is done byte-wise and
+ * var data in UTF-8, ASCII, or ISO-8859-1 character encodings is copied without being decoded to a {@link String},
+ * so UTF-8 var data is expected to be well-formed.
+ * If the buffer is expandable then it will grow as required, otherwise it must have sufficient capacity for the output.
+ * <p>
+ * <b>Note:</b> this class is not threadsafe.
+ */
+public class JsonBufferTokenListener implements TokenListener
+{
+    private static final byte[] HEX_DIGITS =
+        { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f' };
+    private static final byte[] NULL_BYTES = { 'n', 'u', 'l', 'l' };
+    private static final int FOUR_SPACES = 0x20202020;
+
+    private final StringBuilder scratch = new StringBuilder(64);
+    private final UnsafeBuffer constValueBuffer = new UnsafeBuffer(0, 0);
+    private final Object2ObjectHashMap<String, Charset> charsetByName = new Object2ObjectHashMap<>();
+    private final Object2ObjectHashMap<String, byte[]> utf8BytesByName = new Object2ObjectHashMap<>();
+    private MutableDirectBuffer buffer;
+    private int initialOffset;
+    private int position;
+    private int indentation = 0;
+    private int compositeLevel = 0;
+    private int decimalCompositeLevel = 0;
+    private boolean isNullDecimal;
+    private long decimalMantissa;
+    private int decimalExponent;
+
+    /**
+     * Construct a new TokenListener that will write JSON formatted output once
+     * {@link #reset(MutableDirectBuffer, int)} has been called.
+     */
+    public JsonBufferTokenListener()
+    {
+    }
+
+    /**
+     * Construct a new TokenListener that will write JSON formatted output to a buffer.
+     *
+     * @param buffer to write the JSON formatted output to.
+     * @param offset in the buffer at which to begin writing.
+     */
+    public JsonBufferTokenListener(final MutableDirectBuffer buffer, final int offset)
+    {
+        reset(buffer, offset);
+    }
+
+    /**
+     * Reset the listener so it writes to the beginning of a new output.
+     *
+     * @param buffer to write the JSON formatted output to.
+     * @param offset in the buffer at which to begin writing.
+     * @return this for a fluent API.
+     */
+    public JsonBufferTokenListener reset(final MutableDirectBuffer buffer, final int offset)
+    {
+        this.buffer = buffer;
+        initialOffset = offset;
+        position = offset;
+        indentation = 0;
+        compositeLevel = 0;
+        decimalCompositeLevel = 0;
+
+        return this;
+    }
+
+    /**
+     * The buffer to which the output is written.
+     *
+     * @return the buffer to which the output is written.
+     */
+    public MutableDirectBuffer buffer()
+    {
+        return buffer;
+    }
+
+    /**
+     * Position in the buffer after the last byte written.
+     *
+     * @return position in the buffer after the last byte written.
+     */
+    public int position()
+    {
+        return position;
+    }
+
+    /**
+     * Number of bytes written since the last reset.
+     *
+     * @return number of bytes written since the last reset.
+     */
+    public int length()
+    {
+        return position - initialOffset;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onBeginMessage(final Token token)
+    {
+        startObject();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onEndMessage(final Token token)
+    {
+        endObject();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onEncoding(
+        final Token fieldToken,
+        final DirectBuffer buffer,
+        final int bufferIndex,
+        final Token typeToken,
+        final int actingVersion)
+    {
+        if (0 != decimalCompositeLevel)
+        {
+            onDecimalEncoding(buffer, bufferIndex, fieldToken, typeToken, actingVersion);
+            return;
+        }
+
+        property(compositeLevel > 0 ? typeToken.name() : fieldToken.name());
+        appendEncodingAsString(buffer, bufferIndex, fieldToken, typeToken, actingVersion);
+        next();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onEnum(
+        final Token fieldToken,
+        final DirectBuffer buffer,
+        final int bufferIndex,
+        final List<Token> tokens,
+        final int fromIndex,
+        final int toIndex,
+        final int actingVersion)
+    {
+        final Token typeToken = tokens.get(fromIndex + 1);
+        property(determineName(0, fieldToken, tokens, fromIndex));
+        doubleQuote();
+
+        if (fieldToken.isConstantEncoding())
+        {
+            final String refValue = fieldToken.encoding().constValue().toString();
+            final int indexOfDot = refValue.indexOf('.');
+            appendUtf8(refValue, indexOfDot + 1, refValue.length(), false);
+        }
+        else
+        {
+            final long encodedValue = readEncodingAsLong(buffer, bufferIndex, typeToken, fieldToken, actingVersion);
+            String value = null;
+            for (int i = fromIndex + 1; i < toIndex; i++)
+            {
+                if (encodedValue == tokens.get(i).encoding().constValue().longValue())
+                {
+                    value = tokens.get(i).name();
+                    break;
+                }
+            }
+
+            appendBytes(null == value ? NULL_BYTES : utf8Bytes(value));
+        }
+
+        doubleQuote();
+        next();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onBitSet(
+        final Token fieldToken,
+        final DirectBuffer buffer,
+        final int bufferIndex,
+        final List<Token> tokens,
+        final int fromIndex,
+        final int toIndex,
+        final int actingVersion)
+    {
+        final Token typeToken = tokens.get(fromIndex + 1);
+        final long encodedValue = readEncodingAsLong(buffer, bufferIndex, typeToken, fieldToken, actingVersion);
+
+        property(determineName(0, fieldToken, tokens, fromIndex));
+
+        appendAscii("{ ");
+        for (int i = fromIndex + 1; i < toIndex; i++)
+        {
+            doubleQuote();
+            appendBytes(utf8Bytes(tokens.get(i).name()));
+            appendAscii("\": ");
+
+            final long bitPosition = tokens.get(i).encoding().constValue().longValue();
+            final boolean flag = (encodedValue & (1L << bitPosition)) != 0;
+
+            appendAscii(flag ? "true" : "false");
+
+            if (i < (toIndex - 1))
+            {
+                appendAscii(", ");
+            }
+        }
+        appendAscii(" }");
+        next();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onBeginComposite(
+        final Token fieldToken, final List<Token> tokens, final int fromIndex, final int toIndex)
+    {
+        ++compositeLevel;
+        property(determineName(1, fieldToken, tokens, fromIndex));
+        if (0 == decimalCompositeLevel && isDecimalComposite(tokens, fromIndex, toIndex))
+        {
+            decimalCompositeLevel = compositeLevel;
+            isNullDecimal = false;
+            return;
+        }
+
+        appendByte('\n');
+        startObject();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onEndComposite(
+        final Token fieldToken, final List<Token> tokens, final int fromIndex, final int toIndex)
+    {
+        if (decimalCompositeLevel == compositeLevel)
+        {
+            decimalCompositeLevel = 0;
+            --compositeLevel;
+            if (isNullDecimal)
+            {
+                appendAscii("null");
+            }
+            else
+            {
+                scratch.setLength(0);
+                Types.appendDecimal(scratch, decimalMantissa, decimalExponent);
+                appendUtf8(scratch, false);
+            }
+            next();
+            return;
+        }
+
+        --compositeLevel;
+        endObject();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onGroupHeader(final Token token, final int numInGroup)
+    {
+        property(token.name());
+        if (numInGroup > 0)
+        {
+            appendAscii("[\n");
+        }
+        else
+        {
+            appendAscii("[],\n");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onBeginGroup(final Token token, final int groupIndex, final int numInGroup)
+    {
+        startObject();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onEndGroup(final Token token, final int groupIndex, final int numInGroup)
+    {
+        endObject();
+        if (groupIndex == numInGroup - 1)
+        {
+            backup();
+            appendAscii("],\n");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onVarData(
+        final Token fieldToken,
+        final DirectBuffer buffer,
+        final int bufferIndex,
+        final int length,
+        final Token typeToken)
+    {
+        property(fieldToken.name());
+        doubleQuote();
+
+        final String charsetName = typeToken.encoding().characterEncoding();
+        if (null == charsetName)
+        {
+            appendHex(buffer, bufferIndex, length);
+        }
+        else
+        {
+            appendEscapedString(buffer, bufferIndex, length, charsetName);
+        }
+
+        doubleQuote();
+        next();
+    }
+
+    private void onDecimalEncoding(
+        final DirectBuffer buffer,
+        final int bufferIndex,
+        final Token fieldToken,
+        final Token typeToken,
+        final int actingVersion)
+    {
+        final long value = readEncodingAsLong(buffer, bufferIndex, typeToken, fieldToken, actingVersion);
+        if ("mantissa".equalsIgnoreCase(typeToken.name()))
+        {
+            decimalMantissa = value;
+            isNullDecimal = typeToken.isOptionalEncoding() &&
+                value == typeToken.encoding().applicableNullValue().longValue();
+        }
+        else
+        {
+            decimalExponent = (int)value;
+        }
+    }
+
+    private void next()
+    {
+        appendByte(',');
+        appendByte('\n');
+    }
+
+    private void property(final String name)
+    {
+        indent();
+        doubleQuote();
+        appendBytes(utf8Bytes(name));
+        appendAscii("\": ");
+    }
+
+    private byte[] utf8Bytes(final String name)
+    {
+        byte[] bytes = utf8BytesByName.get(name);
+        if (null == bytes)
+        {
+            bytes = name.getBytes(StandardCharsets.UTF_8);
+            utf8BytesByName.put(name, bytes);
+        }
+
+        return bytes;
+    }
+
+    private void appendBytes(final byte[] bytes)
+    {
+        buffer.putBytes(position, bytes);
+        position += bytes.length;
+    }
+
+    private void appendEncodingAsString(
+        final DirectBuffer buffer,
+        final int index,
+        final Token fieldToken,
+        final Token typeToken,
+        final int actingVersion)
+    {
+        final int arrayLength = typeToken.arrayLength();
+        final Encoding encoding = typeToken.encoding();
+        final PrimitiveValue constOrNotPresentValue = constOrNotPresentValue(typeToken, fieldToken, actingVersion);
+
+        if (null != constOrNotPresentValue)
+        {
+            final String characterEncoding = encoding.characterEncoding();
+            if (null != characterEncoding)
+            {
+                doubleQuote();
+
+                if (PrimitiveValue.Representation.LONG == constOrNotPresentValue.representation())
+                {
+                    final long longValue = constOrNotPresentValue.longValue();
+                    if (PrimitiveValue.NULL_VALUE_CHAR != longValue)
+                    {
+                        appendEscapedAscii((byte)longValue);
+                    }
+                }
+                else
+                {
+                    final byte[] bytes = constOrNotPresentValue.byteArrayValue();
+                    constValueBuffer.wrap(bytes);
+                    appendEscapedString(constValueBuffer, 0, bytes.length, characterEncoding);
+                }
+
+                doubleQuote();
+            }
+            else
+            {
+                scratch.setLength(0);
+                if (arrayLength < 2)
+                {
+                    Types.appendAsJsonString(scratch, constOrNotPresentValue, encoding);
+                }
+                else
+                {
+                    scratch.append('[');
+
+                    for (int i = 0; i < arrayLength; i++)
+                    {
+                        if (i > 0)
+                        {
+                            scratch.append(", ");
+                        }
+                        Types.appendAsJsonString(scratch, constOrNotPresentValue, encoding);
+                    }
+
+                    scratch.append(']');
+                }
+                appendUtf8(scratch, false);
+            }
+        }
+        else
+        {
+            final int elementSize = encoding.primitiveType().size();
+            final int size = typeToken.arrayLength();
+
+            if (size > 1 && encoding.primitiveType() == CHAR)
+            {
+                doubleQuote();
+                escapePrintableChar(buffer, index, size, elementSize);
+                doubleQuote();
+            }
+            else
+            {
+                if (1 == size)
+                {
+                    appendValue(buffer, index, encoding);
+                }
+                else
+                {
+                    appendByte('[');
+
+                    for (int i = 0; i < size; i++)
+                    {
+                        if (i > 0)
+                        {
+                            appendAscii(", ");
+                        }
+                        appendValue(buffer, index + (i * elementSize), encoding);
+                    }
+
+                    appendByte(']');
+                }
+            }
+        }
+    }
+
+    private void appendValue(final DirectBuffer buffer, final int index, final Encoding encoding)
+    {
+        switch (encoding.primitiveType())
+        {
+            case INT8:
+                position += this.buffer.putIntAscii(position, buffer.getByte(index));
+                break;
+
+            case INT16:
+                position += this.buffer.putIntAscii(position, buffer.getShort(index, encoding.byteOrder()));
+                break;
+
+            case INT32:
+                position += this.buffer.putIntAscii(position, buffer.getInt(index, encoding.byteOrder()));
+                break;
+
+            case INT64:
+            case UINT64:
+                position += this.buffer.putLongAscii(position, buffer.getLong(index, encoding.byteOrder()));
+                break;
+
+            case UINT8:
+                position += this.buffer.putIntAscii(position, buffer.getByte(index) & 0xFF);
+                break;
+
+            case UINT16:
+                position += this.buffer.putIntAscii(position, buffer.getShort(index, encoding.byteOrder()) & 0xFFFF);
+                break;
+
+            case UINT32:
+                position += this.buffer.putLongAscii(
+                    position, buffer.getInt(index, encoding.byteOrder()) & 0xFFFF_FFFFL);
+                break;
+
+            default:
+                scratch.setLength(0);
+                Types.appendAsJsonString(scratch, buffer, index, encoding);
+                appendUtf8(scratch, false);
+                break;
+        }
+    }
+
+    private void escapePrintableChar(final DirectBuffer buffer, final int index, final int size, final int elementSize)
+    {
+        for (int i = 0; i < size; i++)
+        {
+            final byte c = buffer.getByte(index + (i * elementSize));
+            if (c > 0)
+            {
+                appendEscapedAscii(c);
+            }
+            else
+            {
+                break;
+            }
+        }
+    }
+
+    private void appendEscapedString(
+        final DirectBuffer buffer, final int index, final int length, final String charsetName)
+    {
+        final Charset charset = charsetByName.computeIfAbsent(charsetName, Charset::forName);
+        if (StandardCharsets.UTF_8.equals(charset))
+        {
+            appendEscapedUtf8(buffer, index, length);
+        }
+        else if (StandardCharsets.US_ASCII.equals(charset))
+        {
+            appendEscapedAscii(buffer, index, length);
+        }
+        else if (StandardCharsets.ISO_8859_1.equals(charset))
+        {
+            appendEscapedLatin1(buffer, index, length);
+        }
+        else
+        {
+            final byte[] tempBuffer = new byte[length];
+            buffer.getBytes(index, tempBuffer, 0, length);
+            final String str = new String(tempBuffer, 0, length, charset);
+            appendUtf8(str, 0, str.length(), true);
+        }
+    }
+
+    private void appendHex(final DirectBuffer buffer, final int index, final int length)
+    {
+        for (int i = 0; i < length; i++)
+        {
+            final int b = buffer.getByte(index + i) & 0xFF;
+            appendByte(HEX_DIGITS[b >>> 4]);
+            appendByte(HEX_DIGITS[b & 0x0F]);
+        }
+    }
+
+    private void appendEscapedUtf8(final DirectBuffer buffer, final int index, final int length)
+    {
+        for (int i = 0; i < length; i++)
+        {
+            appendEscapedAscii(buffer.getByte(index + i));
+        }
+    }
+
+    private void appendEscapedAscii(final DirectBuffer buffer, final int index, final int length)
+    {
+        for (int i = 0; i < length; i++)
+        {
+            final byte b = buffer.getByte(index + i);
+            if (b < 0)
+            {
+                appendUtf8('\uFFFD');
+            }
+            else
+            {
+                appendEscapedAscii(b);
+            }
+        }
+    }
+
+    private void appendEscapedLatin1(final DirectBuffer buffer, final int index, final int length)
+    {
+        for (int i = 0; i < length; i++)
+        {
+            final byte b = buffer.getByte(index + i);
+            if (b < 0)
+            {
+                appendUtf8((char)(b & 0xFF));
+            }
+            else
+            {
+                appendEscapedAscii(b);
+            }
+        }
+    }
+
+    private void appendEscapedAscii(final byte b)
+    {
+        if ('"' == b || '\\' == b || '\b' == b || '\f' == b || '\n' == b || '\r' == b || '\t' == b)
+        {
+            appendByte('\\');
+        }
+
+        appendByte(b);
+    }
+
+    private void appendUtf8(final CharSequence value, final boolean escape)
+    {
+        appendUtf8(value, 0, value.length(), escape);
+    }
+
+    private void appendUtf8(final CharSequence value, final int from, final int to, final boolean escape)
+    {
+        for (int i = from; i < to; i++)
+        {
+            final char c = value.charAt(i);
+            if (c < 0x80)
+            {
+                if (escape)
+                {
+                    appendEscapedAscii((byte)c);
+                }
+                else
+                {
+                    appendByte(c);
+                }
+            }
+            else if (Character.isHighSurrogate(c) && i + 1 < to && Character.isLowSurrogate(value.charAt(i + 1)))
+            {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                appendByte(0xF0 | (codePoint >>> 18));
+                appendByte(0x80 | ((codePoint >>> 12) & 0x3F));
+                appendByte(0x80 | ((codePoint >>> 6) & 0x3F));
+                appendByte(0x80 | (codePoint & 0x3F));
+            }
+            else
+            {
+                appendUtf8(c);
+            }
+        }
+    }
+
+    private void appendUtf8(final char c)
+    {
+        if (c < 0x80)
+        {
+            appendByte(c);
+        }
+        else if (c < 0x800)
+        {
+            appendByte(0xC0 | (c >>> 6));
+            appendByte(0x80 | (c & 0x3F));
+        }
+        else
+        {
+            final char value = Character.isSurrogate(c) ? '?' : c;
+            appendByte(0xE0 | (value >>> 12));
+            appendByte(0x80 | ((value >>> 6) & 0x3F));
+            appendByte(0x80 | (value & 0x3F));
+        }
+    }
+
+    private void appendAscii(final String value)
+    {
+        position += buffer.putStringWithoutLengthAscii(position, value);
+    }
+
+    private void appendByte(final int b)
+    {
+        buffer.putByte(position++, (byte)b);
+    }
+
+    private void backup()
+    {
+        final int newPosition = position - 2;
+        if (newPosition >= initialOffset && buffer.getByte(newPosition) == ',')
+        {
+            position = newPosition;
+        }
+    }
+
+    private void indent()
+    {
+        for (int i = 0; i < indentation; i++)
+        {
+            buffer.putInt(position, FOUR_SPACES);
+            position += SIZE_OF_INT;
+        }
+    }
+
+    private void doubleQuote()
+    {
+        appendByte('"');
+    }
+
+    private void startObject()
+    {
+        indent();
+        appendAscii("{\n");
+        indentation++;
+    }
+
+    private void endObject()
+    {
+        backup();
+        appendByte('\n');
+        indentation--;
+        indent();
+        appendByte('}');
+
+        if (indentation > 0)
+        {
+            next();
+        }
+    }
+
+    private String determineName(
+        final int thresholdLevel, final Token fieldToken, final List<Token> tokens, final int fromIndex)
+    {
+        if (compositeLevel > thresholdLevel)
+        {
+            return tokens.get(fromIndex).name();
+        }
+        else
+        {
+            return fieldToken.name();
+        }
+    }
+
+    private static PrimitiveValue constOrNotPresentValue(
+        final Token typeToken, final Token fieldToken, final int actingVersion)
+    {
+        final Encoding encoding = typeToken.encoding();
+        if (typeToken.isConstantEncoding())
+        {
+            return encoding.constValue();
+        }
+        else if (fieldToken.isOptionalEncoding() && actingVersion < fieldToken.version())
+        {
+            return encoding.applicableNullValue();
+        }
+
+        return null;
+    }
+
+    private static long readEncodingAsLong(
+        final DirectBuffer buffer,
+        final int bufferIndex,
+        final Token typeToken,
+        final Token fieldToken,
+        final int actingVersion)
+    {
+        final PrimitiveValue constOrNotPresentValue = constOrNotPresentValue(typeToken, fieldToken, actingVersion);
+        if (null != constOrNotPresentValue)
+        {
+            return constOrNotPresentValue.longValue();
+        }
+
+        return Types.getLong(buffer, bufferIndex, typeToken.encoding());
+    }
+}
@@ -0,0 +1,1087 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.json;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.Object2ObjectHashMap;
+import uk.co.real_logic.sbe.PrimitiveType;
+import uk.co.real_logic.sbe.ir.Encoding;
+import uk.co.real_logic.sbe.ir.HeaderStructure;
+import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.ir.Signal;
+import uk.co.real_logic.sbe.ir.Token;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static uk.co.real_logic.sbe.ir.GenerationUtil.isDecimalComposite;
+
+/**
+ * Encode JSON, in the format produced by the {@link JsonPrinter}, to SBE with a message header based upon the given
+ * {@link Ir}.
+ * <p>
+ * The JSON is parsed in a single streaming pass and encoded directly into the destination buffer. Fields in the root
+ * block of a message or group may be given in any order, but groups and var data must be given in schema order as
+ * required by the wire format. Optional fields which are missing are encoded as their null value, and groups and var
+ * data which are missing are encoded as empty. A missing required field, or a group with more entries than its
+ * {@code numInGroup} encoding allows, is an error. Constant fields and unknown properties are ignored.
+ * <p>
+ * In addition to standard JSON, the non-standard values produced by the {@link JsonPrinter} are accepted, i.e. single
+ * chars in single quotes, {@code 0/0}, {@code 1/0}, and {@code -1/0} for NaN and infinities, and a backslash before a
+ * raw control character. Decimal composites, which the {@link JsonPrinter} prints as a plain number or {@code null},
+ * may be given as a number, {@code null} for the null mantissa, or as an object of their members.
+ * <p>
+ * <b>Note:</b> this class is not threadsafe.
+ */
+public class JsonEncoder
+{
+    private final Ir ir;
+    private final Int2ObjectHashMap<List<Token>> msgTokensByTemplateId = new Int2ObjectHashMap<>();
+    private final int headerLength;
+    private final StringBuilder scratch = new StringBuilder(64);
+    private final Object2ObjectHashMap<String, Charset> charsetByName = new Object2ObjectHashMap<>();
+    private final ArrayList<BitSet> presentFieldsByDepth = new ArrayList<>();
+    private int depth;
+    private Token blockLengthToken;
+    private Token templateIdToken;
+    private Token schemaIdToken;
+    private Token schemaVersionToken;
+
+    private CharSequence json;
+    private int position;
+    private MutableDirectBuffer buffer;
+    private int limit;
+
+    /**
+     * Create a new JSON encoder for a given message Ir.
+     *
+     * @param ir for the message types.
+     */
+    public JsonEncoder(final Ir ir)
+    {
+        this.ir = ir;
+
+        final HeaderStructure headerStructure = ir.headerStructure();
+        headerLength = headerStructure.tokens().get(0).encodedLength();
+        for (final Token token : headerStructure.tokens())
+        {
+            switch (token.name())
+            {
+                case HeaderStructure.BLOCK_LENGTH:
+                    blockLengthToken = token;
+                    break;
+
+                case HeaderStructure.TEMPLATE_ID:
+                    templateIdToken = token;
+                    break;
+
+                case HeaderStructure.SCHEMA_ID:
+                    schemaIdToken = token;
+                    break;
+
+                case HeaderStructure.SCHEMA_VERSION:
+                    schemaVersionToken = token;
+                    break;
+            }
+        }
+
+        for (final List<Token> msgTokens : ir.messages())
+        {
+            msgTokensByTemplateId.put(msgTokens.get(0).id(), msgTokens);
+        }
+    }
+
+    /**
+     * Encode a JSON object as a message, with a message header, into a buffer.
+     *
+     * @param templateId of the message which the JSON represents.
+     * @param json       representing the message.
+     * @param buffer     into which the message should be encoded.
+     * @param offset     in the buffer at which the message header should begin.
+     * @return the length of the encoded message including the header.
+     * @throws IllegalArgumentException if the template is unknown or the JSON is malformed.
+     */
+    public int encode(
+        final int templateId, final CharSequence json, final MutableDirectBuffer buffer, final int offset)
+    {
+        final List<Token> msgTokens = msgTokensByTemplateId.get(templateId);
+        if (null == msgTokens)
+        {
+            throw new IllegalArgumentException("unknown templateId: " + templateId);
+        }
+
+        this.json = json;
+        this.buffer = buffer;
+        position = 0;
+        depth = 0;
+
+        try
+        {
+            final Token msgToken = msgTokens.get(0);
+            final int blockLength = msgToken.encodedLength();
+
+            buffer.setMemory(offset, headerLength, (byte)0);
+            putLong(offset + blockLengthToken.offset(), blockLengthToken.encoding(), blockLength);
+            putLong(offset + templateIdToken.offset(), templateIdToken.encoding(), templateId);
+            putLong(offset + schemaIdToken.offset(), schemaIdToken.encoding(), ir.id());
+            putLong(offset + schemaVersionToken.offset(), schemaVersionToken.encoding(), ir.version());
+
+            final int blockOffset = offset + headerLength;
+            limit = blockOffset + blockLength;
+            buffer.setMemory(blockOffset, blockLength, (byte)0);
+
+            encodeScope(msgTokens, 1, msgTokens.size() - 1, blockOffset);
+
+            skipWhitespace();
+            if (position < json.length())
+            {
+                throw error("unexpected trailing content");
+            }
+
+            return limit - offset;
+        }
+        finally
+        {
+            this.json = null;
+            this.buffer = null;
+        }
+    }
+
+    private void encodeScope(final List<Token> tokens, final int fromIndex, final int toIndex, final int blockOffset)
+    {
+        int nextGroupOrDataIndex = fromIndex;
+        while (nextGroupOrDataIndex < toIndex && Signal.BEGIN_FIELD == tokens.get(nextGroupOrDataIndex).signal())
+        {
+            final Token fieldToken = tokens.get(nextGroupOrDataIndex);
+            final int typeIndex = nextGroupOrDataIndex + 1;
+            putNullValues(tokens, fieldToken, typeIndex, nextGroupOrDataIndex + fieldToken.componentTokenCount() - 2,
+                blockOffset + tokens.get(typeIndex).offset());
+            nextGroupOrDataIndex += fieldToken.componentTokenCount();
+        }
+        final int fieldsEndIndex = nextGroupOrDataIndex;
+        final BitSet presentFields = presentFields(depth++);
+
+        expect('{');
+        if (!consume('}'))
+        {
+            do
+            {
+                parseString();
+                expect(':');
+
+                final int index = findMember(tokens, fromIndex, toIndex);
+                if (index < 0)
+                {
+                    skipValue();
+                    continue;
+                }
+
+                final Token token = tokens.get(index);
+                if (Signal.BEGIN_FIELD == token.signal())
+                {
+                    presentFields.set(index - fromIndex);
+                    final int typeIndex = index + 1;
+                    final int endIndex = index + token.componentTokenCount() - 2;
+                    encodeType(tokens, token, typeIndex, endIndex, blockOffset + tokens.get(typeIndex).offset());
+                }
+                else
+                {
+                    if (index < nextGroupOrDataIndex)
+                    {
+                        throw error("'" + token.name() + "' is not in schema order");
+                    }
+
+                    while (nextGroupOrDataIndex < index)
+                    {
+                        encodeGroupOrData(tokens, nextGroupOrDataIndex, false);
+                        nextGroupOrDataIndex += tokens.get(nextGroupOrDataIndex).componentTokenCount();
+                    }
+
+                    encodeGroupOrData(tokens, index, true);
+                    nextGroupOrDataIndex = index + token.componentTokenCount();
+                }
+            }
+            while (consume(','));
+
+            expect('}');
+        }
+
+        for (int i = fromIndex; i < fieldsEndIndex; i += tokens.get(i).componentTokenCount())
+        {
+            if (!presentFields.get(i - fromIndex) && isRequired(tokens.get(i), tokens.get(i + 1)))
+            {
+                throw error("missing required field '" + tokens.get(i).name() + "'");
+            }
+        }
+        depth--;
+
+        while (nextGroupOrDataIndex < toIndex)
+        {
+            encodeGroupOrData(tokens, nextGroupOrDataIndex, false);
+            nextGroupOrDataIndex += tokens.get(nextGroupOrDataIndex).componentTokenCount();
+        }
+    }
+
+    private BitSet presentFields(final int depth)
+    {
+        if (depth == presentFieldsByDepth.size())
+        {
+            presentFieldsByDepth.add(new BitSet());
+        }
+
+        final BitSet presentFields = presentFieldsByDepth.get(depth);
+        presentFields.clear();
+
+        return presentFields;
+    }
+
+    private static boolean isRequired(final Token fieldToken, final Token typeToken)
+    {
+        return !fieldToken.isConstantEncoding() && !typeToken.isConstantEncoding() &&
+            !fieldToken.isOptionalEncoding() && !typeToken.isOptionalEncoding();
+    }
+
+    private void putNullValues(
+        final List<Token> tokens, final Token fieldToken, final int typeIndex, final int endIndex, final int offset)
+    {
+        final Token typeToken = tokens.get(typeIndex);
+        if (fieldToken.isConstantEncoding() || typeToken.isConstantEncoding())
+        {
+            return;
+        }
+
+        final Encoding encoding = typeToken.encoding();
+        final boolean isOptional = fieldToken.isOptionalEncoding() || typeToken.isOptionalEncoding();
+        switch (typeToken.signal())
+        {
+            case ENCODING:
+                if (isOptional)
+                {
+                    final int elementSize = encoding.primitiveType().size();
+                    for (int i = 0, length = typeToken.arrayLength(); i < length; i++)
+                    {
+                        putNullValue(offset + (i * elementSize), encoding);
+                    }
+                }
+                break;
+
+            case BEGIN_ENUM:
+                if (isOptional)
+                {
+                    putLong(offset, encoding, encoding.applicableNullValue().longValue());
+                }
+                break;
+
+            case BEGIN_COMPOSITE:
+                for (int i = typeIndex + 1; i < endIndex; )
+                {
+                    final Token memberToken = tokens.get(i);
+                    final int memberEndIndex = i + memberToken.componentTokenCount() - 1;
+                    putNullValues(tokens, memberToken, i, memberEndIndex, offset + memberToken.offset());
+                    i += memberToken.componentTokenCount();
+                }
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    private void putNullValue(final int offset, final Encoding encoding)
+    {
+        switch (encoding.primitiveType())
+        {
+            case FLOAT:
+                buffer.putFloat(offset, (float)encoding.applicableNullValue().doubleValue(), encoding.byteOrder());
+                break;
+
+            case DOUBLE:
+                buffer.putDouble(offset, encoding.applicableNullValue().doubleValue(), encoding.byteOrder());
+                break;
+
+            default:
+                putLong(offset, encoding, encoding.applicableNullValue().longValue());
+                break;
+        }
+    }
+
+    private int findMember(final List<Token> tokens, final int fromIndex, final int toIndex)
+    {
+        for (int i = fromIndex; i < toIndex; )
+        {
+            final Token token = tokens.get(i);
+            if (token.name().contentEquals(scratch))
+            {
+                return i;
+            }
+
+            i += token.componentTokenCount();
+        }
+
+        return -1;
+    }
+
+    private void encodeType(
+        final List<Token> tokens,
+        final Token fieldToken,
+        final int typeIndex,
+        final int endIndex,
+        final int offset)
+    {
+        final Token typeToken = tokens.get(typeIndex);
+
+        switch (typeToken.signal())
+        {
+            case ENCODING:
+                if (fieldToken.isConstantEncoding() || typeToken.isConstantEncoding())
+                {
+                    skipValue();
+                }
+                else
+                {
+                    encodePrimitive(typeToken, offset);
+                }
+                break;
+
+            case BEGIN_ENUM:
+                if (fieldToken.isConstantEncoding())
+                {
+                    skipValue();
+                }
+                else
+                {
+                    encodeEnum(tokens, typeIndex, endIndex, offset);
+                }
+                break;
+
+            case BEGIN_SET:
+                encodeBitSet(tokens, typeIndex, endIndex, offset);
+                break;
+
+            case BEGIN_COMPOSITE:
+                skipWhitespace();
+                if ('{' != peek() && isDecimalComposite(tokens, typeIndex, endIndex))
+                {
+                    encodeDecimal(tokens, typeIndex, endIndex, offset);
+                }
+                else
+                {
+                    encodeComposite(tokens, typeIndex, endIndex, offset);
+                }
+                break;
+
+            default:
+                skipValue();
+                break;
+        }
+    }
+
+    private void encodeComposite(final List<Token> tokens, final int fromIndex, final int toIndex, final int offset)
+    {
+        expect('{');
+        if (consume('}'))
+        {
+            return;
+        }
+
+        do
+        {
+            parseString();
+            expect(':');
+
+            final int index = findMember(tokens, fromIndex + 1, toIndex);
+            if (index < 0)
+            {
+                skipValue();
+            }
+            else
+            {
+                final Token memberToken = tokens.get(index);
+                final int endIndex = index + memberToken.componentTokenCount() - 1;
+                encodeType(tokens, memberToken, index, endIndex, offset + memberToken.offset());
+            }
+        }
+        while (consume(','));
+
+        expect('}');
+    }
+
+    private void encodeDecimal(final List<Token> tokens, final int fromIndex, final int toIndex, final int offset)
+    {
+        Token mantissaToken = null;
+        Token exponentToken = null;
+        for (int i = fromIndex + 1; i < toIndex; i++)
+        {
+            final Token token = tokens.get(i);
+            if ("mantissa".equalsIgnoreCase(token.name()))
+            {
+                mantissaToken = token;
+            }
+            else
+            {
+                exponentToken = token;
+            }
+        }
+
+        final Encoding mantissaEncoding = mantissaToken.encoding();
+        final Encoding exponentEncoding = exponentToken.encoding();
+        final int mantissaOffset = offset + mantissaToken.offset();
+        final int exponentOffset = offset + exponentToken.offset();
+
+        if (matches("null"))
+        {
+            putLong(mantissaOffset, mantissaEncoding, mantissaEncoding.applicableNullValue().longValue());
+            if (!exponentToken.isConstantEncoding())
+            {
+                putLong(exponentOffset, exponentEncoding, exponentToken.isOptionalEncoding() ?
+                    exponentEncoding.applicableNullValue().longValue() : 0);
+            }
+            return;
+        }
+
+        final int start = position;
+        while (position < json.length() && isValueChar(json.charAt(position)))
+        {
+            position++;
+        }
+
+        final String value = json.subSequence(start, position).toString();
+        try
+        {
+            BigDecimal decimal = new BigDecimal(value);
+            if (exponentToken.isConstantEncoding())
+            {
+                decimal = decimal.setScale(-(int)exponentEncoding.constValue().longValue(), RoundingMode.UNNECESSARY);
+            }
+            else if (decimal.unscaledValue().bitLength() >= Long.SIZE)
+            {
+                decimal = decimal.stripTrailingZeros();
+            }
+
+            final long mantissa = decimal.unscaledValue().longValueExact();
+            final long exponent = -decimal.scale();
+            if (!isInRange(mantissaEncoding, mantissa) ||
+                (!exponentToken.isConstantEncoding() && !isInRange(exponentEncoding, exponent)))
+            {
+                throw error("decimal '" + value + "' out of range");
+            }
+
+            putLong(mantissaOffset, mantissaEncoding, mantissa);
+            if (!exponentToken.isConstantEncoding())
+            {
+                putLong(exponentOffset, exponentEncoding, exponent);
+            }
+        }
+        catch (final NumberFormatException | ArithmeticException ex)
+        {
+            throw error("invalid decimal '" + value + "'");
+        }
+    }
+
+    private static boolean isInRange(final Encoding encoding, final long value)
+    {
+        return value >= encoding.applicableMinValue().longValue() && value <= encoding.applicableMaxValue().longValue();
+    }
+
+    private void encodeEnum(final List<Token> tokens, final int fromIndex, final int toIndex, final int offset)
+    {
+        final Encoding encoding = tokens.get(fromIndex).encoding();
+        parseString();
+
+        for (int i = fromIndex + 1; i < toIndex; i++)
+        {
+            final Token validValueToken = tokens.get(i);
+            if (validValueToken.name().contentEquals(scratch))
+            {
+                putLong(offset, encoding, validValueToken.encoding().constValue().longValue());
+                return;
+            }
+        }
+
+        if ("null".contentEquals(scratch))
+        {
+            putLong(offset, encoding, encoding.applicableNullValue().longValue());
+        }
+        else
+        {
+            throw error("unknown enum value '" + scratch + "'");
+        }
+    }
+
+    private void encodeBitSet(final List<Token> tokens, final int fromIndex, final int toIndex, final int offset)
+    {
+        long bits = 0;
+
+        expect('{');
+        if (!consume('}'))
+        {
+            do
+            {
+                parseString();
+                expect(':');
+
+                final int index = findMember(tokens, fromIndex + 1, toIndex);
+                final boolean value = parseBoolean();
+                if (index >= 0 && value)
+                {
+                    bits |= 1L << tokens.get(index).encoding().constValue().longValue();
+                }
+            }
+            while (consume(','));
+
+            expect('}');
+        }
+
+        putLong(offset, tokens.get(fromIndex).encoding(), bits);
+    }
+
+    private void encodePrimitive(final Token typeToken, final int offset)
+    {
+        final Encoding encoding = typeToken.encoding();
+        final PrimitiveType primitiveType = encoding.primitiveType();
+        final int arrayLength = typeToken.arrayLength();
+
+        if (PrimitiveType.CHAR == primitiveType && arrayLength > 1)
+        {
+            parseString();
+            final int length = putChars(offset, arrayLength, encoding.characterEncoding());
+            buffer.setMemory(offset + length, arrayLength - length, (byte)0);
+        }
+        else if (arrayLength > 1)
+        {
+            final int elementSize = primitiveType.size();
+            expect('[');
+            int i = 0;
+            if (!consume(']'))
+            {
+                do
+                {
+                    if (i >= arrayLength)
+                    {
+                        throw error("too many elements for array of length " + arrayLength);
+                    }
+                    encodeValue(offset + (i++ * elementSize), encoding);
+                }
+                while (consume(','));
+
+                expect(']');
+            }
+        }
+        else
+        {
+            encodeValue(offset, encoding);
+        }
+    }
+
+    private void encodeValue(final int offset, final Encoding encoding)
+    {
+        skipWhitespace();
+        final PrimitiveType primitiveType = encoding.primitiveType();
+
+        if (PrimitiveType.CHAR == primitiveType && (peek() == '\'' || peek() == '"'))
+        {
+            final char quote = json.charAt(position++);
+            final char c = json.charAt(position++);
+            expect(quote);
+            buffer.putByte(offset, (byte)c);
+            return;
+        }
+
+        final int start = position;
+        while (position < json.length() && isValueChar(json.charAt(position)))
+        {
+            position++;
+        }
+
+        if (start == position)
+        {
+            throw error("expected a number");
+        }
+
+        try
+        {
+            switch (primitiveType)
+            {
+                case FLOAT:
+                    buffer.putFloat(offset, (float)parseDouble(start, position), encoding.byteOrder());
+                    break;
+
+                case DOUBLE:
+                    buffer.putDouble(offset, parseDouble(start, position), encoding.byteOrder());
+                    break;
+
+                case UINT64:
+                    putLong(offset, encoding, '-' == json.charAt(start) ?
+                        Long.parseLong(json, start, position, 10) :
+                        Long.parseUnsignedLong(json, start, position, 10));
+                    break;
+
+                default:
+                    putLong(offset, encoding, Long.parseLong(json, start, position, 10));
+                    break;
+            }
+        }
+        catch (final NumberFormatException ex)
+        {
+            throw error("invalid number '" + json.subSequence(start, position) + "'");
+        }
+    }
+
+    private double parseDouble(final int start, final int end)
+    {
+        final CharSequence value = json.subSequence(start, end);
+        if ("0/0".contentEquals(value))
+        {
+            return Double.NaN;
+        }
+        else if ("1/0".contentEquals(value))
+        {
+            return Double.POSITIVE_INFINITY;
+        }
+        else if ("-1/0".contentEquals(value))
+        {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        return Double.parseDouble(value.toString());
+    }
+
+    private void encodeGroupOrData(final List<Token> tokens, final int index, final boolean isPresent)
+    {
+        if (Signal.BEGIN_GROUP == tokens.get(index).signal())
+        {
+            encodeGroup(tokens, index, isPresent);
+        }
+        else
+        {
+            encodeVarData(tokens, index, isPresent);
+        }
+    }
+
+    private void encodeGroup(final List<Token> tokens, final int index, final boolean isPresent)
+    {
+        final Token groupToken = tokens.get(index);
+        final Token dimensionTypeComposite = tokens.get(index + 1);
+        final Token blockLengthToken = tokens.get(index + 2);
+        final Token numInGroupToken = tokens.get(index + 3);
+        final int blockLength = groupToken.encodedLength();
+        final int beginFieldsIndex = index + dimensionTypeComposite.componentTokenCount() + 1;
+        final int endGroupIndex = index + groupToken.componentTokenCount() - 1;
+
+        final int headerOffset = limit;
+        buffer.setMemory(headerOffset, dimensionTypeComposite.encodedLength(), (byte)0);
+        putLong(headerOffset + blockLengthToken.offset(), blockLengthToken.encoding(), blockLength);
+        limit += dimensionTypeComposite.encodedLength();
+
+        final long maxNumInGroup = numInGroupToken.encoding().applicableMaxValue().longValue();
+        int numInGroup = 0;
+        if (isPresent)
+        {
+            expect('[');
+            if (!consume(']'))
+            {
+                do
+                {
+                    if (numInGroup >= maxNumInGroup)
+                    {
+                        throw error("too many entries for group '" + groupToken.name() + "', max " + maxNumInGroup);
+                    }
+
+                    final int blockOffset = limit;
+                    limit += blockLength;
+                    buffer.setMemory(blockOffset, blockLength, (byte)0);
+                    encodeScope(tokens, beginFieldsIndex, endGroupIndex, blockOffset);
+                    numInGroup++;
+                }
+                while (consume(','));
+
+                expect(']');
+            }
+        }
+
+        final long minNumInGroup = numInGroupToken.encoding().applicableMinValue().longValue();
+        if (numInGroup < minNumInGroup)
+        {
+            throw error("too few entries for group '" + groupToken.name() + "', min " + minNumInGroup);
+        }
+
+        putLong(headerOffset + numInGroupToken.offset(), numInGroupToken.encoding(), numInGroup);
+    }
+
+    private void encodeVarData(final List<Token> tokens, final int index, final boolean isPresent)
+    {
+        final Token lengthToken = tokens.get(index + 2);
+        final Token dataToken = tokens.get(index + 3);
+        final int dataOffset = limit + dataToken.offset();
+
+        int length = 0;
+        if (isPresent)
+        {
+            parseString();
+            final String characterEncoding = dataToken.encoding().characterEncoding();
+            length = null == characterEncoding ? putHex(dataOffset) : putChars(dataOffset, -1, characterEncoding);
+        }
+
+        putLong(limit + lengthToken.offset(), lengthToken.encoding(), length);
+        limit = dataOffset + length;
+    }
+
+    private int putChars(final int offset, final int maxLength, final String characterEncoding)
+    {
+        final Charset charset = null == characterEncoding ?
+            StandardCharsets.US_ASCII : charsetByName.computeIfAbsent(characterEncoding, Charset::forName);
+        final StringBuilder value = scratch;
+        final int capacity = maxLength < 0 ? Integer.MAX_VALUE : maxLength;
+        int length = 0;
+
+        if (StandardCharsets.UTF_8.equals(charset))
+        {
+            for (int i = 0, size = value.length(); i < size; i++)
+            {
+                final char c = value.charAt(i);
+                if (c < 0x80)
+                {
+                    length = putByte(offset, length, capacity, c);
+                }
+                else if (c < 0x800)
+                {
+                    length = putByte(offset, length, capacity, 0xC0 | (c >>> 6));
+                    length = putByte(offset, length, capacity, 0x80 | (c & 0x3F));
+                }
+                else if (Character.isHighSurrogate(c) && i + 1 < size && Character.isLowSurrogate(value.charAt(i + 1)))
+                {
+                    final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    length = putByte(offset, length, capacity, 0xF0 | (codePoint >>> 18));
+                    length = putByte(offset, length, capacity, 0x80 | ((codePoint >>> 12) & 0x3F));
+                    length = putByte(offset, length, capacity, 0x80 | ((codePoint >>> 6) & 0x3F));
+                    length = putByte(offset, length, capacity, 0x80 | (codePoint & 0x3F));
+                }
+                else
+                {
+                    final char encodable = Character.isSurrogate(c) ? '?' : c;
+                    length = putByte(offset, length, capacity, 0xE0 | (encodable >>> 12));
+                    length = putByte(offset, length, capacity, 0x80 | ((encodable >>> 6) & 0x3F));
+                    length = putByte(offset, length, capacity, 0x80 | (encodable & 0x3F));
+                }
+            }
+        }
+        else if (StandardCharsets.US_ASCII.equals(charset) || StandardCharsets.ISO_8859_1.equals(charset))
+        {
+            final int maxChar = StandardCharsets.US_ASCII.equals(charset) ? 0x7F : 0xFF;
+            for (int i = 0, size = value.length(); i < size; i++)
+            {
+                final char c = value.charAt(i);
+                length = putByte(offset, length, capacity, c <= maxChar ? c : '?');
+            }
+        }
+        else
+        {
+            final byte[] bytes = value.toString().getBytes(charset);
+            for (final byte b : bytes)
+            {
+                length = putByte(offset, length, capacity, b);
+            }
+        }
+
+        return length;
+    }
+
+    private int putByte(final int offset, final int length, final int capacity, final int value)
+    {
+        if (length >= capacity)
+        {
+            throw error("value too long for field of length " + capacity);
+        }
+
+        buffer.putByte(offset + length, (byte)value);
+
+        return length + 1;
+    }
+
+    private int putHex(final int offset)
+    {
+        final StringBuilder value = scratch;
+        if ((value.length() & 1) != 0)
+        {
+            throw error("hex encoded data must have an even number of digits");
+        }
+
+        final int length = value.length() >> 1;
+        for (int i = 0; i < length; i++)
+        {
+            final int high = Character.digit(value.charAt(i << 1), 16);
+            final int low = Character.digit(value.charAt((i << 1) + 1), 16);
+            if (high < 0 || low < 0)
+            {
+                throw error("invalid hex encoded data");
+            }
+
+            buffer.putByte(offset + i, (byte)((high << 4) | low));
+        }
+
+        return length;
+    }
+
+    private void putLong(final int index, final Encoding encoding, final long value)
+    {
+        final ByteOrder byteOrder = encoding.byteOrder();
+
+        switch (encoding.primitiveType())
+        {
+            case CHAR:
+            case INT8:
+            case UINT8:
+                buffer.putByte(index, (byte)value);
+                break;
+
+            case INT16:
+            case UINT16:
+                buffer.putShort(index, (short)value, byteOrder);
+                break;
+
+            case INT32:
+            case UINT32:
+                buffer.putInt(index, (int)value, byteOrder);
+                break;
+
+            case INT64:
+            case UINT64:
+                buffer.putLong(index, value, byteOrder);
+                break;
+
+            case FLOAT:
+                buffer.putFloat(index, value, byteOrder);
+                break;
+
+            case DOUBLE:
+                buffer.putDouble(index, value, byteOrder);
+                break;
+        }
+    }
+
+    private void parseString()
+    {
+        final StringBuilder value = scratch;
+        value.setLength(0);
+        expect('"');
+
+        while (true)
+        {
+            if (position >= json.length())
+            {
+                throw error("unterminated string");
+            }
+
+            final int start = position;
+            char c = json.charAt(position++);
+            while ('"' != c && '\\' != c && position < json.length())
+            {
+                c = json.charAt(position++);
+            }
+            value.append(json, start, position - 1);
+
+            if ('"' == c)
+            {
+                return;
+            }
+            else if ('\\' == c)
+            {
+                if (position >= json.length())
+                {
+                    throw error("unterminated string");
+                }
+
+                final char escaped = json.charAt(position++);
+                switch (escaped)
+                {
+                    case 'b':
+                        value.append('\b');
+                        break;
+
+                    case 'f':
+                        value.append('\f');
+                        break;
+
+                    case 'n':
+                        value.append('\n');
+                        break;
+
+                    case 'r':
+                        value.append('\r');
+                        break;
+
+                    case 't':
+                        value.append('\t');
+                        break;
+
+                    case 'u':
+                        if (position + 4 > json.length())
+                        {
+                            throw error("invalid unicode escape");
+                        }
+                        value.append((char)Integer.parseInt(json, position, position + 4, 16));
+                        position += 4;
+                        break;
+
+                    default:
+                        value.append(escaped);
+                        break;
+                }
+            }
+            else
+            {
+                value.append(c);
+            }
+        }
+    }
+
+    private boolean parseBoolean()
+    {
+        skipWhitespace();
+        if (matches("true"))
+        {
+            return true;
+        }
+        else if (matches("false"))
+        {
+            return false;
+        }
+
+        throw error("expected a boolean");
+    }
+
+    private boolean matches(final String literal)
+    {
+        final int length = literal.length();
+        if (position + length <= json.length())
+        {
+            for (int i = 0; i < length; i++)
+            {
+                if (json.charAt(position + i) != literal.charAt(i))
+                {
+                    return false;
+                }
+            }
+
+            position += length;
+            return true;
+        }
+
+        return false;
+    }
+
+    private void skipValue()
+    {
+        skipWhitespace();
+        final char c = peek();
+
+        switch (c)
+        {
+            case '"':
+                parseString();
+                break;
+
+            case '\'':
+                position += 3;
+                break;
+
+            case '{':
+            case '[':
+            {
+                final char close = '{' == c ? '}' : ']';
+                position++;
+                if (!consume(close))
+                {
+                    do
+                    {
+                        if ('}' == close)
+                        {
+                            parseString();
+                            expect(':');
+                        }
+                        skipValue();
+                    }
+                    while (consume(','));
+
+                    expect(close);
+                }
+                break;
+            }
+
+            default:
+                while (position < json.length() && isValueChar(json.charAt(position)))
+                {
+                    position++;
+                }
+                break;
+        }
+    }
+
+    private static boolean isValueChar(final char c)
+    {
+        return ',' != c && '}' != c && ']' != c && !Character.isWhitespace(c);
+    }
+
+    private char peek()
+    {
+        if (position >= json.length())
+        {
+            throw error("unexpected end of input");
+        }
+
+        return json.charAt(position);
+    }
+
+    private boolean consume(final char c)
+    {
+        skipWhitespace();
+        if (position < json.length() && json.charAt(position) == c)
+        {
+            position++;
+            return true;
+        }
+
+        return false;
+    }
+
+    private void expect(final char c)
+    {
+        if (!consume(c))
+        {
+            throw error("expected '" + c + "'");
+        }
+    }
+
+    private void skipWhitespace()
+    {
+        while (position < json.length() && Character.isWhitespace(json.charAt(position)))
+        {
+            position++;
+        }
+    }
+
+    private IllegalArgumentException error(final String message)
+    {
+        return new IllegalArgumentException(message + " at position " + position);
+    }
+}
@@ -16,22 +16,36 @@
 package uk.co.real_logic.sbe.json;
 
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import uk.co.real_logic.sbe.ir.Ir;
 import uk.co.real_logic.sbe.ir.Token;
 import uk.co.real_logic.sbe.otf.OtfHeaderDecoder;
 import uk.co.real_logic.sbe.otf.OtfMessageDecoder;
+import uk.co.real_logic.sbe.otf.TokenListener;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.util.List;
 
 /**
  * Pretty Print JSON based upon the given Ir.
+ * <p>
+ * The methods which print to a {@link MutableDirectBuffer}, {@link ByteBuffer}, or {@link OutputStream} write UTF-8
+ * encoded JSON via a reused {@link JsonBufferTokenListener} and do not allocate in the steady state. Those methods are
+ * not threadsafe.
  */
 public class JsonPrinter
 {
     private final OtfHeaderDecoder headerDecoder;
     private final Ir ir;
+    private final Int2ObjectHashMap<List<Token>> msgTokensByTemplateId = new Int2ObjectHashMap<>();
+    private final JsonBufferTokenListener bufferListener = new JsonBufferTokenListener();
+    private final UnsafeBuffer byteBufferWrapper = new UnsafeBuffer(0, 0);
+    private ExpandableArrayBuffer streamBuffer;
 
     /**
      * Create a new JSON printer for a given message Ir.
@@ -42,6 +56,11 @@ public class JsonPrinter
     {
         this.ir = ir;
         headerDecoder = new OtfHeaderDecoder(ir.headerStructure());
+
+        for (final List<Token> msgTokens : ir.messages())
+        {
+            msgTokensByTemplateId.put(msgTokens.get(0).id(), msgTokens);
+        }
     }
 
     /**
@@ -65,23 +84,65 @@ public class JsonPrinter
      */
     public void print(final StringBuilder output, final DirectBuffer buffer, final int offset)
     {
-        final int blockLength = headerDecoder.getBlockLength(buffer, offset);
-        final int templateId = headerDecoder.getTemplateId(buffer, offset);
-        final int schemaId = headerDecoder.getSchemaId(buffer, offset);
-        final int actingVersion = headerDecoder.getSchemaVersion(buffer, offset);
+        decode(buffer, offset, new JsonTokenListener(output));
+    }
 
-        validateId(schemaId);
+    /**
+     * Print the encoded message as UTF-8 encoded JSON to a buffer.
+     *
+     * @param buffer       with encoded message and header.
+     * @param offset       at which the header begins.
+     * @param output       to write the JSON to which will be expanded if required and is expandable.
+     * @param outputOffset at which to begin writing in the output.
+     * @return the number of bytes written to the output.
+     */
+    public int print(
+        final DirectBuffer buffer, final int offset, final MutableDirectBuffer output, final int outputOffset)
+    {
+        final JsonBufferTokenListener listener = bufferListener.reset(output, outputOffset);
+        decode(buffer, offset, listener);
 
-        final int messageOffset = offset + headerDecoder.encodedLength();
-        final List<Token> msgTokens = ir.getMessage(templateId);
+        return listener.length();
+    }
 
-        OtfMessageDecoder.decode(
-            buffer,
-            messageOffset,
-            actingVersion,
-            blockLength,
-            msgTokens,
-            new JsonTokenListener(output));
+    /**
+     * Print the encoded message as UTF-8 encoded JSON to a {@link ByteBuffer} starting at its position which is then
+     * advanced by the number of bytes written.
+     *
+     * @param buffer with encoded message and header.
+     * @param offset at which the header begins.
+     * @param output to write the JSON to which must have sufficient remaining capacity.
+     * @return the number of bytes written to the output.
+     */
+    public int print(final DirectBuffer buffer, final int offset, final ByteBuffer output)
+    {
+        byteBufferWrapper.wrap(output);
+        final int length = print(buffer, offset, byteBufferWrapper, output.position());
+        output.position(output.position() + length);
+
+        return length;
+    }
+
+    /**
+     * Print the encoded message as UTF-8 encoded JSON to an {@link OutputStream}.
+     *
+     * @param buffer with encoded message and header.
+     * @param offset at which the header begins.
+     * @param output to write the JSON to.
+     * @return the number of bytes written to the output.
+     * @throws IOException if an error occurs writing to the output.
+     */
+    public int print(final DirectBuffer buffer, final int offset, final OutputStream output) throws IOException
+    {
+        if (null == streamBuffer)
+        {
+            streamBuffer = new ExpandableArrayBuffer();
+        }
+
+        final int length = print(buffer, offset, streamBuffer, 0);
+        output.write(streamBuffer.byteArray(), 0, length);
+
+        return length;
     }
 
     /**
@@ -98,6 +159,27 @@ public class JsonPrinter
         return sb.toString();
     }
 
+    private void decode(final DirectBuffer buffer, final int offset, final TokenListener listener)
+    {
+        final int blockLength = headerDecoder.getBlockLength(buffer, offset);
+        final int templateId = headerDecoder.getTemplateId(buffer, offset);
+        final int schemaId = headerDecoder.getSchemaId(buffer, offset);
+        final int actingVersion = headerDecoder.getSchemaVersion(buffer, offset);
+
+        validateId(schemaId);
+
+        final int messageOffset = offset + headerDecoder.encodedLength();
+        final List<Token> msgTokens = msgTokensByTemplateId.get(templateId);
+
+        OtfMessageDecoder.decode(
+            buffer,
+            messageOffset,
+            actingVersion,
+            blockLength,
+            msgTokens,
+            listener);
+    }
+
     private void validateId(final int schemaId)
     {
         if (schemaId != ir.id())
@@ -27,6 +27,7 @@ import java.io.UnsupportedEncodingException;
 import java.util.List;
 
 import static uk.co.real_logic.sbe.PrimitiveType.CHAR;
+import static uk.co.real_logic.sbe.ir.GenerationUtil.isDecimalComposite;
 
 /**
  * Listener for tokens when dynamically decoding a message which converts them to JSON for output.
@@ -36,6 +37,10 @@ public class JsonTokenListener implements TokenListener
     private final StringBuilder output;
     private int indentation = 0;
     private int compositeLevel = 0;
+    private int decimalCompositeLevel = 0;
+    private boolean isNullDecimal;
+    private long decimalMantissa;
+    private int decimalExponent;
 
     /**
      * Construct a new TokenListener that will write JSON formatted output.
@@ -73,6 +78,12 @@ public class JsonTokenListener implements TokenListener
         final Token typeToken,
         final int actingVersion)
     {
+        if (0 != decimalCompositeLevel)
+        {
+            onDecimalEncoding(buffer, bufferIndex, fieldToken, typeToken, actingVersion);
+            return;
+        }
+
         property(compositeLevel > 0 ? typeToken.name() : fieldToken.name());
         appendEncodingAsString(buffer, bufferIndex, fieldToken, typeToken, actingVersion);
         next();
@@ -163,6 +174,13 @@ public class JsonTokenListener implements TokenListener
     {
         ++compositeLevel;
         property(determineName(1, fieldToken, tokens, fromIndex));
+        if (0 == decimalCompositeLevel && isDecimalComposite(tokens, fromIndex, toIndex))
+        {
+            decimalCompositeLevel = compositeLevel;
+            isNullDecimal = false;
+            return;
+        }
+
         output.append('\n');
         startObject();
     }
@@ -173,6 +191,22 @@ public class JsonTokenListener implements TokenListener
     public void onEndComposite(
         final Token fieldToken, final List<Token> tokens, final int fromIndex, final int toIndex)
     {
+        if (decimalCompositeLevel == compositeLevel)
+        {
+            decimalCompositeLevel = 0;
+            --compositeLevel;
+            if (isNullDecimal)
+            {
+                output.append("null");
+            }
+            else
+            {
+                Types.appendDecimal(output, decimalMantissa, decimalExponent);
+            }
+            next();
+            return;
+        }
+
         --compositeLevel;
         endObject();
     }
@@ -252,6 +286,26 @@ public class JsonTokenListener implements TokenListener
         return groupIndex == numInGroup - 1;
     }
 
+    private void onDecimalEncoding(
+        final DirectBuffer buffer,
+        final int bufferIndex,
+        final Token fieldToken,
+        final Token typeToken,
+        final int actingVersion)
+    {
+        final long value = readEncodingAsLong(buffer, bufferIndex, typeToken, fieldToken, actingVersion);
+        if ("mantissa".equalsIgnoreCase(typeToken.name()))
+        {
+            decimalMantissa = value;
+            isNullDecimal = typeToken.isOptionalEncoding() &&
+                value == typeToken.encoding().applicableNullValue().longValue();
+        }
+        else
+        {
+            decimalExponent = (int)value;
+        }
+    }
+
     private void next()
     {
         output.append(",\n");
@@ -0,0 +1,507 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.otf;
+
+import org.agrona.DirectBuffer;
+import org.agrona.collections.IntArrayList;
+import uk.co.real_logic.sbe.PrimitiveType;
+import uk.co.real_logic.sbe.ir.Signal;
+import uk.co.real_logic.sbe.ir.Token;
+
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static uk.co.real_logic.sbe.ir.Signal.BEGIN_FIELD;
+import static uk.co.real_logic.sbe.ir.Signal.BEGIN_GROUP;
+import static uk.co.real_logic.sbe.ir.Signal.BEGIN_VAR_DATA;
+
+/**
+ * Compiled form of the token list for a message at a given acting version which drives a {@link TokenListener} in
+ * the same sequence as {@link OtfMessageDecoder} but without re-interpreting the {@link Token}s for each message.
+ * <p>
+ * The token list is walked once when the plan is compiled and flattened into parallel arrays of op codes, offsets,
+ * token indexes, and the primitive types and byte orders needed to read group dimensions and var data lengths. Offsets
+ * of fields nested within composites are resolved to be relative to the start of the enclosing block, and the presence
+ * of groups and var data for the acting version is resolved up front.
+ * <p>
+ * A plan is immutable once compiled and can be shared across threads.
+ */
+@SuppressWarnings("FinalParameters")
+public final class OtfDecodePlan
+{
+    static final int OP_ENCODING = 0;
+    static final int OP_ENUM = 1;
+    static final int OP_BIT_SET = 2;
+    static final int OP_BEGIN_COMPOSITE = 3;
+    static final int OP_END_COMPOSITE = 4;
+    static final int OP_GROUP = 5;
+    static final int OP_ABSENT_GROUP = 6;
+    static final int OP_VAR_DATA = 7;
+    static final int OP_ABSENT_VAR_DATA = 8;
+
+    private final int actingVersion;
+    private final List<Token> msgTokens;
+    private final Token[] tokens;
+    private final int[] opCodes;
+    private final int[] fieldTokenIndexes;
+    private final int[] typeTokenIndexes;
+    private final int[] toIndexes;
+    private final int[] offsets;
+    private final int[] secondaryOffsets;
+    private final int[] headerLengths;
+    private final int[] endOps;
+    private final PrimitiveType[] primitiveTypes;
+    private final ByteOrder[] byteOrders;
+    private final PrimitiveType[] secondaryPrimitiveTypes;
+    private final ByteOrder[] secondaryByteOrders;
+
+    private OtfDecodePlan(final List<Token> msgTokens, final int actingVersion, final Builder builder)
+    {
+        this.actingVersion = actingVersion;
+        this.msgTokens = msgTokens;
+        this.tokens = msgTokens.toArray(new Token[0]);
+
+        final int size = builder.opCodes.size();
+        opCodes = builder.opCodes.toIntArray();
+        fieldTokenIndexes = builder.fieldTokenIndexes.toIntArray();
+        typeTokenIndexes = builder.typeTokenIndexes.toIntArray();
+        toIndexes = builder.toIndexes.toIntArray();
+        offsets = builder.offsets.toIntArray();
+        secondaryOffsets = builder.secondaryOffsets.toIntArray();
+        headerLengths = builder.headerLengths.toIntArray();
+        endOps = builder.endOps.toIntArray();
+        primitiveTypes = builder.primitiveTypes.toArray(new PrimitiveType[size]);
+        byteOrders = builder.byteOrders.toArray(new ByteOrder[size]);
+        secondaryPrimitiveTypes = builder.secondaryPrimitiveTypes.toArray(new PrimitiveType[size]);
+        secondaryByteOrders = builder.secondaryByteOrders.toArray(new ByteOrder[size]);
+    }
+
+    /**
+     * Compile a plan for decoding messages described by the message tokens at a given acting version.
+     *
+     * @param msgTokens     in IR format describing the message structure.
+     * @param actingVersion of the encoded messages which will be decoded with the plan.
+     * @return a new plan for decoding the message at the acting version.
+     */
+    public static OtfDecodePlan compile(final List<Token> msgTokens, final int actingVersion)
+    {
+        final Builder builder = new Builder();
+        compileScope(builder, msgTokens, 1, msgTokens.size(), actingVersion);
+
+        return new OtfDecodePlan(msgTokens, actingVersion, builder);
+    }
+
+    /**
+     * The acting version for which the plan was compiled.
+     *
+     * @return the acting version for which the plan was compiled.
+     */
+    public int actingVersion()
+    {
+        return actingVersion;
+    }
+
+    /**
+     * The message tokens from which the plan was compiled.
+     *
+     * @return the message tokens from which the plan was compiled.
+     */
+    public List<Token> msgTokens()
+    {
+        return msgTokens;
+    }
+
+    /**
+     * Number of operations in the compiled plan.
+     *
+     * @return number of operations in the compiled plan.
+     */
+    public int operationCount()
+    {
+        return opCodes.length;
+    }
+
+    /**
+     * Decode a message from the provided buffer using the compiled plan.
+     *
+     * @param buffer      containing the encoded message.
+     * @param offset      at which the message encoding starts in the buffer.
+     * @param blockLength of the root message fields.
+     * @param listener    to callback for decoding the primitive values as discovered in the structure.
+     * @return the index in the underlying buffer after decoding.
+     * @see OtfMessageDecoder#decode(DirectBuffer, int, int, int, List, TokenListener)
+     */
+    public int decode(
+        final DirectBuffer buffer,
+        final int offset,
+        final int blockLength,
+        final TokenListener listener)
+    {
+        final Token[] tokens = this.tokens;
+        listener.onBeginMessage(tokens[0]);
+
+        final int limit = execute(buffer, offset, offset + blockLength, 0, opCodes.length, listener);
+
+        listener.onEndMessage(tokens[tokens.length - 1]);
+
+        return limit;
+    }
+
+    private int execute(
+        final DirectBuffer buffer,
+        final int blockOffset,
+        int limit,
+        final int fromOp,
+        final int toOp,
+        final TokenListener listener)
+    {
+        final Token[] tokens = this.tokens;
+        final int actingVersion = this.actingVersion;
+
+        int op = fromOp;
+        while (op < toOp)
+        {
+            switch (opCodes[op])
+            {
+                case OP_ENCODING:
+                {
+                    final Token typeToken = tokens[typeTokenIndexes[op]];
+                    listener.onEncoding(
+                        tokens[fieldTokenIndexes[op]], buffer, blockOffset + offsets[op], typeToken, actingVersion);
+                    op++;
+                    break;
+                }
+
+                case OP_ENUM:
+                    listener.onEnum(
+                        tokens[fieldTokenIndexes[op]],
+                        buffer,
+                        blockOffset + offsets[op],
+                        msgTokens,
+                        typeTokenIndexes[op],
+                        toIndexes[op],
+                        actingVersion);
+                    op++;
+                    break;
+
+                case OP_BIT_SET:
+                    listener.onBitSet(
+                        tokens[fieldTokenIndexes[op]],
+                        buffer,
+                        blockOffset + offsets[op],
+                        msgTokens,
+                        typeTokenIndexes[op],
+                        toIndexes[op],
+                        actingVersion);
+                    op++;
+                    break;
+
+                case OP_BEGIN_COMPOSITE:
+                    listener.onBeginComposite(
+                        tokens[fieldTokenIndexes[op]], msgTokens, typeTokenIndexes[op], toIndexes[op]);
+                    op++;
+                    break;
+
+                case OP_END_COMPOSITE:
+                    listener.onEndComposite(
+                        tokens[fieldTokenIndexes[op]], msgTokens, typeTokenIndexes[op], toIndexes[op]);
+                    op++;
+                    break;
+
+                case OP_GROUP:
+                    limit = executeGroup(buffer, limit, op, listener);
+                    op = endOps[op];
+                    break;
+
+                case OP_ABSENT_GROUP:
+                    listener.onGroupHeader(tokens[fieldTokenIndexes[op]], 0);
+                    op = endOps[op];
+                    break;
+
+                case OP_VAR_DATA:
+                {
+                    final int length = Types.getInt(buffer, limit + offsets[op], primitiveTypes[op], byteOrders[op]);
+                    limit += secondaryOffsets[op];
+                    listener.onVarData(
+                        tokens[fieldTokenIndexes[op]], buffer, limit, length, tokens[typeTokenIndexes[op]]);
+                    limit += length;
+                    op++;
+                    break;
+                }
+
+                case OP_ABSENT_VAR_DATA:
+                    listener.onVarData(tokens[fieldTokenIndexes[op]], buffer, limit, 0, tokens[typeTokenIndexes[op]]);
+                    op++;
+                    break;
+
+                default:
+                    throw new IllegalStateException("unknown op code: " + opCodes[op]);
+            }
+        }
+
+        return limit;
+    }
+
+    private int executeGroup(final DirectBuffer buffer, int limit, final int op, final TokenListener listener)
+    {
+        final Token groupToken = tokens[fieldTokenIndexes[op]];
+        final int groupBlockLength = Types.getInt(buffer, limit + offsets[op], primitiveTypes[op], byteOrders[op]);
+        final int numInGroup = Types.getInt(
+            buffer, limit + secondaryOffsets[op], secondaryPrimitiveTypes[op], secondaryByteOrders[op]);
+        limit += headerLengths[op];
+
+        listener.onGroupHeader(groupToken, numInGroup);
+
+        final int bodyFromOp = op + 1;
+        final int bodyToOp = endOps[op];
+        for (int i = 0; i < numInGroup; i++)
+        {
+            listener.onBeginGroup(groupToken, i, numInGroup);
+            limit = execute(buffer, limit, limit + groupBlockLength, bodyFromOp, bodyToOp, listener);
+            listener.onEndGroup(groupToken, i, numInGroup);
+        }
+
+        return limit;
+    }
+
+    private static int compileScope(
+        final Builder builder,
+        final List<Token> tokens,
+        final int fromIndex,
+        final int numTokens,
+        final int actingVersion)
+    {
+        int tokenIdx = compileFields(builder, tokens, fromIndex, numTokens);
+        tokenIdx = compileGroups(builder, tokens, tokenIdx, numTokens, actingVersion);
+
+        return compileData(builder, tokens, tokenIdx, numTokens, actingVersion);
+    }
+
+    private static int compileFields(
+        final Builder builder, final List<Token> tokens, final int fromIndex, final int numTokens)
+    {
+        int i = fromIndex;
+
+        while (i < numTokens)
+        {
+            final Token fieldToken = tokens.get(i);
+            if (BEGIN_FIELD != fieldToken.signal())
+            {
+                break;
+            }
+
+            final int nextFieldIdx = i + fieldToken.componentTokenCount();
+            final int typeTokenIdx = i + 1;
+            final Token typeToken = tokens.get(typeTokenIdx);
+
+            compileType(builder, tokens, i, typeTokenIdx, nextFieldIdx - 2, typeToken.offset());
+
+            i = nextFieldIdx;
+        }
+
+        return i;
+    }
+
+    private static void compileType(
+        final Builder builder,
+        final List<Token> tokens,
+        final int fieldTokenIdx,
+        final int typeTokenIdx,
+        final int toIndex,
+        final int offset)
+    {
+        final Token typeToken = tokens.get(typeTokenIdx);
+
+        switch (typeToken.signal())
+        {
+            case BEGIN_COMPOSITE:
+                builder.add(OP_BEGIN_COMPOSITE, fieldTokenIdx, typeTokenIdx, toIndex, offset);
+
+                for (int i = typeTokenIdx + 1; i < toIndex; )
+                {
+                    final Token memberToken = tokens.get(i);
+                    final int nextIdx = i + memberToken.componentTokenCount();
+
+                    if (Signal.ENCODING == memberToken.signal())
+                    {
+                        builder.add(OP_ENCODING, i, i, i, offset + memberToken.offset());
+                    }
+                    else
+                    {
+                        compileType(builder, tokens, fieldTokenIdx, i, nextIdx - 1, offset + memberToken.offset());
+                    }
+
+                    i = nextIdx;
+                }
+
+                builder.add(OP_END_COMPOSITE, fieldTokenIdx, typeTokenIdx, toIndex, offset);
+                break;
+
+            case BEGIN_ENUM:
+                builder.add(OP_ENUM, fieldTokenIdx, typeTokenIdx, toIndex, offset);
+                break;
+
+            case BEGIN_SET:
+                builder.add(OP_BIT_SET, fieldTokenIdx, typeTokenIdx, toIndex, offset);
+                break;
+
+            case ENCODING:
+                builder.add(OP_ENCODING, fieldTokenIdx, typeTokenIdx, toIndex, offset);
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    private static int compileGroups(
+        final Builder builder,
+        final List<Token> tokens,
+        int tokenIdx,
+        final int numTokens,
+        final int actingVersion)
+    {
+        while (tokenIdx < numTokens)
+        {
+            final Token token = tokens.get(tokenIdx);
+            if (BEGIN_GROUP != token.signal())
+            {
+                break;
+            }
+
+            final boolean isPresent = token.version() <= actingVersion;
+            final Token dimensionTypeComposite = tokens.get(tokenIdx + 1);
+            final Token blockLengthToken = tokens.get(tokenIdx + 2);
+            final Token numInGroupToken = tokens.get(tokenIdx + 3);
+
+            final int groupOp = builder.add(
+                isPresent ? OP_GROUP : OP_ABSENT_GROUP, tokenIdx, tokenIdx, tokenIdx, blockLengthToken.offset());
+            builder.lengthEncoding(
+                groupOp,
+                blockLengthToken.encoding().primitiveType(),
+                blockLengthToken.encoding().byteOrder());
+            builder.secondaryLengthEncoding(
+                groupOp,
+                numInGroupToken.offset(),
+                numInGroupToken.encoding().primitiveType(),
+                numInGroupToken.encoding().byteOrder());
+            builder.headerLengths.setInt(groupOp, dimensionTypeComposite.encodedLength());
+
+            final int beginFieldsIdx = tokenIdx + dimensionTypeComposite.componentTokenCount() + 1;
+            final int endGroupIdx = tokenIdx + token.componentTokenCount() - 1;
+            if (isPresent)
+            {
+                compileScope(builder, tokens, beginFieldsIdx, endGroupIdx, actingVersion);
+            }
+
+            builder.endOps.setInt(groupOp, builder.opCodes.size());
+            tokenIdx += token.componentTokenCount();
+        }
+
+        return tokenIdx;
+    }
+
+    private static int compileData(
+        final Builder builder,
+        final List<Token> tokens,
+        int tokenIdx,
+        final int numTokens,
+        final int actingVersion)
+    {
+        while (tokenIdx < numTokens)
+        {
+            final Token token = tokens.get(tokenIdx);
+            if (BEGIN_VAR_DATA != token.signal())
+            {
+                break;
+            }
+
+            final boolean isPresent = token.version() <= actingVersion;
+            final Token lengthToken = tokens.get(tokenIdx + 2);
+            final int dataTokenIdx = tokenIdx + 3;
+            final Token dataToken = tokens.get(dataTokenIdx);
+
+            final int varDataOp = builder.add(
+                isPresent ? OP_VAR_DATA : OP_ABSENT_VAR_DATA, tokenIdx, dataTokenIdx, dataTokenIdx,
+                lengthToken.offset());
+            builder.lengthEncoding(
+                varDataOp,
+                lengthToken.encoding().primitiveType(),
+                lengthToken.encoding().byteOrder());
+            builder.secondaryOffsets.setInt(varDataOp, dataToken.offset());
+
+            tokenIdx += token.componentTokenCount();
+        }
+
+        return tokenIdx;
+    }
+
+    static final class Builder
+    {
+        final IntArrayList opCodes = new IntArrayList();
+        final IntArrayList fieldTokenIndexes = new IntArrayList();
+        final IntArrayList typeTokenIndexes = new IntArrayList();
+        final IntArrayList toIndexes = new IntArrayList();
+        final IntArrayList offsets = new IntArrayList();
+        final IntArrayList secondaryOffsets = new IntArrayList();
+        final IntArrayList headerLengths = new IntArrayList();
+        final IntArrayList endOps = new IntArrayList();
+        final ArrayList<PrimitiveType> primitiveTypes = new ArrayList<>();
+        final ArrayList<ByteOrder> byteOrders = new ArrayList<>();
+        final ArrayList<PrimitiveType> secondaryPrimitiveTypes = new ArrayList<>();
+        final ArrayList<ByteOrder> secondaryByteOrders = new ArrayList<>();
+
+        int add(
+            final int opCode,
+            final int fieldTokenIndex,
+            final int typeTokenIndex,
+            final int toIndex,
+            final int offset)
+        {
+            final int op = opCodes.size();
+
+            opCodes.addInt(opCode);
+            fieldTokenIndexes.addInt(fieldTokenIndex);
+            typeTokenIndexes.addInt(typeTokenIndex);
+            toIndexes.addInt(toIndex);
+            offsets.addInt(offset);
+            secondaryOffsets.addInt(0);
+            headerLengths.addInt(0);
+            endOps.addInt(op + 1);
+            primitiveTypes.add(null);
+            byteOrders.add(null);
+            secondaryPrimitiveTypes.add(null);
+            secondaryByteOrders.add(null);
+
+            return op;
+        }
+
+        void lengthEncoding(final int op, final PrimitiveType primitiveType, final ByteOrder byteOrder)
+        {
+            primitiveTypes.set(op, primitiveType);
+            byteOrders.set(op, byteOrder);
+        }
+
+        void secondaryLengthEncoding(
+            final int op, final int offset, final PrimitiveType primitiveType, final ByteOrder byteOrder)
+        {
+            secondaryOffsets.setInt(op, offset);
+            secondaryPrimitiveTypes.set(op, primitiveType);
+            secondaryByteOrders.set(op, byteOrder);
+        }
+    }
+}
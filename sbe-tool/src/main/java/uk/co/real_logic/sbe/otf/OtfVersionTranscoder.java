@@ -0,0 +1,673 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.otf;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.IntArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+import uk.co.real_logic.sbe.PrimitiveType;
+import uk.co.real_logic.sbe.PrimitiveValue;
+import uk.co.real_logic.sbe.ir.Encoding;
+import uk.co.real_logic.sbe.ir.HeaderStructure;
+import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.ir.Signal;
+import uk.co.real_logic.sbe.ir.Token;
+import uk.co.real_logic.sbe.xml.IrGenerator;
+import uk.co.real_logic.sbe.xml.MessageSchema;
+import uk.co.real_logic.sbe.xml.SchemaTransformerFactory;
+
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static uk.co.real_logic.sbe.ir.Signal.BEGIN_FIELD;
+import static uk.co.real_logic.sbe.ir.Signal.BEGIN_GROUP;
+import static uk.co.real_logic.sbe.ir.Signal.BEGIN_VAR_DATA;
+
+/**
+ * Transcodes encoded messages from the version they were encoded at to a single target version of the schema, so
+ * consumers downstream only ever see messages at the target version.
+ * <p>
+ * Blocks are copied in bulk up to the shorter of the source and target block lengths. Fields which are in the target
+ * version but not in the source are filled with their null values, and the block length in the message and group
+ * headers is set to that of the target version. Var data is copied with its length as is. Going to a lower version
+ * truncates blocks and skips groups and var data which are not in the target version.
+ * <p>
+ * The layout for each message is compiled once when the transcoder is constructed, and a transcoder is immutable so
+ * can be shared across threads.
+ */
+public final class OtfVersionTranscoder
+{
+    private final int schemaId;
+    private final int targetVersion;
+    private final OtfHeaderDecoder headerDecoder;
+    private final int blockLengthOffset;
+    private final PrimitiveType blockLengthType;
+    private final ByteOrder blockLengthByteOrder;
+    private final int versionOffset;
+    private final PrimitiveType versionType;
+    private final ByteOrder versionByteOrder;
+    private final Int2ObjectHashMap<Scope> scopeByTemplateId = new Int2ObjectHashMap<>();
+
+    /**
+     * Construct a transcoder from the IR of a schema which can describe all source versions, to the IR of the same
+     * schema at the target version, such as is generated after applying the
+     * {@link SchemaTransformerFactory} for the target version.
+     *
+     * @param ir       of the schema which describes the versions of the source messages.
+     * @param targetIr of the schema at the target version.
+     * @see #forVersion(MessageSchema, int)
+     */
+    public OtfVersionTranscoder(final Ir ir, final Ir targetIr)
+    {
+        if (ir.id() != targetIr.id())
+        {
+            throw new IllegalArgumentException(
+                "target schema id does not match: id=" + ir.id() + " targetId=" + targetIr.id());
+        }
+
+        schemaId = ir.id();
+        targetVersion = targetIr.version();
+        headerDecoder = new OtfHeaderDecoder(ir.headerStructure());
+
+        final Token blockLengthToken = headerToken(ir.headerStructure(), HeaderStructure.BLOCK_LENGTH);
+        blockLengthOffset = blockLengthToken.offset();
+        blockLengthType = blockLengthToken.encoding().primitiveType();
+        blockLengthByteOrder = blockLengthToken.encoding().byteOrder();
+
+        final Token versionToken = headerToken(ir.headerStructure(), HeaderStructure.SCHEMA_VERSION);
+        versionOffset = versionToken.offset();
+        versionType = versionToken.encoding().primitiveType();
+        versionByteOrder = versionToken.encoding().byteOrder();
+
+        for (final List<Token> msgTokens : ir.messages())
+        {
+            final Token msgToken = msgTokens.get(0);
+            final List<Token> targetMsgTokens = targetIr.getMessage(msgToken.id());
+            if (null != targetMsgTokens)
+            {
+                final Scope scope = compileScope(
+                    msgTokens,
+                    1,
+                    msgTokens.size() - 1,
+                    targetMsgTokens,
+                    1,
+                    targetMsgTokens.size() - 1,
+                    targetMsgTokens.get(0).encodedLength());
+
+                scopeByTemplateId.put(msgToken.id(), scope);
+            }
+        }
+    }
+
+    /**
+     * Construct a transcoder for messages of a schema to the given version of the schema, by applying the
+     * {@link SchemaTransformerFactory} for the target version to the schema.
+     *
+     * @param schema        which describes all the versions of the source messages.
+     * @param targetVersion to which the messages should be transcoded.
+     * @return a new transcoder for the schema to the target version.
+     */
+    public static OtfVersionTranscoder forVersion(final MessageSchema schema, final int targetVersion)
+    {
+        final MessageSchema targetSchema = new SchemaTransformerFactory("*:" + targetVersion).transform(schema);
+
+        return new OtfVersionTranscoder(new IrGenerator().generate(schema), new IrGenerator().generate(targetSchema));
+    }
+
+    /**
+     * The version to which messages are transcoded.
+     *
+     * @return the version to which messages are transcoded.
+     */
+    public int targetVersion()
+    {
+        return targetVersion;
+    }
+
+    /**
+     * Is the message for a template id in the target version so can be transcoded.
+     *
+     * @param templateId of the message.
+     * @return true if the message is in the target version otherwise false.
+     */
+    public boolean isTranscodable(final int templateId)
+    {
+        return scopeByTemplateId.containsKey(templateId);
+    }
+
+    /**
+     * Transcode a message, including its header, from the version in its header to the target version.
+     *
+     * @param src       containing the encoded message.
+     * @param srcOffset at which the message header starts in the source buffer.
+     * @param dst       to which the transcoded message is written.
+     * @param dstOffset at which the transcoded message header starts in the destination buffer.
+     * @return the length of the transcoded message written to the destination buffer including the header.
+     * @throws IllegalArgumentException if the message is not of the schema or not in the target version.
+     */
+    public int transcode(
+        final DirectBuffer src, final int srcOffset, final MutableDirectBuffer dst, final int dstOffset)
+    {
+        final int schemaId = headerDecoder.getSchemaId(src, srcOffset);
+        if (this.schemaId != schemaId)
+        {
+            throw new IllegalArgumentException("unknown schema id: schemaId=" + schemaId);
+        }
+
+        final int templateId = headerDecoder.getTemplateId(src, srcOffset);
+        final Scope scope = scopeByTemplateId.get(templateId);
+        if (null == scope)
+        {
+            throw new IllegalArgumentException("message not in target version: templateId=" + templateId);
+        }
+
+        final int headerLength = headerDecoder.encodedLength();
+        final int blockLength = headerDecoder.getBlockLength(src, srcOffset);
+        final int actingVersion = headerDecoder.getSchemaVersion(src, srcOffset);
+
+        dst.putBytes(dstOffset, src, srcOffset, headerLength);
+        putInt(dst, dstOffset + blockLengthOffset, blockLengthType, blockLengthByteOrder, scope.blockLength);
+        putInt(dst, dstOffset + versionOffset, versionType, versionByteOrder, targetVersion);
+
+        final long packedLimits = transcodeScope(
+            scope, src, srcOffset + headerLength, blockLength, actingVersion, dst, dstOffset + headerLength);
+
+        return dstLimit(packedLimits) - dstOffset;
+    }
+
+    private static long transcodeScope(
+        final Scope scope,
+        final DirectBuffer src,
+        final int srcOffset,
+        final int srcBlockLength,
+        final int actingVersion,
+        final MutableDirectBuffer dst,
+        final int dstOffset)
+    {
+        final int targetBlockLength = scope.blockLength;
+        final int copyLength = Math.min(srcBlockLength, targetBlockLength);
+
+        dst.putBytes(dstOffset, src, srcOffset, copyLength);
+        if (copyLength < targetBlockLength)
+        {
+            dst.putBytes(dstOffset + copyLength, scope.nullBlock, copyLength, targetBlockLength - copyLength);
+        }
+
+        final int[] fieldVersions = scope.fieldVersions;
+        for (int i = 0; i < fieldVersions.length; i++)
+        {
+            final int fieldOffset = scope.fieldOffsets[i];
+            if (fieldVersions[i] > actingVersion && fieldOffset < copyLength)
+            {
+                final int length = Math.min(scope.fieldLengths[i], copyLength - fieldOffset);
+                dst.putBytes(dstOffset + fieldOffset, scope.nullBlock, fieldOffset, length);
+            }
+        }
+
+        int srcLimit = srcOffset + srcBlockLength;
+        int dstLimit = dstOffset + targetBlockLength;
+
+        for (final Group group : scope.groups)
+        {
+            final boolean isPresent = group.sinceVersion <= actingVersion;
+            int blockLength = 0;
+            int numInGroup = 0;
+
+            if (isPresent)
+            {
+                blockLength = Types.getInt(
+                    src, srcLimit + group.blockLengthOffset, group.blockLengthType, group.blockLengthByteOrder);
+                numInGroup = Types.getInt(
+                    src, srcLimit + group.numInGroupOffset, group.numInGroupType, group.numInGroupByteOrder);
+            }
+
+            if (null == group.scope)
+            {
+                srcLimit = isPresent ? skipGroup(group, src, srcLimit, actingVersion) : srcLimit;
+                continue;
+            }
+
+            if (isPresent)
+            {
+                dst.putBytes(dstLimit, src, srcLimit, group.headerLength);
+                srcLimit += group.headerLength;
+            }
+            else
+            {
+                dst.setMemory(dstLimit, group.headerLength, (byte)0);
+                putInt(dst, dstLimit + group.numInGroupOffset, group.numInGroupType, group.numInGroupByteOrder, 0);
+            }
+
+            putInt(
+                dst,
+                dstLimit + group.blockLengthOffset,
+                group.blockLengthType,
+                group.blockLengthByteOrder,
+                group.scope.blockLength);
+            dstLimit += group.headerLength;
+
+            for (int i = 0; i < numInGroup; i++)
+            {
+                final long packedLimits = transcodeScope(
+                    group.scope, src, srcLimit, blockLength, actingVersion, dst, dstLimit);
+                srcLimit = srcLimit(packedLimits);
+                dstLimit = dstLimit(packedLimits);
+            }
+        }
+
+        for (final VarData varData : scope.varData)
+        {
+            final boolean isPresent = varData.sinceVersion <= actingVersion;
+            final int encodedLength = isPresent ? varData.headerLength + Types.getInt(
+                src, srcLimit + varData.lengthOffset, varData.lengthType, varData.lengthByteOrder) : 0;
+
+            if (varData.isInTarget)
+            {
+                if (isPresent)
+                {
+                    dst.putBytes(dstLimit, src, srcLimit, encodedLength);
+                    dstLimit += encodedLength;
+                }
+                else
+                {
+                    dst.setMemory(dstLimit, varData.headerLength, (byte)0);
+                    dstLimit += varData.headerLength;
+                }
+            }
+
+            srcLimit += encodedLength;
+        }
+
+        return pack(srcLimit, dstLimit);
+    }
+
+    private static int skipGroup(
+        final Group group, final DirectBuffer src, final int srcOffset, final int actingVersion)
+    {
+        final int blockLength = Types.getInt(
+            src, srcOffset + group.blockLengthOffset, group.blockLengthType, group.blockLengthByteOrder);
+        final int numInGroup = Types.getInt(
+            src, srcOffset + group.numInGroupOffset, group.numInGroupType, group.numInGroupByteOrder);
+
+        int srcLimit = srcOffset + group.headerLength;
+        for (int i = 0; i < numInGroup; i++)
+        {
+            srcLimit += blockLength;
+
+            for (final Group subGroup : group.subGroups)
+            {
+                if (subGroup.sinceVersion <= actingVersion)
+                {
+                    srcLimit = skipGroup(subGroup, src, srcLimit, actingVersion);
+                }
+            }
+
+            for (final VarData varData : group.subVarData)
+            {
+                if (varData.sinceVersion <= actingVersion)
+                {
+                    srcLimit += varData.headerLength + Types.getInt(
+                        src, srcLimit + varData.lengthOffset, varData.lengthType, varData.lengthByteOrder);
+                }
+            }
+        }
+
+        return srcLimit;
+    }
+
+    private static Scope compileScope(
+        final List<Token> tokens,
+        final int fromIndex,
+        final int toIndex,
+        final List<Token> targetTokens,
+        final int targetFromIndex,
+        final int targetToIndex,
+        final int targetBlockLength)
+    {
+        final UnsafeBuffer nullBlock = new UnsafeBuffer(new byte[targetBlockLength]);
+        final IntArrayList fieldVersions = new IntArrayList();
+        final IntArrayList fieldOffsets = new IntArrayList();
+        final IntArrayList fieldLengths = new IntArrayList();
+
+        int i = targetFromIndex;
+        while (i < targetToIndex && BEGIN_FIELD == targetTokens.get(i).signal())
+        {
+            final Token fieldToken = targetTokens.get(i);
+            final Token typeToken = targetTokens.get(i + 1);
+            putNullValues(nullBlock, targetTokens, i + 1, typeToken.offset());
+
+            fieldVersions.addInt(fieldToken.version());
+            fieldOffsets.addInt(typeToken.offset());
+            fieldLengths.addInt(typeToken.encodedLength());
+            i += fieldToken.componentTokenCount();
+        }
+
+        final List<Group> groups = new ArrayList<>();
+        final List<VarData> varData = new ArrayList<>();
+        compileGroupsAndVarData(
+            tokens, fromIndex, toIndex, targetTokens, targetFromIndex, targetToIndex, groups, varData);
+
+        return new Scope(
+            targetBlockLength,
+            nullBlock.byteArray(),
+            fieldVersions.toIntArray(),
+            fieldOffsets.toIntArray(),
+            fieldLengths.toIntArray(),
+            groups.toArray(new Group[0]),
+            varData.toArray(new VarData[0]));
+    }
+
+    private static void compileGroupsAndVarData(
+        final List<Token> tokens,
+        final int fromIndex,
+        final int toIndex,
+        final List<Token> targetTokens,
+        final int targetFromIndex,
+        final int targetToIndex,
+        final List<Group> groups,
+        final List<VarData> varData)
+    {
+        int i = fromIndex;
+        while (i < toIndex && BEGIN_FIELD == tokens.get(i).signal())
+        {
+            i += tokens.get(i).componentTokenCount();
+        }
+
+        while (i < toIndex && BEGIN_GROUP == tokens.get(i).signal())
+        {
+            final Token groupToken = tokens.get(i);
+            final Token dimensionToken = tokens.get(i + 1);
+            final Token blockLengthToken = tokens.get(i + 2);
+            final Token numInGroupToken = tokens.get(i + 3);
+            final int fieldsIndex = i + 1 + dimensionToken.componentTokenCount();
+            final int endIndex = i + groupToken.componentTokenCount() - 1;
+
+            final int targetIndex = null == targetTokens ?
+                -1 : findById(targetTokens, targetFromIndex, targetToIndex, BEGIN_GROUP, groupToken.id());
+
+            Scope scope = null;
+            final List<Group> subGroups = new ArrayList<>();
+            final List<VarData> subVarData = new ArrayList<>();
+            if (-1 != targetIndex)
+            {
+                final Token targetGroupToken = targetTokens.get(targetIndex);
+                scope = compileScope(
+                    tokens,
+                    fieldsIndex,
+                    endIndex,
+                    targetTokens,
+                    targetIndex + 1 + targetTokens.get(targetIndex + 1).componentTokenCount(),
+                    targetIndex + targetGroupToken.componentTokenCount() - 1,
+                    targetGroupToken.encodedLength());
+            }
+            else
+            {
+                compileGroupsAndVarData(tokens, fieldsIndex, endIndex, null, 0, 0, subGroups, subVarData);
+            }
+
+            groups.add(new Group(
+                groupToken.version(),
+                dimensionToken.encodedLength(),
+                blockLengthToken,
+                numInGroupToken,
+                scope,
+                subGroups.toArray(new Group[0]),
+                subVarData.toArray(new VarData[0])));
+
+            i += groupToken.componentTokenCount();
+        }
+
+        while (i < toIndex && BEGIN_VAR_DATA == tokens.get(i).signal())
+        {
+            final Token varDataToken = tokens.get(i);
+            final boolean isInTarget = null != targetTokens &&
+                -1 != findById(targetTokens, targetFromIndex, targetToIndex, BEGIN_VAR_DATA, varDataToken.id());
+
+            varData.add(new VarData(varDataToken.version(), isInTarget, tokens.get(i + 2), tokens.get(i + 3)));
+
+            i += varDataToken.componentTokenCount();
+        }
+    }
+
+    private static int findById(
+        final List<Token> tokens,
+        final int fromIndex,
+        final int toIndex,
+        final Signal signal,
+        final int id)
+    {
+        for (int i = fromIndex; i < toIndex; i += tokens.get(i).componentTokenCount())
+        {
+            final Token token = tokens.get(i);
+            if (signal == token.signal() && id == token.id())
+            {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static void putNullValues(
+        final UnsafeBuffer nullBlock, final List<Token> tokens, final int typeIndex, final int offset)
+    {
+        final Token typeToken = tokens.get(typeIndex);
+        switch (typeToken.signal())
+        {
+            case ENCODING:
+                if (!typeToken.isConstantEncoding())
+                {
+                    final Encoding encoding = typeToken.encoding();
+                    final int size = encoding.primitiveType().size();
+                    for (int i = 0; i < typeToken.arrayLength(); i++)
+                    {
+                        putNullValue(nullBlock, offset + (i * size), encoding);
+                    }
+                }
+                break;
+
+            case BEGIN_ENUM:
+                putNullValue(nullBlock, offset, typeToken.encoding());
+                break;
+
+            case BEGIN_COMPOSITE:
+            {
+                final int endIndex = typeIndex + typeToken.componentTokenCount() - 1;
+                for (int i = typeIndex + 1; i < endIndex; i += tokens.get(i).componentTokenCount())
+                {
+                    putNullValues(nullBlock, tokens, i, offset + tokens.get(i).offset());
+                }
+                break;
+            }
+
+            default:
+                break;
+        }
+    }
+
+    private static void putNullValue(final UnsafeBuffer buffer, final int index, final Encoding encoding)
+    {
+        final PrimitiveValue nullValue = encoding.applicableNullValue();
+        final ByteOrder byteOrder = encoding.byteOrder();
+
+        switch (encoding.primitiveType())
+        {
+            case FLOAT:
+                buffer.putFloat(index, (float)nullValue.doubleValue(), byteOrder);
+                break;
+
+            case DOUBLE:
+                buffer.putDouble(index, nullValue.doubleValue(), byteOrder);
+                break;
+
+            case INT64:
+            case UINT64:
+                buffer.putLong(index, nullValue.longValue(), byteOrder);
+                break;
+
+            default:
+                putInt(buffer, index, encoding.primitiveType(), byteOrder, (int)nullValue.longValue());
+                break;
+        }
+    }
+
+    private static void putInt(
+        final MutableDirectBuffer buffer,
+        final int index,
+        final PrimitiveType type,
+        final ByteOrder byteOrder,
+        final int value)
+    {
+        switch (type)
+        {
+            case CHAR:
+            case INT8:
+            case UINT8:
+                buffer.putByte(index, (byte)value);
+                break;
+
+            case INT16:
+            case UINT16:
+                buffer.putShort(index, (short)value, byteOrder);
+                break;
+
+            case INT32:
+            case UINT32:
+                buffer.putInt(index, value, byteOrder);
+                break;
+
+            default:
+                throw new IllegalArgumentException("unsupported type for int: " + type);
+        }
+    }
+
+    private static Token headerToken(final HeaderStructure headerStructure, final String name)
+    {
+        for (final Token token : headerStructure.tokens())
+        {
+            if (name.equals(token.name()))
+            {
+                return token;
+            }
+        }
+
+        throw new IllegalStateException("message header has no " + name);
+    }
+
+    private static long pack(final int srcLimit, final int dstLimit)
+    {
+        return ((long)srcLimit << 32) | (dstLimit & 0xFFFF_FFFFL);
+    }
+
+    private static int srcLimit(final long packedLimits)
+    {
+        return (int)(packedLimits >>> 32);
+    }
+
+    private static int dstLimit(final long packedLimits)
+    {
+        return (int)packedLimits;
+    }
+
+    private static final class Scope
+    {
+        final int blockLength;
+        final byte[] nullBlock;
+        final int[] fieldVersions;
+        final int[] fieldOffsets;
+        final int[] fieldLengths;
+        final Group[] groups;
+        final VarData[] varData;
+
+        Scope(
+            final int blockLength,
+            final byte[] nullBlock,
+            final int[] fieldVersions,
+            final int[] fieldOffsets,
+            final int[] fieldLengths,
+            final Group[] groups,
+            final VarData[] varData)
+        {
+            this.blockLength = blockLength;
+            this.nullBlock = nullBlock;
+            this.fieldVersions = fieldVersions;
+            this.fieldOffsets = fieldOffsets;
+            this.fieldLengths = fieldLengths;
+            this.groups = groups;
+            this.varData = varData;
+        }
+    }
+
+    private static final class Group
+    {
+        final int sinceVersion;
+        final int headerLength;
+        final int blockLengthOffset;
+        final PrimitiveType blockLengthType;
+        final ByteOrder blockLengthByteOrder;
+        final int numInGroupOffset;
+        final PrimitiveType numInGroupType;
+        final ByteOrder numInGroupByteOrder;
+        final Scope scope;
+        final Group[] subGroups;
+        final VarData[] subVarData;
+
+        Group(
+            final int sinceVersion,
+            final int headerLength,
+            final Token blockLengthToken,
+            final Token numInGroupToken,
+            final Scope scope,
+            final Group[] subGroups,
+            final VarData[] subVarData)
+        {
+            this.sinceVersion = sinceVersion;
+            this.headerLength = headerLength;
+            this.blockLengthOffset = blockLengthToken.offset();
+            this.blockLengthType = blockLengthToken.encoding().primitiveType();
+            this.blockLengthByteOrder = blockLengthToken.encoding().byteOrder();
+            this.numInGroupOffset = numInGroupToken.offset();
+            this.numInGroupType = numInGroupToken.encoding().primitiveType();
+            this.numInGroupByteOrder = numInGroupToken.encoding().byteOrder();
+            this.scope = scope;
+            this.subGroups = null != scope ? scope.groups : subGroups;
+            this.subVarData = null != scope ? scope.varData : subVarData;
+        }
+    }
+
+    private static final class VarData
+    {
+        final int sinceVersion;
+        final boolean isInTarget;
+        final int headerLength;
+        final int lengthOffset;
+        final PrimitiveType lengthType;
+        final ByteOrder lengthByteOrder;
+
+        VarData(final int sinceVersion, final boolean isInTarget, final Token lengthToken, final Token dataToken)
+        {
+            this.sinceVersion = sinceVersion;
+            this.isInTarget = isInTarget;
+            this.headerLength = dataToken.offset();
+            this.lengthOffset = lengthToken.offset();
+            this.lengthType = lengthToken.encoding().primitiveType();
+            this.lengthByteOrder = lengthToken.encoding().byteOrder();
+        }
+    }
+}
@@ -18,6 +18,7 @@ package uk.co.real_logic.sbe.otf;
 import org.agrona.DirectBuffer;
 import uk.co.real_logic.sbe.PrimitiveType;
 import uk.co.real_logic.sbe.PrimitiveValue;
+import uk.co.real_logic.sbe.codec.java.Decimals;
 import uk.co.real_logic.sbe.ir.Encoding;
 
 import java.nio.ByteOrder;
@@ -268,6 +269,20 @@ public class Types
         }
     }
 
+    /**
+     * Append a decimal, given as a mantissa and a base 10 exponent, to a {@link StringBuilder} in plain notation
+     * without allocation, e.g. a mantissa of -15 and exponent of -3 is appended as {@code -0.015}. The result is
+     * also a valid Json number.
+     *
+     * @param sb       to append the decimal to.
+     * @param mantissa of the decimal.
+     * @param exponent of the decimal.
+     */
+    public static void appendDecimal(final StringBuilder sb, final long mantissa, final int exponent)
+    {
+        Decimals.appendDecimal(sb, mantissa, exponent);
+    }
+
     /**
      * Append a value as a Json String to a {@link StringBuilder}.
      *
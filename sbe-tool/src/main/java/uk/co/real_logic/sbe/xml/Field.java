@@ -107,6 +107,10 @@ public class Field
             field.epoch,
             field.timeUnit);
         this.groupFieldList = groupFieldList;
+        this.computedOffset = field.computedOffset;
+        this.computedBlockLength = null == groupFieldList ?
+            field.computedBlockLength :
+            Math.max(field.blockLength, Message.computeMessageRootBlockLength(groupFieldList));
     }
 
     /**
@@ -431,7 +431,7 @@ public class Message
         return offset;
     }
 
-    private static int computeMessageRootBlockLength(final List<Field> fields)
+    static int computeMessageRootBlockLength(final List<Field> fields)
     {
         int blockLength = 0;
 
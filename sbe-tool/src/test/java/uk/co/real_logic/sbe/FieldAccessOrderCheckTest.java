@@ -402,6 +402,113 @@ public class FieldAccessOrderCheckTest
             containsString("Cannot reset count of repeating group \"b\" in state: V0_B_N_BLOCK"));
     }
 
+    @Test
+    void allowsEncoderToCloseOpenGroupAfterEncodingElements()
+    {
+        final GroupAndVarLengthEncoder encoder = new GroupAndVarLengthEncoder()
+            .wrapAndApplyHeader(buffer, OFFSET, messageHeaderEncoder);
+        encoder.a(42);
+        final GroupAndVarLengthEncoder.BEncoder bEncoder = encoder.bOpen();
+        bEncoder.next().c(1);
+        bEncoder.next().c(2);
+        assertThat(bEncoder.close(), equalTo(2));
+        encoder.d("abc");
+        encoder.checkEncodingIsComplete();
+
+        final GroupAndVarLengthDecoder decoder = new GroupAndVarLengthDecoder()
+            .wrapAndApplyHeader(buffer, OFFSET, messageHeaderDecoder);
+        assertThat(decoder.a(), equalTo(42));
+        final GroupAndVarLengthDecoder.BDecoder bs = decoder.b();
+        assertThat(bs.count(), equalTo(2));
+        assertThat(bs.next().c(), equalTo(1));
+        assertThat(bs.next().c(), equalTo(2));
+        assertThat(decoder.d(), equalTo("abc"));
+        assertThat(decoder.toString(), containsString("a=42|b=[(c=1),(c=2)]|d='abc'"));
+    }
+
+    @Test
+    void allowsEncoderToCloseOpenGroupWithoutElements()
+    {
+        final GroupAndVarLengthEncoder encoder = new GroupAndVarLengthEncoder()
+            .wrapAndApplyHeader(buffer, OFFSET, messageHeaderEncoder);
+        encoder.a(42);
+        assertThat(encoder.bOpen().close(), equalTo(0));
+        encoder.d("abc");
+        encoder.checkEncodingIsComplete();
+
+        final GroupAndVarLengthDecoder decoder = new GroupAndVarLengthDecoder()
+            .wrapAndApplyHeader(buffer, OFFSET, messageHeaderDecoder);
+        assertThat(decoder.b().count(), equalTo(0));
+        assertThat(decoder.d(), equalTo("abc"));
+    }
+
+    @Test
+    void disallowsEncodingFieldAfterOpenGroupWithoutClose()
+    {
+        final GroupAndVarLengthEncoder encoder = new GroupAndVarLengthEncoder()
+            .wrapAndApplyHeader(buffer, OFFSET, messageHeaderEncoder);
+        encoder.a(42);
+        encoder.bOpen().next().c(1);
+        final IllegalStateException exception = assertThrows(IllegalStateException.class, () -> encoder.d("abc"));
+        assertThat(exception.getMessage(), containsString("Cannot access field \"d\" in state: V0_B_N_BLOCK"));
+    }
+
+    @Test
+    void disallowsEncoderToCloseOpenGroupMidGroupElement()
+    {
+        final NestedGroupsEncoder encoder = new NestedGroupsEncoder()
+            .wrapAndApplyHeader(buffer, OFFSET, messageHeaderEncoder);
+        encoder.a(42);
+        final NestedGroupsEncoder.BEncoder bEncoder = encoder.bOpen().next().c(43);
+        final IllegalStateException exception = assertThrows(IllegalStateException.class, bEncoder::close);
+        assertThat(exception.getMessage(),
+            containsString("Cannot reset count of repeating group \"b\" in state: V0_B_N_BLOCK"));
+    }
+
+    @Test
+    void allowsDecodingGroupElementsInReverseOrderBeforeVariableLengthField()
+    {
+        final GroupAndVarLengthEncoder encoder = new GroupAndVarLengthEncoder()
+            .wrapAndApplyHeader(buffer, OFFSET, messageHeaderEncoder);
+        encoder.a(42);
+        encoder.bCount(3).next().c(1).next().c(2).next().c(3);
+        encoder.d("abc");
+        encoder.checkEncodingIsComplete();
+
+        final GroupAndVarLengthDecoder decoder = new GroupAndVarLengthDecoder()
+            .wrapAndApplyHeader(buffer, OFFSET, messageHeaderDecoder);
+        assertThat(decoder.a(), equalTo(42));
+        final GroupAndVarLengthDecoder.BDecoder bs = decoder.b();
+        assertThat(bs.at(2).c(), equalTo(3));
+        assertThat(bs.previous().c(), equalTo(2));
+        assertThat(bs.previous().c(), equalTo(1));
+        assertThat(bs.hasPrevious(), is(false));
+        assertThat(bs.at(1).c(), equalTo(2));
+        assertThat(bs.at(2).c(), equalTo(3));
+        assertThat(decoder.d(), equalTo("abc"));
+    }
+
+    @Test
+    void disallowsDecodingVariableLengthFieldAfterRandomAccessToEarlierGroupElement()
+    {
+        final GroupAndVarLengthEncoder encoder = new GroupAndVarLengthEncoder()
+            .wrapAndApplyHeader(buffer, OFFSET, messageHeaderEncoder);
+        encoder.a(42);
+        encoder.bCount(2).next().c(1).next().c(2);
+        encoder.d("abc");
+        encoder.checkEncodingIsComplete();
+
+        final GroupAndVarLengthDecoder decoder = new GroupAndVarLengthDecoder()
+            .wrapAndApplyHeader(buffer, OFFSET, messageHeaderDecoder);
+        assertThat(decoder.a(), equalTo(42));
+        final GroupAndVarLengthDecoder.BDecoder bs = decoder.b();
+        assertThat(bs.next().c(), equalTo(1));
+        assertThat(bs.next().c(), equalTo(2));
+        assertThat(bs.at(0).c(), equalTo(1));
+        final IllegalStateException exception = assertThrows(IllegalStateException.class, decoder::d);
+        assertThat(exception.getMessage(), containsString("Cannot access field \"d\" in state: V0_B_N_BLOCK"));
+    }
+
     @Test
     void allowsDecodingGroupAndVariableLengthFieldsAfterRewind()
     {
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.codec.java;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.Charset;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReusableStringTest
+{
+    @ParameterizedTest
+    @ValueSource(strings = { "", "EURUSD", "café", "€100", "😀", "\ud83d", "a\ude00b" })
+    void shouldComputeEncodedLengthWhichMatchesSet(final String value)
+    {
+        for (final Charset charset : new Charset[]{ US_ASCII, ISO_8859_1, UTF_8, Charset.forName("UTF-16BE") })
+        {
+            final ReusableString string = new ReusableString(charset);
+            string.set(value);
+
+            assertEquals(string.length(), ReusableString.encodedLength(value, charset), charset.name());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "€100", "😀" })
+    void shouldComputeUtf8EncodedLengthInBytesRatherThanChars(final String value)
+    {
+        assertEquals(value.getBytes(UTF_8).length, ReusableString.encodedLength(value, UTF_8));
+        assertNotEquals(value.length(), ReusableString.encodedLength(value, UTF_8));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "UTF-8", "US-ASCII" })
+    void shouldHaveZeroEncodedLengthForNull(final String charsetName)
+    {
+        assertEquals(0, ReusableString.encodedLength(null, Charset.forName(charsetName)));
+    }
+}
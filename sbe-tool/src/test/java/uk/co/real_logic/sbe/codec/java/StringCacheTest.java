@@ -0,0 +1,110 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.codec.java;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringCacheTest
+{
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(new byte[256]);
+
+    @Test
+    void shouldReturnSameStringForRepeatedValue()
+    {
+        final StringCache cache = new StringCache(8);
+        final int length = buffer.putStringWithoutLengthUtf8(0, "EURUSD");
+
+        final String first = cache.get(buffer, 0, length, UTF_8);
+        final String second = cache.get(buffer, 0, length, UTF_8);
+
+        assertEquals("EURUSD", first);
+        assertSame(first, second);
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    void shouldNotMatchDifferentBytesOrCharset()
+    {
+        final StringCache cache = new StringCache(1);
+        final int length = buffer.putStringWithoutLengthUtf8(0, "é");
+
+        assertEquals("é", cache.get(buffer, 0, length, UTF_8));
+        assertEquals(new String(new byte[]{ buffer.getByte(0), buffer.getByte(1) }, ISO_8859_1),
+            cache.get(buffer, 0, length, ISO_8859_1));
+
+        buffer.putStringWithoutLengthUtf8(0, "ab");
+        assertEquals("ab", cache.get(buffer, 0, 2, UTF_8));
+        assertEquals("a", cache.get(buffer, 0, 1, UTF_8));
+
+        assertEquals(0, cache.hits());
+        assertEquals(4, cache.misses());
+    }
+
+    @Test
+    void shouldNotCacheValuesLongerThanMaxLength()
+    {
+        final StringCache cache = new StringCache(8, 4);
+        final int length = buffer.putStringWithoutLengthUtf8(0, "ABCDEF");
+
+        final String first = cache.get(buffer, 0, length, UTF_8);
+        final String second = cache.get(buffer, 0, length, UTF_8);
+
+        assertEquals("ABCDEF", second);
+        assertNotSame(first, second);
+        assertEquals(0, cache.hits());
+        assertEquals(2, cache.misses());
+    }
+
+    @Test
+    void shouldReturnEmptyStringWithoutLookup()
+    {
+        final StringCache cache = new StringCache(8);
+
+        assertEquals("", cache.get(buffer, 0, 0, UTF_8));
+        assertEquals(0, cache.hits());
+        assertEquals(0, cache.misses());
+    }
+
+    @Test
+    void shouldClearValuesAndCounters()
+    {
+        final StringCache cache = new StringCache(5);
+        final int length = buffer.putStringWithoutLengthUtf8(0, "ACC-1");
+
+        final String first = cache.get(buffer, 0, length, UTF_8);
+        cache.get(buffer, 0, length, UTF_8);
+        cache.clear();
+
+        assertEquals(8, cache.capacity());
+        assertEquals(0, cache.hits());
+        assertEquals(0, cache.misses());
+        assertNotSame(first, cache.get(buffer, 0, length, UTF_8));
+    }
+
+    @Test
+    void shouldRejectInvalidCapacity()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new StringCache(0));
+        assertThrows(IllegalArgumentException.class, () -> new StringCache(8, -1));
+    }
+}
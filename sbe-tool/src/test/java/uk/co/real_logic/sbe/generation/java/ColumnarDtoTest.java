@@ -0,0 +1,210 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.generation.java;
+
+import extension.BooleanType;
+import extension.BoostType;
+import extension.CarDecoder;
+import extension.CarEncoder;
+import extension.Model;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.generation.CompilerUtil;
+import org.agrona.generation.StringWriterOutputManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.co.real_logic.sbe.Tests;
+import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.xml.IrGenerator;
+import uk.co.real_logic.sbe.xml.MessageSchema;
+import uk.co.real_logic.sbe.xml.ParserOptions;
+
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static uk.co.real_logic.sbe.xml.XmlSchemaParser.parse;
+
+class ColumnarDtoTest
+{
+    private static final String NAMESPACE = "columnar.extension";
+
+    private final StringWriterOutputManager outputManager = new StringWriterOutputManager();
+    private Class<?> carDtoClass;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        try (InputStream in = Tests.getLocalResource("example-extension-schema.xml"))
+        {
+            final MessageSchema schema = parse(in, ParserOptions.builder().stopOnError(true).build());
+            final Ir ir = new IrGenerator().generate(schema, NAMESPACE);
+
+            outputManager.clear();
+            outputManager.setPackageName(ir.applicableNamespace());
+
+            new JavaGenerator(ir, "org.agrona.MutableDirectBuffer", "org.agrona.DirectBuffer", false, false, false,
+                false, outputManager).generate();
+            new JavaDtoGenerator(ir, false, false, true, outputManager).generate();
+        }
+
+        carDtoClass = CompilerUtil.compileInMemory(NAMESPACE + ".CarDto", outputManager.getSources());
+    }
+
+    @Test
+    void shouldHoldGroupOfPrimitiveFieldsAsColumnsAndRoundTrip() throws Exception
+    {
+        final ExpandableArrayBuffer inputBuffer = new ExpandableArrayBuffer();
+        final int inputLength = encodeCar(inputBuffer);
+
+        final Object dto = decode(inputBuffer);
+
+        assertInstanceOf(List.class, invoke(dto, "fuelFigures"));
+        final Object performanceFigure = ((List<?>)invoke(dto, "performanceFigures")).get(0);
+        final Object acceleration = invoke(performanceFigure, "acceleration");
+
+        assertEquals(3, invoke(acceleration, "count"));
+        assertArrayEquals(new int[]{ 30, 60, 100 }, Arrays.copyOf((int[])invoke(acceleration, "mphColumn"), 3));
+        assertArrayEquals(
+            new float[]{ 4.0f, 7.5f, 12.2f }, Arrays.copyOf((float[])invoke(acceleration, "secondsColumn"), 3));
+        assertEquals(60, invoke(acceleration, "mph", 1));
+
+        assertArrayEquals(bytes(inputBuffer, inputLength), encode(dto));
+        assertEquals(inputLength, invoke(dto, "computeEncodedLength"));
+    }
+
+    @Test
+    void shouldGrowColumnsAndEncodeAddedRows() throws Exception
+    {
+        final ExpandableArrayBuffer inputBuffer = new ExpandableArrayBuffer();
+        encodeCar(inputBuffer);
+
+        final Object dto = decode(inputBuffer);
+        final Object performanceFigure = ((List<?>)invoke(dto, "performanceFigures")).get(0);
+        final Object acceleration = invoke(performanceFigure, "acceleration");
+
+        final InvocationTargetException ex = assertThrows(
+            InvocationTargetException.class, () -> invoke(acceleration, "mph", 3, 120));
+        assertInstanceOf(IndexOutOfBoundsException.class, ex.getCause());
+
+        invoke(acceleration, "count", 4);
+        invoke(invoke(acceleration, "mph", 3, 120), "seconds", 3, 20.5f);
+
+        final CarDecoder decoder = new CarDecoder();
+        decoder.wrap(new UnsafeBuffer(encode(dto)), 0, CarDecoder.BLOCK_LENGTH, CarDecoder.SCHEMA_VERSION);
+
+        decoder.fuelFigures().next().skipUsageDescription();
+        final CarDecoder.PerformanceFiguresDecoder.AccelerationDecoder accelerationDecoder =
+            decoder.performanceFigures().next().acceleration();
+        assertEquals(4, accelerationDecoder.count());
+        int mph = 0;
+        float seconds = 0;
+        while (accelerationDecoder.hasNext())
+        {
+            accelerationDecoder.next();
+            mph = accelerationDecoder.mph();
+            seconds = accelerationDecoder.seconds();
+        }
+        assertEquals(120, mph);
+        assertEquals(20.5f, seconds);
+    }
+
+    @Test
+    void shouldValidateRangeWhenSettingRowValue() throws Exception
+    {
+        final ExpandableArrayBuffer inputBuffer = new ExpandableArrayBuffer();
+        encodeCar(inputBuffer);
+
+        final Object dto = decode(inputBuffer);
+        final Object performanceFigure = ((List<?>)invoke(dto, "performanceFigures")).get(0);
+        final Object acceleration = invoke(performanceFigure, "acceleration");
+
+        final InvocationTargetException ex = assertThrows(
+            InvocationTargetException.class, () -> invoke(acceleration, "mph", 0, -1));
+        assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+        assertThrows(InvocationTargetException.class, () -> invoke(acceleration, "mph", 0, 65535));
+        assertEquals(30, invoke(acceleration, "mph", 0));
+    }
+
+    private Object decode(final DirectBuffer buffer) throws Exception
+    {
+        final Method decodeFrom = carDtoClass.getMethod(
+            "decodeFrom", DirectBuffer.class, int.class, int.class, int.class);
+
+        return decodeFrom.invoke(null, buffer, 0, CarDecoder.BLOCK_LENGTH, CarDecoder.SCHEMA_VERSION);
+    }
+
+    private byte[] encode(final Object dto) throws Exception
+    {
+        final ExpandableArrayBuffer outputBuffer = new ExpandableArrayBuffer();
+        final Method encodeWith = carDtoClass.getMethod(
+            "encodeWith", carDtoClass, MutableDirectBuffer.class, int.class);
+        final int length = (int)encodeWith.invoke(null, dto, outputBuffer, 0);
+
+        return bytes(outputBuffer, length);
+    }
+
+    private static Object invoke(final Object target, final String methodName, final Object... args) throws Exception
+    {
+        for (final Method method : target.getClass().getMethods())
+        {
+            if (method.getName().equals(methodName) && method.getParameterCount() == args.length)
+            {
+                return method.invoke(target, args);
+            }
+        }
+
+        throw new NoSuchMethodException(target.getClass().getName() + "." + methodName);
+    }
+
+    private static byte[] bytes(final DirectBuffer buffer, final int length)
+    {
+        return Arrays.copyOf(buffer.byteArray(), length);
+    }
+
+    private static int encodeCar(final MutableDirectBuffer buffer)
+    {
+        final CarEncoder car = new CarEncoder();
+        car.wrap(buffer, 0);
+        car.serialNumber(1234);
+        car.modelYear(2013);
+        car.available(BooleanType.T);
+        car.code(Model.A);
+        car.vehicleCode("ABCDEF");
+        car.extras().cruiseControl(true);
+        car.engine().capacity(2000).numCylinders((short)4).manufacturerCode("ABC").booster()
+            .boostType(BoostType.NITROUS).horsePower((short)200);
+
+        car.fuelFiguresCount(1).next().speed(30).mpg(35.9f).usageDescription("Urban Cycle");
+
+        final CarEncoder.PerformanceFiguresEncoder.AccelerationEncoder acceleration =
+            car.performanceFiguresCount(1).next().octaneRating((short)95).accelerationCount(3);
+        acceleration.next().mph(30).seconds(4.0f);
+        acceleration.next().mph(60).seconds(7.5f);
+        acceleration.next().mph(100).seconds(12.2f);
+
+        car.manufacturer("Ford");
+        car.model("Fiesta");
+        car.activationCode("1234");
+
+        return car.limit();
+    }
+}
@@ -15,7 +15,9 @@
  */
 package uk.co.real_logic.sbe.generation.java;
 
+import org.agrona.AsciiSequenceView;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.generation.CompilerUtil;
@@ -26,8 +28,11 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import uk.co.real_logic.sbe.Tests;
+import uk.co.real_logic.sbe.codec.java.StringCache;
 import uk.co.real_logic.sbe.generation.common.PrecedenceChecks;
 import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.json.JsonTokenListener;
+import uk.co.real_logic.sbe.otf.OtfMessageDecoder;
 import uk.co.real_logic.sbe.xml.IrGenerator;
 import uk.co.real_logic.sbe.xml.MessageSchema;
 import uk.co.real_logic.sbe.xml.ParserOptions;
@@ -35,10 +40,12 @@ import uk.co.real_logic.sbe.xml.ParserOptions;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.function.IntPredicate;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.startsWith;
@@ -288,6 +295,45 @@ class JavaGeneratorTest
         assertNotNull(field);
     }
 
+    @Test
+    void shouldOnlyCheckAccessOrderOfSampledMessages() throws Exception
+    {
+        final String sampleRatePropName = "sbe.test.precedence.checks.sample.rate";
+        final PrecedenceChecks.Context context = new PrecedenceChecks.Context()
+            .shouldGeneratePrecedenceChecks(true)
+            .precedenceChecksSampleRatePropName(sampleRatePropName);
+        generator(PrecedenceChecks.newInstance(context)).generate();
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[4096]);
+        System.setProperty(sampleRatePropName, "3");
+        try
+        {
+            final Object encoder = compileCarEncoder().getConstructor().newInstance();
+            final Method manufacturer = encoder.getClass().getMethod("manufacturer", String.class);
+
+            int checkedCount = 0;
+            for (int i = 0; i < 6; i++)
+            {
+                wrap(buffer, encoder);
+                try
+                {
+                    manufacturer.invoke(encoder, "Ford");
+                }
+                catch (final InvocationTargetException ex)
+                {
+                    assertInstanceOf(IllegalStateException.class, ex.getCause());
+                    checkedCount++;
+                }
+            }
+
+            assertEquals(2, checkedCount);
+        }
+        finally
+        {
+            System.clearProperty(sampleRatePropName);
+        }
+    }
+
     @Test
     void shouldGenerateRepeatingGroupDecoder() throws Exception
     {
@@ -418,6 +464,51 @@ class JavaGeneratorTest
         assertThat(get(decoder, "vehicleCode"), is("R11R12"));
     }
 
+    @Test
+    void shouldReturnCachedStringsWhenStringCacheEnabled() throws Exception
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[4096]);
+        generator(16).generate();
+
+        final Object encoder = wrap(buffer, compileCarEncoder().getConstructor().newInstance());
+        final Object decoder = getCarDecoder(buffer, encoder);
+
+        set(encoder, "vehicleCode", String.class, "R11");
+        final Object vehicleCode = get(decoder, "vehicleCode");
+        assertThat(vehicleCode, is("R11"));
+        assertSame(vehicleCode, get(decoder, "vehicleCode"));
+
+        set(encoder, "vehicleCode", String.class, "");
+        assertThat(get(decoder, "vehicleCode"), is(""));
+
+        set(encoder, "vehicleCode", String.class, "R11R12");
+        assertThat(get(decoder, "vehicleCode"), is("R11R12"));
+
+        final StringCache vehicleCodeCache = (StringCache)get(decoder, "vehicleCodeStringCache");
+        assertEquals(16, vehicleCodeCache.capacity());
+        assertEquals(1, vehicleCodeCache.hits());
+        assertEquals(2, vehicleCodeCache.misses());
+
+        setEmptyFuelFiguresGroup(encoder);
+        setEmptyPerformanceFiguresGroup(encoder);
+        setManufacturer(encoder, "Ford");
+
+        final StringCache manufacturerCache = new StringCache(4);
+        for (int i = 0; i < 3; i++)
+        {
+            final Object carDecoder = getCarDecoder(buffer, encoder);
+            carDecoder.getClass().getMethod("manufacturerStringCache", StringCache.class)
+                .invoke(carDecoder, manufacturerCache);
+
+            skipFuelFiguresGroup(carDecoder);
+            skipPerformanceFiguresGroup(carDecoder);
+            assertEquals("Ford", getManufacturer(carDecoder));
+        }
+
+        assertEquals(2, manufacturerCache.hits());
+        assertEquals(1, manufacturerCache.misses());
+    }
+
     @Test
     void shouldGenerateGetFixedLengthStringUsingAppendable() throws Exception
     {
@@ -469,6 +560,59 @@ class JavaGeneratorTest
         assertThat(result.toString(), equalTo(color));
     }
 
+    @Test
+    void shouldGenerateFixedLengthStringAsciiSequenceView() throws Exception
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[4096]);
+        final AsciiSequenceView view = new AsciiSequenceView();
+        generator().generate();
+
+        final Object encoder = wrap(buffer, compileCarEncoder().getDeclaredConstructor().newInstance());
+        final Object decoder = getCarDecoder(buffer, encoder);
+        final Method vehicleCode = decoder.getClass().getMethod("vehicleCode", AsciiSequenceView.class);
+
+        set(encoder, "vehicleCode", String.class, "R11");
+        assertSame(view, vehicleCode.invoke(decoder, view));
+        assertThat(view.toString(), is("R11"));
+        assertSame(buffer, view.buffer());
+
+        set(encoder, "vehicleCode", String.class, "");
+        vehicleCode.invoke(decoder, view);
+        assertThat(view.length(), is(0));
+
+        set(encoder, "vehicleCode", String.class, "R11R12");
+        vehicleCode.invoke(decoder, view);
+        assertThat(view.toString(), is("R11R12"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "Red", "", "Red and Blue" })
+    void shouldGenerateVariableStringAsciiSequenceView(final String color) throws Exception
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[4096]);
+        final AsciiSequenceView view = new AsciiSequenceView();
+        generator().generate();
+
+        final Object encoder = wrap(buffer, compileCarEncoder().getDeclaredConstructor().newInstance());
+        setEmptyFuelFiguresGroup(encoder);
+        setEmptyPerformanceFiguresGroup(encoder);
+        set(encoder, "manufacturer", String.class, "Bristol");
+        set(encoder, "model", String.class, "Britannia");
+        set(encoder, "activationCode", String.class, "12345");
+        set(encoder, "color", String.class, color);
+
+        final Object decoder = getCarDecoder(buffer, encoder);
+        skipFuelFiguresGroup(decoder);
+        skipPerformanceFiguresGroup(decoder);
+        assertThat(get(decoder, "manufacturer"), equalTo("Bristol"));
+        assertThat(get(decoder, "model"), equalTo("Britannia"));
+        assertThat(get(decoder, "activationCode"), equalTo("12345"));
+
+        decoder.getClass().getMethod("color", AsciiSequenceView.class).invoke(decoder, view);
+        assertThat(view.toString(), equalTo(color));
+        assertThat(getLimit(decoder), equalTo(view.offset() + color.length()));
+    }
+
     @Test
     void shouldGeneratePutCharSequence() throws Exception
     {
@@ -488,6 +632,504 @@ class JavaGeneratorTest
         assertThat(get(decoder, "vehicleCode"), is("R11R12"));
     }
 
+    @Test
+    void shouldGenerateEqualsHashCodeAndCompareOverEncodedBytes() throws Exception
+    {
+        final UnsafeBuffer bufferOne = new UnsafeBuffer(new byte[4096]);
+        final UnsafeBuffer bufferTwo = new UnsafeBuffer(new byte[4096]);
+        new JavaGenerator(ir, options().shouldGenerateComparisons(true), outputManager).generate();
+
+        final Class<?> encoderClass = compileCarEncoder();
+        final Object encoderOne = wrap(bufferOne, encoderClass.getConstructor().newInstance());
+        final Object encoderTwo = wrap(bufferTwo, encoderClass.getConstructor().newInstance());
+        putSerialNumber(encoderOne, 7);
+        putSerialNumber(encoderTwo, 7);
+        setCapacity(get(encoderOne, "engine"), 2000);
+        setCapacity(get(encoderTwo, "engine"), 2000);
+
+        final Class<?> decoderClass = compileCarDecoder();
+        final int blockLength = getSbeBlockLength(encoderOne);
+        final int version = getSbeSchemaVersion(encoderOne);
+        final Object decoderOne = wrap(bufferOne, decoderClass.getConstructor().newInstance(), blockLength, version);
+        final Object decoderTwo = wrap(bufferTwo, decoderClass.getConstructor().newInstance(), blockLength, version);
+        final Method sbeEquals = decoderClass.getMethod("sbeEquals", decoderClass);
+        final Method sbeHashCode = decoderClass.getMethod("sbeHashCode");
+        final Method compareTo = decoderClass.getMethod("compareTo", decoderClass);
+        assertTrue(Comparable.class.isAssignableFrom(decoderClass));
+
+        assertEquals(true, sbeEquals.invoke(decoderOne, decoderTwo));
+        assertEquals(false, sbeEquals.invoke(decoderOne, (Object)null));
+        assertEquals(sbeHashCode.invoke(decoderOne), sbeHashCode.invoke(decoderTwo));
+        assertEquals(0, compareTo.invoke(decoderOne, decoderTwo));
+
+        putSerialNumber(encoderTwo, 8);
+        assertEquals(false, sbeEquals.invoke(decoderOne, decoderTwo));
+        assertTrue((int)compareTo.invoke(decoderOne, decoderTwo) < 0);
+        assertTrue((int)compareTo.invoke(decoderTwo, decoderOne) > 0);
+
+        putSerialNumber(encoderOne, -1);
+        assertTrue((int)compareTo.invoke(decoderOne, decoderTwo) > 0, "serialNumber is uint64");
+
+        final Object engineOne = get(decoderOne, "engine");
+        final Object engineTwo = get(decoderTwo, "engine");
+        final Class<?> engineClass = engineOne.getClass();
+        assertTrue(Comparable.class.isAssignableFrom(engineClass));
+        assertEquals(true, engineClass.getMethod("sbeEquals", engineClass).invoke(engineOne, engineTwo));
+        assertEquals(0, engineClass.getMethod("compareTo", engineClass).invoke(engineOne, engineTwo));
+
+        setCapacity(get(encoderTwo, "engine"), 3000);
+        assertEquals(false, engineClass.getMethod("sbeEquals", engineClass).invoke(engineOne, engineTwo));
+        assertTrue((int)engineClass.getMethod("compareTo", engineClass).invoke(engineOne, engineTwo) < 0);
+    }
+
+    @Test
+    void shouldIgnorePaddingInEqualsAndHashCode() throws Exception
+    {
+        try (InputStream in = Tests.getLocalResource("composite-offsets-schema.xml"))
+        {
+            final ParserOptions options = ParserOptions.builder().stopOnError(true).build();
+            ir = new IrGenerator().generate(parse(in, options));
+
+            outputManager.clear();
+            outputManager.setPackageName(ir.applicableNamespace());
+            new JavaGenerator(ir, options().shouldGenerateComparisons(true), outputManager).generate();
+
+            final UnsafeBuffer bufferOne = new UnsafeBuffer(new byte[64]);
+            final UnsafeBuffer bufferTwo = new UnsafeBuffer(new byte[64]);
+            bufferTwo.setMemory(0, 32, (byte)0x7F);
+            for (final UnsafeBuffer buffer : Arrays.asList(bufferOne, bufferTwo))
+            {
+                buffer.putInt(0, 1, ir.byteOrder());
+                buffer.putByte(8, (byte)2);
+                buffer.putLong(16, 3L, ir.byteOrder());
+                buffer.putLong(24, 4L, ir.byteOrder());
+            }
+
+            final Class<?> decoderClass = compile(ir.applicableNamespace() + ".TestMessage2Decoder");
+            final Object decoderOne = wrap(bufferOne, decoderClass.getConstructor().newInstance(), 32, 0);
+            final Object decoderTwo = wrap(bufferTwo, decoderClass.getConstructor().newInstance(), 32, 0);
+            final Method sbeEquals = decoderClass.getMethod("sbeEquals", decoderClass);
+
+            assertEquals(true, sbeEquals.invoke(decoderOne, decoderTwo));
+            assertEquals(get(decoderOne, "sbeHashCode"), get(decoderTwo, "sbeHashCode"));
+            assertEquals(0, decoderClass.getMethod("compareTo", decoderClass).invoke(decoderOne, decoderTwo));
+
+            final Object compositeOne = get(decoderOne, "fieldTwo");
+            final Object compositeTwo = get(decoderTwo, "fieldTwo");
+            final Class<?> compositeClass = compositeOne.getClass();
+            final Method compositeEquals = compositeClass.getMethod("sbeEquals", compositeClass);
+            assertEquals(true, compositeEquals.invoke(compositeOne, compositeTwo));
+            assertEquals(get(compositeOne, "sbeHashCode"), get(compositeTwo, "sbeHashCode"));
+
+            bufferTwo.putByte(8, (byte)5);
+            assertEquals(false, sbeEquals.invoke(decoderOne, decoderTwo));
+            assertEquals(false, compositeEquals.invoke(compositeOne, compositeTwo));
+        }
+    }
+
+    @Test
+    void shouldNotGenerateComparisonsByDefault() throws Exception
+    {
+        generator().generate();
+
+        final Class<?> decoderClass = compileCarDecoder();
+        assertFalse(Comparable.class.isAssignableFrom(decoderClass));
+        assertThrows(NoSuchMethodException.class, () -> decoderClass.getMethod("sbeHashCode"));
+    }
+
+    @Test
+    void shouldGenerateBulkPrimitiveArrayAccessors() throws Exception
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[4096]);
+        generator().generate();
+
+        final Object encoder = wrap(buffer, compileCarEncoder().getConstructor().newInstance());
+        final Object decoder = getCarDecoder(buffer, encoder);
+
+        encoder.getClass().getMethod("putSomeNumbers", int[].class, int.class, int.class)
+            .invoke(encoder, new int[]{ 0, 1, -2, 3 }, 1, 3);
+
+        final int[] dst = new int[]{ 9, 9, 9, 9, 9, 9, 9 };
+        final Method getSomeNumbers = decoder.getClass().getMethod(
+            "getSomeNumbers", int[].class, int.class, int.class);
+        assertEquals(5, getSomeNumbers.invoke(decoder, dst, 1, 6));
+        assertArrayEquals(new int[]{ 9, 1, -2, 3, 0, 0, 9 }, dst);
+        assertThrows(InvocationTargetException.class, () -> getSomeNumbers.invoke(decoder, dst, 3, 5));
+
+        final UnsafeBuffer copy = new UnsafeBuffer(new byte[64]);
+        assertEquals(2, decoder.getClass().getMethod(
+            "getSomeNumbers", MutableDirectBuffer.class, int.class, int.class).invoke(decoder, copy, 4, 2));
+        assertEquals(1, copy.getInt(4, ByteOrder.LITTLE_ENDIAN));
+        assertEquals(-2, copy.getInt(8, ByteOrder.LITTLE_ENDIAN));
+
+        encoder.getClass().getMethod("putSomeNumbers", DirectBuffer.class, int.class, int.class)
+            .invoke(encoder, copy, 8, 1);
+        assertEquals(5, getSomeNumbers.invoke(decoder, dst, 0, 5));
+        assertArrayEquals(new int[]{ -2, 0, 0, 0, 0, 0, 9 }, dst);
+    }
+
+    @Test
+    void shouldGenerateGroupScans() throws Exception
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[4096]);
+        new JavaGenerator(ir, options().shouldGenerateGroupScans(true), outputManager).generate();
+
+        final Object encoder = wrap(buffer, compileCarEncoder().getConstructor().newInstance());
+        setEmptyFuelFiguresGroup(encoder);
+        final Object performanceFigures = encoder.getClass().getMethod("performanceFiguresCount", int.class)
+            .invoke(encoder, 1);
+        get(performanceFigures, "next");
+        final Object acceleration = performanceFigures.getClass().getMethod("accelerationCount", int.class)
+            .invoke(performanceFigures, 4);
+        final int[] mph = { 30, 60, 100, 60 };
+        for (final int value : mph)
+        {
+            get(acceleration, "next");
+            acceleration.getClass().getMethod("mph", int.class).invoke(acceleration, value);
+            acceleration.getClass().getMethod("seconds", float.class).invoke(acceleration, value / 10.0f);
+        }
+
+        final Object decoder = getCarDecoder(buffer, encoder);
+        skipFuelFiguresGroup(decoder);
+        final Object performanceFiguresDecoder = get(decoder, "performanceFigures");
+        get(performanceFiguresDecoder, "next");
+        final Object accelerationDecoder = get(performanceFiguresDecoder, "acceleration");
+        get(accelerationDecoder, "next");
+
+        assertEquals(30, get(accelerationDecoder, "mphMin"));
+        assertEquals(100, get(accelerationDecoder, "mphMax"));
+        assertEquals(250L, get(accelerationDecoder, "mphSum"));
+        assertEquals(25.0, (double)get(accelerationDecoder, "secondsSum"), 0.0001);
+        assertEquals(2, accelerationDecoder.getClass().getMethod("mphCount", int.class)
+            .invoke(accelerationDecoder, 60));
+
+        final int[] indices = new int[2];
+        final IntPredicate predicate = (value) -> value >= 60;
+        assertEquals(3, accelerationDecoder.getClass()
+            .getMethod("mphFilter", IntPredicate.class, int[].class)
+            .invoke(accelerationDecoder, predicate, indices));
+        assertArrayEquals(new int[]{ 1, 2 }, indices);
+
+        assertEquals(30, get(accelerationDecoder, "mph"));
+        assertEquals(true, get(accelerationDecoder, "hasNext"));
+    }
+
+    @Test
+    void shouldScanGroupFromFirstEntrySkippingNullOptionalValues() throws Exception
+    {
+        try (InputStream in = Tests.getLocalResource("group-scan-schema.xml"))
+        {
+            final ParserOptions options = ParserOptions.builder().stopOnError(true).build();
+            ir = new IrGenerator().generate(parse(in, options));
+
+            outputManager.clear();
+            outputManager.setPackageName(ir.applicableNamespace());
+            new JavaGenerator(ir, options().shouldGenerateGroupScans(true), outputManager).generate();
+
+            final int quoteLength = 20;
+            final long[] prices = { 100, 90, 110 };
+            final int[] sizes = { 5, Integer.MIN_VALUE, 7 };
+            final double[] yields = { 1.5, Double.NaN, 2.5 };
+            final UnsafeBuffer buffer = new UnsafeBuffer(new byte[128]);
+            buffer.putShort(8, (short)quoteLength, ByteOrder.LITTLE_ENDIAN);
+            buffer.putShort(10, (short)prices.length, ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i < prices.length; i++)
+            {
+                final int entryOffset = 12 + (i * quoteLength);
+                buffer.putLong(entryOffset, prices[i], ByteOrder.LITTLE_ENDIAN);
+                buffer.putInt(entryOffset + 8, sizes[i], ByteOrder.LITTLE_ENDIAN);
+                buffer.putDouble(entryOffset + 12, yields[i], ByteOrder.LITTLE_ENDIAN);
+            }
+            buffer.putShort(72, (short)4, ByteOrder.LITTLE_ENDIAN);
+            buffer.putShort(74, (short)1, ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(76, 1000, ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(80, 2, ByteOrder.LITTLE_ENDIAN);
+            buffer.putStringWithoutLengthAscii(84, "ok");
+
+            final Class<?> decoderClass = compile(ir.applicableNamespace() + ".BookDecoder");
+            final Object decoder = wrap(buffer, decoderClass.getConstructor().newInstance(), 8, 0);
+            final Object quotes = get(decoder, "quotes");
+            get(quotes, "next");
+            get(quotes, "next");
+
+            assertEquals(90L, get(quotes, "priceMin"));
+            assertEquals(110L, get(quotes, "priceMax"));
+            assertEquals(5, get(quotes, "sizeMin"));
+            assertEquals(7, get(quotes, "sizeMax"));
+            assertEquals(12L, get(quotes, "sizeSum"));
+            assertEquals(1.5, (double)get(quotes, "yieldMin"));
+            assertEquals(2.5, (double)get(quotes, "yieldMax"));
+            assertEquals(4.0, (double)get(quotes, "yieldSum"));
+            assertEquals(1, quotes.getClass().getMethod("priceBinarySearch", long.class).invoke(quotes, 90L));
+
+            get(quotes, "next");
+            final Object trades = get(decoder, "trades");
+            assertEquals(1000L, get(trades, "quantitySum"));
+            get(trades, "next");
+            assertEquals("ok", get(decoder, "note"));
+            assertEquals(300L, get(quotes, "priceSum"));
+            assertEquals(7, get(quotes, "sizeMax"));
+
+            buffer.putInt(12 + 8, Integer.MIN_VALUE, ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(12 + (2 * quoteLength) + 8, Integer.MIN_VALUE, ByteOrder.LITTLE_ENDIAN);
+            assertEquals(Integer.MIN_VALUE, get(quotes, "sizeMin"));
+            assertEquals(0L, get(quotes, "sizeSum"));
+        }
+    }
+
+    @Test
+    void shouldOnlyGenerateGroupScansForVersionZeroFieldsAndNoSumForUint64() throws Exception
+    {
+        try (InputStream in = Tests.getLocalResource("group-scan-schema.xml"))
+        {
+            final ParserOptions options = ParserOptions.builder().stopOnError(true).build();
+            ir = new IrGenerator().generate(parse(in, options));
+
+            outputManager.clear();
+            outputManager.setPackageName(ir.applicableNamespace());
+            new JavaGenerator(ir, options().shouldGenerateGroupScans(true), outputManager).generate();
+
+            final Class<?> tradesClass = compile(ir.applicableNamespace() + ".BookDecoder$TradesDecoder");
+            assertEquals(long.class, tradesClass.getMethod("quantitySum").getReturnType());
+            assertEquals(long.class, tradesClass.getMethod("tradeIdMax").getReturnType());
+            assertThrows(NoSuchMethodException.class, () -> tradesClass.getMethod("tradeIdSum"));
+            assertThrows(NoSuchMethodException.class, () -> tradesClass.getMethod("venueMin"));
+            assertThrows(NoSuchMethodException.class, () -> tradesClass.getMethod("venueSum"));
+        }
+    }
+
+    @Test
+    void shouldBackPatchCountWhenOpenGroupIsClosed() throws Exception
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[4096]);
+        new JavaGenerator(ir, options().shouldGenerateOpenGroups(true), outputManager).generate();
+
+        final Object encoder = wrap(buffer, compileCarEncoder().getConstructor().newInstance());
+        final Object fuelFigures = get(encoder, "fuelFiguresOpen");
+        for (int i = 0; i < 3; i++)
+        {
+            get(fuelFigures, "next");
+            fuelFigures.getClass().getMethod("speed", int.class).invoke(fuelFigures, 30 + i);
+        }
+        assertEquals(3, get(fuelFigures, "close"));
+
+        final Object decoder = getCarDecoder(buffer, encoder);
+        final Object fuelFiguresDecoder = get(decoder, "fuelFigures");
+        assertEquals(3, get(fuelFiguresDecoder, "count"));
+        get(fuelFiguresDecoder, "next");
+        assertEquals(30, get(fuelFiguresDecoder, "speed"));
+    }
+
+    @Test
+    void shouldGenerateRandomAccessAndBinarySearchOnFixedBlockGroups() throws Exception
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[4096]);
+        final JavaGenerator.Options options = options()
+            .shouldGenerateGroupScans(true)
+            .shouldGenerateGroupRandomAccess(true);
+        new JavaGenerator(ir, options, outputManager).generate();
+
+        final Object encoder = wrap(buffer, compileCarEncoder().getConstructor().newInstance());
+        setEmptyFuelFiguresGroup(encoder);
+        final Object performanceFigures = encoder.getClass().getMethod("performanceFiguresCount", int.class)
+            .invoke(encoder, 1);
+        get(performanceFigures, "next");
+        final Object acceleration = performanceFigures.getClass().getMethod("accelerationCount", int.class)
+            .invoke(performanceFigures, 3);
+        final int[] mph = { 30, 60, 100 };
+        for (final int value : mph)
+        {
+            get(acceleration, "next");
+            acceleration.getClass().getMethod("mph", int.class).invoke(acceleration, value);
+        }
+
+        final Object decoder = getCarDecoder(buffer, encoder);
+        skipFuelFiguresGroup(decoder);
+        final Object performanceFiguresDecoder = get(decoder, "performanceFigures");
+        get(performanceFiguresDecoder, "next");
+        final Object accelerationDecoder = get(performanceFiguresDecoder, "acceleration");
+        final Method at = accelerationDecoder.getClass().getMethod("at", int.class);
+        final Method binarySearch = accelerationDecoder.getClass().getMethod("mphBinarySearch", int.class);
+
+        assertEquals(2, binarySearch.invoke(accelerationDecoder, 100));
+        assertEquals(-2, binarySearch.invoke(accelerationDecoder, 45));
+        assertEquals(-4, binarySearch.invoke(accelerationDecoder, 120));
+
+        assertEquals(100, get(at.invoke(accelerationDecoder, 2), "mph"));
+        assertEquals(60, get(get(accelerationDecoder, "previous"), "mph"));
+        assertEquals(true, get(accelerationDecoder, "hasPrevious"));
+        assertEquals(30, get(get(accelerationDecoder, "previous"), "mph"));
+        assertEquals(false, get(accelerationDecoder, "hasPrevious"));
+        assertEquals(60, get(get(accelerationDecoder, "next"), "mph"));
+        assertEquals(1, binarySearch.invoke(accelerationDecoder, 60));
+
+        final InvocationTargetException exception =
+            assertThrows(InvocationTargetException.class, () -> at.invoke(accelerationDecoder, 3));
+        assertInstanceOf(IndexOutOfBoundsException.class, exception.getCause());
+    }
+
+    @Test
+    void shouldDecodeWhatFollowsGroupAfterRandomAccessToEarlierEntry() throws Exception
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[4096]);
+        new JavaGenerator(ir, options().shouldGenerateGroupRandomAccess(true), outputManager).generate();
+
+        final Object encoder = wrap(buffer, compileCarEncoder().getConstructor().newInstance());
+        setEmptyFuelFiguresGroup(encoder);
+        final Object performanceFigures = encoder.getClass().getMethod("performanceFiguresCount", int.class)
+            .invoke(encoder, 2);
+        for (final short octaneRating : new short[]{ 95, 99 })
+        {
+            get(performanceFigures, "next");
+            performanceFigures.getClass().getMethod("octaneRating", short.class)
+                .invoke(performanceFigures, octaneRating);
+            final Object acceleration = performanceFigures.getClass().getMethod("accelerationCount", int.class)
+                .invoke(performanceFigures, 3);
+            for (final int value : new int[]{ 30, 60, 100 })
+            {
+                get(acceleration, "next");
+                acceleration.getClass().getMethod("mph", int.class).invoke(acceleration, value + octaneRating);
+            }
+        }
+        setManufacturer(encoder, "Ford");
+
+        final Object decoder = getCarDecoder(buffer, encoder);
+        skipFuelFiguresGroup(decoder);
+        final Object performanceFiguresDecoder = get(decoder, "performanceFigures");
+        get(performanceFiguresDecoder, "next");
+        final Object accelerationDecoder = get(performanceFiguresDecoder, "acceleration");
+        final Method at = accelerationDecoder.getClass().getMethod("at", int.class);
+
+        assertEquals(155, get(at.invoke(accelerationDecoder, 1), "mph"));
+        assertEquals(125, get(at.invoke(accelerationDecoder, 0), "mph"));
+
+        get(performanceFiguresDecoder, "next");
+        assertEquals((short)99, get(performanceFiguresDecoder, "octaneRating"));
+        final Object nextAccelerationDecoder = get(performanceFiguresDecoder, "acceleration");
+        assertEquals(159, get(at.invoke(nextAccelerationDecoder, 1), "mph"));
+        assertEquals("Ford", getManufacturer(decoder));
+
+        assertEquals(129, get(at.invoke(nextAccelerationDecoder, 0), "mph"));
+        assertEquals(159, get(get(nextAccelerationDecoder, "next"), "mph"));
+        assertEquals(199, get(get(nextAccelerationDecoder, "next"), "mph"));
+        assertEquals(false, get(nextAccelerationDecoder, "hasNext"));
+    }
+
+    @Test
+    void shouldNotGenerateGroupRandomAccessByDefault() throws Exception
+    {
+        generator().generate();
+
+        final String source = outputManager.getSources().get(ir.applicableNamespace() + ".CarDecoder").toString();
+        assertFalse(source.contains(" at(final int index)"));
+        assertFalse(source.contains("hasPrevious()"));
+        assertFalse(source.contains("entriesOffset"));
+    }
+
+    @Test
+    void shouldRejectGroupFieldNamesWhichClashWithRandomAccessMethods() throws Exception
+    {
+        try (InputStream in = Tests.getLocalResource("group-random-access-clash-schema.xml"))
+        {
+            final ParserOptions options = ParserOptions.builder().stopOnError(true).build();
+            ir = new IrGenerator().generate(parse(in, options));
+
+            outputManager.clear();
+            outputManager.setPackageName(ir.applicableNamespace());
+            new JavaGenerator(ir, options(), outputManager).generate();
+
+            final JavaGenerator generator = new JavaGenerator(
+                ir, options().shouldGenerateGroupRandomAccess(true), outputManager);
+            final IllegalStateException ex = assertThrows(IllegalStateException.class, generator::generate);
+            assertEquals("group field name clashes with generated random access method: stops.at", ex.getMessage());
+        }
+    }
+
+    @Test
+    void shouldGenerateMessageDispatcher() throws Exception
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[4096]);
+        new JavaGenerator(ir, options().shouldGenerateMessageDispatcher(true), outputManager).generate();
+
+        final String dispatcherName = ir.applicableNamespace() + ".TestMessageDispatcher";
+        final Class<?> dispatcherClass = compile(dispatcherName);
+        final ClassLoader classLoader = dispatcherClass.getClassLoader();
+        final Class<?> handlerClass = classLoader.loadClass(dispatcherName + "$Handler");
+        final Class<?> headerEncoderClass = classLoader.loadClass(ir.applicableNamespace() + ".MessageHeaderEncoder");
+        final Object encoder = classLoader.loadClass(ir.applicableNamespace() + ".CarEncoder")
+            .getConstructor().newInstance();
+
+        encoder.getClass().getMethod("wrapAndApplyHeader", BUFFER_CLASS, int.class, headerEncoderClass)
+            .invoke(encoder, buffer, 0, headerEncoderClass.getConstructor().newInstance());
+        putSerialNumber(encoder, 42);
+
+        final Map<String, Object> calls = new java.util.HashMap<>();
+        final Object handler = java.lang.reflect.Proxy.newProxyInstance(
+            classLoader,
+            new Class<?>[]{ handlerClass },
+            (proxy, method, args) -> calls.put(method.getName(), args[0]));
+        final Object dispatcher = dispatcherClass.getConstructor(handlerClass).newInstance(handler);
+        final Method dispatch = dispatcherClass.getMethod("dispatch", READ_ONLY_BUFFER_CLASS, int.class, int.class);
+
+        assertEquals(true, dispatch.invoke(dispatcher, buffer, 0, 4096));
+        assertEquals(42L, getSerialNumber(calls.get("onCar")));
+        assertFalse(calls.containsKey("onUnknownMessage"));
+
+        buffer.putShort(2, (short)99, ByteOrder.LITTLE_ENDIAN);
+        calls.clear();
+        assertEquals(false, dispatch.invoke(dispatcher, buffer, 0, 4096));
+        assertFalse(calls.containsKey("onCar"));
+        assertTrue(calls.containsKey("onUnknownMessage"));
+    }
+
+    @Test
+    void shouldDispatchMessagesNamedAfterDispatcherMembers() throws Exception
+    {
+        try (InputStream in = Tests.getLocalResource("message-dispatcher-schema.xml"))
+        {
+            final ParserOptions options = ParserOptions.builder().stopOnError(true).build();
+            ir = new IrGenerator().generate(parse(in, options));
+
+            outputManager.clear();
+            outputManager.setPackageName(ir.applicableNamespace());
+            new JavaGenerator(ir, options().shouldGenerateMessageDispatcher(true), outputManager).generate();
+
+            final String dispatcherName = ir.applicableNamespace() + ".DispatchMessageDispatcher";
+            final Class<?> dispatcherClass = compile(dispatcherName);
+            final ClassLoader classLoader = dispatcherClass.getClassLoader();
+            final Class<?> handlerClass = classLoader.loadClass(dispatcherName + "$Handler");
+            final Class<?> headerEncoderClass = classLoader.loadClass(
+                ir.applicableNamespace() + ".MessageHeaderEncoder");
+            final Object encoder = classLoader.loadClass(ir.applicableNamespace() + ".HeaderEncoder")
+                .getConstructor().newInstance();
+
+            final UnsafeBuffer buffer = new UnsafeBuffer(new byte[64]);
+            encoder.getClass().getMethod("wrapAndApplyHeader", BUFFER_CLASS, int.class, headerEncoderClass)
+                .invoke(encoder, buffer, 0, headerEncoderClass.getConstructor().newInstance());
+            encoder.getClass().getMethod("value", int.class).invoke(encoder, 42);
+
+            final Map<String, Object> calls = new java.util.HashMap<>();
+            final Object handler = java.lang.reflect.Proxy.newProxyInstance(
+                classLoader,
+                new Class<?>[]{ handlerClass },
+                (proxy, method, args) -> calls.put(method.getName(), args[0]));
+            final Object dispatcher = dispatcherClass.getConstructor(handlerClass).newInstance(handler);
+            final Method dispatch = dispatcherClass.getMethod("dispatch", READ_ONLY_BUFFER_CLASS, int.class, int.class);
+
+            assertEquals(true, dispatch.invoke(dispatcher, buffer, 0, buffer.capacity()));
+            assertEquals(42, get(calls.get("onHeader"), "value"));
+            assertFalse(calls.containsKey("onMessageDispatcher"));
+        }
+    }
+
+    @Test
+    void shouldNotGenerateMessageDispatcherByDefault() throws Exception
+    {
+        generator().generate();
+
+        assertFalse(outputManager.getSources().containsKey(ir.applicableNamespace() + ".TestMessageDispatcher"));
+    }
+
     @Test
     void shouldGenerateRepeatingGroupCountLimits() throws Exception
     {
@@ -672,6 +1314,162 @@ class JavaGeneratorTest
         }
     }
 
+    @Test
+    void shouldComputeEncodedLengthOfMessage() throws Exception
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[4096]);
+        new JavaGenerator(ir, options().shouldGenerateComputeLength(true), outputManager).generate();
+
+        final Object encoder = wrap(buffer, compileCarEncoder().getConstructor().newInstance());
+        setEmptyFuelFiguresGroup(encoder);
+        setEmptyPerformanceFiguresGroup(encoder);
+        set(encoder, "manufacturer", String.class, "Bristol");
+        set(encoder, "model", String.class, "Britannia");
+        set(encoder, "activationCode", String.class, "12345");
+        set(encoder, "color", String.class, "Red");
+
+        final Method computeLength = encoder.getClass().getMethod(
+            "computeLength", int.class, int.class, int.class, int.class, int.class, int.class, int.class, int.class);
+        assertEquals(getLimit(encoder), computeLength.invoke(null, 0, 0, 0, 0, 7, 9, 5, 3));
+
+        final Exception ex = assertThrows(
+            InvocationTargetException.class, () -> computeLength.invoke(null, -1, 0, 0, 0, 7, 9, 5, 3));
+        assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "0, -5", "0, 1073741825", "-8, 0" })
+    void shouldRejectVarDataOrEntriesLengthOutOfRangeWhenComputingLength(
+        final int entriesLength, final int manufacturerLength) throws Exception
+    {
+        new JavaGenerator(ir, options().shouldGenerateComputeLength(true), outputManager).generate();
+
+        final Method computeLength = compileCarEncoder().getMethod(
+            "computeLength", int.class, int.class, int.class, int.class, int.class, int.class, int.class, int.class);
+        final Exception ex = assertThrows(
+            InvocationTargetException.class,
+            () -> computeLength.invoke(null, 0, 0, 0, entriesLength, manufacturerLength, 9, 5, 3));
+        assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+    }
+
+    @Test
+    void shouldNotGenerateComputeLengthByDefault() throws Exception
+    {
+        generator().generate();
+
+        final String source = outputManager.getSources().get(ir.applicableNamespace() + ".CarEncoder").toString();
+        assertFalse(source.contains("computeLength("));
+        assertFalse(source.contains("sbeMaxEncodedLength()"));
+    }
+
+    @Test
+    void shouldGenerateMaxEncodedLengthWhenMaximaAreDeclared() throws Exception
+    {
+        try (InputStream in = Tests.getLocalResource("max-encoded-length-schema.xml"))
+        {
+            final ParserOptions options = ParserOptions.builder().stopOnError(true).build();
+            ir = new IrGenerator().generate(parse(in, options));
+
+            outputManager.clear();
+            outputManager.setPackageName(ir.applicableNamespace());
+            new JavaGenerator(ir, options().shouldGenerateComputeLength(true), outputManager).generate();
+
+            final Class<?> boundedEncoder = compile(ir.applicableNamespace() + ".BoundedEncoder");
+            final int entryLength = 8 + 1 + 20;
+            assertEquals(8 + 4 + (10 * entryLength) + 1 + 20, boundedEncoder.getMethod("sbeMaxEncodedLength")
+                .invoke(null));
+            assertEquals(8 + 4 + (2 * 9) + 1, boundedEncoder.getMethod(
+                "computeLength", int.class, int.class, int.class).invoke(null, 2, 2 * 9, 0));
+
+            final Class<?> unboundedEncoder = compile(ir.applicableNamespace() + ".UnboundedEncoder");
+            assertThrows(NoSuchMethodException.class, () -> unboundedEncoder.getMethod("sbeMaxEncodedLength"));
+            assertEquals(8 + 4 + (3 * 8), unboundedEncoder.getMethod("computeLength", int.class).invoke(null, 3));
+        }
+    }
+
+    @Test
+    void shouldGenerateDecimalMethodsOnDecimalComposites() throws Exception
+    {
+        try (InputStream in = Tests.getLocalResource("new-order-single-schema.xml"))
+        {
+            final ParserOptions options = ParserOptions.builder().stopOnError(true).build();
+            ir = new IrGenerator().generate(parse(in, options));
+
+            outputManager.clear();
+            outputManager.setPackageName(ir.applicableNamespace());
+            generator().generate();
+
+            final UnsafeBuffer buffer = new UnsafeBuffer(new byte[64]);
+            final Class<?> decoderClass = compile(ir.applicableNamespace() + ".OptionalDecimalEncodingDecoder");
+            final Object decoder = decoderClass.getConstructor().newInstance();
+            decoderClass.getMethod("wrap", READ_ONLY_BUFFER_CLASS, int.class).invoke(decoder, buffer, 0);
+            final Method toScaledLong = decoderClass.getMethod("toScaledLong", int.class);
+            final Method appendToBuffer = decoderClass.getMethod("appendDecimal", BUFFER_CLASS, int.class);
+
+            buffer.putLong(0, -1234567L, ir.byteOrder());
+            assertEquals(-1234.567, (double)get(decoder, "toDouble"));
+            assertEquals(-123456700L, toScaledLong.invoke(decoder, -5));
+            assertEquals(-123456L, toScaledLong.invoke(decoder, -2));
+            assertEquals("-1234.567", decoderClass.getMethod("appendDecimal", StringBuilder.class)
+                .invoke(decoder, new StringBuilder()).toString());
+            final int length = (int)appendToBuffer.invoke(decoder, buffer, 16);
+            assertEquals("-1234.567", buffer.getStringWithoutLengthAscii(16, length));
+
+            buffer.putLong(0, 5L, ir.byteOrder());
+            assertEquals(0.005, (double)get(decoder, "toDouble"));
+            assertEquals("0.005", buffer.getStringWithoutLengthAscii(
+                16, (int)appendToBuffer.invoke(decoder, buffer, 16)));
+
+            buffer.putLong(0, Long.MIN_VALUE, ir.byteOrder());
+            assertTrue(Double.isNaN((double)get(decoder, "toDouble")));
+            assertEquals(Long.MIN_VALUE, toScaledLong.invoke(decoder, -5));
+            assertEquals(Long.MIN_VALUE, toScaledLong.invoke(decoder, -2));
+            assertEquals("null", decoderClass.getMethod("appendDecimal", StringBuilder.class)
+                .invoke(decoder, new StringBuilder()).toString());
+
+            final Class<?> headerClass = compile(ir.applicableNamespace() + ".MessageHeaderDecoder");
+            assertThrows(NoSuchMethodException.class, () -> headerClass.getMethod("toDouble"));
+        }
+    }
+
+    @Test
+    void shouldGenerateAppendJsonWhichMatchesJsonPrinter() throws Exception
+    {
+        try (InputStream in = Tests.getLocalResource("new-order-single-schema.xml"))
+        {
+            final ParserOptions options = ParserOptions.builder().stopOnError(true).build();
+            ir = new IrGenerator().generate(parse(in, options));
+
+            outputManager.clear();
+            outputManager.setPackageName(ir.applicableNamespace());
+            new JavaGenerator(ir, options().shouldGenerateAppendJson(true), outputManager).generate();
+
+            final UnsafeBuffer buffer = new UnsafeBuffer(new byte[64]);
+            buffer.putStringWithoutLengthAscii(0, "ORDER-01ACC\"\\T1 EURUSD");
+            buffer.putByte(24, (byte)'2');
+            buffer.putLong(25, 1234567890L, ir.byteOrder());
+            buffer.putInt(33, 100, ir.byteOrder());
+            buffer.putByte(37, (byte)'9');
+            buffer.putLong(38, -5L, ir.byteOrder());
+            buffer.putLong(46, Long.MIN_VALUE, ir.byteOrder());
+
+            final Class<?> decoderClass = compile(ir.applicableNamespace() + ".NewOrderSingleDecoder");
+            final Object decoder = decoderClass.getConstructor().newInstance();
+            decoderClass.getMethod("wrap", READ_ONLY_BUFFER_CLASS, int.class, int.class, int.class)
+                .invoke(decoder, buffer, 0, 54, 0);
+
+            final ExpandableArrayBuffer output = new ExpandableArrayBuffer(16);
+            final int length = (int)decoderClass.getMethod("appendJsonTo", BUFFER_CLASS, int.class)
+                .invoke(decoder, output, 2);
+
+            final StringBuilder expected = new StringBuilder();
+            OtfMessageDecoder.decode(buffer, 0, 0, 54, ir.getMessage(99), new JsonTokenListener(expected));
+            assertEquals(expected.toString(), output.getStringWithoutLengthUtf8(2, length));
+            assertThat(expected.toString(), containsString("\"Price\": -0.005,\n"));
+            assertThat(expected.toString(), containsString("\"OrdType\": \"null\""));
+        }
+    }
+
     private Class<?> getModelClass(final Object encoder) throws ClassNotFoundException
     {
         final String className = "Model";
@@ -778,12 +1576,22 @@ class JavaGeneratorTest
         return new JavaGenerator(ir, BUFFER_NAME, READ_ONLY_BUFFER_NAME, false, false, false, outputManager);
     }
 
+    private JavaGenerator generator(final int stringCacheCapacity)
+    {
+        return new JavaGenerator(ir, options().stringCacheCapacity(stringCacheCapacity), outputManager);
+    }
+
     private JavaGenerator generator(final PrecedenceChecks precedenceChecks)
     {
         return new JavaGenerator(ir, BUFFER_NAME, READ_ONLY_BUFFER_NAME, false, false, false, false,
             precedenceChecks, outputManager);
     }
 
+    private static JavaGenerator.Options options()
+    {
+        return new JavaGenerator.Options().mutableBuffer(BUFFER_NAME).readOnlyBuffer(READ_ONLY_BUFFER_NAME);
+    }
+
     private void generateTypeStubs() throws IOException
     {
         final JavaGenerator javaGenerator = generator();
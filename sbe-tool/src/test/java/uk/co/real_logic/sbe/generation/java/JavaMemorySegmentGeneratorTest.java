@@ -0,0 +1,275 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.generation.java;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.generation.CompilerUtil;
+import org.agrona.generation.StringWriterOutputManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import uk.co.real_logic.sbe.Tests;
+import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.json.JsonTokenListener;
+import uk.co.real_logic.sbe.otf.OtfHeaderDecoder;
+import uk.co.real_logic.sbe.otf.OtfMessageDecoder;
+import uk.co.real_logic.sbe.xml.IrGenerator;
+import uk.co.real_logic.sbe.xml.MessageSchema;
+import uk.co.real_logic.sbe.xml.ParserOptions;
+
+import java.io.InputStream;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static uk.co.real_logic.sbe.xml.XmlSchemaParser.parse;
+
+class JavaMemorySegmentGeneratorTest
+{
+    private final StringWriterOutputManager outputManager = new StringWriterOutputManager();
+    private final byte[] bytes = new byte[1024];
+
+    private Ir ir;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        try (InputStream in = Tests.getLocalResource("code-generation-schema.xml"))
+        {
+            final ParserOptions options = ParserOptions.builder().stopOnError(true).build();
+            final MessageSchema schema = parse(in, options);
+            ir = new IrGenerator().generate(schema);
+
+            outputManager.clear();
+            outputManager.setPackageName(ir.applicableNamespace());
+        }
+
+        new JavaMemorySegmentGenerator(ir, false, outputManager).generate();
+    }
+
+    @Test
+    void shouldGenerateMemorySegmentAccessWithLongOffsetsAndExplicitByteOrder()
+    {
+        final String source = outputManager.getSources().get(ir.applicableNamespace() + ".CarEncoder").toString();
+
+        assertThat(source, containsString("import java.lang.foreign.MemorySegment;"));
+        assertThat(source, containsString("public CarEncoder wrap(final MemorySegment segment, final long offset)"));
+        assertThat(source, containsString("public long limit()"));
+        assertThat(source, containsString(
+            "ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);"));
+        assertThat(source, containsString("segment.set(LONG_LE, offset + 0, value);"));
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_22)
+    void shouldEncodeCarWhichDecodesWithOtfDecoder() throws Exception
+    {
+        final ClassLoader classLoader = compile();
+        final int length = encodeCar(classLoader, segment(bytes));
+
+        assertEquals(1234L, ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).getLong(8));
+
+        final StringBuilder json = new StringBuilder();
+        final UnsafeBuffer decodeBuffer = new UnsafeBuffer(bytes, 0, length);
+        final OtfHeaderDecoder headerDecoder = new OtfHeaderDecoder(ir.headerStructure());
+        final int limit = OtfMessageDecoder.decode(
+            decodeBuffer,
+            headerDecoder.encodedLength(),
+            headerDecoder.getSchemaVersion(decodeBuffer, 0),
+            headerDecoder.getBlockLength(decodeBuffer, 0),
+            ir.getMessage(headerDecoder.getTemplateId(decodeBuffer, 0)),
+            new JsonTokenListener(json));
+
+        assertEquals(length, limit);
+        assertThat(json.toString(), containsString("\"serialNumber\": 1234"));
+        assertThat(json.toString(), containsString("\"modelYear\": 2013"));
+        assertThat(json.toString(), containsString("\"someNumbers\": [0, -1, -2, -3, -4]"));
+        assertThat(json.toString(), containsString("\"vehicleCode\": \"abcdef\""));
+        assertThat(json.toString(), containsString("\"cruiseControl\": true"));
+        assertThat(json.toString(), containsString("\"capacity\": 2000"));
+        assertThat(json.toString(), containsString("\"mph\": 30"));
+        assertThat(json.toString(), containsString("\"usageDescription\": \"Urban Cycle\""));
+        assertThat(json.toString(), containsString("\"color\": \"red\""));
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_22)
+    void shouldDecodeCarFromReadOnlySegment() throws Exception
+    {
+        final ClassLoader classLoader = compile();
+        final Object segment = segment(bytes);
+        final int length = encodeCar(classLoader, segment);
+        final Object readOnlySegment = memorySegmentClass().getMethod("asReadOnly").invoke(segment);
+
+        final Object headerDecoder = newInstance(classLoader, "MessageHeaderDecoder");
+        final Object decoder = newInstance(classLoader, "CarDecoder");
+        invoke(decoder, "wrapAndApplyHeader", readOnlySegment, 0L, headerDecoder);
+
+        assertEquals(1234L, invoke(decoder, "serialNumber"));
+        assertEquals(2013, invoke(decoder, "modelYear"));
+        assertEquals("T", invoke(decoder, "available").toString());
+        assertEquals("B", invoke(decoder, "code").toString());
+        assertEquals("C", invoke(decoder, "discountedModel").toString());
+        assertEquals(-4, invoke(decoder, "someNumbers", 4));
+        assertEquals("abcdef", invoke(decoder, "vehicleCode"));
+        assertEquals(true, invoke(invoke(decoder, "extras"), "cruiseControl"));
+        assertEquals(false, invoke(invoke(decoder, "extras"), "sunRoof"));
+
+        final Object engine = invoke(decoder, "engine");
+        assertEquals(2000, invoke(engine, "capacity"));
+        assertEquals((short)4, invoke(engine, "numCylinders"));
+        assertEquals(9000, invoke(engine, "maxRpm"));
+        assertEquals("Petrol", invoke(engine, "fuel"));
+        assertEquals("abc", invoke(engine, "manufacturerCode"));
+        assertEquals((short)200, invoke(invoke(engine, "booster"), "horsePower"));
+
+        final Iterator<?> fuelFigures = (Iterator<?>)invoke(decoder, "fuelFigures");
+        final Object fuelFigure = fuelFigures.next();
+        assertEquals(30, invoke(fuelFigure, "speed"));
+        assertEquals(35.9f, invoke(fuelFigure, "mpg"));
+        assertEquals("Urban Cycle", invoke(fuelFigure, "usageDescription"));
+        assertFalse(fuelFigures.hasNext());
+
+        final Iterator<?> performanceFigures = (Iterator<?>)invoke(decoder, "performanceFigures");
+        final Object performanceFigure = performanceFigures.next();
+        assertEquals((short)95, invoke(performanceFigure, "octaneRating"));
+        final Iterator<?> acceleration = (Iterator<?>)invoke(performanceFigure, "acceleration");
+        assertEquals(30, invoke(acceleration.next(), "mph"));
+        assertEquals(60.0f, invoke(acceleration.next(), "seconds"));
+        assertFalse(acceleration.hasNext());
+        assertFalse(performanceFigures.hasNext());
+
+        assertEquals("Honda", invoke(decoder, "manufacturer"));
+        assertEquals("Civic VTi", invoke(decoder, "model"));
+        assertEquals(0, invoke(decoder, "skipActivationCode"));
+        assertEquals("red", invoke(decoder, "color"));
+        assertEquals(length - 8, invoke(decoder, "encodedLength"));
+
+        final Object encoder = newInstance(classLoader, "CarEncoder");
+        invoke(encoder, "wrap", readOnlySegment, 8L);
+        final InvocationTargetException ex = assertThrows(
+            InvocationTargetException.class, () -> invoke(encoder, "serialNumber", 1L));
+        assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+    }
+
+    private ClassLoader compile() throws Exception
+    {
+        return CompilerUtil.compileInMemory(
+            ir.applicableNamespace() + ".CarDecoder", outputManager.getSources()).getClassLoader();
+    }
+
+    private static Class<?> memorySegmentClass() throws ClassNotFoundException
+    {
+        return Class.forName("java.lang.foreign.MemorySegment");
+    }
+
+    private static Object segment(final byte[] bytes) throws Exception
+    {
+        return memorySegmentClass().getMethod("ofArray", byte[].class).invoke(null, bytes);
+    }
+
+    private int encodeCar(final ClassLoader classLoader, final Object segment) throws Exception
+    {
+        final Object headerEncoder = newInstance(classLoader, "MessageHeaderEncoder");
+        final Object encoder = newInstance(classLoader, "CarEncoder");
+        invoke(encoder, "wrapAndApplyHeader", segment, 0L, headerEncoder);
+
+        invoke(encoder, "serialNumber", 1234L);
+        invoke(encoder, "modelYear", 2013);
+        invoke(encoder, "available", enumValue(classLoader, "BooleanType", "T"));
+        invoke(encoder, "code", enumValue(classLoader, "Model", "B"));
+        for (int i = 0; i < 5; i++)
+        {
+            invoke(encoder, "someNumbers", i, -i);
+        }
+        invoke(encoder, "vehicleCode", "abcdef");
+        invoke(invoke(invoke(encoder, "extras"), "clear"), "cruiseControl", true);
+
+        final Object engine = invoke(encoder, "engine");
+        invoke(engine, "capacity", 2000);
+        invoke(engine, "numCylinders", (short)4);
+        invoke(engine, "manufacturerCode", "abc");
+        invoke(invoke(engine, "booster"), "horsePower", (short)200);
+
+        final Object fuelFigures = invoke(encoder, "fuelFiguresCount", 1);
+        invoke(invoke(invoke(fuelFigures, "next"), "speed", 30), "mpg", 35.9f);
+        invoke(fuelFigures, "usageDescription", "Urban Cycle");
+
+        final Object performanceFigures = invoke(encoder, "performanceFiguresCount", 1);
+        invoke(invoke(performanceFigures, "next"), "octaneRating", (short)95);
+        final Object acceleration = invoke(performanceFigures, "accelerationCount", 2);
+        invoke(invoke(invoke(acceleration, "next"), "mph", 30), "seconds", 4.0f);
+        invoke(invoke(invoke(acceleration, "next"), "mph", 60), "seconds", 60.0f);
+
+        invoke(encoder, "manufacturer", "Honda");
+        invoke(encoder, "model", "Civic VTi");
+        invoke(encoder, "activationCode", "");
+        invoke(encoder, "color", "red");
+
+        return 8 + (int)invoke(encoder, "encodedLength");
+    }
+
+    private Object newInstance(final ClassLoader classLoader, final String className) throws Exception
+    {
+        return classLoader.loadClass(ir.applicableNamespace() + "." + className).getConstructor().newInstance();
+    }
+
+    private Object enumValue(final ClassLoader classLoader, final String className, final String name)
+        throws Exception
+    {
+        return classLoader.loadClass(ir.applicableNamespace() + "." + className).getField(name).get(null);
+    }
+
+    private static Object invoke(final Object target, final String methodName, final Object... args) throws Exception
+    {
+        for (final Method method : target.getClass().getMethods())
+        {
+            if (method.getName().equals(methodName) &&
+                method.getParameterCount() == args.length &&
+                isApplicable(method.getParameterTypes(), args))
+            {
+                return method.invoke(target, args);
+            }
+        }
+
+        throw new NoSuchMethodException(target.getClass().getName() + "." + methodName);
+    }
+
+    private static boolean isApplicable(final Class<?>[] parameterTypes, final Object[] args)
+    {
+        for (int i = 0; i < args.length; i++)
+        {
+            final Class<?> type = parameterTypes[i];
+            final Object arg = args[i];
+            final boolean applicable = type.isPrimitive() ?
+                MethodType.methodType(type).wrap().returnType().isInstance(arg) : type.isInstance(arg);
+
+            if (!applicable)
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
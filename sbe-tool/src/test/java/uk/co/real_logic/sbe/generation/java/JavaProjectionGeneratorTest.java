@@ -0,0 +1,214 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.generation.java;
+
+import extension.BooleanType;
+import extension.BoostType;
+import extension.CarDecoder;
+import extension.CarEncoder;
+import extension.Model;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.generation.CompilerUtil;
+import org.agrona.generation.StringWriterOutputManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.co.real_logic.sbe.Tests;
+import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.xml.IrGenerator;
+import uk.co.real_logic.sbe.xml.MessageSchema;
+import uk.co.real_logic.sbe.xml.ParserOptions;
+
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static uk.co.real_logic.sbe.xml.XmlSchemaParser.parse;
+
+class JavaProjectionGeneratorTest
+{
+    private static final String NAMESPACE = "projection.extension";
+    private static final List<String> PROJECTION = Arrays.asList(
+        "# fields read by the consumer",
+        "Car.serialNumber",
+        "Car.performanceFigures.acceleration.mph",
+        "",
+        "Car.model");
+
+    private final StringWriterOutputManager outputManager = new StringWriterOutputManager();
+    private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    private Ir ir;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        try (InputStream in = Tests.getLocalResource("example-extension-schema.xml"))
+        {
+            final MessageSchema schema = parse(in, ParserOptions.builder().stopOnError(true).build());
+            ir = new IrGenerator().generate(schema, NAMESPACE);
+
+            outputManager.clear();
+            outputManager.setPackageName(ir.applicableNamespace());
+        }
+    }
+
+    @Test
+    void shouldDecodeProjectedFieldsAndSkipTheRest() throws Exception
+    {
+        final int length = encodeCar(buffer);
+        final Object decoder = newProjectionDecoder(PROJECTION);
+
+        assertThrows(NoSuchMethodException.class, () -> decoder.getClass().getMethod("modelYear"));
+        assertThrows(NoSuchMethodException.class, () -> decoder.getClass().getMethod("fuelFigures"));
+        assertThrows(NoSuchMethodException.class, () -> decoder.getClass().getMethod("manufacturer"));
+
+        wrap(decoder);
+        assertEquals(1234L, invoke(decoder, "serialNumber"));
+
+        final Object performanceFigures = invoke(decoder, "performanceFigures");
+        assertEquals(2, invoke(performanceFigures, "count"));
+        int mphTotal = 0;
+        while ((boolean)invoke(performanceFigures, "hasNext"))
+        {
+            final Object acceleration = invoke(invoke(performanceFigures, "next"), "acceleration");
+            while ((boolean)invoke(acceleration, "hasNext"))
+            {
+                mphTotal += (int)invoke(invoke(acceleration, "next"), "mph");
+            }
+        }
+        assertEquals(2 * (30 + 60 + 100), mphTotal);
+
+        assertEquals("Fiesta", invoke(decoder, "model"));
+        invoke(decoder, "sbeSkip");
+        assertEquals(length, invoke(decoder, "encodedLength"));
+    }
+
+    @Test
+    void shouldSkipGroupsWhichAreNotAccessedOrPartiallyIterated() throws Exception
+    {
+        final int length = encodeCar(buffer);
+        final Object decoder = newProjectionDecoder(PROJECTION);
+
+        wrap(decoder);
+        assertEquals("Fiesta", invoke(decoder, "model"));
+        invoke(decoder, "sbeSkip");
+        assertEquals(length, invoke(decoder, "encodedLength"));
+
+        wrap(decoder);
+        final Object performanceFigures = invoke(decoder, "performanceFigures");
+        final Object acceleration = invoke(invoke(performanceFigures, "next"), "acceleration");
+        assertEquals(30, invoke(invoke(acceleration, "next"), "mph"));
+        assertEquals("Fiesta", invoke(decoder, "model"));
+        invoke(decoder, "sbeSkip");
+        assertEquals(length, invoke(decoder, "encodedLength"));
+
+        wrap(decoder);
+        invoke(decoder, "sbeSkip");
+        assertEquals(length, invoke(decoder, "encodedLength"));
+    }
+
+    @Test
+    void shouldThrowWhenGroupsAndVarDataAreAccessedOutOfSchemaOrder() throws Exception
+    {
+        encodeCar(buffer);
+        final Object decoder = newProjectionDecoder(PROJECTION);
+
+        wrap(decoder);
+        assertEquals("Fiesta", invoke(decoder, "model"));
+
+        final InvocationTargetException ex = assertThrows(
+            InvocationTargetException.class, () -> invoke(decoder, "performanceFigures"));
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+    }
+
+    @Test
+    void shouldRejectProjectionOfUnknownMessageOrPath()
+    {
+        final JavaProjectionGenerator unknownPath = new JavaProjectionGenerator(
+            ir, "org.agrona.DirectBuffer", false, List.of("Car.fuelFigures.colour"), outputManager);
+        assertThrows(IllegalArgumentException.class, unknownPath::generate);
+
+        final JavaProjectionGenerator unknownMessage = new JavaProjectionGenerator(
+            ir, "org.agrona.DirectBuffer", false, List.of("Truck.serialNumber"), outputManager);
+        assertThrows(IllegalArgumentException.class, unknownMessage::generate);
+    }
+
+    private Object newProjectionDecoder(final List<String> projection) throws Exception
+    {
+        new JavaGenerator(ir, "org.agrona.MutableDirectBuffer", "org.agrona.DirectBuffer", false, false, false,
+            false, outputManager).generate();
+        new JavaProjectionGenerator(ir, "org.agrona.DirectBuffer", false, projection, outputManager).generate();
+
+        return CompilerUtil.compileInMemory(NAMESPACE + ".CarProjectionDecoder", outputManager.getSources())
+            .getConstructor().newInstance();
+    }
+
+    private void wrap(final Object decoder) throws Exception
+    {
+        invoke(decoder, "wrap", buffer, 0, CarDecoder.BLOCK_LENGTH, CarDecoder.SCHEMA_VERSION);
+    }
+
+    private static Object invoke(final Object target, final String methodName, final Object... args) throws Exception
+    {
+        for (final Method method : target.getClass().getMethods())
+        {
+            if (method.getName().equals(methodName) && method.getParameterCount() == args.length)
+            {
+                return method.invoke(target, args);
+            }
+        }
+
+        throw new NoSuchMethodException(target.getClass().getName() + "." + methodName);
+    }
+
+    private static int encodeCar(final MutableDirectBuffer buffer)
+    {
+        final CarEncoder car = new CarEncoder();
+        car.wrap(buffer, 0);
+        car.serialNumber(1234);
+        car.modelYear(2013);
+        car.available(BooleanType.T);
+        car.code(Model.A);
+        car.vehicleCode("ABCDEF");
+        car.extras().cruiseControl(true);
+        car.engine().capacity(2000).numCylinders((short)4).manufacturerCode("ABC").booster()
+            .boostType(BoostType.NITROUS).horsePower((short)200);
+
+        final CarEncoder.FuelFiguresEncoder fuelFigures = car.fuelFiguresCount(3);
+        fuelFigures.next().speed(30).mpg(35.9f).usageDescription("Urban Cycle");
+        fuelFigures.next().speed(55).mpg(49.0f).usageDescription("Combined Cycle");
+        fuelFigures.next().speed(75).mpg(40.0f).usageDescription("Highway Cycle");
+
+        final CarEncoder.PerformanceFiguresEncoder performanceFigures = car.performanceFiguresCount(2);
+        for (final short octaneRating : new short[]{ 95, 99 })
+        {
+            final CarEncoder.PerformanceFiguresEncoder.AccelerationEncoder acceleration =
+                performanceFigures.next().octaneRating(octaneRating).accelerationCount(3);
+            acceleration.next().mph(30).seconds(4.0f);
+            acceleration.next().mph(60).seconds(7.5f);
+            acceleration.next().mph(100).seconds(12.2f);
+        }
+
+        car.manufacturer("Ford");
+        car.model("Fiesta");
+        car.activationCode("1234");
+
+        return car.encodedLength();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.generation.java;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.sbe.MessageDecoderFlyweight;
+import org.agrona.sbe.MessageEncoderFlyweight;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.co.real_logic.sbe.Tests;
+import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.xml.IrGenerator;
+import uk.co.real_logic.sbe.xml.ParserOptions;
+
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static uk.co.real_logic.sbe.generation.java.ReflectionUtil.*;
+import static uk.co.real_logic.sbe.xml.XmlSchemaParser.parse;
+
+class JavaRuntimeCodecsTest
+{
+    private static final int CAR_TEMPLATE_ID = 1;
+
+    private Ir ir;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        try (InputStream in = Tests.getLocalResource("code-generation-schema.xml"))
+        {
+            final ParserOptions options = ParserOptions.builder().stopOnError(true).build();
+            ir = new IrGenerator().generate(parse(in, options));
+        }
+    }
+
+    @Test
+    void shouldEncodeAndDecodeWithCodecsCompiledAtRuntime() throws Exception
+    {
+        final JavaRuntimeCodecs codecs = JavaRuntimeCodecs.compile(ir);
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[4096]);
+
+        final MessageEncoderFlyweight encoder = codecs.newEncoder(CAR_TEMPLATE_ID);
+        encoder.wrap(buffer, 0);
+        putSerialNumber(encoder, 42);
+        setEmptyFuelFiguresGroup(encoder);
+        setEmptyPerformanceFiguresGroup(encoder);
+        setManufacturer(encoder, "Ford");
+
+        final MessageDecoderFlyweight decoder = codecs.newDecoder(CAR_TEMPLATE_ID);
+        decoder.wrap(buffer, 0, encoder.sbeBlockLength(), encoder.sbeSchemaVersion());
+
+        assertEquals(CAR_TEMPLATE_ID, decoder.sbeTemplateId());
+        assertEquals(ir.id(), decoder.sbeSchemaId());
+        assertEquals(42L, getSerialNumber(decoder));
+        skipFuelFiguresGroup(decoder);
+        skipPerformanceFiguresGroup(decoder);
+        assertEquals("Ford", getManufacturer(decoder));
+        assertSame(codecs.classLoader(), decoder.getClass().getClassLoader());
+    }
+
+    @Test
+    void shouldCompileOncePerSchemaIdAndVersion()
+    {
+        final JavaRuntimeCodecs.Cache cache = new JavaRuntimeCodecs.Cache();
+        assertNull(cache.codecs(ir.id(), ir.version()));
+        assertNull(cache.newDecoder(ir.id(), ir.version(), CAR_TEMPLATE_ID));
+
+        final JavaRuntimeCodecs codecs = cache.codecs(ir);
+
+        assertSame(codecs, cache.codecs(ir));
+        assertSame(codecs, cache.codecs(ir.id(), ir.version()));
+        assertSame(codecs.decoderClass(CAR_TEMPLATE_ID),
+            cache.newDecoder(ir.id(), ir.version(), CAR_TEMPLATE_ID).getClass());
+
+        assertSame(codecs, cache.remove(ir.id(), ir.version()));
+        assertNull(cache.codecs(ir.id(), ir.version()));
+    }
+
+    @Test
+    void shouldRejectUnknownTemplateId()
+    {
+        final JavaRuntimeCodecs codecs = JavaRuntimeCodecs.compile(ir);
+
+        assertNull(codecs.decoderClass(Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> codecs.newDecoder(Integer.MAX_VALUE));
+    }
+}
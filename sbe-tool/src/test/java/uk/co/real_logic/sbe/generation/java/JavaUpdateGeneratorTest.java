@@ -0,0 +1,209 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.generation.java;
+
+import extension.BooleanType;
+import extension.BoostType;
+import extension.CarDecoder;
+import extension.CarEncoder;
+import extension.Model;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.generation.CompilerUtil;
+import org.agrona.generation.StringWriterOutputManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.co.real_logic.sbe.Tests;
+import uk.co.real_logic.sbe.generation.common.PrecedenceChecks;
+import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.xml.IrGenerator;
+import uk.co.real_logic.sbe.xml.MessageSchema;
+import uk.co.real_logic.sbe.xml.ParserOptions;
+
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static uk.co.real_logic.sbe.xml.XmlSchemaParser.parse;
+
+class JavaUpdateGeneratorTest
+{
+    private static final String NAMESPACE = "update.extension";
+    private static final String PRECEDENCE_CHECKS_PROP_NAME = "sbe.enable.update.test.precedence.checks";
+
+    private final StringWriterOutputManager outputManager = new StringWriterOutputManager();
+    private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    private final ExpandableArrayBuffer expectedBuffer = new ExpandableArrayBuffer();
+    private Object encoder;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        try (InputStream in = Tests.getLocalResource("example-extension-schema.xml"))
+        {
+            final MessageSchema schema = parse(in, ParserOptions.builder().stopOnError(true).build());
+            final Ir ir = new IrGenerator().generate(schema, NAMESPACE);
+            final PrecedenceChecks.Context context = new PrecedenceChecks.Context()
+                .shouldGeneratePrecedenceChecks(true)
+                .precedenceChecksPropName(PRECEDENCE_CHECKS_PROP_NAME);
+
+            outputManager.clear();
+            outputManager.setPackageName(ir.applicableNamespace());
+            final JavaGenerator.Options options = new JavaGenerator.Options()
+                .precedenceChecks(PrecedenceChecks.newInstance(context))
+                .shouldGenerateWrapForUpdate(true);
+            new JavaGenerator(ir, options, outputManager).generate();
+
+            System.setProperty(PRECEDENCE_CHECKS_PROP_NAME, "true");
+            encoder = CompilerUtil.compileInMemory(NAMESPACE + ".CarEncoder", outputManager.getSources())
+                .getConstructor().newInstance();
+        }
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        System.clearProperty(PRECEDENCE_CHECKS_PROP_NAME);
+    }
+
+    @Test
+    void shouldUpdateFieldsInPlaceLeavingGroupsAndVarDataUntouched() throws Exception
+    {
+        final int length = encodeCar(buffer, 1234, 75, (short)95, 60);
+        final int expectedLength = encodeCar(expectedBuffer, 4321, 80, (short)98, 65);
+
+        wrapForUpdate(CarDecoder.BLOCK_LENGTH);
+        updateCar();
+
+        assertEquals(expectedLength, length);
+        for (int i = 0; i < length; i++)
+        {
+            assertEquals(expectedBuffer.getByte(i), buffer.getByte(i), "index=" + i);
+        }
+    }
+
+    @Test
+    void shouldUpdateMessageWithLongerBlockFromLaterVersion() throws Exception
+    {
+        final int padding = 8;
+        final int length = encodeCar(expectedBuffer, 1234, 75, (short)95, 60);
+        expectedBuffer.getBytes(0, buffer, 0, CarDecoder.BLOCK_LENGTH);
+        buffer.setMemory(CarDecoder.BLOCK_LENGTH, padding, (byte)0);
+        expectedBuffer.getBytes(
+            CarDecoder.BLOCK_LENGTH, buffer, CarDecoder.BLOCK_LENGTH + padding, length - CarDecoder.BLOCK_LENGTH);
+
+        wrapForUpdate(CarDecoder.BLOCK_LENGTH + padding);
+        updateCar();
+
+        final CarDecoder car = new CarDecoder()
+            .wrap(buffer, 0, CarDecoder.BLOCK_LENGTH + padding, CarDecoder.SCHEMA_VERSION);
+        assertEquals(4321, car.serialNumber());
+
+        final CarDecoder.FuelFiguresDecoder fuelFigures = car.fuelFigures();
+        assertEquals(30, fuelFigures.next().speed());
+        assertEquals("Urban Cycle", fuelFigures.usageDescription());
+        assertEquals(80, fuelFigures.next().speed());
+        assertEquals("Highway Cycle", fuelFigures.usageDescription());
+
+        final CarDecoder.PerformanceFiguresDecoder performanceFigures = car.performanceFigures();
+        assertEquals(98, performanceFigures.next().octaneRating());
+        final CarDecoder.PerformanceFiguresDecoder.AccelerationDecoder acceleration = performanceFigures.acceleration();
+        assertEquals(30, acceleration.next().mph());
+        assertEquals(65, acceleration.next().mph());
+
+        assertEquals("Ford", car.manufacturer());
+        assertEquals("Fiesta", car.model());
+        assertEquals("1234", car.activationCode());
+        assertEquals(length + padding, car.limit());
+    }
+
+    @Test
+    void shouldRejectBlockShorterThanEncoder()
+    {
+        final InvocationTargetException ex = assertThrows(
+            InvocationTargetException.class, () -> wrapForUpdate(CarDecoder.BLOCK_LENGTH - 1));
+
+        assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+    }
+
+    private void wrapForUpdate(final int actingBlockLength) throws Exception
+    {
+        encoder.getClass()
+            .getMethod("wrapForUpdate", MutableDirectBuffer.class, int.class, int.class, int.class)
+            .invoke(encoder, buffer, 0, actingBlockLength, CarDecoder.SCHEMA_VERSION);
+    }
+
+    private void updateCar() throws Exception
+    {
+        final Object performanceFigures = invoke(encoder, "performanceFiguresForUpdate");
+        invoke(performanceFigures, "nextForUpdate");
+        performanceFigures.getClass().getMethod("octaneRating", short.class).invoke(performanceFigures, (short)98);
+        final Object acceleration = invoke(performanceFigures, "accelerationForUpdate");
+        invoke(acceleration, "nextForUpdate");
+        invoke(acceleration, "nextForUpdate");
+        acceleration.getClass().getMethod("mph", int.class).invoke(acceleration, 65);
+
+        final Object fuelFigures = invoke(encoder, "fuelFiguresForUpdate");
+        assertEquals(2, invoke(fuelFigures, "count"));
+        invoke(fuelFigures, "nextForUpdate");
+        invoke(fuelFigures, "nextForUpdate");
+        fuelFigures.getClass().getMethod("speed", int.class).invoke(fuelFigures, 80);
+        assertEquals(false, invoke(fuelFigures, "hasNext"));
+
+        encoder.getClass().getMethod("serialNumber", long.class).invoke(encoder, 4321L);
+    }
+
+    private static Object invoke(final Object target, final String methodName) throws Exception
+    {
+        return target.getClass().getMethod(methodName).invoke(target);
+    }
+
+    private static int encodeCar(
+        final MutableDirectBuffer buffer,
+        final long serialNumber,
+        final int highwaySpeed,
+        final short octaneRating,
+        final int accelerationMph)
+    {
+        final CarEncoder car = new CarEncoder();
+        car.wrap(buffer, 0);
+        car.serialNumber(serialNumber);
+        car.modelYear(2013);
+        car.available(BooleanType.T);
+        car.code(Model.A);
+        car.vehicleCode("ABCDEF");
+        car.extras().cruiseControl(true);
+        car.engine().capacity(2000).numCylinders((short)4).manufacturerCode("ABC").booster()
+            .boostType(BoostType.NITROUS).horsePower((short)200);
+
+        final CarEncoder.FuelFiguresEncoder fuelFigures = car.fuelFiguresCount(2);
+        fuelFigures.next().speed(30).mpg(35.9f).usageDescription("Urban Cycle");
+        fuelFigures.next().speed(highwaySpeed).mpg(40.0f).usageDescription("Highway Cycle");
+
+        final CarEncoder.PerformanceFiguresEncoder performanceFigures = car.performanceFiguresCount(1);
+        final CarEncoder.PerformanceFiguresEncoder.AccelerationEncoder acceleration =
+            performanceFigures.next().octaneRating(octaneRating).accelerationCount(2);
+        acceleration.next().mph(30).seconds(4.0f);
+        acceleration.next().mph(accelerationMph).seconds(7.5f);
+
+        car.manufacturer("Ford");
+        car.model("Fiesta");
+        car.activationCode("1234");
+
+        return car.encodedLength();
+    }
+}
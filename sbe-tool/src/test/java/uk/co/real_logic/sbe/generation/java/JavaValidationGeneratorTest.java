@@ -0,0 +1,174 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.generation.java;
+
+import extension.BooleanType;
+import extension.BoostType;
+import extension.CarDecoder;
+import extension.CarEncoder;
+import extension.Model;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.generation.CompilerUtil;
+import org.agrona.generation.StringWriterOutputManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.co.real_logic.sbe.Tests;
+import uk.co.real_logic.sbe.codec.java.MessageValidation;
+import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.xml.IrGenerator;
+import uk.co.real_logic.sbe.xml.MessageSchema;
+import uk.co.real_logic.sbe.xml.ParserOptions;
+
+import java.io.InputStream;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static uk.co.real_logic.sbe.xml.XmlSchemaParser.parse;
+
+class JavaValidationGeneratorTest
+{
+    private static final String NAMESPACE = "validation.extension";
+
+    private final StringWriterOutputManager outputManager = new StringWriterOutputManager();
+    private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    private Object decoder;
+    private int length;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        try (InputStream in = Tests.getLocalResource("example-extension-schema.xml"))
+        {
+            final MessageSchema schema = parse(in, ParserOptions.builder().stopOnError(true).build());
+            final Ir ir = new IrGenerator().generate(schema, NAMESPACE);
+
+            outputManager.clear();
+            outputManager.setPackageName(ir.applicableNamespace());
+            new JavaGenerator(ir, new JavaGenerator.Options().shouldGenerateValidation(true), outputManager).generate();
+
+            decoder = CompilerUtil.compileInMemory(NAMESPACE + ".CarDecoder", outputManager.getSources())
+                .getConstructor().newInstance();
+        }
+
+        length = encodeCar(buffer);
+    }
+
+    @Test
+    void shouldValidateWellFormedMessage() throws Exception
+    {
+        assertEquals(MessageValidation.VALID, validate(buffer, length, CarDecoder.BLOCK_LENGTH));
+        assertEquals(MessageValidation.VALID, validate(buffer, Integer.MAX_VALUE, CarDecoder.BLOCK_LENGTH));
+    }
+
+    @Test
+    void shouldRejectTruncatedMessageWithoutReadingBeyondTheBuffer() throws Exception
+    {
+        for (int truncatedLength = 0; truncatedLength < length; truncatedLength++)
+        {
+            final UnsafeBuffer truncated = new UnsafeBuffer(new byte[truncatedLength]);
+            buffer.getBytes(0, truncated, 0, truncatedLength);
+
+            assertEquals(MessageValidation.BUFFER_TOO_SHORT,
+                validate(truncated, truncatedLength, CarDecoder.BLOCK_LENGTH), "length=" + truncatedLength);
+        }
+    }
+
+    @Test
+    void shouldRejectBlockLengthTooShortForActingVersion() throws Exception
+    {
+        assertEquals(MessageValidation.INVALID_BLOCK_LENGTH, validate(buffer, length, CarDecoder.BLOCK_LENGTH - 1));
+    }
+
+    @Test
+    void shouldRejectInvalidEnumValue() throws Exception
+    {
+        buffer.putByte(CarDecoder.codeEncodingOffset(), (byte)'Z');
+
+        assertEquals(MessageValidation.INVALID_ENUM_VALUE, validate(buffer, length, CarDecoder.BLOCK_LENGTH));
+    }
+
+    @Test
+    void shouldRejectInvalidGroupCount() throws Exception
+    {
+        buffer.putShort(CarDecoder.BLOCK_LENGTH + 2, (short)0xFFFF, ByteOrder.LITTLE_ENDIAN);
+
+        assertEquals(MessageValidation.INVALID_GROUP_COUNT, validate(buffer, length, CarDecoder.BLOCK_LENGTH));
+    }
+
+    @Test
+    void shouldRejectInvalidVarDataLength() throws Exception
+    {
+        final CarDecoder carDecoder = new CarDecoder()
+            .wrap(buffer, 0, CarDecoder.BLOCK_LENGTH, CarDecoder.SCHEMA_VERSION);
+        for (final CarDecoder.FuelFiguresDecoder fuelFigures : carDecoder.fuelFigures())
+        {
+            fuelFigures.skipUsageDescription();
+        }
+        for (final CarDecoder.PerformanceFiguresDecoder performanceFigures : carDecoder.performanceFigures())
+        {
+            for (final CarDecoder.PerformanceFiguresDecoder.AccelerationDecoder acceleration :
+                performanceFigures.acceleration())
+            {
+                acceleration.mph();
+            }
+        }
+        buffer.putInt(carDecoder.limit(), Integer.MAX_VALUE, ByteOrder.LITTLE_ENDIAN);
+
+        assertEquals(MessageValidation.INVALID_VAR_DATA_LENGTH, validate(buffer, length, CarDecoder.BLOCK_LENGTH));
+    }
+
+    private int validate(final MutableDirectBuffer buffer, final int limit, final int actingBlockLength)
+        throws Exception
+    {
+        decoder.getClass()
+            .getMethod("wrap", org.agrona.DirectBuffer.class, int.class, int.class, int.class)
+            .invoke(decoder, buffer, 0, actingBlockLength, CarDecoder.SCHEMA_VERSION);
+
+        return (int)decoder.getClass().getMethod("sbeValidate", int.class).invoke(decoder, limit);
+    }
+
+    private static int encodeCar(final MutableDirectBuffer buffer)
+    {
+        final CarEncoder car = new CarEncoder();
+        car.wrap(buffer, 0);
+        car.serialNumber(1234);
+        car.modelYear(2013);
+        car.available(BooleanType.T);
+        car.code(Model.A);
+        car.vehicleCode("ABCDEF");
+        car.extras().cruiseControl(true);
+        car.engine().capacity(2000).numCylinders((short)4).manufacturerCode("ABC").booster()
+            .boostType(BoostType.NITROUS).horsePower((short)200);
+
+        final CarEncoder.FuelFiguresEncoder fuelFigures = car.fuelFiguresCount(2);
+        fuelFigures.next().speed(30).mpg(35.9f).usageDescription("Urban Cycle");
+        fuelFigures.next().speed(75).mpg(40.0f).usageDescription("Highway Cycle");
+
+        final CarEncoder.PerformanceFiguresEncoder performanceFigures = car.performanceFiguresCount(1);
+        final CarEncoder.PerformanceFiguresEncoder.AccelerationEncoder acceleration =
+            performanceFigures.next().octaneRating((short)95).accelerationCount(2);
+        acceleration.next().mph(30).seconds(4.0f);
+        acceleration.next().mph(60).seconds(7.5f);
+
+        car.manufacturer("Ford");
+        car.model("Fiesta");
+        car.activationCode("1234");
+
+        return car.encodedLength();
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.generation.java;
+
+import extension.BooleanType;
+import extension.BoostType;
+import extension.CarDecoder;
+import extension.CarEncoder;
+import extension.Model;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.generation.CompilerUtil;
+import org.agrona.generation.StringWriterOutputManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.co.real_logic.sbe.Tests;
+import uk.co.real_logic.sbe.codec.java.ReusableList;
+import uk.co.real_logic.sbe.codec.java.ReusableString;
+import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.xml.IrGenerator;
+import uk.co.real_logic.sbe.xml.MessageSchema;
+import uk.co.real_logic.sbe.xml.ParserOptions;
+
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static uk.co.real_logic.sbe.xml.XmlSchemaParser.parse;
+
+class ReusableDtoTest
+{
+    private static final String NAMESPACE = "reusable.extension";
+
+    private final StringWriterOutputManager outputManager = new StringWriterOutputManager();
+    private Class<?> carDtoClass;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        try (InputStream in = Tests.getLocalResource("example-extension-schema.xml"))
+        {
+            final MessageSchema schema = parse(in, ParserOptions.builder().stopOnError(true).build());
+            final Ir ir = new IrGenerator().generate(schema, NAMESPACE);
+
+            outputManager.clear();
+            outputManager.setPackageName(ir.applicableNamespace());
+
+            new JavaGenerator(ir, "org.agrona.MutableDirectBuffer", "org.agrona.DirectBuffer", false, false, false,
+                false, outputManager).generate();
+            new JavaDtoGenerator(ir, false, true, outputManager).generate();
+        }
+
+        carDtoClass = CompilerUtil.compileInMemory(NAMESPACE + ".CarDto", outputManager.getSources());
+    }
+
+    @Test
+    void shouldRoundTripCarDecodedIntoExistingDto() throws Exception
+    {
+        final ExpandableArrayBuffer inputBuffer = new ExpandableArrayBuffer();
+        final int inputLength = encodeCar(inputBuffer, 3, 2, "this is a description", "Fiesta");
+
+        final Object dto = carDtoClass.getConstructor().newInstance();
+        assertSame(dto, decodeInto(dto, inputBuffer));
+
+        final ReusableString model = (ReusableString)invoke(dto, "model");
+        assertEquals("Fiesta", model.toString());
+        assertEquals("ABCDEF", invoke(dto, "vehicleCode").toString());
+        assertEquals(3, ((ReusableList<?>)invoke(dto, "fuelFigures")).size());
+
+        assertArrayEquals(bytes(inputBuffer, inputLength), encode(dto));
+        assertEquals(inputLength, invoke(dto, "computeEncodedLength"));
+    }
+
+    @Test
+    void shouldRecycleGroupElementsAndStringsWhenDecodingIntoExistingDto() throws Exception
+    {
+        final ExpandableArrayBuffer inputBuffer = new ExpandableArrayBuffer();
+        encodeCar(inputBuffer, 3, 2, "this is a description", "Fiesta");
+
+        final Object dto = carDtoClass.getConstructor().newInstance();
+        decodeInto(dto, inputBuffer);
+
+        final ReusableList<?> fuelFigures = (ReusableList<?>)invoke(dto, "fuelFigures");
+        final Object firstFuelFigure = fuelFigures.get(0);
+        final Object thirdFuelFigure = fuelFigures.get(2);
+        final ReusableString model = (ReusableString)invoke(dto, "model");
+        final byte[] modelBytes = model.byteArray();
+        final long[] someNumbers = (long[])invoke(dto, "someNumbers");
+
+        final int inputLength = encodeCar(inputBuffer, 1, 1, "short", "Ka");
+        decodeInto(dto, inputBuffer);
+
+        assertSame(fuelFigures, invoke(dto, "fuelFigures"));
+        assertEquals(1, fuelFigures.size());
+        assertSame(firstFuelFigure, fuelFigures.get(0));
+        assertSame(model, invoke(dto, "model"));
+        assertSame(modelBytes, model.byteArray());
+        assertEquals("Ka", model.toString());
+        assertSame(someNumbers, invoke(dto, "someNumbers"));
+        assertArrayEquals(bytes(inputBuffer, inputLength), encode(dto));
+
+        encodeCar(inputBuffer, 3, 2, "this is a description", "Fiesta");
+        decodeInto(dto, inputBuffer);
+
+        assertEquals(3, fuelFigures.size());
+        assertSame(thirdFuelFigure, fuelFigures.get(2));
+        assertEquals("this is a description", invoke(thirdFuelFigure, "usageDescription").toString());
+    }
+
+    @Test
+    void shouldCopyPrimitiveArrayIntoDtoOwnedArray() throws Exception
+    {
+        final Object dto = carDtoClass.getConstructor().newInstance();
+        final long[] someNumbers = (long[])invoke(dto, "someNumbers");
+        final long[] value = { 1, 2, 3 };
+
+        invoke(dto, "someNumbers", (Object)value);
+        value[0] = 42;
+
+        assertSame(someNumbers, invoke(dto, "someNumbers"));
+        assertArrayEquals(new long[]{ 1, 2, 3, 0 }, someNumbers);
+    }
+
+    @Test
+    void shouldValidateCharArrayByEncodedLength() throws Exception
+    {
+        final Object dto = carDtoClass.getConstructor().newInstance();
+        invoke(dto, "vehicleCode", "ABCDEF");
+
+        final InvocationTargetException ex = assertThrows(
+            InvocationTargetException.class, () -> invoke(dto, "vehicleCode", "ABCDEFG"));
+        assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+        assertEquals("ABCDEF", invoke(dto, "vehicleCode").toString());
+    }
+
+    private Object decodeInto(final Object dto, final DirectBuffer buffer) throws Exception
+    {
+        return invoke(dto, "decodeInto", buffer, 0, CarDecoder.BLOCK_LENGTH, CarDecoder.SCHEMA_VERSION);
+    }
+
+    private byte[] encode(final Object dto) throws Exception
+    {
+        final ExpandableArrayBuffer outputBuffer = new ExpandableArrayBuffer();
+        final Method encodeWith = carDtoClass.getMethod(
+            "encodeWith", carDtoClass, MutableDirectBuffer.class, int.class);
+        final int length = (int)encodeWith.invoke(null, dto, outputBuffer, 0);
+
+        return bytes(outputBuffer, length);
+    }
+
+    private static Object invoke(final Object target, final String methodName, final Object... args) throws Exception
+    {
+        for (final Method method : target.getClass().getMethods())
+        {
+            if (method.getName().equals(methodName) && method.getParameterCount() == args.length)
+            {
+                return method.invoke(target, args);
+            }
+        }
+
+        throw new NoSuchMethodException(target.getClass().getName() + "." + methodName);
+    }
+
+    private static byte[] bytes(final DirectBuffer buffer, final int length)
+    {
+        return Arrays.copyOf(buffer.byteArray(), length);
+    }
+
+    private static int encodeCar(
+        final MutableDirectBuffer buffer,
+        final int fuelFigureCount,
+        final int accelerationCount,
+        final String usageDescription,
+        final String model)
+    {
+        final CarEncoder car = new CarEncoder();
+        car.wrap(buffer, 0);
+        car.serialNumber(1234);
+        car.modelYear(2013);
+        car.available(BooleanType.T);
+        car.code(Model.A);
+        car.vehicleCode("ABCDEF");
+
+        for (int i = 0, size = CarEncoder.someNumbersLength(); i < size; i++)
+        {
+            car.someNumbers(i, i);
+        }
+
+        car.extras().cruiseControl(true).sportsPack(true);
+        car.uuid(0, 7L).uuid(1, 11L);
+        car.cupHolderCount((short)119);
+
+        car.engine().capacity(2000)
+            .numCylinders((short)4)
+            .manufacturerCode("ABC")
+            .efficiency((byte)35)
+            .boosterEnabled(BooleanType.T)
+            .booster().boostType(BoostType.NITROUS)
+            .horsePower((short)200);
+
+        final CarEncoder.FuelFiguresEncoder fuelFigures = car.fuelFiguresCount(fuelFigureCount);
+        for (int i = 0; i < fuelFigureCount; i++)
+        {
+            fuelFigures.next().speed(30 + i).mpg(35.9f + i).usageDescription(usageDescription);
+        }
+
+        final CarEncoder.PerformanceFiguresEncoder perfFigures = car.performanceFiguresCount(1);
+        perfFigures.next().octaneRating((short)95);
+
+        final CarEncoder.PerformanceFiguresEncoder.AccelerationEncoder acceleration =
+            perfFigures.accelerationCount(accelerationCount);
+        for (int i = 0; i < accelerationCount; i++)
+        {
+            acceleration.next().mph(30 * (i + 1)).seconds(4.0f * (i + 1));
+        }
+
+        car.manufacturer("Ford");
+        car.model(model);
+        car.activationCode("1234");
+
+        return car.limit();
+    }
+}
@@ -30,6 +30,10 @@ import uk.co.real_logic.sbe.xml.ParserOptions;
 import uk.co.real_logic.sbe.xml.XmlSchemaParser;
 
 import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Map;
@@ -37,8 +41,10 @@ import java.util.Map;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static uk.co.real_logic.sbe.generation.java.ReflectionUtil.*;
 
 @SuppressWarnings("MethodLength")
@@ -398,6 +404,131 @@ class SchemaExtensionTest
         }
     }
 
+    @Test
+    void shouldDispatchLatestVersionToVersionSpecialisedDecoder() throws Exception
+    {
+        outputManager.clear();
+        final JavaGenerator.Options options = new JavaGenerator.Options()
+            .mutableBuffer(BUFFER_NAME)
+            .readOnlyBuffer(READ_ONLY_BUFFER_NAME)
+            .shouldGenerateVersionSpecialisedDecoders(true)
+            .shouldGenerateMessageDispatcher(true);
+        new JavaGenerator(ir, options, outputManager).generate();
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[4096]);
+        final Class<?> dispatcherClass = compile("TestMessageDispatcher");
+        final ClassLoader classLoader = dispatcherClass.getClassLoader();
+        final Class<?> handlerClass = classLoader.loadClass(dispatcherClass.getName() + "$Handler");
+        final Class<?> headerEncoderClass = classLoader.loadClass(ir.applicableNamespace() + ".MessageHeaderEncoder");
+        final Object encoder = classLoader.loadClass(ir.applicableNamespace() + ".TestMessage1Encoder")
+            .getConstructor().newInstance();
+
+        encoder.getClass().getMethod("wrapAndApplyHeader", BUFFER_CLASS, int.class, headerEncoderClass)
+            .invoke(encoder, buffer, 0, headerEncoderClass.getConstructor().newInstance());
+        set(encoder, "tag1", int.class, 100);
+        set(encoder, "tag2", int.class, 200);
+
+        final Object[] decoded = new Object[1];
+        final Object handler = Proxy.newProxyInstance(
+            classLoader,
+            new Class<?>[]{ handlerClass },
+            (proxy, method, args) -> decoded[0] = args[0]);
+        final Object dispatcher = dispatcherClass.getConstructor(handlerClass).newInstance(handler);
+        final Method dispatch = dispatcherClass.getMethod("dispatch", READ_ONLY_BUFFER_CLASS, int.class, int.class);
+
+        assertEquals(true, dispatch.invoke(dispatcher, buffer, 0, 4096));
+        assertEquals("TestMessage1LatestDecoder", decoded[0].getClass().getSimpleName());
+        assertEquals(200, get(decoded[0], "tag2"));
+        final Object genericDecoder = decoded[0].getClass().getMethod("genericDecoder").invoke(decoded[0]);
+        assertEquals("TestMessage1Decoder", genericDecoder.getClass().getSimpleName());
+        assertEquals(200, get(genericDecoder, "tag2"));
+
+        buffer.putShort(6, (short)1, ByteOrder.LITTLE_ENDIAN);
+        assertEquals(true, dispatch.invoke(dispatcher, buffer, 0, 4096));
+        assertEquals("TestMessage1Decoder", decoded[0].getClass().getSimpleName());
+        assertEquals(200, get(decoded[0], "tag2"));
+        assertNull(get(decoded[0], "tag3"));
+
+        final Object latestDecoder = decoded[0].getClass().getClassLoader()
+            .loadClass(ir.applicableNamespace() + ".TestMessage1LatestDecoder").getConstructor().newInstance();
+        final InvocationTargetException ex = assertThrows(
+            InvocationTargetException.class, () -> wrap(buffer, latestDecoder, 8, 1));
+        assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+    }
+
+    @Test
+    void shouldRejectOlderVersionWhenWrappingLatestDecoder() throws Exception
+    {
+        generateVersionSpecialisedDecoders();
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[4096]);
+        final Object latestDecoder = compile("TestMessage1LatestDecoder").getConstructor().newInstance();
+        final int schemaVersion = (int)latestDecoder.getClass().getField("SCHEMA_VERSION").get(null);
+        final int blockLength = (int)latestDecoder.getClass().getField("BLOCK_LENGTH").get(null);
+
+        for (int version = 0; version < schemaVersion; version++)
+        {
+            final int actingVersion = version;
+            final InvocationTargetException ex = assertThrows(
+                InvocationTargetException.class, () -> wrap(buffer, latestDecoder, blockLength, actingVersion));
+            assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+        }
+
+        wrap(buffer, latestDecoder, blockLength, schemaVersion);
+        assertEquals(schemaVersion, get(latestDecoder, "actingVersion"));
+    }
+
+    @Test
+    void shouldDecodeNewerVersionWithLargerBlockLengthWithLatestDecoder() throws Exception
+    {
+        generateVersionSpecialisedDecoders();
+
+        final UnsafeBuffer encodedBuffer = new UnsafeBuffer(new byte[4096]);
+        final Object encoder = wrap(encodedBuffer, compile("TestMessage1Encoder").getConstructor().newInstance());
+        set(encoder, "tag1", int.class, 100);
+        set(encoder, "tag2", int.class, 200);
+        set(encoder.getClass().getMethod("tag3").invoke(encoder), "value", int.class, 300);
+        final Object enumConstant = getAEnumConstant(encoder, "AEnum", 1);
+        set(encoder, "tag4", enumConstant.getClass(), enumConstant);
+        set(encoder.getClass().getMethod("tag5").invoke(encoder), "secondChoice", boolean.class, true);
+        set(encoder, "tag6", String.class, "newer");
+
+        final int blockLength = getSbeBlockLength(encoder);
+        final int schemaVersion = getSbeSchemaVersion(encoder);
+        final int newerBlockLength = blockLength + 8;
+        final int varDataLength = getLimit(encoder) - blockLength;
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[4096]);
+        buffer.putBytes(0, encodedBuffer, 0, blockLength);
+        buffer.putLong(blockLength, -1L);
+        buffer.putBytes(newerBlockLength, encodedBuffer, blockLength, varDataLength);
+
+        final Object latestDecoder = wrap(
+            buffer,
+            compile("TestMessage1LatestDecoder").getConstructor().newInstance(),
+            newerBlockLength,
+            schemaVersion + 1);
+
+        assertEquals(100, get(latestDecoder, "tag1"));
+        assertEquals(200, get(latestDecoder, "tag2"));
+        assertEquals(300, get(get(latestDecoder, "tag3"), "value"));
+        assertThat(get(latestDecoder, "tag4").toString(), is("SecondValue"));
+        assertEquals(true, get(get(latestDecoder, "tag5"), "secondChoice"));
+        final StringBuilder tag6Value = new StringBuilder();
+        get(latestDecoder, "tag6", tag6Value);
+        assertEquals("newer", tag6Value.toString());
+        assertEquals(newerBlockLength + varDataLength, getLimit(latestDecoder));
+    }
+
+    private void generateVersionSpecialisedDecoders() throws Exception
+    {
+        outputManager.clear();
+        final JavaGenerator.Options options = new JavaGenerator.Options()
+            .mutableBuffer(BUFFER_NAME)
+            .readOnlyBuffer(READ_ONLY_BUFFER_NAME)
+            .shouldGenerateVersionSpecialisedDecoders(true);
+        new JavaGenerator(ir, options, outputManager).generate();
+    }
+
     private JavaGenerator generator()
     {
         return new JavaGenerator(ir, BUFFER_NAME, READ_ONLY_BUFFER_NAME, false, false, false, outputManager);
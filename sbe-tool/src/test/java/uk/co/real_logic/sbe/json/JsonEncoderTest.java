@@ -0,0 +1,259 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.json;
+
+import baseline.CarDecoder;
+import baseline.CarEncoder;
+import baseline.CredentialsDecoder;
+import baseline.CredentialsEncoder;
+import baseline.MessageHeaderDecoder;
+import baseline.MessageHeaderEncoder;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import uk.co.real_logic.sbe.EncodedCarTestBase;
+import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.xml.IrGenerator;
+import uk.co.real_logic.sbe.xml.MessageSchema;
+import uk.co.real_logic.sbe.xml.ParserOptions;
+import uk.co.real_logic.sbe.xml.XmlSchemaParser;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonEncoderTest extends EncodedCarTestBase
+{
+    private static final int MSG_BUFFER_CAPACITY = 4 * 1024;
+    private static final String REQUIRED_CAR_FIELDS =
+        "\"available\": \"T\", \"someNumbers\": [1, 2, 3, 4, 5], \"vehicleCode\": \"abcdef\", " +
+        "\"engine\": { \"capacity\": 2000, \"numCylinders\": 4, \"manufacturerCode\": \"123\" }";
+
+    private static Ir ir;
+
+    @BeforeAll
+    static void parseSchema() throws Exception
+    {
+        ir = parseIr("src/test/resources/json-printer-test-schema.xml");
+    }
+
+    private static Ir parseIr(final String path) throws Exception
+    {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(Paths.get(path))))
+        {
+            final MessageSchema schema = XmlSchemaParser.parse(in, ParserOptions.DEFAULT);
+            return new IrGenerator().generate(schema);
+        }
+    }
+
+    @Test
+    void shouldRoundTripPrintedCarToSameEncoding()
+    {
+        final ByteBuffer encodedMsgBuffer = ByteBuffer.allocate(MSG_BUFFER_CAPACITY);
+        encodeTestMessage(encodedMsgBuffer);
+        final UnsafeBuffer original = new UnsafeBuffer(encodedMsgBuffer);
+        final int originalLength = MESSAGE_HEADER.encodedLength() + CAR.encodedLength();
+
+        final StringBuilder json = new StringBuilder();
+        new JsonPrinter(ir).print(json, original, 0);
+
+        final ExpandableArrayBuffer encoded = new ExpandableArrayBuffer(MSG_BUFFER_CAPACITY);
+        final int length = new JsonEncoder(ir).encode(CarEncoder.TEMPLATE_ID, json, encoded, 0);
+
+        assertEquals(originalLength, length);
+        for (int i = 0; i < length; i++)
+        {
+            assertEquals(original.getByte(i), encoded.getByte(i), "byte at index " + i);
+        }
+    }
+
+    @Test
+    void shouldRoundTripEscapedStringsAndRawData()
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[MSG_BUFFER_CAPACITY]);
+        final CredentialsEncoder credentialsEncoder = new CredentialsEncoder();
+        credentialsEncoder.wrapAndApplyHeader(buffer, 0, new MessageHeaderEncoder());
+        credentialsEncoder.login("a\"b\\c\ndé€");
+        credentialsEncoder.putEncryptedPassword(new byte[] {11, 0, 64, 97}, 0, 4);
+
+        final StringBuilder json = new StringBuilder();
+        final JsonPrinter printer = new JsonPrinter(ir);
+        printer.print(json, buffer, 0);
+
+        final UnsafeBuffer encoded = new UnsafeBuffer(new byte[MSG_BUFFER_CAPACITY]);
+        new JsonEncoder(ir).encode(CredentialsEncoder.TEMPLATE_ID, json, encoded, 0);
+
+        final CredentialsDecoder decoder = new CredentialsDecoder()
+            .wrapAndApplyHeader(encoded, 0, new MessageHeaderDecoder());
+        assertEquals("a\"b\\c\ndé€", decoder.login());
+        final byte[] password = new byte[4];
+        assertEquals(4, decoder.getEncryptedPassword(password, 0, password.length));
+        assertArrayEquals(new byte[] {11, 0, 64, 97}, password);
+
+        final StringBuilder reprinted = new StringBuilder();
+        printer.print(reprinted, encoded, 0);
+        assertEquals(json.toString(), reprinted.toString());
+    }
+
+    @Test
+    void shouldRoundTripPrintedDecimalsToSameEncoding() throws Exception
+    {
+        final Ir decimalIr = parseIr("src/test/resources/new-order-single-schema.xml");
+        final int templateId = 99;
+        final UnsafeBuffer original = new UnsafeBuffer(new byte[MSG_BUFFER_CAPACITY]);
+        final int headerLength = 8;
+        original.putShort(0, (short)54, ByteOrder.LITTLE_ENDIAN);
+        original.putShort(2, (short)templateId, ByteOrder.LITTLE_ENDIAN);
+        original.putShort(4, (short)14, ByteOrder.LITTLE_ENDIAN);
+        original.putStringWithoutLengthAscii(headerLength, "ORDER-1");
+        original.putStringWithoutLengthAscii(headerLength + 8, "ACCOUNT");
+        original.putStringWithoutLengthAscii(headerLength + 16, "SYMBOL");
+        original.putByte(headerLength + 24, (byte)'1');
+        original.putLong(headerLength + 25, 1_700_000_000_000L, ByteOrder.LITTLE_ENDIAN);
+        original.putInt(headerLength + 33, 250, ByteOrder.LITTLE_ENDIAN);
+        original.putByte(headerLength + 37, (byte)'2');
+        original.putLong(headerLength + 38, -1234567L, ByteOrder.LITTLE_ENDIAN);
+        original.putLong(headerLength + 46, Long.MIN_VALUE, ByteOrder.LITTLE_ENDIAN);
+
+        final StringBuilder json = new StringBuilder();
+        new JsonPrinter(decimalIr).print(json, original, 0);
+        assertTrue(json.indexOf("\"Price\": -1234.567") > 0, json::toString);
+        assertTrue(json.indexOf("\"StopPx\": null") > 0, json::toString);
+
+        final UnsafeBuffer encoded = new UnsafeBuffer(new byte[MSG_BUFFER_CAPACITY]);
+        final int length = new JsonEncoder(decimalIr).encode(templateId, json, encoded, 0);
+
+        assertEquals(headerLength + 54, length);
+        for (int i = 0; i < length; i++)
+        {
+            assertEquals(original.getByte(i), encoded.getByte(i), "byte at index " + i);
+        }
+    }
+
+    @Test
+    void shouldRejectDecimalWhichCannotBeRepresentedWithConstantExponent() throws Exception
+    {
+        final Ir decimalIr = parseIr("src/test/resources/new-order-single-schema.xml");
+        final JsonEncoder encoder = new JsonEncoder(decimalIr);
+        final UnsafeBuffer encoded = new UnsafeBuffer(new byte[MSG_BUFFER_CAPACITY]);
+        final String json = "{ \"ClOrdId\": \"1\", \"Account\": \"2\", \"Symbol\": \"3\", \"Side\": \"Buy\", " +
+            "\"TransactTime\": 1, \"OrderQty\": %s, \"OrdType\": \"Limit\", \"Price\": %s, " +
+            "\"StopPx\": null }";
+
+        encoder.encode(99, String.format(json, "10", "1.5"), encoded, 0);
+        assertEquals(1500L, encoded.getLong(8 + 38, ByteOrder.LITTLE_ENDIAN));
+        assertEquals(Long.MIN_VALUE, encoded.getLong(8 + 46, ByteOrder.LITTLE_ENDIAN));
+
+        assertThrows(IllegalArgumentException.class,
+            () -> encoder.encode(99, String.format(json, "10", "1.2345"), encoded, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> encoder.encode(99, String.format(json, "10.5", "1"), encoded, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> encoder.encode(99, String.format(json, "3000000000", "1"), encoded, 0));
+    }
+
+    @Test
+    void shouldEncodeFieldsInAnyOrderAndDefaultMissingGroupsAndData()
+    {
+        final String json =
+            "{ \"modelYear\": 2024, \"serialNumber\": 7, \"code\": \"B\", " + REQUIRED_CAR_FIELDS + ", " +
+            "\"extras\": { \"cruiseControl\": true }, \"unknown\": [1, { \"a\": \"b\" }], " +
+            "\"performanceFigures\": [ { \"octaneRating\": 95, " +
+            "\"acceleration\": [ { \"mph\": 30, \"seconds\": 4.0 } ] } ], " +
+            "\"model\": \"Civic\" }";
+
+        final UnsafeBuffer encoded = new UnsafeBuffer(new byte[MSG_BUFFER_CAPACITY]);
+        final int length = new JsonEncoder(ir).encode(CarEncoder.TEMPLATE_ID, json, encoded, 0);
+
+        final CarDecoder decoder = new CarDecoder().wrapAndApplyHeader(encoded, 0, new MessageHeaderDecoder());
+        assertEquals(7, decoder.serialNumber());
+        assertEquals(2024, decoder.modelYear());
+        assertEquals(baseline.Model.B, decoder.code());
+        assertTrue(decoder.extras().cruiseControl());
+        assertFalse(decoder.extras().sunRoof());
+        assertEquals(0, decoder.fuelFigures().count());
+
+        final CarDecoder.PerformanceFiguresDecoder performanceFigures = decoder.performanceFigures();
+        assertEquals(1, performanceFigures.count());
+        assertEquals(95, performanceFigures.next().octaneRating());
+        assertEquals(30, performanceFigures.acceleration().next().mph());
+
+        assertEquals("", decoder.manufacturer());
+        assertEquals("Civic", decoder.model());
+        assertEquals("", decoder.activationCode());
+        assertEquals(length, decoder.encodedLength() + MessageHeaderDecoder.ENCODED_LENGTH);
+    }
+
+    @Test
+    void shouldEncodeMissingOptionalFieldsAsNullValue()
+    {
+        final String json = "{ \"serialNumber\": 7, \"modelYear\": 2024, \"code\": \"A\", " +
+            "\"extras\": {}, " + REQUIRED_CAR_FIELDS + " }";
+
+        final UnsafeBuffer encoded = new UnsafeBuffer(new byte[MSG_BUFFER_CAPACITY]);
+        new JsonEncoder(ir).encode(CarEncoder.TEMPLATE_ID, json, encoded, 0);
+
+        final CarDecoder decoder = new CarDecoder().wrapAndApplyHeader(encoded, 0, new MessageHeaderDecoder());
+        assertEquals(CarDecoder.uuidNullValue(), decoder.uuid(0));
+        assertEquals(CarDecoder.uuidNullValue(), decoder.uuid(1));
+        assertEquals(CarDecoder.cupHolderCountNullValue(), decoder.cupHolderCount());
+    }
+
+    @Test
+    void shouldRejectMissingRequiredField()
+    {
+        final String json = "{ \"modelYear\": 2024, \"code\": \"A\", \"extras\": {}, " + REQUIRED_CAR_FIELDS + " }";
+        final UnsafeBuffer encoded = new UnsafeBuffer(new byte[MSG_BUFFER_CAPACITY]);
+
+        final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> new JsonEncoder(ir).encode(CarEncoder.TEMPLATE_ID, json, encoded, 0));
+        assertTrue(ex.getMessage().contains("'serialNumber'"), ex.getMessage());
+    }
+
+    @Test
+    void shouldRejectGroupWithMoreEntriesThanCountEncodingAllows()
+    {
+        final StringBuilder json = new StringBuilder("{ \"serialNumber\": 7, \"modelYear\": 2024, \"code\": \"A\", ")
+            .append("\"extras\": {}, ").append(REQUIRED_CAR_FIELDS).append(", \"fuelFigures\": [");
+        for (int i = 0; i < 256; i++)
+        {
+            json.append(i > 0 ? ", " : "").append("{ \"speed\": 30, \"mpg\": 35.9 }");
+        }
+        json.append("] }");
+
+        final ExpandableArrayBuffer encoded = new ExpandableArrayBuffer(MSG_BUFFER_CAPACITY);
+
+        final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> new JsonEncoder(ir).encode(CarEncoder.TEMPLATE_ID, json, encoded, 0));
+        assertTrue(ex.getMessage().contains("'fuelFigures'"), ex.getMessage());
+    }
+
+    @Test
+    void shouldRejectGroupsOutOfSchemaOrder()
+    {
+        final String json = "{ \"performanceFigures\": [], \"fuelFigures\": [] }";
+        final JsonEncoder encoder = new JsonEncoder(ir);
+        final UnsafeBuffer encoded = new UnsafeBuffer(new byte[MSG_BUFFER_CAPACITY]);
+
+        assertThrows(IllegalArgumentException.class, () -> encoder.encode(CarEncoder.TEMPLATE_ID, json, encoded, 0));
+    }
+}
@@ -15,9 +15,14 @@
  */
 package uk.co.real_logic.sbe.json;
 
+import baseline.CarDecoder;
 import baseline.CarEncoder;
+import baseline.CredentialsDecoder;
 import baseline.CredentialsEncoder;
+import baseline.MessageHeaderDecoder;
 import baseline.MessageHeaderEncoder;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.Test;
 import uk.co.real_logic.sbe.EncodedCarTestBase;
@@ -30,12 +35,16 @@ import uk.co.real_logic.sbe.xml.ParserOptions;
 import uk.co.real_logic.sbe.xml.XmlSchemaParser;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class JsonPrinterTest extends EncodedCarTestBase
@@ -156,6 +165,138 @@ class JsonPrinterTest extends EncodedCarTestBase
             result);
     }
 
+    @Test
+    void shouldPrintSameJsonAsUtf8ToBufferByteBufferAndStream() throws Exception
+    {
+        final ByteBuffer encodedSchemaBuffer = ByteBuffer.allocate(SCHEMA_BUFFER_CAPACITY);
+        encodeSchema(encodedSchemaBuffer);
+
+        final ByteBuffer encodedMsgBuffer = ByteBuffer.allocate(MSG_BUFFER_CAPACITY);
+        encodeTestMessage(encodedMsgBuffer);
+        final UnsafeBuffer msgBuffer = new UnsafeBuffer(encodedMsgBuffer);
+
+        encodedSchemaBuffer.flip();
+        final Ir ir = decodeIr(encodedSchemaBuffer);
+
+        final JsonPrinter printer = new JsonPrinter(ir);
+        final String expected = printer.print(encodedMsgBuffer);
+
+        final ExpandableArrayBuffer output = new ExpandableArrayBuffer(16);
+        final int offset = 3;
+        for (int i = 0; i < 2; i++)
+        {
+            final int length = printer.print(msgBuffer, 0, output, offset);
+            assertEquals(expected, output.getStringWithoutLengthUtf8(offset, length));
+        }
+
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(MSG_BUFFER_CAPACITY);
+        byteBuffer.position(offset);
+        final int byteBufferLength = printer.print(msgBuffer, 0, byteBuffer);
+        assertEquals(offset + byteBufferLength, byteBuffer.position());
+        assertEquals(
+            expected, new String(byteBuffer.array(), offset, byteBufferLength, StandardCharsets.UTF_8));
+
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        printer.print(msgBuffer, 0, stream);
+        assertEquals(expected, stream.toString(StandardCharsets.UTF_8.name()));
+    }
+
+    @Test
+    void shouldPrintDecimalCompositesAsNumbers() throws Exception
+    {
+        final Ir ir;
+        try (InputStream in = new BufferedInputStream(
+            Files.newInputStream(Paths.get("src/test/resources/new-order-single-schema.xml"))))
+        {
+            ir = new IrGenerator().generate(XmlSchemaParser.parse(in, ParserOptions.DEFAULT));
+        }
+
+        final MutableDirectBuffer msgBuffer = new UnsafeBuffer(new byte[MessageHeaderEncoder.ENCODED_LENGTH + 54]);
+        msgBuffer.putShort(0, (short)54, ir.byteOrder());
+        msgBuffer.putShort(2, (short)99, ir.byteOrder());
+        msgBuffer.putShort(4, (short)14, ir.byteOrder());
+        msgBuffer.putShort(6, (short)0, ir.byteOrder());
+        final int offset = MessageHeaderEncoder.ENCODED_LENGTH;
+        msgBuffer.putStringWithoutLengthAscii(offset, "ORDER-01ACCOUNT1EURUSD  1");
+        msgBuffer.putInt(offset + 33, 100, ir.byteOrder());
+        msgBuffer.putByte(offset + 37, (byte)'2');
+        msgBuffer.putLong(offset + 38, -123456L, ir.byteOrder());
+        msgBuffer.putLong(offset + 46, Long.MIN_VALUE, ir.byteOrder());
+
+        final JsonPrinter printer = new JsonPrinter(ir);
+        final String result = printer.print(ByteBuffer.wrap(msgBuffer.byteArray()));
+        assertThat(result, containsString("    \"OrderQty\": 100,\n"));
+        assertThat(result, containsString("    \"Price\": -123.456,\n"));
+        assertThat(result, containsString("    \"StopPx\": null\n}"));
+
+        final ExpandableArrayBuffer output = new ExpandableArrayBuffer(16);
+        final int length = printer.print(msgBuffer, 0, output, 0);
+        assertEquals(result, output.getStringWithoutLengthUtf8(0, length));
+    }
+
+    @Test
+    void shouldPrintVarDataAndTrailingGarbageAsUtf8ToBuffer() throws Exception
+    {
+        final ByteBuffer encodedSchemaBuffer = ByteBuffer.allocate(SCHEMA_BUFFER_CAPACITY);
+        encodeSchema(encodedSchemaBuffer);
+        encodedSchemaBuffer.flip();
+        final Ir ir = decodeIr(encodedSchemaBuffer);
+        final JsonPrinter printer = new JsonPrinter(ir);
+        final ExpandableArrayBuffer output = new ExpandableArrayBuffer();
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocate(MSG_BUFFER_CAPACITY));
+        final CredentialsEncoder credentialsEncoder = new CredentialsEncoder();
+        credentialsEncoder.wrapAndApplyHeader(buffer, 0, new MessageHeaderEncoder());
+        credentialsEncoder.login("ex\"am\tple\u00e9");
+        credentialsEncoder.putEncryptedPassword(new byte[] {11, 0, 64, 97}, 0, 4);
+
+        final StringBuilder expected = new StringBuilder();
+        printer.print(expected, buffer, 0);
+        int length = printer.print(buffer, 0, output, 0);
+        assertEquals(expected.toString(), output.getStringWithoutLengthUtf8(0, length));
+
+        final CarEncoder carEncoder = new CarEncoder();
+        carEncoder.wrapAndApplyHeader(buffer, 0, new MessageHeaderEncoder());
+        carEncoder.vehicleCode("vc\0ﾉ�");
+
+        expected.setLength(0);
+        printer.print(expected, buffer, 0);
+        length = printer.print(buffer, 0, output, 0);
+        assertEquals(expected.toString(), output.getStringWithoutLengthUtf8(0, length));
+    }
+
+    @Test
+    void shouldPrintSameJsonAsGeneratedDecoder() throws Exception
+    {
+        final ByteBuffer encodedSchemaBuffer = ByteBuffer.allocate(SCHEMA_BUFFER_CAPACITY);
+        encodeSchema(encodedSchemaBuffer);
+        encodedSchemaBuffer.flip();
+        final JsonPrinter printer = new JsonPrinter(decodeIr(encodedSchemaBuffer));
+
+        final ByteBuffer encodedMsgBuffer = ByteBuffer.allocate(MSG_BUFFER_CAPACITY);
+        encodeTestMessage(encodedMsgBuffer);
+        final UnsafeBuffer buffer = new UnsafeBuffer(encodedMsgBuffer);
+        final ExpandableArrayBuffer output = new ExpandableArrayBuffer(16);
+        final int offset = 3;
+
+        final CarDecoder carDecoder = new CarDecoder().wrapAndApplyHeader(buffer, 0, new MessageHeaderDecoder());
+        carDecoder.serialNumber();
+        int length = carDecoder.appendJsonTo(output, offset);
+        assertEquals(printer.print(encodedMsgBuffer), output.getStringWithoutLengthUtf8(offset, length));
+        assertEquals(2013, carDecoder.modelYear());
+
+        final CredentialsEncoder credentialsEncoder = new CredentialsEncoder();
+        credentialsEncoder.wrapAndApplyHeader(buffer, 0, new MessageHeaderEncoder());
+        credentialsEncoder.login("ex\"am\tple\u00e9");
+        credentialsEncoder.putEncryptedPassword(new byte[] {11, 0, 64, 97}, 0, 4);
+
+        final StringBuilder expected = new StringBuilder();
+        printer.print(expected, buffer, 0);
+        final CredentialsDecoder credentialsDecoder = new CredentialsDecoder();
+        length = credentialsDecoder.wrapAndApplyHeader(buffer, 0, new MessageHeaderDecoder()).appendJsonTo(output, 0);
+        assertEquals(expected.toString(), output.getStringWithoutLengthUtf8(0, length));
+    }
+
     @Test
     public void removeTrailingGarbage() throws Exception
     {
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.otf;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import uk.co.real_logic.sbe.EncodedCarTestBase;
+import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.ir.Token;
+import uk.co.real_logic.sbe.json.JsonTokenListener;
+import uk.co.real_logic.sbe.xml.IrGenerator;
+import uk.co.real_logic.sbe.xml.MessageSchema;
+import uk.co.real_logic.sbe.xml.ParserOptions;
+import uk.co.real_logic.sbe.xml.XmlSchemaParser;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class OtfDecodePlanTest extends EncodedCarTestBase
+{
+    private static final int MSG_BUFFER_CAPACITY = 4 * 1024;
+
+    private static Ir ir;
+
+    @BeforeAll
+    static void parseSchema() throws Exception
+    {
+        try (InputStream in = new BufferedInputStream(
+            Files.newInputStream(Paths.get("src/test/resources/json-printer-test-schema.xml"))))
+        {
+            final MessageSchema schema = XmlSchemaParser.parse(in, ParserOptions.DEFAULT);
+            ir = new IrGenerator().generate(schema);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 2 })
+    void shouldDriveListenerInSameSequenceAsMessageDecoder(final int actingVersion)
+    {
+        final ByteBuffer encodedMsgBuffer = ByteBuffer.allocate(MSG_BUFFER_CAPACITY);
+        encodeTestMessage(encodedMsgBuffer);
+        final UnsafeBuffer buffer = new UnsafeBuffer(encodedMsgBuffer);
+
+        final OtfHeaderDecoder headerDecoder = new OtfHeaderDecoder(ir.headerStructure());
+        final int offset = headerDecoder.encodedLength();
+        final int blockLength = headerDecoder.getBlockLength(buffer, 0);
+        final List<Token> msgTokens = ir.getMessage(headerDecoder.getTemplateId(buffer, 0));
+
+        final StringBuilder expected = new StringBuilder();
+        final int expectedLimit = OtfMessageDecoder.decode(
+            buffer, offset, actingVersion, blockLength, msgTokens, new JsonTokenListener(expected));
+
+        final OtfDecodePlan plan = OtfDecodePlan.compile(msgTokens, actingVersion);
+        final StringBuilder actual = new StringBuilder();
+        final int actualLimit = plan.decode(buffer, offset, blockLength, new JsonTokenListener(actual));
+
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(expectedLimit, actualLimit);
+    }
+
+    @Test
+    void shouldBeReusableAcrossDecodes()
+    {
+        final ByteBuffer encodedMsgBuffer = ByteBuffer.allocate(MSG_BUFFER_CAPACITY);
+        encodeTestMessage(encodedMsgBuffer);
+        final UnsafeBuffer buffer = new UnsafeBuffer(encodedMsgBuffer);
+
+        final OtfHeaderDecoder headerDecoder = new OtfHeaderDecoder(ir.headerStructure());
+        final int offset = headerDecoder.encodedLength();
+        final int blockLength = headerDecoder.getBlockLength(buffer, 0);
+        final List<Token> msgTokens = ir.getMessage(headerDecoder.getTemplateId(buffer, 0));
+        final OtfDecodePlan plan = OtfDecodePlan.compile(msgTokens, headerDecoder.getSchemaVersion(buffer, 0));
+
+        final StringBuilder first = new StringBuilder();
+        plan.decode(buffer, offset, blockLength, new JsonTokenListener(first));
+
+        final StringBuilder second = new StringBuilder();
+        plan.decode(buffer, offset, blockLength, new JsonTokenListener(second));
+
+        assertEquals(first.toString(), second.toString());
+        assertSame(msgTokens, plan.msgTokens());
+    }
+}
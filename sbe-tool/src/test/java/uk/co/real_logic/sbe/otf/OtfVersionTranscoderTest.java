@@ -0,0 +1,202 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.otf;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import uk.co.real_logic.sbe.Tests;
+import uk.co.real_logic.sbe.ir.Ir;
+import uk.co.real_logic.sbe.json.JsonTokenListener;
+import uk.co.real_logic.sbe.xml.IrGenerator;
+import uk.co.real_logic.sbe.xml.MessageSchema;
+import uk.co.real_logic.sbe.xml.ParserOptions;
+import uk.co.real_logic.sbe.xml.XmlSchemaParser;
+
+import java.io.InputStream;
+import java.nio.ByteOrder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OtfVersionTranscoderTest
+{
+    private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+    private static final int HEADER_LENGTH = 8;
+
+    private static MessageSchema schema;
+    private static Ir ir;
+
+    private final UnsafeBuffer src = new UnsafeBuffer(new byte[256]);
+    private final UnsafeBuffer dst = new UnsafeBuffer(new byte[256]);
+
+    @BeforeAll
+    static void parseSchema() throws Exception
+    {
+        try (InputStream in = Tests.getLocalResource("version-transcoder-schema.xml"))
+        {
+            schema = XmlSchemaParser.parse(in, ParserOptions.DEFAULT);
+            ir = new IrGenerator().generate(schema);
+        }
+    }
+
+    @Test
+    void shouldTranscodeToLaterVersionWithNullFieldsAndEmptyGroupsAndVarData()
+    {
+        final int srcLength = encodeVersion0(src);
+        final OtfVersionTranscoder transcoder = OtfVersionTranscoder.forVersion(schema, 2);
+
+        final int dstLength = transcoder.transcode(src, 0, dst, 0);
+
+        assertEquals(HEADER_LENGTH + 16 + 4 + (2 * 6) + 4 + (2 + 5) + 2, dstLength);
+        assertEquals(16, dst.getShort(0, BYTE_ORDER));
+        assertEquals(2, dst.getShort(6, BYTE_ORDER));
+        assertEquals(6, dst.getShort(HEADER_LENGTH + 16, BYTE_ORDER));
+        assertEquals(toJson(src, srcLength), toJson(dst, dstLength));
+    }
+
+    @Test
+    void shouldTranscodeToEarlierVersionBySkippingLaterFieldsGroupsAndVarData()
+    {
+        final int srcLength = encodeVersion2(src);
+        final UnsafeBuffer expected = new UnsafeBuffer(new byte[256]);
+        final int expectedLength = encodeVersion0(expected);
+
+        final int dstLength = OtfVersionTranscoder.forVersion(schema, 0).transcode(src, 0, dst, 0);
+
+        assertEquals(expectedLength, dstLength);
+        assertArrayEquals(bytes(expected, expectedLength), bytes(dst, dstLength));
+        assertTrue(srcLength > dstLength);
+    }
+
+    @Test
+    void shouldCopyMessageAtTargetVersionAsIs()
+    {
+        final int srcLength = encodeVersion2(src);
+
+        final int dstLength = OtfVersionTranscoder.forVersion(schema, 2).transcode(src, 0, dst, 16);
+
+        assertEquals(srcLength, dstLength);
+        assertArrayEquals(bytes(src, srcLength), bytes(new UnsafeBuffer(dst, 16, dstLength), dstLength));
+    }
+
+    @Test
+    void shouldRejectMessageOfAnotherSchema()
+    {
+        encodeVersion0(src);
+        src.putShort(4, (short)99, BYTE_ORDER);
+        final OtfVersionTranscoder transcoder = new OtfVersionTranscoder(ir, ir);
+
+        assertTrue(transcoder.isTranscodable(1));
+        assertFalse(transcoder.isTranscodable(2));
+        assertThrows(IllegalArgumentException.class, () -> transcoder.transcode(src, 0, dst, 0));
+    }
+
+    private static String toJson(final DirectBuffer buffer, final int length)
+    {
+        final OtfHeaderDecoder headerDecoder = new OtfHeaderDecoder(ir.headerStructure());
+        final StringBuilder output = new StringBuilder();
+        final int limit = OtfMessageDecoder.decode(
+            buffer,
+            headerDecoder.encodedLength(),
+            headerDecoder.getSchemaVersion(buffer, 0),
+            headerDecoder.getBlockLength(buffer, 0),
+            ir.getMessage(headerDecoder.getTemplateId(buffer, 0)),
+            new JsonTokenListener(output));
+        assertEquals(length, limit);
+
+        return output.toString();
+    }
+
+    private static byte[] bytes(final DirectBuffer buffer, final int length)
+    {
+        final byte[] bytes = new byte[length];
+        buffer.getBytes(0, bytes);
+
+        return bytes;
+    }
+
+    private static int encodeVersion0(final UnsafeBuffer buffer)
+    {
+        int offset = putHeader(buffer, 4, 0);
+        buffer.putInt(offset, 42, BYTE_ORDER);
+        offset += 4;
+
+        offset = putGroupHeader(buffer, offset, 4, 2);
+        buffer.putInt(offset, 101, BYTE_ORDER);
+        buffer.putInt(offset + 4, 102, BYTE_ORDER);
+        offset += 8;
+
+        return putVarData(buffer, offset, "hello");
+    }
+
+    private static int encodeVersion2(final UnsafeBuffer buffer)
+    {
+        int offset = putHeader(buffer, 16, 2);
+        buffer.putInt(offset, 42, BYTE_ORDER);
+        buffer.putLong(offset + 4, 1234L, BYTE_ORDER);
+        buffer.putInt(offset + 12, 7, BYTE_ORDER);
+        offset += 16;
+
+        offset = putGroupHeader(buffer, offset, 6, 2);
+        buffer.putInt(offset, 101, BYTE_ORDER);
+        buffer.putShort(offset + 4, (short)3, BYTE_ORDER);
+        buffer.putInt(offset + 6, 102, BYTE_ORDER);
+        buffer.putShort(offset + 10, (short)4, BYTE_ORDER);
+        offset += 12;
+
+        offset = putGroupHeader(buffer, offset, 8, 1);
+        buffer.putLong(offset, 99L, BYTE_ORDER);
+        offset += 8;
+
+        offset = putVarData(buffer, offset, "hello");
+
+        return putVarData(buffer, offset, "ok");
+    }
+
+    private static int putHeader(final UnsafeBuffer buffer, final int blockLength, final int version)
+    {
+        buffer.putShort(0, (short)blockLength, BYTE_ORDER);
+        buffer.putShort(2, (short)1, BYTE_ORDER);
+        buffer.putShort(4, (short)7, BYTE_ORDER);
+        buffer.putShort(6, (short)version, BYTE_ORDER);
+
+        return HEADER_LENGTH;
+    }
+
+    private static int putGroupHeader(
+        final UnsafeBuffer buffer, final int offset, final int blockLength, final int numInGroup)
+    {
+        buffer.putShort(offset, (short)blockLength, BYTE_ORDER);
+        buffer.putShort(offset + 2, (short)numInGroup, BYTE_ORDER);
+
+        return offset + 4;
+    }
+
+    private static int putVarData(final UnsafeBuffer buffer, final int offset, final String value)
+    {
+        final byte[] bytes = value.getBytes(UTF_8);
+        buffer.putShort(offset, (short)bytes.length, BYTE_ORDER);
+        buffer.putBytes(offset + 2, bytes);
+
+        return offset + 2 + bytes.length;
+    }
+}
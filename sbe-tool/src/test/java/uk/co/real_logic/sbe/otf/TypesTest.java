@@ -0,0 +1,49 @@
+/*
+ * Copyright 2013-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.co.real_logic.sbe.otf;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TypesTest
+{
+    @ParameterizedTest
+    @CsvSource({
+        "0, 0, 0",
+        "0, 3, 0",
+        "0, -2, 0.00",
+        "15, 2, 1500",
+        "123456, -3, 123.456",
+        "-123456, -3, -123.456",
+        "5, -3, 0.005",
+        "-15, -3, -0.015",
+        "999, -3, 0.999",
+        "-9223372036854775808, -2, -92233720368547758.08",
+        "9223372036854775807, -19, 0.9223372036854775807",
+    })
+    void shouldAppendDecimalInPlainNotation(final long mantissa, final int exponent, final String expected)
+    {
+        final StringBuilder sb = new StringBuilder("x=");
+        Types.appendDecimal(sb, mantissa, exponent);
+
+        assertEquals("x=" + expected, sb.toString());
+        assertEquals(0, BigDecimal.valueOf(mantissa, -exponent).compareTo(new BigDecimal(expected)));
+    }
+}
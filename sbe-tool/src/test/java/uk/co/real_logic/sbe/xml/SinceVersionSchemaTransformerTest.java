@@ -97,6 +97,12 @@ public class SinceVersionSchemaTransformerTest
                 final Field transformedField = findAndRemove(
                     transformedFieldsCopy, originalField, comparing(Field::name));
                 assertNotNull(transformedField, "Field (" + originalField.name() + ") should be retained");
+                assertEquals(originalField.computedOffset(), transformedField.computedOffset());
+                if (null != originalField.groupFields())
+                {
+                    assertTrue(transformedField.computedBlockLength() > 0);
+                    assertTrue(transformedField.computedBlockLength() <= originalField.computedBlockLength());
+                }
 
                 assertFieldsSinceVersionLessOrEqualTo(
                     filteringVersion, originalField.groupFields(), transformedField.groupFields());